@@ -15,6 +15,7 @@ import com.s401.moas.contract.service.dto.ContractDetailDto;
 import com.s401.moas.contract.service.ContractService;  // 추가
 import com.s401.moas.contract.service.dto.ContractStatusUpdateDto;
 import com.s401.moas.notification.service.NotificationService;
+import com.s401.moas.notification.service.dto.NotificationCommand;
 import com.s401.moas.payment.domain.Order;
 import com.s401.moas.payment.domain.OrderStatus;
 import com.s401.moas.payment.exception.PaymentException;
@@ -236,18 +237,10 @@ public class AdminContractService {
 
         // [알림] 리더와 아티스트 모두에게 계약 취소 승인 알림
         try {
-            // 리더에게 알림
-            notificationService.createNotification(
-                    contract.getLeaderMemberId(),
-                    "CANCELLATION_APPROVED",
-                    contract.getId()
-            );
-            // 아티스트에게 알림
-            notificationService.createNotification(
-                    contract.getArtistMemberId(),
-                    "CANCELLATION_APPROVED",
-                    contract.getId()
-            );
+            notificationService.createNotifications(List.of(
+                    NotificationCommand.of(contract.getLeaderMemberId(), "CANCELLATION_APPROVED", contract.getId()),
+                    NotificationCommand.of(contract.getArtistMemberId(), "CANCELLATION_APPROVED", contract.getId())
+            ));
         } catch (Exception e) {
             log.error("계약 취소 승인 알림 전송 실패: contractId={}", contract.getId(), e);
         }
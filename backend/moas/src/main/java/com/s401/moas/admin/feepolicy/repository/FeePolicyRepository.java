@@ -4,7 +4,6 @@ import com.s401.moas.admin.feepolicy.domain.FeePolicy;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -21,11 +20,4 @@ public interface FeePolicyRepository extends JpaRepository<FeePolicy, Integer> {
      */
     @Query("SELECT fp FROM FeePolicy fp WHERE fp.startAt > :now ORDER BY fp.startAt ASC")
     Optional<FeePolicy> findFuturePolicy(LocalDateTime now);
-
-    /**
-     * 현재 적용 중인 수수료율 조회
-     * 정책이 없으면 기본값(5.0%) 반환
-     */
-    @Query("SELECT COALESCE(fp.feeRate, 5.0) FROM FeePolicy fp WHERE fp.startAt <= :now ORDER BY fp.startAt DESC LIMIT 1")
-    Optional<BigDecimal> findCurrentFeeRate(LocalDateTime now);
 }
\ No newline at end of file
@@ -8,7 +8,9 @@ import com.s401.moas.admin.feepolicy.domain.FeePolicy;
 import com.s401.moas.admin.feepolicy.exception.FeePolicyException;
 import com.s401.moas.admin.feepolicy.repository.FeePolicyRepository;
 import com.s401.moas.admin.feepolicy.service.dto.FeePolicyHistoryDto;
+import com.s401.moas.admin.feepolicy.service.dto.FeePolicyTimelineDto;
 import com.s401.moas.admin.feepolicy.service.dto.FeePolicyUpdateDto;
+import com.s401.moas.global.cache.TwoTierCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,6 +32,10 @@ public class AdminFeePolicyService {
 
     private final FeePolicyRepository feePolicyRepository;
     private final AdminRepository adminRepository;
+    private final TwoTierCache<FeePolicyTimelineDto> feePolicyCache;
+
+    private static final String TIMELINE_KEY = "timeline";
+    private static final BigDecimal DEFAULT_FEE_RATE = new BigDecimal("5.0");
 
     /**
      * 수수료 정책 변경
@@ -74,9 +80,34 @@ public class AdminFeePolicyService {
             log.info("새 수수료 정책 생성: policyId={}, adminId={}", policy.getId(), adminId);
         }
 
+        feePolicyCache.evictAfterCommit(TIMELINE_KEY);
+
         return FeePolicyUpdateDto.of(policy, admin);
     }
 
+    /**
+     * 현재 적용 중인 수수료율 조회
+     * 정책 타임라인을 캐시하고 조회 시각 기준으로 계산하므로, 예약된 정책도 시작 시각이 되면 바로 반영된다.
+     * 정책이 없으면 기본값(5.0%) 반환
+     */
+    public BigDecimal getCurrentFeeRate() {
+        FeePolicyTimelineDto timeline = feePolicyCache.get(TIMELINE_KEY, this::loadTimeline);
+        return timeline.feeRateAt(LocalDateTime.now())
+                .orElse(DEFAULT_FEE_RATE);
+    }
+
+    private FeePolicyTimelineDto loadTimeline() {
+        List<FeePolicyTimelineDto.Period> periods = feePolicyRepository.findAllByOrderByStartAtDesc().stream()
+                .map(policy -> FeePolicyTimelineDto.Period.builder()
+                        .feeRate(policy.getFeeRate())
+                        .startAt(policy.getStartAt())
+                        .build())
+                .toList();
+        return FeePolicyTimelineDto.builder()
+                .periods(periods)
+                .build();
+    }
+
     /**
      * 수수료 변경 이력 조회
      */
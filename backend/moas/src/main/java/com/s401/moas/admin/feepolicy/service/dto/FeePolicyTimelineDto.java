@@ -0,0 +1,43 @@
+package com.s401.moas.admin.feepolicy.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 수수료 정책 타임라인 (2단계 캐시 저장용)
+ * 시작 시각 기준 최신순으로 정렬되어 있으며, 현재 수수료율은 조회 시각으로 계산한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeePolicyTimelineDto {
+
+    private List<Period> periods;
+
+    /**
+     * 기준 시각에 적용되는 수수료율
+     */
+    public Optional<BigDecimal> feeRateAt(LocalDateTime at) {
+        return periods.stream()
+                .filter(period -> !period.getStartAt().isAfter(at))
+                .findFirst()
+                .map(Period::getFeeRate);
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Period {
+        private BigDecimal feeRate;
+        private LocalDateTime startAt;
+    }
+}
@@ -0,0 +1,33 @@
+package com.s401.moas.admin.notification.controller;
+
+import com.s401.moas.admin.notification.controller.request.BroadcastNotificationRequest;
+import com.s401.moas.admin.notification.controller.response.BroadcastNotificationResponse;
+import com.s401.moas.admin.notification.service.AdminNotificationService;
+import com.s401.moas.admin.notification.service.dto.BroadcastNotificationDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Profile("admin")
+@RestController
+@RequestMapping("/admin/api/notifications")
+@RequiredArgsConstructor
+public class AdminNotificationController implements AdminNotificationControllerSpec {
+
+    private final AdminNotificationService adminNotificationService;
+
+    @PostMapping("/broadcast")
+    @Override
+    public ResponseEntity<BroadcastNotificationResponse> broadcast(
+            @Valid @RequestBody BroadcastNotificationRequest request) {
+        BroadcastNotificationDto dto = adminNotificationService.broadcast(
+                request.getAlarmType(), request.getRelatedId(), request.getMemberIds());
+        BroadcastNotificationResponse response = BroadcastNotificationResponse.from(dto);
+        return ResponseEntity.ok(response);
+    }
+}
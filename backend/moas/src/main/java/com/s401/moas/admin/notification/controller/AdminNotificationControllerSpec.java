@@ -0,0 +1,88 @@
+package com.s401.moas.admin.notification.controller;
+
+import com.s401.moas.admin.notification.controller.request.BroadcastNotificationRequest;
+import com.s401.moas.admin.notification.controller.response.BroadcastNotificationResponse;
+import com.s401.moas.global.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "Admin Notification", description = "관리자 알림 API")
+public interface AdminNotificationControllerSpec {
+
+    @Operation(
+            operationId = "01-admin-broadcast-notification",
+            summary = "알림 일괄 발송",
+            description = "관리자가 여러 회원에게 같은 알림을 보냅니다. memberIds를 비우면 탈퇴하지 않은 전체 회원에게 보냅니다. " +
+                    "대상은 chunk 단위로 나눠 각각 별도 트랜잭션으로 저장되며, 중간에 실패하면 이미 저장된 알림은 유지됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "알림 일괄 발송 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = BroadcastNotificationResponse.class),
+                            examples = @ExampleObject(value = """
+                                {
+                                  "alarmType": "SERVICE_NOTICE",
+                                  "relatedId": 1,
+                                  "notifiedCount": 3200,
+                                  "chunkCount": 4
+                                }
+                                """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 - errorCode: BAD_REQUEST",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = """
+                                {
+                                  "errorCode": "BAD_REQUEST",
+                                  "message": "요청이 올바르지 않습니다. 입력 값을 다시 확인해주세요.",
+                                  "timestamp": 1762067112276
+                                }
+                                """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패 - errorCode: UNAUTHORIZED",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = """
+                                {
+                                  "errorCode": "UNAUTHORIZED",
+                                  "message": "인증이 필요합니다.",
+                                  "timestamp": 1762067112276
+                                }
+                                """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류 - errorCode: INTERNAL_SERVER_ERROR",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = """
+                                {
+                                  "errorCode": "INTERNAL_SERVER_ERROR",
+                                  "message": "서버 내부 오류가 발생했습니다. 잠시 후 다시 시도해주세요.",
+                                  "timestamp": 1762067112276
+                                }
+                                """)
+                    )
+            )
+    })
+    ResponseEntity<BroadcastNotificationResponse> broadcast(
+            @Valid @RequestBody BroadcastNotificationRequest request
+    );
+}
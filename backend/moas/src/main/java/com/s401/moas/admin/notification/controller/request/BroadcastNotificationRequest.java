@@ -0,0 +1,24 @@
+package com.s401.moas.admin.notification.controller.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class BroadcastNotificationRequest {
+
+    @NotBlank(message = "알림 유형은 필수입니다.")
+    @Size(max = 50, message = "알림 유형은 50자 이하여야 합니다.")
+    private String alarmType;
+
+    @NotNull(message = "관련 ID는 필수입니다.")
+    private Long relatedId;
+
+    // 비어 있으면 전체 회원
+    private List<Integer> memberIds;
+}
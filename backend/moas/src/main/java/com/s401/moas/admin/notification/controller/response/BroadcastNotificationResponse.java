@@ -0,0 +1,23 @@
+package com.s401.moas.admin.notification.controller.response;
+
+import com.s401.moas.admin.notification.service.dto.BroadcastNotificationDto;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BroadcastNotificationResponse {
+    private final String alarmType;
+    private final Long relatedId;
+    private final Integer notifiedCount;
+    private final Integer chunkCount;
+
+    public static BroadcastNotificationResponse from(BroadcastNotificationDto dto) {
+        return BroadcastNotificationResponse.builder()
+                .alarmType(dto.getAlarmType())
+                .relatedId(dto.getRelatedId())
+                .notifiedCount(dto.getNotifiedCount())
+                .chunkCount(dto.getChunkCount())
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.s401.moas.admin.notification.service;
+
+import com.s401.moas.admin.notification.service.dto.BroadcastNotificationDto;
+import com.s401.moas.member.repository.MemberRepository;
+import com.s401.moas.notification.service.NotificationService;
+import com.s401.moas.notification.service.dto.NotificationCommand;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 관리자 알림 일괄 발송
+ *
+ * 대상 회원을 chunk 단위로 나눠 chunk마다 별도 트랜잭션(NotificationService.createNotifications)으로 저장한다.
+ * 수천 명에게 보내도 하나의 긴 트랜잭션이 커넥션과 undo를 오래 붙잡지 않으며, SSE는 chunk가 커밋될 때마다 나간다.
+ * 이 서비스 자체에는 트랜잭션을 걸지 않는다 (걸면 모든 chunk가 한 트랜잭션으로 합쳐짐).
+ */
+@Slf4j
+@Service
+public class AdminNotificationService {
+
+    private final NotificationService notificationService;
+    private final MemberRepository memberRepository;
+    private final int chunkSize;
+
+    public AdminNotificationService(NotificationService notificationService,
+                                    MemberRepository memberRepository,
+                                    @Value("${notification.broadcast.chunk-size:1000}") int chunkSize) {
+        this.notificationService = notificationService;
+        this.memberRepository = memberRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 알림 일괄 발송
+     * 중간에 실패하면 이미 커밋된 chunk의 알림은 유지되고 예외가 전달된다.
+     *
+     * @param memberIds 대상 회원 ID (비어 있으면 탈퇴하지 않은 전체 회원, 없거나 탈퇴한 회원은 건너뜀)
+     */
+    public BroadcastNotificationDto broadcast(String alarmType, Long relatedId, List<Integer> memberIds) {
+        log.info("알림 일괄 발송 시작: alarmType={}, relatedId={}, targets={}",
+                alarmType, relatedId, memberIds == null || memberIds.isEmpty() ? "ALL" : memberIds.size());
+
+        int notified = 0;
+        int chunks = 0;
+        int skipped = 0;
+        try {
+            if (memberIds == null || memberIds.isEmpty()) {
+                // 전체 회원 - 회원 ID 키셋으로 chunk씩 조회
+                int lastMemberId = 0;
+                List<Integer> chunk;
+                while (!(chunk = memberRepository.findActiveMemberIdsAfter(
+                        lastMemberId, PageRequest.of(0, chunkSize))).isEmpty()) {
+                    notified += notify(chunk, alarmType, relatedId);
+                    chunks++;
+                    lastMemberId = chunk.get(chunk.size() - 1);
+                }
+            } else {
+                List<Integer> targets = memberIds.stream().distinct().toList();
+                for (int from = 0; from < targets.size(); from += chunkSize) {
+                    List<Integer> requested = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+                    // 존재하지 않거나 탈퇴한 회원에게는 알림을 만들지 않음
+                    List<Integer> chunk = memberRepository.findActiveMemberIdsIn(requested);
+                    skipped += requested.size() - chunk.size();
+                    if (chunk.isEmpty()) {
+                        continue;
+                    }
+                    notified += notify(chunk, alarmType, relatedId);
+                    chunks++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("알림 일괄 발송 중단: alarmType={}, relatedId={}, notified={}, chunks={}",
+                    alarmType, relatedId, notified, chunks, e);
+            throw e;
+        }
+
+        log.info("알림 일괄 발송 완료: alarmType={}, relatedId={}, notified={}, chunks={}, skipped={}",
+                alarmType, relatedId, notified, chunks, skipped);
+
+        return BroadcastNotificationDto.builder()
+                .alarmType(alarmType)
+                .relatedId(relatedId)
+                .notifiedCount(notified)
+                .chunkCount(chunks)
+                .build();
+    }
+
+    private int notify(List<Integer> memberIds, String alarmType, Long relatedId) {
+        List<NotificationCommand> commands = memberIds.stream()
+                .map(memberId -> NotificationCommand.of(memberId, alarmType, relatedId))
+                .toList();
+        notificationService.createNotifications(commands);
+        return commands.size();
+    }
+}
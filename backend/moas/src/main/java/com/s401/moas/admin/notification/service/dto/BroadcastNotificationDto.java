@@ -0,0 +1,13 @@
+package com.s401.moas.admin.notification.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BroadcastNotificationDto {
+    private final String alarmType;
+    private final Long relatedId;
+    private final Integer notifiedCount;
+    private final Integer chunkCount;
+}
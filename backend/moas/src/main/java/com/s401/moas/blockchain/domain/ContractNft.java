@@ -22,7 +22,10 @@ import java.time.LocalDateTime;
 public class ContractNft {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "contract_nft_id")
+    @TableGenerator(name = "contract_nft_id", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "contract_nft", allocationSize = 50)
     private Long id;
 
     // 온체인의 tokenId와 동일한 값
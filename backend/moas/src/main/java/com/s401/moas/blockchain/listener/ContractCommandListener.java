@@ -12,6 +12,7 @@ import com.s401.moas.blockchain.service.dto.CreateContractOnChainCommand;
 import com.s401.moas.contract.domain.Contract;
 import com.s401.moas.contract.exception.ContractException;
 import com.s401.moas.contract.repository.ContractRepository;
+import com.s401.moas.global.async.AsyncExecutors;
 import com.s401.moas.member.domain.Member;
 import com.s401.moas.member.exception.MemberException;
 import com.s401.moas.member.repository.MemberRepository;
@@ -43,7 +44,7 @@ public class ContractCommandListener {
     @Value("${app.metadata.base-uri}")
     private String metadataBaseUri;
 
-    @Async
+    @Async(AsyncExecutors.ONCHAIN)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleContractPaidEvent(ContractPaidEvent event) {
@@ -76,7 +77,7 @@ public class ContractCommandListener {
         }
     }
 
-    @Async
+    @Async(AsyncExecutors.ONCHAIN)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleContractCompletedEvent(ContractCompletedEvent event) {
@@ -103,7 +104,7 @@ public class ContractCommandListener {
         }
     }
 
-    @Async
+    @Async(AsyncExecutors.ONCHAIN)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleContractCanceledEvent(ContractCanceledEvent event) {
@@ -4,6 +4,7 @@ import com.s401.moas.blockchain.service.dto.CreateContractOnChainCommand;
 import com.s401.moas.blockchain.service.dto.OnChainContractDto;
 import com.s401.moas.blockchain.wrapper.MOASContract;
 import com.s401.moas.blockchain.exception.BlockchainException;
+import com.s401.moas.global.audit.BlockingCalls;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
@@ -39,19 +40,19 @@ public class BlockchainClient {
                 command.totalAmount(), command.startsAt(), command.endsAt(), command.tokenUri(),
                 command.sigLeader(), command.sigArtist()
         ).sendAsync();
-        return future.get().getTransactionHash();
+        return BlockingCalls.await(BlockingCalls.WEB3J, "createContract", future).getTransactionHash();
     }
 
     public String sendUpdateContractStatusTransaction(BigInteger tokenId) throws Exception {
         log.info("[직접 호출/비동기] 계약 상태 변경 트랜잭션을 전송합니다. TokenId: {}", tokenId);
         CompletableFuture<TransactionReceipt> future = moasContractWriter.updateContractStatus(tokenId, BigInteger.ONE).sendAsync();
-        return future.get().getTransactionHash();
+        return BlockingCalls.await(BlockingCalls.WEB3J, "updateContractStatus", future).getTransactionHash();
     }
 
     public String sendCancelContractTransaction(BigInteger tokenId) throws Exception {
         log.info("[직접 호출/비동기] 계약 취소 트랜잭션을 전송합니다. TokenId: {}", tokenId);
         CompletableFuture<TransactionReceipt> future = moasContractWriter.cancelContract(tokenId).sendAsync();
-        return future.get().getTransactionHash();
+        return BlockingCalls.await(BlockingCalls.WEB3J, "cancelContract", future).getTransactionHash();
     }
 
     // =========================================================================
@@ -61,11 +62,11 @@ public class BlockchainClient {
     public OnChainContractDto createContractOnChain(CreateContractOnChainCommand command) {
         try {
             log.info("[직접 호출/동기] 블록체인 계약 생성을 요청합니다. TokenId: {}", command.tokenId());
-            TransactionReceipt receipt = moasContractWriter.createContract(
+            TransactionReceipt receipt = BlockingCalls.audit(BlockingCalls.WEB3J, "createContract", () -> moasContractWriter.createContract(
                     command.tokenId(), command.title(), command.descriptionHash(), command.leaderAddress(), command.artistAddress(),
                     command.totalAmount(), command.startsAt(), command.endsAt(), command.tokenUri(),
                     command.sigLeader(), command.sigArtist()
-            ).send();
+            ).send());
 
             if (!receipt.isStatusOK()) {
                 throw BlockchainException.transactionFailed();
@@ -88,7 +89,8 @@ public class BlockchainClient {
     public TransactionReceipt updateContractStatusOnChain(BigInteger tokenId) {
         try {
             log.info("[직접 호출/동기] 블록체인 계약 상태 변경을 요청합니다. TokenId: {}", tokenId);
-            return moasContractWriter.updateContractStatus(tokenId, BigInteger.ONE).send();
+            return BlockingCalls.audit(BlockingCalls.WEB3J, "updateContractStatus",
+                    () -> moasContractWriter.updateContractStatus(tokenId, BigInteger.ONE).send());
         } catch (Exception e) {
             log.error("블록체인 계약 상태 변경 중 오류 발생", e);
             throw BlockchainException.transactionFailed(e);
@@ -98,7 +100,8 @@ public class BlockchainClient {
     public TransactionReceipt cancelContractOnChain(BigInteger tokenId) {
         try {
             log.info("[직접 호출/동기] 블록체인 계약 취소를 요청합니다. TokenId: {}", tokenId);
-            return moasContractWriter.cancelContract(tokenId).send();
+            return BlockingCalls.audit(BlockingCalls.WEB3J, "cancelContract",
+                    () -> moasContractWriter.cancelContract(tokenId).send());
         } catch (Exception e) {
             log.error("블록체인 계약 취소 중 오류 발생", e);
             throw BlockchainException.transactionFailed(e);
@@ -111,7 +114,8 @@ public class BlockchainClient {
 
     public BigInteger getContractStatus(BigInteger tokenId) {
         try {
-            return moasContractListener.contractStatus(tokenId).send();
+            return BlockingCalls.audit(BlockingCalls.WEB3J, "contractStatus",
+                    () -> moasContractListener.contractStatus(tokenId).send());
         } catch (Exception e) {
             log.error("블록체인 계약 상태 조회 중 오류 발생. TokenId: {}", tokenId, e);
             throw BlockchainException.transactionFailed(e);
@@ -8,6 +8,7 @@ import com.s401.moas.blockchain.wrapper.MOASContract;
 import com.s401.moas.contract.domain.Contract;
 import com.s401.moas.contract.repository.ContractRepository;
 import com.s401.moas.notification.service.NotificationService;
+import com.s401.moas.notification.service.dto.NotificationCommand;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.retry.annotation.Backoff;
@@ -69,18 +70,10 @@ public class OnchainEventProcessService {
 
         // [알림] 리더와 아티스트에게 NFT 발행 완료 알림
         try {
-            // 리더에게 알림
-            notificationService.createNotification(
-                    contract.getLeaderMemberId(),
-                    "NFT_MINTED",
-                    contract.getId()
-            );
-            // 아티스트에게 알림
-            notificationService.createNotification(
-                    contract.getArtistMemberId(),
-                    "NFT_MINTED",
-                    contract.getId()
-            );
+            notificationService.createNotifications(List.of(
+                    NotificationCommand.of(contract.getLeaderMemberId(), "NFT_MINTED", contract.getId()),
+                    NotificationCommand.of(contract.getArtistMemberId(), "NFT_MINTED", contract.getId())
+            ));
         } catch (Exception e) {
             log.error("NFT 발행 완료 알림 전송 실패: contractId={}", contract.getId(), e);
         }
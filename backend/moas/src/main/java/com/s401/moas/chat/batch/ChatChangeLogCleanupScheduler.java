@@ -0,0 +1,50 @@
+package com.s401.moas.chat.batch;
+
+import com.s401.moas.chat.service.ChatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatChangeLogCleanupScheduler {
+
+    private final ChatService chatService;
+
+    @Value("${chat.sync.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${chat.sync.cleanup-batch-size:5000}")
+    private int batchSize;
+
+    /**
+     * 매일 새벽 5시에 보관 기간이 지난 채팅 변경 로그를 삭제합니다.
+     * 배치마다 별도 트랜잭션으로 나누어 삭제하여 잠금 범위를 작게 유지합니다.
+     */
+    @Scheduled(cron = "${chat.sync.cleanup-cron:0 0 5 * * *}")
+    public void pruneChangeLogs() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        log.info("[배치 시작] {} 이전 채팅 변경 로그 삭제를 시작합니다.", before);
+
+        int deleted = 0;
+        while (true) {
+            try {
+                int count = chatService.pruneChangeLogs(before, batchSize);
+                deleted += count;
+                if (count < batchSize) {
+                    break;
+                }
+            } catch (Exception e) {
+                log.error("!! [배치 오류] 채팅 변경 로그 삭제 중 오류가 발생했습니다.", e);
+                break;
+            }
+        }
+
+        log.info("[배치 종료] 채팅 변경 로그 삭제 완료: deleted={}", deleted);
+    }
+}
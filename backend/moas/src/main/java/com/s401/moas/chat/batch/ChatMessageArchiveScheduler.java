@@ -0,0 +1,64 @@
+package com.s401.moas.chat.batch;
+
+import com.s401.moas.chat.service.ChatMessagePartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ChatMessageArchiveScheduler {
+
+    private final ChatMessagePartitionManager partitionManager;
+
+    @Value("${chat.archive.after-months:6}")
+    private int afterMonths;
+
+    @Value("${chat.archive.chunk-size:5000}")
+    private int chunkSize;
+
+    /**
+     * 매일 0시 5분에 이번 달/다음 달 파티션을 준비합니다.
+     * 월이 바뀐 직후 실행되어 새 달의 메시지가 새 파티션에 쌓이도록 합니다.
+     */
+    @Scheduled(cron = "${chat.archive.partition-cron:0 5 0 * * *}")
+    public void preparePartitions() {
+        try {
+            partitionManager.preparePartitions(YearMonth.now());
+        } catch (Exception e) {
+            log.error("!! [배치 오류] 채팅 메시지 파티션 준비 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 5시 30분에 보관 기간이 지난 월 파티션을 아카이브 테이블로 옮깁니다.
+     * 파티션마다 독립적으로 처리하여 하나가 실패해도 나머지는 계속 진행합니다.
+     */
+    @Scheduled(cron = "${chat.archive.archive-cron:0 30 5 * * *}")
+    public void archiveOldPartitions() {
+        YearMonth before = YearMonth.now().minusMonths(afterMonths);
+        log.info("[배치 시작] {} 이전 채팅 메시지 파티션 아카이브를 시작합니다.", before);
+
+        long archived = 0;
+        try {
+            for (String partition : partitionManager.archivablePartitions(before)) {
+                try {
+                    archived += partitionManager.archivePartition(partition, chunkSize);
+                } catch (Exception e) {
+                    log.error("!! [배치 오류] 채팅 메시지 파티션 아카이브 중 오류가 발생했습니다: partition={}", partition, e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("!! [배치 오류] 채팅 메시지 파티션 조회 중 오류가 발생했습니다.", e);
+        }
+
+        log.info("[배치 종료] 채팅 메시지 파티션 아카이브 완료: archived={}", archived);
+    }
+}
@@ -0,0 +1,56 @@
+package com.s401.moas.chat.batch;
+
+import com.s401.moas.chat.service.ChatReadPointerBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadPointerFlushScheduler {
+
+    private final ChatReadPointerBuffer readPointerBuffer;
+
+    /**
+     * 버퍼에 모인 읽음 위치를 주기적으로 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.read-pointer.flush-interval-ms:1000}",
+            initialDelayString = "${chat.read-pointer.flush-interval-ms:1000}")
+    public void flushReadPointers() {
+        try {
+            readPointerBuffer.flush();
+        } catch (Exception e) {
+            log.error("!! [배치 오류] 읽음 위치 반영 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * WebSocket 연결이 끊기면 해당 회원의 읽음 위치를 바로 반영합니다.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (!(event.getUser() instanceof UsernamePasswordAuthenticationToken auth)
+                || !(auth.getPrincipal() instanceof Integer memberId)) {
+            return;
+        }
+        try {
+            readPointerBuffer.flushMember(memberId);
+        } catch (Exception e) {
+            log.warn("연결 종료 시 읽음 위치 반영 실패: memberId={}, error={}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 읽음 위치 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushReadPointers();
+    }
+}
@@ -0,0 +1,42 @@
+package com.s401.moas.chat.batch;
+
+import com.s401.moas.chat.service.ChatSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSearchIndexBackfillScheduler {
+
+    private final ChatSearchIndexer chatSearchIndexer;
+
+    @Value("${chat.search.backfill-batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 검색 색인 도입 이전 메시지를 색인합니다. (기본 비활성화 - chat.search.backfill-cron 지정 시 실행)
+     * 배치마다 자동 커밋되며, 이미 색인된 토큰은 건너뛰므로 중간에 실패해도 다시 실행할 수 있습니다.
+     */
+    @Scheduled(cron = "${chat.search.backfill-cron:-}")
+    public void backfillSearchIndex() {
+        log.info("[배치 시작] 채팅 검색 색인 백필을 시작합니다.");
+
+        Long afterId = 0L;
+        Long lastId = null;
+        while (afterId != null) {
+            try {
+                lastId = afterId;
+                afterId = chatSearchIndexer.backfill(afterId, batchSize);
+            } catch (Exception e) {
+                log.error("!! [배치 오류] 채팅 검색 색인 백필 중 오류가 발생했습니다. afterId={}", afterId, e);
+                break;
+            }
+        }
+
+        log.info("[배치 종료] 채팅 검색 색인 백필 완료: lastMessageId={}", lastId);
+    }
+}
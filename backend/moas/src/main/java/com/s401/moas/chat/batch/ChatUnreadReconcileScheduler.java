@@ -0,0 +1,47 @@
+package com.s401.moas.chat.batch;
+
+import com.s401.moas.chat.service.ChatService;
+import com.s401.moas.chat.service.dto.UnreadReconcileDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadReconcileScheduler {
+
+    private final ChatService chatService;
+
+    @Value("${chat.unread.reconcile-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 매일 새벽 4시 30분에 chat_member.unread_count를 메시지 기준으로 다시 계산하여 보정합니다.
+     * 배치마다 별도 트랜잭션으로 처리하여 잠금 범위를 작게 유지합니다.
+     */
+    @Scheduled(cron = "${chat.unread.reconcile-cron:0 30 4 * * *}")
+    public void reconcileUnreadCounts() {
+        log.info("[배치 시작] 안 읽은 메시지 수 보정을 시작합니다.");
+
+        Long afterId = 0L;
+        int scanned = 0;
+        int repaired = 0;
+
+        while (afterId != null) {
+            try {
+                UnreadReconcileDto result = chatService.reconcileUnreadCounts(afterId, batchSize);
+                scanned += result.getScannedCount();
+                repaired += result.getRepairedCount();
+                afterId = result.getLastChatMemberId();
+            } catch (Exception e) {
+                log.error("!! [배치 오류] 안 읽은 메시지 수 보정 중 오류가 발생했습니다. afterId={}", afterId, e);
+                break;
+            }
+        }
+
+        log.info("[배치 종료] 안 읽은 메시지 수 보정 완료: scanned={}, repaired={}", scanned, repaired);
+    }
+}
@@ -2,6 +2,7 @@ package com.s401.moas.chat.controller;
 
 import com.s401.moas.chat.controller.request.CreateChatroomRequest;
 import com.s401.moas.chat.controller.request.GetChatMessagesRequest;
+import com.s401.moas.chat.controller.request.GetChatroomListRequest;
 import com.s401.moas.chat.controller.request.SendMessageRequest;
 import com.s401.moas.chat.controller.response.*;
 import com.s401.moas.chat.service.ChatService;
@@ -60,12 +61,15 @@ public class ChatController implements ChatControllerSpec {
 
     @GetMapping
     @Override
-    public ResponseEntity<ChatroomListResponse> getChatroomList() {
+    public ResponseEntity<ChatroomListResponse> getChatroomList(
+            @Valid @ModelAttribute GetChatroomListRequest request) {
         Integer memberId = SecurityUtil.getCurrentMemberId();
 
-        log.info("채팅방 목록 조회 API 호출: memberId={}", memberId);
+        log.info("채팅방 목록 조회 API 호출: memberId={}, cursorMessageId={}, cursorChatroomId={}, size={}",
+                memberId, request.getCursorMessageId(), request.getCursorChatroomId(), request.getSize());
 
-        ChatroomListDto dto = chatService.getChatroomList(memberId);
+        ChatroomListDto dto = chatService.getChatroomList(
+                memberId, request.getCursorMessageId(), request.getCursorChatroomId(), request.getSize());
         ChatroomListResponse response = ChatroomListResponse.from(dto, "채팅방 목록 조회를 성공했습니다.");
 
         log.info("채팅방 목록 조회 완료: count={}", dto.getChatrooms().size());
@@ -73,6 +77,20 @@ public class ChatController implements ChatControllerSpec {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 전체 안 읽은 메시지 수 조회
+     * 참여 중인 채팅방의 안 읽은 메시지 수 합계 (뱃지 표시용)
+     */
+    @GetMapping("/unread-count")
+    @Override
+    public ResponseEntity<UnreadCountResponse> getTotalUnreadCount() {
+        Integer memberId = SecurityUtil.getCurrentMemberId();
+
+        UnreadCountDto dto = chatService.getTotalUnreadCount(memberId);
+
+        return ResponseEntity.ok(UnreadCountResponse.from(dto, "안 읽은 메시지 수 조회를 성공했습니다."));
+    }
+
     /**
      * 채팅방 나가기
      * 참여 중인 채팅방에서 나갑니다.
@@ -214,4 +232,31 @@ public class ChatController implements ChatControllerSpec {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 채팅 메시지 삭제
+     * 내가 보낸 메시지를 삭제합니다.
+     *
+     * @param chatroomId 채팅방 ID
+     * @param messageId 삭제할 메시지 ID
+     * @return 삭제된 메시지 정보
+     */
+    @DeleteMapping("/{chatroomId}/messages/{messageId}")
+    @Override
+    public ResponseEntity<DeleteMessageResponse> deleteMessage(
+            @PathVariable Long chatroomId,
+            @PathVariable Long messageId) {
+
+        Integer myMemberId = SecurityUtil.getCurrentMemberId();
+
+        log.info("메시지 삭제 API 호출: myMemberId={}, chatroomId={}, messageId={}", myMemberId, chatroomId, messageId);
+
+        DeleteMessageDto dto = chatService.deleteMessage(myMemberId, chatroomId, messageId);
+
+        DeleteMessageResponse response = DeleteMessageResponse.from(dto, "메시지 삭제를 성공했습니다.");
+
+        log.info("메시지 삭제 완료: chatroomId={}, messageId={}", chatroomId, messageId);
+
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
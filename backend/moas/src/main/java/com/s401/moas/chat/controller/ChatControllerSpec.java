@@ -2,6 +2,7 @@ package com.s401.moas.chat.controller;
 
 import com.s401.moas.chat.controller.request.CreateChatroomRequest;
 import com.s401.moas.chat.controller.request.GetChatMessagesRequest;
+import com.s401.moas.chat.controller.request.GetChatroomListRequest;
 import com.s401.moas.chat.controller.request.SendMessageRequest;
 import com.s401.moas.chat.controller.response.*;
 import com.s401.moas.global.exception.ErrorResponse;
@@ -97,7 +98,8 @@ public interface ChatControllerSpec {
     @Operation(
             operationId = "2-getChatroomList",
             summary = "채팅방 목록 조회",
-            description = "내가 참여 중인 채팅방 목록을 조회합니다. 최신 메시지 순으로 정렬됩니다."
+            description = "내가 참여 중인 채팅방 목록을 조회합니다. 최신 메시지 순으로 정렬됩니다. "
+                    + "hasNext가 true이면 nextCursorMessageId, nextCursorChatroomId를 커서로 다음 페이지를 조회합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -128,7 +130,35 @@ public interface ChatControllerSpec {
                     )
             )
     })
-    ResponseEntity<ChatroomListResponse> getChatroomList();
+    ResponseEntity<ChatroomListResponse> getChatroomList(
+            @Valid @ModelAttribute GetChatroomListRequest request
+    );
+
+    @Operation(
+            operationId = "2-1-getTotalUnreadCount",
+            summary = "전체 안 읽은 메시지 수 조회",
+            description = "참여 중인 채팅방들의 안 읽은 메시지 수 합계를 조회합니다. (뱃지 표시용)"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = UnreadCountResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자 - errorCode: UNAUTHORIZED",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            )
+    })
+    ResponseEntity<UnreadCountResponse> getTotalUnreadCount();
 
     @Operation(
             operationId = "3-leaveChatroom",
@@ -475,4 +505,61 @@ public interface ChatControllerSpec {
             @PathVariable Long chatroomId,
             @Valid @ModelAttribute GetChatMessagesRequest request
     );
+
+    @Operation(
+            operationId = "8-deleteMessage",
+            summary = "채팅 메시지 삭제",
+            description = "내가 보낸 메시지를 삭제합니다. 삭제된 메시지는 메시지 조회와 검색 결과에서 제외됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "메시지 삭제 성공",
+                    content = @Content(schema = @Schema(implementation = DeleteMessageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자 - errorCode: UNAUTHORIZED",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "채팅방 참여자가 아니거나 내가 보낸 메시지가 아님 - errorCode: CHAT_ACCESS_DENIED",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"CHAT_ACCESS_DENIED\",\"message\":\"채팅방에 접근할 권한이 없습니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "메시지를 찾을 수 없음 - errorCode: NOT_FOUND",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"NOT_FOUND\",\"message\":\"요청한 리소스를 찾을 수 없습니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류 - errorCode: INTERNAL_SERVER_ERROR",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"INTERNAL_SERVER_ERROR\",\"message\":\"서버 내부 오류가 발생했습니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            )
+    })
+    ResponseEntity<DeleteMessageResponse> deleteMessage(
+            @PathVariable Long chatroomId,
+            @PathVariable Long messageId
+    );
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.s401.moas.chat.controller;
+
+import com.s401.moas.chat.controller.request.ChatSearchRequest;
+import com.s401.moas.chat.controller.response.ChatSearchResponse;
+import com.s401.moas.chat.service.ChatService;
+import com.s401.moas.chat.service.dto.ChatSearchDto;
+import com.s401.moas.global.security.SecurityUtil;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 채팅 메시지 검색 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/chat/search")
+@RequiredArgsConstructor
+public class ChatSearchController implements ChatSearchControllerSpec {
+
+    private final ChatService chatService;
+
+    /**
+     * 참여 중인 채팅방의 메시지 검색
+     *
+     * @param request 검색어, 채팅방 ID(선택), 커서, 개수
+     * @return 검색어를 포함한 메시지 목록 (최신순)
+     */
+    @GetMapping
+    @Override
+    public ResponseEntity<ChatSearchResponse> searchMessages(
+            @Valid @ModelAttribute ChatSearchRequest request) {
+        Integer memberId = SecurityUtil.getCurrentMemberId();
+
+        ChatSearchDto dto = chatService.searchMessages(memberId, request.getQuery(), request.getChatroomId(),
+                request.getBeforeMessageId(), request.getSize());
+
+        return ResponseEntity.ok(ChatSearchResponse.from(dto, "채팅 메시지 검색을 성공했습니다."));
+    }
+}
@@ -0,0 +1,67 @@
+package com.s401.moas.chat.controller;
+
+import com.s401.moas.chat.controller.request.ChatSearchRequest;
+import com.s401.moas.chat.controller.response.ChatSearchResponse;
+import com.s401.moas.global.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ModelAttribute;
+
+@Tag(name = "Chat", description = "채팅 관리 API")
+public interface ChatSearchControllerSpec {
+
+    @Operation(
+            operationId = "10-searchMessages",
+            summary = "채팅 메시지 검색",
+            description = "참여 중인 채팅방의 메시지를 검색합니다. 검색어는 2글자 이상 단어를 포함해야 하며, " +
+                    "여러 단어를 입력하면 모든 단어를 포함한 메시지만 조회됩니다. " +
+                    "hasNext가 true면 응답의 nextBeforeMessageId를 beforeMessageId로 다시 요청합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "검색 성공",
+                    content = @Content(schema = @Schema(implementation = ChatSearchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "검색어가 없거나 2글자 이상 단어가 없음 - errorCode: BAD_REQUEST",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"BAD_REQUEST\",\"message\":\"검색어는 2글자 이상 단어를 포함해야 합니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자 - errorCode: UNAUTHORIZED",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "지정한 채팅방의 참여자가 아니거나 퇴장한 상태 - errorCode: CHAT_ACCESS_DENIED",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"CHAT_ACCESS_DENIED\",\"message\":\"채팅방에 접근할 권한이 없습니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            )
+    })
+    ResponseEntity<ChatSearchResponse> searchMessages(
+            @Valid @ModelAttribute ChatSearchRequest request
+    );
+}
@@ -0,0 +1,45 @@
+package com.s401.moas.chat.controller;
+
+import com.s401.moas.chat.controller.request.ChatSyncRequest;
+import com.s401.moas.chat.controller.response.ChatSyncResponse;
+import com.s401.moas.chat.service.ChatService;
+import com.s401.moas.chat.service.dto.ChatSyncDto;
+import com.s401.moas.global.security.SecurityUtil;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 채팅 재연결 동기화 API 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/chat/sync")
+@RequiredArgsConstructor
+public class ChatSyncController implements ChatSyncControllerSpec {
+
+    private final ChatService chatService;
+
+    /**
+     * 커서 이후 변경 사항 동기화
+     * 재연결 시 채팅방 목록과 각 채팅방을 다시 조회하는 대신 한 번의 요청으로 놓친 변경을 받는다.
+     *
+     * @param request since(이전 응답의 cursor), limit
+     * @return 새 메시지, 읽음 위치, 채팅방 상태 변경과 다음 cursor
+     */
+    @GetMapping
+    @Override
+    public ResponseEntity<ChatSyncResponse> syncChanges(
+            @Valid @ModelAttribute ChatSyncRequest request) {
+        Integer memberId = SecurityUtil.getCurrentMemberId();
+
+        ChatSyncDto dto = chatService.sync(memberId, request.getSince(), request.getLimit());
+
+        return ResponseEntity.ok(ChatSyncResponse.from(dto, "채팅 변경 사항 동기화를 성공했습니다."));
+    }
+}
@@ -0,0 +1,58 @@
+package com.s401.moas.chat.controller;
+
+import com.s401.moas.chat.controller.request.ChatSyncRequest;
+import com.s401.moas.chat.controller.response.ChatSyncResponse;
+import com.s401.moas.global.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ModelAttribute;
+
+@Tag(name = "Chat", description = "채팅 관리 API")
+public interface ChatSyncControllerSpec {
+
+    @Operation(
+            operationId = "9-syncChanges",
+            summary = "채팅 변경 사항 동기화",
+            description = "재연결한 클라이언트가 마지막으로 받은 cursor 이후의 변경 사항을 한 번에 조회합니다. " +
+                    "참여 중인 채팅방의 새 메시지, 읽음 위치 변경, 퇴장/재입장/차단 상태 변경이 포함됩니다. " +
+                    "hasMore가 true면 응답의 cursor로 바로 다시 요청하고, " +
+                    "resyncRequired가 true면 채팅방 목록부터 다시 조회한 뒤 응답의 cursor부터 동기화합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "동기화 성공",
+                    content = @Content(schema = @Schema(implementation = ChatSyncResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 파라미터 - errorCode: BAD_REQUEST",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"BAD_REQUEST\",\"message\":\"limit: must be less than or equal to 500.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자 - errorCode: UNAUTHORIZED",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            )
+    })
+    ResponseEntity<ChatSyncResponse> syncChanges(
+            @Valid @ModelAttribute ChatSyncRequest request
+    );
+}
@@ -0,0 +1,35 @@
+package com.s401.moas.chat.controller.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅 메시지 검색 요청")
+public class ChatSearchRequest {
+
+    @NotBlank
+    @Size(max = 50)
+    @Schema(description = "검색어 (2글자 이상 단어, 공백으로 구분한 단어는 모두 포함해야 함)", example = "회의록", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String query;
+
+    @Schema(description = "검색할 채팅방 ID (없으면 참여 중인 전체 채팅방)", example = "456", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Long chatroomId;
+
+    @Schema(description = "커서 - 이전 응답의 nextBeforeMessageId (이 ID보다 이전 메시지 검색)", example = "1005", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Long beforeMessageId;
+
+    @Min(1)
+    @Max(50)
+    @Schema(description = "조회할 결과 개수", example = "20", defaultValue = "20", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Integer size = 20;
+}
@@ -0,0 +1,26 @@
+package com.s401.moas.chat.controller.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅 변경 사항 동기화 요청")
+public class ChatSyncRequest {
+
+    @Min(0)
+    @Schema(description = "커서 - 이전 응답의 cursor (처음이면 0)", example = "1024", defaultValue = "0", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Long since = 0L;
+
+    @Min(1)
+    @Max(500)
+    @Schema(description = "한 번에 조회할 최대 변경 수", example = "200", defaultValue = "200", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Integer limit = 200;
+}
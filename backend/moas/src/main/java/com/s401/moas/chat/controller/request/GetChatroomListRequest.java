@@ -0,0 +1,28 @@
+package com.s401.moas.chat.controller.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채팅방 목록 조회 요청")
+public class GetChatroomListRequest {
+
+    @Schema(description = "커서 - 이전 페이지 응답의 nextCursorMessageId", example = "1005", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Long cursorMessageId;
+
+    @Schema(description = "커서 - 이전 페이지 응답의 nextCursorChatroomId", example = "456", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Long cursorChatroomId;
+
+    @Min(1)
+    @Max(100)
+    @Schema(description = "조회할 채팅방 개수", example = "50", defaultValue = "50", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private Integer size = 50;
+}
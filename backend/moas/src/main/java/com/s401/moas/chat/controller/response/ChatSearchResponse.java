@@ -0,0 +1,54 @@
+package com.s401.moas.chat.controller.response;
+
+import com.s401.moas.chat.service.dto.ChatSearchDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "채팅 메시지 검색 응답")
+public class ChatSearchResponse {
+
+    private final String message;
+    private final Data data;
+
+    @Getter
+    @Builder
+    public static class Data {
+
+        @Schema(description = "검색 결과 (최신순)")
+        private final List<Result> results;
+
+        @Schema(description = "다음 결과가 더 있는지 여부", example = "true")
+        private final Boolean hasNext;
+
+        @Schema(description = "다음 요청의 beforeMessageId", example = "998")
+        private final Long nextBeforeMessageId;
+    }
+
+    @Getter
+    @Builder
+    public static class Result {
+        private final Long chatroomId;
+        private final GetChatMessagesResponse.MessageItem message;
+    }
+
+    public static ChatSearchResponse from(ChatSearchDto dto, String message) {
+        return ChatSearchResponse.builder()
+                .message(message)
+                .data(Data.builder()
+                        .results(dto.getResults().stream()
+                                .map(result -> Result.builder()
+                                        .chatroomId(result.getChatroomId())
+                                        .message(GetChatMessagesResponse.MessageItem.from(result.getMessage()))
+                                        .build())
+                                .toList())
+                        .hasNext(dto.getHasNext())
+                        .nextBeforeMessageId(dto.getNextBeforeMessageId())
+                        .build())
+                .build();
+    }
+}
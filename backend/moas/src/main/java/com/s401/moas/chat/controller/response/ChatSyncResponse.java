@@ -0,0 +1,117 @@
+package com.s401.moas.chat.controller.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.s401.moas.chat.service.dto.ChatSyncDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "채팅 변경 사항 동기화 응답")
+public class ChatSyncResponse {
+
+    private final String message;
+    private final Data data;
+
+    @Getter
+    @Builder
+    public static class Data {
+
+        @Schema(description = "다음 요청에 사용할 커서", example = "1050")
+        private final Long cursor;
+
+        @Schema(description = "남은 변경이 더 있는지 여부 (true면 cursor로 바로 다시 요청)", example = "false")
+        private final Boolean hasMore;
+
+        @Schema(description = "커서가 너무 오래되어 델타를 줄 수 없음 - 채팅방 목록부터 다시 조회해야 함", example = "false")
+        private final Boolean resyncRequired;
+
+        @Schema(description = "새 메시지 (참여 중인 채팅방, 오래된 순)")
+        private final List<MessageChange> messages;
+
+        @Schema(description = "삭제된 메시지 (참여 중인 채팅방, 오래된 순)")
+        private final List<DeletedMessage> deletedMessages;
+
+        @Schema(description = "읽음 위치가 바뀐 채팅방의 현재 읽음 위치")
+        private final List<ReadChange> readPointers;
+
+        @Schema(description = "퇴장/재입장/차단 상태가 바뀐 채팅방의 현재 상태")
+        private final List<RoomChange> rooms;
+    }
+
+    @Getter
+    @Builder
+    public static class MessageChange {
+        private final Long chatroomId;
+        private final GetChatMessagesResponse.MessageItem message;
+    }
+
+    @Getter
+    @Builder
+    public static class DeletedMessage {
+        private final Long chatroomId;
+        private final Long messageId;
+    }
+
+    @Getter
+    @Builder
+    public static class ReadChange {
+        private final Long chatroomId;
+        private final Long myLastReadMessageId;
+        private final Long otherLastReadMessageId;
+    }
+
+    @Getter
+    @Builder
+    public static class RoomChange {
+        private final Long chatroomId;
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private final LocalDateTime myLeftAt;
+
+        private final Boolean isBlockedByMe;
+        private final Boolean isBlockedByOther;
+    }
+
+    public static ChatSyncResponse from(ChatSyncDto dto, String message) {
+        return ChatSyncResponse.builder()
+                .message(message)
+                .data(Data.builder()
+                        .cursor(dto.getCursor())
+                        .hasMore(dto.getHasMore())
+                        .resyncRequired(dto.getResyncRequired())
+                        .messages(dto.getMessages().stream()
+                                .map(change -> MessageChange.builder()
+                                        .chatroomId(change.getChatroomId())
+                                        .message(GetChatMessagesResponse.MessageItem.from(change.getMessage()))
+                                        .build())
+                                .toList())
+                        .deletedMessages(dto.getDeletedMessages().stream()
+                                .map(change -> DeletedMessage.builder()
+                                        .chatroomId(change.getChatroomId())
+                                        .messageId(change.getMessageId())
+                                        .build())
+                                .toList())
+                        .readPointers(dto.getReadPointers().stream()
+                                .map(change -> ReadChange.builder()
+                                        .chatroomId(change.getChatroomId())
+                                        .myLastReadMessageId(change.getMyLastReadMessageId())
+                                        .otherLastReadMessageId(change.getOtherLastReadMessageId())
+                                        .build())
+                                .toList())
+                        .rooms(dto.getRooms().stream()
+                                .map(change -> RoomChange.builder()
+                                        .chatroomId(change.getChatroomId())
+                                        .myLeftAt(change.getMyLeftAt())
+                                        .isBlockedByMe(change.getIsBlockedByMe())
+                                        .isBlockedByOther(change.getIsBlockedByOther())
+                                        .build())
+                                .toList())
+                        .build())
+                .build();
+    }
+}
@@ -13,6 +13,9 @@ import java.util.List;
 public class ChatroomListResponse {
     private final String message;
     private final List<ChatroomItemResponse> data;
+    private final Boolean hasNext;
+    private final Long nextCursorMessageId;
+    private final Long nextCursorChatroomId;
 
     public static ChatroomListResponse from(ChatroomListDto dto, String message) {
         return ChatroomListResponse.builder()
@@ -20,6 +23,9 @@ public class ChatroomListResponse {
                 .data(dto.getChatrooms().stream()
                         .map(ChatroomItemResponse::from)
                         .toList())
+                .hasNext(dto.getHasNext())
+                .nextCursorMessageId(dto.getNextCursorMessageId())
+                .nextCursorChatroomId(dto.getNextCursorChatroomId())
                 .build();
     }
 
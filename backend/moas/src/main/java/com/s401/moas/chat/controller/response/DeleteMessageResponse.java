@@ -0,0 +1,36 @@
+package com.s401.moas.chat.controller.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.s401.moas.chat.service.dto.DeleteMessageDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class DeleteMessageResponse {
+
+    private String message;
+    private Data data;
+
+    @Getter
+    @Builder
+    public static class Data {
+        private Long chatroomId;
+        private Long messageId;
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime deletedAt;
+    }
+
+    public static DeleteMessageResponse from(DeleteMessageDto dto, String message) {
+        return DeleteMessageResponse.builder()
+                .message(message)
+                .data(Data.builder()
+                        .chatroomId(dto.getChatroomId())
+                        .messageId(dto.getMessageId())
+                        .deletedAt(dto.getDeletedAt())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.s401.moas.chat.controller.response;
+
+import com.s401.moas.chat.service.dto.UnreadCountDto;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UnreadCountResponse {
+
+    private String message;
+    private Data data;
+
+    @Getter
+    @Builder
+    public static class Data {
+        private Integer totalUnreadCount;
+    }
+
+    public static UnreadCountResponse from(UnreadCountDto dto, String message) {
+        return UnreadCountResponse.builder()
+                .message(message)
+                .data(Data.builder()
+                        .totalUnreadCount(dto.getTotalUnreadCount())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.s401.moas.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 채팅 변경 로그 (재연결 시 델타 동기화용)
+ * seq는 회원마다 1부터 빈틈없이 증가하며, 클라이언트는 마지막으로 받은 seq를 커서로 사용한다.
+ * 행은 ChatChangeLogWriter가 JDBC로 추가하고, 보관 기간이 지나면 삭제된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "chat_change_log",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_change_log_member_seq", columnNames = {"member_id", "seq"}))
+public class ChatChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Integer memberId;
+
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+
+    @Column(name = "chatroom_id", nullable = false)
+    private Long chatroomId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private ChatChangeType changeType;
+
+    @Column(name = "ref_id")
+    private Long refId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
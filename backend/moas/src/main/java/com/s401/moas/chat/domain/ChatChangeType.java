@@ -0,0 +1,17 @@
+package com.s401.moas.chat.domain;
+
+/**
+ * 동기화 대상 변경 유형
+ */
+public enum ChatChangeType {
+    /** 새 메시지 (refId = 메시지 ID) */
+    MESSAGE,
+    /** 메시지 삭제 (refId = 삭제된 메시지 ID) */
+    DELETE,
+    /** 읽음 위치 변경 (refId = 읽은 메시지 ID) */
+    READ,
+    /** 채팅방 생성 / 재입장 / 퇴장 */
+    MEMBERSHIP,
+    /** 차단 / 차단 해제 */
+    BLOCK
+}
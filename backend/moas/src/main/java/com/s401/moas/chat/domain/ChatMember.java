@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 public class ChatMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_member_id")
+    @TableGenerator(name = "chat_member_id", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "chat_member", allocationSize = 50)
     private Long id;
 
     @Column(name = "chatroom_id", nullable = false)
@@ -30,6 +33,11 @@ public class ChatMember {
     @Column(name = "last_read_message_id")
     private Long lastReadMessageId;
 
+    // 증감은 ChatMemberRepository의 원자적 UPDATE로만 수행 (엔티티 flush로 덮어쓰지 않도록 updatable = false)
+    @Builder.Default
+    @Column(name = "unread_count", nullable = false, updatable = false)
+    private Integer unreadCount = 0;
+
     @Column(name = "is_blocked", nullable = false)
     private Boolean isBlocked = false;
 
@@ -20,6 +20,10 @@ public class ChatMessage {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 채팅방별 커서 조회를 (chatroom_id, id) 인덱스 범위 스캔으로 처리하기 위한 비정규화 컬럼
+    @Column(name = "chatroom_id", nullable = false)
+    private Long chatroomId;
+
     @Column(name = "chat_member_id", nullable = false)
     private Long chatMemberId;
 
@@ -0,0 +1,52 @@
+package com.s401.moas.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지나 파티션에서 옮겨진 채팅 메시지 (압축 행 포맷의 아카이브 테이블)
+ * 행은 ChatMessagePartitionManager가 원본 ID 그대로 복사하며, 조회 전용으로만 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "chatmessage_archive",
+        indexes = @Index(name = "idx_chatmessage_archive_chatroom_id_id", columnList = "chatroom_id, id"))
+public class ChatMessageArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "chatroom_id", nullable = false)
+    private Long chatroomId;
+
+    @Column(name = "chat_member_id", nullable = false)
+    private Long chatMemberId;
+
+    @Column(name = "content", nullable = false, length = 500)
+    private String content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    /**
+     * 메시지 조회 응답 변환용 (영속화하지 않는 ChatMessage)
+     */
+    public ChatMessage toChatMessage() {
+        return ChatMessage.builder()
+                .id(id)
+                .chatroomId(chatroomId)
+                .chatMemberId(chatMemberId)
+                .content(content)
+                .createdAt(createdAt)
+                .deletedAt(deletedAt)
+                .build();
+    }
+}
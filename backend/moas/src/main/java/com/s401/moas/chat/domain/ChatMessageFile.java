@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 public class ChatMessageFile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chatmessage_file_id")
+    @TableGenerator(name = "chatmessage_file_id", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "chatmessage_file", allocationSize = 50)
     private Long id;
 
     @Column(name = "message_id", nullable = false)
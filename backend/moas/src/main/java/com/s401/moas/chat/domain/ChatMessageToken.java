@@ -0,0 +1,43 @@
+package com.s401.moas.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 채팅 검색 역색인 (bigram 토큰 → 메시지)
+ * PK (token, chatroom_id, message_id) 순서로 토큰 + 채팅방 범위 스캔이 되도록 한다.
+ * 행은 ChatSearchIndexer가 메시지 저장/삭제 트랜잭션 안에서 JDBC로 추가/삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@IdClass(ChatMessageToken.Key.class)
+@Table(name = "chat_message_token")
+public class ChatMessageToken {
+
+    @Id
+    @Column(name = "token", nullable = false, length = 8)
+    private String token;
+
+    @Id
+    @Column(name = "chatroom_id", nullable = false)
+    private Long chatroomId;
+
+    @Id
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String token;
+        private Long chatroomId;
+        private Long messageId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.s401.moas.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 회원별 마지막 변경 로그 seq
+ * 변경을 기록하는 트랜잭션이 이 행을 잠그므로 같은 회원의 seq는 커밋 순서대로 발급된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "chat_sync_sequence")
+public class ChatSyncSequence {
+
+    @Id
+    @Column(name = "member_id")
+    private Integer memberId;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+}
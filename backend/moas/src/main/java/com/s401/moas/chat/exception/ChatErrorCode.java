@@ -43,6 +43,12 @@ public enum ChatErrorCode implements BaseErrorCode {
             HttpStatus.NOT_FOUND
     ),
 
+    MESSAGE_NOT_FOUND(
+            "NOT_FOUND",
+            "요청한 리소스를 찾을 수 없습니다.",
+            HttpStatus.NOT_FOUND
+    ),
+
     // 409 CONFLICT: 채팅 거부
     CHAT_BLOCKED(
             "CHAT_BLOCKED",
@@ -95,6 +101,12 @@ public enum ChatErrorCode implements BaseErrorCode {
             HttpStatus.BAD_REQUEST
     ),
 
+    INVALID_SEARCH_QUERY(
+            "BAD_REQUEST",
+            "검색어는 2글자 이상 단어를 포함해야 합니다.",
+            HttpStatus.BAD_REQUEST
+    ),
+
     FILE_SIZE_EXCEEDED(
             "PAYLOAD_TOO_LARGE",
             "파일 용량이 너무 큽니다.",
@@ -48,6 +48,13 @@ public class ChatException extends BaseException {
         return new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND, chatroomId);
     }
 
+    /**
+     * 메시지를 찾을 수 없음
+     */
+    public static ChatException messageNotFound(Long messageId) {
+        return new ChatException(ChatErrorCode.MESSAGE_NOT_FOUND, messageId);
+    }
+
     /**
      * 상대방이 채팅을 거부함
      */
@@ -140,4 +147,11 @@ public class ChatException extends BaseException {
     public static ChatException fileUploadFailed() {
         return new ChatException(ChatErrorCode.FILE_UPLOAD_FAILED);
     }
-}
\ No newline at end of file
+
+    /**
+     * 검색어에 색인 가능한 단어가 없음
+     */
+    public static ChatException invalidSearchQuery() {
+        return new ChatException(ChatErrorCode.INVALID_SEARCH_QUERY);
+    }
+}
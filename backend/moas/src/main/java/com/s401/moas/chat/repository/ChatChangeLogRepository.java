@@ -0,0 +1,30 @@
+package com.s401.moas.chat.repository;
+
+import com.s401.moas.chat.domain.ChatChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatChangeLogRepository extends JpaRepository<ChatChangeLog, Long> {
+
+    /**
+     * 커서(seq) 이후 변경 로그 조회 (uk_chat_change_log_member_seq 인덱스 범위 조회)
+     */
+    List<ChatChangeLog> findByMemberIdAndSeqGreaterThanOrderBySeqAsc(Integer memberId, Long seq, Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 변경 로그 삭제 (한 번에 limit 개씩)
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM chat_change_log
+            WHERE created_at < :before
+            LIMIT :limit
+            """, nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
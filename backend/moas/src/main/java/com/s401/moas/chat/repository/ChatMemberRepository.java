@@ -2,10 +2,13 @@ package com.s401.moas.chat.repository;
 
 import com.s401.moas.chat.domain.ChatMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,11 @@ public interface ChatMemberRepository extends JpaRepository<ChatMember, Long> {
      */
     List<ChatMember> findByChatroomId(Long chatroomId);
 
+    /**
+     * 여러 채팅방의 멤버 일괄 조회
+     */
+    List<ChatMember> findByChatroomIdIn(Collection<Long> chatroomIds);
+
     /**
      * 채팅방 ID와 회원 ID로 멤버 조회
      */
@@ -26,4 +34,177 @@ public interface ChatMemberRepository extends JpaRepository<ChatMember, Long> {
      * 특정 회원이 참여 중인 채팅방 멤버 조회 (퇴장하지 않은 것만)
      */
     List<ChatMember> findByMemberIdAndLeftAtIsNull(Integer memberId);
-}
\ No newline at end of file
+
+    /**
+     * 메시지 전송 시 발신자를 제외한 채팅방 멤버의 안 읽은 메시지 수 +1 (퇴장한 멤버 제외)
+     */
+    @Modifying
+    @Query("""
+            UPDATE ChatMember cm
+            SET cm.unreadCount = cm.unreadCount + 1
+            WHERE cm.chatroomId = :chatroomId
+            AND cm.memberId <> :senderMemberId
+            AND cm.leftAt IS NULL
+            """)
+    int incrementUnreadCount(@Param("chatroomId") Long chatroomId, @Param("senderMemberId") Integer senderMemberId);
+
+    /**
+     * 삭제된 메시지를 아직 읽지 않은 상대방의 안 읽은 메시지 수 -1
+     * 읽음 위치 버퍼(ChatReadPointerBuffer)를 먼저 반영한 뒤 호출해야 한다. 퇴장한 회원은 제외
+     */
+    @Modifying
+    @Query("""
+            UPDATE ChatMember cm
+            SET cm.unreadCount = cm.unreadCount - 1
+            WHERE cm.chatroomId = :chatroomId
+            AND cm.memberId <> :senderMemberId
+            AND cm.leftAt IS NULL
+            AND cm.unreadCount > 0
+            AND (cm.lastReadMessageId IS NULL OR cm.lastReadMessageId < :messageId)
+            """)
+    int decrementUnreadCount(@Param("chatroomId") Long chatroomId,
+                             @Param("senderMemberId") Integer senderMemberId,
+                             @Param("messageId") Long messageId);
+
+    /**
+     * 읽음 처리 시 안 읽은 메시지 수 초기화
+     */
+    @Modifying
+    @Query("UPDATE ChatMember cm SET cm.unreadCount = 0 WHERE cm.id = :chatMemberId")
+    int resetUnreadCount(@Param("chatMemberId") Long chatMemberId);
+
+    /**
+     * 참여 중인 채팅방의 안 읽은 메시지 수 합계 (뱃지용)
+     */
+    @Query("""
+            SELECT COALESCE(SUM(cm.unreadCount), 0)
+            FROM ChatMember cm
+            WHERE cm.memberId = :memberId
+            AND cm.leftAt IS NULL
+            """)
+    Long sumUnreadCount(@Param("memberId") Integer memberId);
+
+    /**
+     * 보정 작업용 - 저장된 안 읽은 수와 메시지 기준 실제 값
+     */
+    interface UnreadCountRow {
+        Long getChatMemberId();
+        Long getStoredCount();
+        Long getActualCount();
+    }
+
+    /**
+     * id 순으로 afterId 이후 chat_member를 limit 개씩 조회하며 실제 안 읽은 수를 계산
+     * 퇴장한 회원은 전송 시 안 읽은 수를 올리지 않으므로 보정 대상에서도 제외
+     */
+    @Query(value = """
+            SELECT
+                me.id AS chat_member_id,
+                me.unread_count AS stored_count,
+                (SELECT COUNT(*)
+                   FROM chatmessage m
+                   JOIN chat_member s ON s.id = m.chat_member_id
+                  WHERE m.chatroom_id = me.chatroom_id
+                    AND s.member_id <> me.member_id
+                    AND m.deleted_at IS NULL
+                    AND (me.last_read_message_id IS NULL OR m.id > me.last_read_message_id)) AS actual_count
+            FROM chat_member me
+            WHERE me.id > :afterId
+              AND me.left_at IS NULL
+            ORDER BY me.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UnreadCountRow> findUnreadCounts(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 조회 이후 전송/읽음으로 값이 바뀌었다면 덮어쓰지 않도록 기존 값이 같을 때만 보정
+     */
+    @Modifying
+    @Query("""
+            UPDATE ChatMember cm
+            SET cm.unreadCount = :actualCount
+            WHERE cm.id = :chatMemberId
+            AND cm.unreadCount = :storedCount
+            """)
+    int repairUnreadCount(@Param("chatMemberId") Long chatMemberId,
+                          @Param("storedCount") Integer storedCount,
+                          @Param("actualCount") Integer actualCount);
+
+    /**
+     * 채팅방 목록(인박스) 한 줄 - 네이티브 쿼리 결과 매핑용
+     */
+    interface ChatroomInboxRow {
+        Long getChatroomId();
+        Integer getProjectId();
+        String getProjectTitle();
+        Integer getOtherMemberId();
+        String getOtherMemberName();
+        String getOtherMemberProfileUrl();
+        Long getLastMessageId();
+        String getLastMessage();
+        Timestamp getLastMessageAt();
+        Long getUnreadCount();
+        Boolean getIsBlockedByMe();
+        String getMyApplicationStatus();
+        String getMyApplicationPosition();
+    }
+
+    /**
+     * 내 채팅방 목록을 한 번의 쿼리로 조회 (상대방, 마지막 메시지, 안 읽은 개수, 내 지원 정보 포함)
+     * 안 읽은 개수는 비정규화된 unread_count 컬럼을 사용
+     * 정렬: 마지막 메시지 ID 내림차순 (메시지 없는 방은 뒤로), 같으면 채팅방 ID 내림차순
+     * 커서: (cursorMessageId, cursorChatroomId) 보다 뒤에 오는 방만 조회. 메시지 없는 방의 커서 메시지 ID는 0
+     * 메시지가 모두 아카이브된 방은 chatroom.last_message_id로 아카이브 테이블에서 마지막 메시지를 가져온다
+     */
+    @Query(value = """
+            SELECT
+                cr.id AS chatroom_id,
+                cr.project_id,
+                p.title AS project_title,
+                other.member_id AS other_member_id,
+                om.nickname AS other_member_name,
+                om.profile_image_url AS other_member_profile_url,
+                COALESCE(lm.id, alm.id) AS last_message_id,
+                COALESCE(lm.content, alm.content) AS last_message,
+                COALESCE(lm.created_at, alm.created_at) AS last_message_at,
+                me.unread_count,
+                me.is_blocked AS is_blocked_by_me,
+                pa.status AS my_application_status,
+                pos.position_name AS my_application_position
+            FROM chat_member me
+            JOIN chatroom cr ON cr.id = me.chatroom_id
+            JOIN chat_member other ON other.id = (
+                SELECT MIN(o.id) FROM chat_member o
+                 WHERE o.chatroom_id = me.chatroom_id AND o.member_id <> me.member_id)
+            JOIN member om ON om.id = other.member_id
+            LEFT JOIN project p ON p.id = cr.project_id
+            LEFT JOIN (
+                SELECT mine.chatroom_id, MAX(m.id) AS last_id
+                  FROM chat_member mine
+                  JOIN chatmessage m ON m.chatroom_id = mine.chatroom_id AND m.deleted_at IS NULL
+                 WHERE mine.member_id = :memberId AND mine.left_at IS NULL
+                 GROUP BY mine.chatroom_id
+            ) latest ON latest.chatroom_id = me.chatroom_id
+            LEFT JOIN chatmessage lm ON lm.id = latest.last_id
+            LEFT JOIN chatmessage_archive alm ON latest.last_id IS NULL AND alm.id = cr.last_message_id
+            LEFT JOIN project_application pa ON pa.id = (
+                SELECT MIN(pa2.id) FROM project_application pa2
+                  JOIN project_position pp2 ON pp2.id = pa2.project_position_id
+                 WHERE pp2.project_id = cr.project_id
+                   AND pa2.member_id = me.member_id
+                   AND pa2.deleted_at IS NULL)
+            LEFT JOIN project_position pp ON pp.id = pa.project_position_id
+            LEFT JOIN position pos ON pos.id = pp.position_id
+            WHERE me.member_id = :memberId
+              AND me.left_at IS NULL
+              AND (:cursorMessageId IS NULL
+                   OR COALESCE(latest.last_id, alm.id, 0) < :cursorMessageId
+                   OR (COALESCE(latest.last_id, alm.id, 0) = :cursorMessageId AND cr.id < :cursorChatroomId))
+            ORDER BY COALESCE(latest.last_id, alm.id, 0) DESC, cr.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ChatroomInboxRow> findInbox(@Param("memberId") Integer memberId,
+                                     @Param("cursorMessageId") Long cursorMessageId,
+                                     @Param("cursorChatroomId") Long cursorChatroomId,
+                                     @Param("limit") int limit);
+}
@@ -0,0 +1,38 @@
+package com.s401.moas.chat.repository;
+
+import com.s401.moas.chat.domain.ChatMessageArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long> {
+
+    /**
+     * 아카이브된 채팅방 메시지 목록 조회 (커서 기반 페이징)
+     * 원본 테이블과 같은 (chatroom_id, id) 인덱스를 역순 범위 스캔한다.
+     */
+    @Query("""
+    SELECT am
+    FROM ChatMessageArchive am
+    WHERE am.chatroomId = :chatroomId
+    AND am.deletedAt IS NULL
+    AND (:lastMessageId IS NULL OR am.id < :lastMessageId)
+    ORDER BY am.id DESC
+    """)
+    List<ChatMessageArchive> findByChatroomIdWithCursor(
+            @Param("chatroomId") Long chatroomId,
+            @Param("lastMessageId") Long lastMessageId,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 메시지 이전의 삭제되지 않은 가장 최근 아카이브 메시지 조회 (원본 테이블에 이전 메시지가 없을 때)
+     */
+    Optional<ChatMessageArchive> findFirstByChatroomIdAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(Long chatroomId, Long id);
+}
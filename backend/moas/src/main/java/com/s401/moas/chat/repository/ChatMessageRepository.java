@@ -16,40 +16,27 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
     /**
      * 특정 채팅방의 가장 최근 메시지 조회
-     * chatMemberId를 통해 조회해야 하므로 @Query 사용
      */
-    @Query("""
-    SELECT cm 
-    FROM ChatMessage cm
-    WHERE cm.chatMemberId IN (
-        SELECT c.id FROM ChatMember c WHERE c.chatroomId = :chatroomId
-    )
-    ORDER BY cm.createdAt DESC
-    LIMIT 1
-    """)
-    Optional<ChatMessage> findFirstByChatroomId(@Param("chatroomId") Long chatroomId);
+    Optional<ChatMessage> findFirstByChatroomIdOrderByIdDesc(Long chatroomId);
+
+    /**
+     * 특정 메시지 이전의 삭제되지 않은 가장 최근 메시지 조회 (마지막 메시지 삭제 시)
+     */
+    Optional<ChatMessage> findFirstByChatroomIdAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(Long chatroomId, Long id);
 
     /**
      * 특정 채팅방의 전체 메시지 개수 조회
      */
-    @Query("""
-    SELECT COUNT(cm)
-    FROM ChatMessage cm
-    WHERE cm.chatMemberId IN (
-        SELECT c.id FROM ChatMember c WHERE c.chatroomId = :chatroomId
-    )
-    """)
-    Integer countByChatroomId(@Param("chatroomId") Long chatroomId);
+    Integer countByChatroomId(Long chatroomId);
 
     /**
      * 채팅방의 메시지 목록 조회 (커서 기반 페이징)
+     * (chatroom_id, id) 인덱스를 역순 범위 스캔한다.
      */
     @Query("""
-    SELECT cm 
+    SELECT cm
     FROM ChatMessage cm
-    WHERE cm.chatMemberId IN (
-        SELECT c.id FROM ChatMember c WHERE c.chatroomId = :chatroomId
-    )
+    WHERE cm.chatroomId = :chatroomId
     AND cm.deletedAt IS NULL
     AND (:lastMessageId IS NULL OR cm.id < :lastMessageId)
     ORDER BY cm.id DESC
@@ -66,9 +53,10 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     @Query("""
 SELECT COUNT(cm)
 FROM ChatMessage cm
-WHERE cm.chatMemberId IN (
-    SELECT c.id FROM ChatMember c 
-    WHERE c.chatroomId = :chatroomId 
+WHERE cm.chatroomId = :chatroomId
+AND cm.chatMemberId IN (
+    SELECT c.id FROM ChatMember c
+    WHERE c.chatroomId = :chatroomId
     AND c.memberId != :myMemberId
 )
 AND cm.deletedAt IS NULL
@@ -0,0 +1,42 @@
+package com.s401.moas.chat.repository;
+
+import com.s401.moas.chat.domain.ChatMessageToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChatMessageTokenRepository extends JpaRepository<ChatMessageToken, ChatMessageToken.Key> {
+
+    /**
+     * 검색 후보 메시지 ID - 네이티브 쿼리 결과 매핑용
+     */
+    interface MessageIdRow {
+        Long getMessageId();
+    }
+
+    /**
+     * 검색어 토큰을 모두 가진 메시지 ID 조회 (최신순, 커서 기반)
+     * 토큰마다 (token, chatroom_id) PK 범위만 읽고, 메시지별로 일치한 토큰 수를 센다.
+     */
+    @Query(value = """
+            SELECT t.message_id AS message_id
+              FROM chat_message_token t
+             WHERE t.token IN (:tokens)
+               AND t.chatroom_id IN (:chatroomIds)
+               AND (:beforeMessageId IS NULL OR t.message_id < :beforeMessageId)
+             GROUP BY t.message_id
+            HAVING COUNT(*) = :tokenCount
+             ORDER BY t.message_id DESC
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<MessageIdRow> findMessageIdsMatchingAll(@Param("tokens") Collection<String> tokens,
+                                                 @Param("chatroomIds") Collection<Long> chatroomIds,
+                                                 @Param("beforeMessageId") Long beforeMessageId,
+                                                 @Param("tokenCount") long tokenCount,
+                                                 @Param("limit") int limit);
+}
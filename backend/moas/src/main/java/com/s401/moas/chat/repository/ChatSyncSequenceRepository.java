@@ -0,0 +1,7 @@
+package com.s401.moas.chat.repository;
+
+import com.s401.moas.chat.domain.ChatSyncSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ChatSyncSequenceRepository extends JpaRepository<ChatSyncSequence, Integer> {
+}
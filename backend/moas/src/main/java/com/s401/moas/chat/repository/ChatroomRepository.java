@@ -2,6 +2,7 @@ package com.s401.moas.chat.repository;
 
 import com.s401.moas.chat.domain.Chatroom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -32,4 +33,19 @@ public interface ChatroomRepository extends JpaRepository<Chatroom, Long> {
             @Param("memberId1") Integer memberId1,
             @Param("memberId2") Integer memberId2
     );
+
+    /**
+     * 마지막 메시지가 삭제된 경우 이전 메시지로 교체
+     * 그 사이 새 메시지가 전송되어 마지막 메시지가 바뀌었으면 갱신하지 않는다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Chatroom c
+            SET c.lastMessageId = :previousMessageId
+            WHERE c.id = :chatroomId
+            AND c.lastMessageId = :deletedMessageId
+            """)
+    int replaceLastMessage(@Param("chatroomId") Long chatroomId,
+                           @Param("deletedMessageId") Long deletedMessageId,
+                           @Param("previousMessageId") Long previousMessageId);
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.s401.moas.chat.service;
+
+import com.s401.moas.chat.domain.ChatChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 채팅 변경 로그 기록 (델타 동기화용)
+ *
+ * 호출한 쪽의 트랜잭션 안에서 회원별 seq를 발급하고 로그를 추가한다.
+ * seq 발급은 chat_sync_sequence 행 잠금으로 직렬화되므로, 같은 회원의 로그는 seq 순서대로 커밋되어
+ * 커서 이후 조회 시 늦게 커밋된 로그를 놓치지 않는다.
+ * 메시지 저장 등 JPA 쓰기와 같은 트랜잭션에서 쓰일 수 있도록 JDBC로 직접 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatChangeLogWriter {
+
+    private static final String INCREMENT_SEQ_SQL =
+            "UPDATE chat_sync_sequence SET last_seq = last_seq + ? WHERE member_id = ?";
+    private static final String INSERT_SEQ_SQL =
+            "INSERT INTO chat_sync_sequence (member_id, last_seq) VALUES (?, ?)";
+    private static final String SELECT_SEQ_SQL =
+            "SELECT last_seq FROM chat_sync_sequence WHERE member_id = ?";
+    private static final String INSERT_LOG_SQL = """
+            INSERT INTO chat_change_log (member_id, seq, chatroom_id, change_type, ref_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_ROOMS_MEMBERS_SQL =
+            "SELECT chatroom_id, member_id FROM chat_member WHERE chatroom_id IN (%s)";
+
+    // 참여자 조회 시 IN 절 하나에 넣는 최대 채팅방 수
+    private static final int ROOM_QUERY_CHUNK = 500;
+
+    /**
+     * 기록할 변경 하나 (여러 채팅방 일괄 기록용)
+     */
+    public record Change(Long chatroomId, ChatChangeType changeType, Long refId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지정한 회원들에게 변경 기록
+     */
+    public void record(Long chatroomId, ChatChangeType changeType, Long refId, Collection<Integer> memberIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // 여러 트랜잭션이 같은 회원들의 seq 행을 잠글 때 교착되지 않도록 항상 회원 ID 순서로 잠근다
+        for (Integer memberId : memberIds.stream().distinct().sorted().toList()) {
+            long seq = nextSeq(memberId, 1);
+            jdbcTemplate.update(INSERT_LOG_SQL, memberId, seq, chatroomId, changeType.name(), refId, now);
+        }
+    }
+
+    /**
+     * 여러 채팅방의 변경을 각 방 참여자 전원에게 일괄 기록 (읽음 위치 일괄 반영 등)
+     * 방마다 따로 기록하면 방 순서대로 seq 행을 잠가 회원 ID 순서 규칙이 깨지므로,
+     * 대상 회원 전체를 회원 ID 순서로 한 번씩만 잠그고(필요한 seq를 한 번에 발급) 로그를 batch로 추가한다.
+     */
+    public void recordForRooms(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Integer>> roomMembers = findRoomMembers(
+                changes.stream().map(Change::chatroomId).distinct().toList());
+        Map<Integer, List<Change>> byMember = new TreeMap<>();
+        for (Change change : changes) {
+            for (Integer memberId : roomMembers.getOrDefault(change.chatroomId(), List.of())) {
+                byMember.computeIfAbsent(memberId, id -> new ArrayList<>()).add(change);
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>();
+        byMember.forEach((memberId, memberChanges) -> {
+            long lastSeq = nextSeq(memberId, memberChanges.size());
+            long seq = lastSeq - memberChanges.size();
+            for (Change change : memberChanges) {
+                args.add(new Object[]{memberId, ++seq, change.chatroomId(), change.changeType().name(),
+                        change.refId(), now});
+            }
+        });
+        jdbcTemplate.batchUpdate(INSERT_LOG_SQL, args);
+    }
+
+    private Map<Long, List<Integer>> findRoomMembers(List<Long> chatroomIds) {
+        Map<Long, List<Integer>> result = new HashMap<>();
+        for (int from = 0; from < chatroomIds.size(); from += ROOM_QUERY_CHUNK) {
+            List<Long> chunk = chatroomIds.subList(from, Math.min(from + ROOM_QUERY_CHUNK, chatroomIds.size()));
+            String sql = SELECT_ROOMS_MEMBERS_SQL.formatted(String.join(",", Collections.nCopies(chunk.size(), "?")));
+            jdbcTemplate.query(sql, rs -> {
+                result.computeIfAbsent(rs.getLong("chatroom_id"), id -> new ArrayList<>()).add(rs.getInt("member_id"));
+            }, chunk.toArray());
+        }
+        return result;
+    }
+
+    /**
+     * 회원의 seq를 count만큼 발급하고 마지막 값을 반환 (발급 구간: 반환값 - count + 1 ~ 반환값)
+     */
+    private long nextSeq(Integer memberId, int count) {
+        if (jdbcTemplate.update(INCREMENT_SEQ_SQL, count, memberId) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SEQ_SQL, memberId, count);
+                return count;
+            } catch (DuplicateKeyException e) {
+                // 동시에 첫 변경이 기록된 경우 - 먼저 생성된 행을 증가시킨다
+                jdbcTemplate.update(INCREMENT_SEQ_SQL, count, memberId);
+            }
+        }
+        return jdbcTemplate.queryForObject(SELECT_SEQ_SQL, Long.class, memberId);
+    }
+}
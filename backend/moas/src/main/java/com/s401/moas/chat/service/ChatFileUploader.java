@@ -0,0 +1,98 @@
+package com.s401.moas.chat.service;
+
+import com.s401.moas.chat.exception.ChatException;
+import com.s401.moas.global.async.AsyncExecutors;
+import com.s401.moas.global.service.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 채팅 첨부파일 S3 업로드
+ *
+ * DB 트랜잭션 밖에서 호출하여 업로드 동안 커넥션을 점유하지 않도록 한다.
+ * 파일들은 미디어 풀에서 병렬로 업로드하며, 하나라도 실패하면 성공한 파일을 삭제하고 예외를 던진다.
+ */
+@Slf4j
+@Component
+public class ChatFileUploader {
+
+    private static final String DIR_NAME = "chat/files";
+
+    private final S3Service s3Service;
+    private final Executor mediaExecutor;
+
+    public ChatFileUploader(S3Service s3Service,
+                            @Qualifier(AsyncExecutors.MEDIA) Executor mediaExecutor) {
+        this.s3Service = s3Service;
+        this.mediaExecutor = mediaExecutor;
+    }
+
+    /**
+     * 업로드된 파일 정보
+     */
+    public record UploadedFile(String fileUrl, String originalFileName, String fileType, int fileSize) {
+    }
+
+    /**
+     * 파일 병렬 업로드 (결과는 요청 순서 유지)
+     */
+    public List<UploadedFile> uploadAll(List<MultipartFile> files) {
+        List<CompletableFuture<UploadedFile>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> upload(file), mediaExecutor))
+                .toList();
+
+        // 실패한 업로드가 있어도 나머지가 끝날 때까지 기다려야 성공한 파일을 정리할 수 있다
+        List<UploadedFile> uploaded = new ArrayList<>(files.size());
+        boolean failed = false;
+        for (CompletableFuture<UploadedFile> future : futures) {
+            try {
+                uploaded.add(future.join());
+            } catch (CompletionException e) {
+                failed = true;
+            }
+        }
+
+        if (failed) {
+            deleteAll(uploaded);
+            throw ChatException.fileUploadFailed();
+        }
+        return uploaded;
+    }
+
+    /**
+     * 업로드한 파일 삭제 (메시지 저장 실패 시 보상 처리)
+     * 삭제 실패는 S3Service에서 로그만 남긴다.
+     */
+    public void deleteAll(List<UploadedFile> files) {
+        for (UploadedFile file : files) {
+            s3Service.delete(file.fileUrl());
+        }
+        if (!files.isEmpty()) {
+            log.info("업로드 파일 보상 삭제: count={}", files.size());
+        }
+    }
+
+    private UploadedFile upload(MultipartFile file) {
+        try {
+            String fileUrl = s3Service.upload(file, DIR_NAME);
+            log.info("파일 업로드 완료: filename={}, url={}", file.getOriginalFilename(), fileUrl);
+            return new UploadedFile(fileUrl, file.getOriginalFilename(), file.getContentType(), (int) file.getSize());
+        } catch (IOException e) {
+            log.error("파일 업로드 실패: filename={}", file.getOriginalFilename(), e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            log.error("파일 업로드 실패: filename={}", file.getOriginalFilename(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.s401.moas.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * chatmessage 월별 파티션 관리 및 아카이브 이동
+ *
+ * chatmessage는 id 기준 RANGE 파티션(p{yyyyMM}, 마지막은 p_future)으로 나뉜다 (V5 마이그레이션).
+ * 각 월 파티션은 다음 달 파티션을 미리 만들어 두고, 달이 바뀌면 AUTO_INCREMENT를 해당 월 파티션의 시작 값으로 올려
+ * 그 달의 메시지가 그 달 파티션에만 쌓이게 한다. p_future는 항상 비어 있으므로 파티션 분할 시 데이터 복사가 없다.
+ *
+ * 보관 기간이 지난 월 파티션은 청크 단위로 chatmessage_archive(압축 행 포맷)에 복사한 뒤 DROP PARTITION 한다.
+ * 파티션되지 않은 테이블(로컬/테스트 DB)에서는 아무 작업도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessagePartitionManager {
+
+    private static final String TABLE = "chatmessage";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p\\d{6}");
+
+    private static final String SELECT_PARTITIONS_SQL = """
+            SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+              FROM information_schema.PARTITIONS
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = ?
+               AND PARTITION_NAME IS NOT NULL
+             ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+    private static final String SELECT_MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM chatmessage";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 월 파티션 하나에 배정하는 ID 구간 크기 (한 달 메시지 수보다 충분히 크게)
+    @Value("${chat.archive.ids-per-month:1000000000}")
+    private long idsPerMonth;
+
+    /**
+     * 파티션 정보 (upperBound는 VALUES LESS THAN 값, p_future는 null)
+     */
+    record Partition(String name, Long upperBound) {
+
+        boolean isMonthly() {
+            return MONTH_PARTITION.matcher(name).matches();
+        }
+
+        YearMonth month() {
+            return YearMonth.parse(name.substring(1), MONTH_FORMAT);
+        }
+    }
+
+    /**
+     * 이번 달과 다음 달 파티션을 준비하고, 이번 달 메시지가 이번 달 파티션에 쌓이도록 AUTO_INCREMENT를 맞춘다.
+     * 여러 번 실행해도 결과가 같다.
+     */
+    public void preparePartitions(YearMonth now) {
+        List<Partition> partitions = listPartitions();
+        if (partitions.isEmpty()) {
+            log.debug("chatmessage 테이블이 파티션되어 있지 않아 파티션 준비를 건너뜁니다.");
+            return;
+        }
+
+        for (YearMonth month : List.of(now, now.plusMonths(1))) {
+            if (find(partitions, month) == null) {
+                addMonthPartition(partitions, month);
+                partitions = listPartitions();
+            }
+        }
+
+        // 이번 달 파티션의 시작 값 = 바로 앞 파티션의 상한
+        Partition current = find(partitions, now);
+        int index = partitions.indexOf(current);
+        long lowerBound = index == 0 ? 0L : partitions.get(index - 1).upperBound();
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ID_SQL, Long.class);
+        if (maxId != null && maxId + 1 < lowerBound) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " AUTO_INCREMENT = " + lowerBound);
+            log.info("chatmessage AUTO_INCREMENT 조정: month={}, autoIncrement={}", now, lowerBound);
+        }
+    }
+
+    /**
+     * 보관 기준 월(before)보다 이전의 월 파티션 목록
+     */
+    public List<String> archivablePartitions(YearMonth before) {
+        List<String> result = new ArrayList<>();
+        for (Partition partition : listPartitions()) {
+            if (partition.isMonthly() && partition.month().isBefore(before)) {
+                result.add(partition.name());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 월 파티션을 아카이브 테이블로 옮긴 뒤 삭제
+     * 청크마다 자동 커밋되며, 중간에 실패해도 다시 실행할 수 있다 (이미 복사된 행은 deleted_at만 갱신).
+     * 복사 중에 삭제된 메시지가 아카이브에서 살아나지 않도록 삭제 직전에 deleted_at을 한 번 더 맞춘다.
+     * 복사 건수가 파티션 건수와 맞지 않으면 파티션을 삭제하지 않는다.
+     *
+     * @return 아카이브된 메시지 수
+     */
+    public long archivePartition(String partitionName, int chunkSize) {
+        if (!MONTH_PARTITION.matcher(partitionName).matches()) {
+            throw new IllegalArgumentException("월 파티션이 아닙니다: " + partitionName);
+        }
+        String source = TABLE + " PARTITION (" + partitionName + ")";
+
+        long copied = 0;
+        long cursor = 0;
+        while (true) {
+            Long chunkEnd = jdbcTemplate.queryForObject(
+                    "SELECT MAX(id) FROM (SELECT id FROM " + source + " WHERE id > ? ORDER BY id LIMIT ?) t",
+                    Long.class, cursor, chunkSize);
+            if (chunkEnd == null) {
+                break;
+            }
+            copied += jdbcTemplate.update("""
+                    INSERT INTO chatmessage_archive (id, chatroom_id, chat_member_id, content, created_at, deleted_at)
+                    SELECT id, chatroom_id, chat_member_id, content, created_at, deleted_at
+                      FROM %s
+                     WHERE id > ? AND id <= ?
+                        ON DUPLICATE KEY UPDATE deleted_at = VALUES(deleted_at)
+                    """.formatted(source), cursor, chunkEnd);
+            cursor = chunkEnd;
+        }
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + source, Long.class);
+        Long archived = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM chatmessage_archive a
+                 WHERE EXISTS (SELECT 1 FROM %s m WHERE m.id = a.id)
+                """.formatted(source), Long.class);
+        if (total == null || !total.equals(archived)) {
+            log.warn("아카이브 건수 불일치로 파티션을 유지합니다: partition={}, total={}, archived={}",
+                    partitionName, total, archived);
+            return copied;
+        }
+
+        // 마지막 청크 복사 이후 삭제된 메시지 반영
+        int resynced = jdbcTemplate.update("""
+                UPDATE chatmessage_archive a
+                  JOIN %s m ON m.id = a.id
+                   SET a.deleted_at = m.deleted_at
+                 WHERE m.deleted_at IS NOT NULL
+                   AND a.deleted_at IS NULL
+                """.formatted(source));
+        if (resynced > 0) {
+            log.info("아카이브 삭제 상태 재동기화: partition={}, messages={}", partitionName, resynced);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partitionName);
+        log.info("chatmessage 파티션 아카이브 완료: partition={}, messages={}", partitionName, total);
+        return total;
+    }
+
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query(SELECT_PARTITIONS_SQL,
+                (rs, rowNum) -> {
+                    String description = rs.getString("PARTITION_DESCRIPTION");
+                    Long upperBound = "MAXVALUE".equalsIgnoreCase(description) ? null : Long.valueOf(description);
+                    return new Partition(rs.getString("PARTITION_NAME"), upperBound);
+                },
+                TABLE);
+    }
+
+    /**
+     * 비어 있는 p_future를 나누어 월 파티션 추가 (직전 파티션 상한 + idsPerMonth)
+     */
+    private void addMonthPartition(List<Partition> partitions, YearMonth month) {
+        Partition last = partitions.stream()
+                .filter(partition -> partition.upperBound() != null)
+                .reduce((first, second) -> second)
+                .orElse(null);
+        long lastUpperBound = last == null ? 0L : last.upperBound();
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ID_SQL, Long.class);
+        if (maxId != null && maxId >= lastUpperBound) {
+            // 한 달 배정 구간을 넘겨 p_future에 행이 있는 경우 - 분할 시 해당 행이 복사된다
+            log.warn("p_future에 메시지가 있습니다. idsPerMonth 설정을 늘려야 합니다: maxId={}, lastUpperBound={}",
+                    maxId, lastUpperBound);
+        }
+        long start = Math.max(lastUpperBound, maxId == null ? 0L : maxId + 1);
+        String name = "p" + month.format(MONTH_FORMAT);
+
+        jdbcTemplate.execute("""
+                ALTER TABLE %s REORGANIZE PARTITION %s INTO (
+                    PARTITION %s VALUES LESS THAN (%d),
+                    PARTITION %s VALUES LESS THAN MAXVALUE)
+                """.formatted(TABLE, FUTURE_PARTITION, name, start + idsPerMonth, FUTURE_PARTITION));
+        log.info("chatmessage 파티션 추가: partition={}, lessThan={}", name, start + idsPerMonth);
+    }
+
+    private Partition find(List<Partition> partitions, YearMonth month) {
+        String name = "p" + month.format(MONTH_FORMAT);
+        return partitions.stream()
+                .filter(partition -> partition.name().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,192 @@
+package com.s401.moas.chat.service;
+
+import com.s401.moas.chat.domain.ChatChangeType;
+import com.s401.moas.chat.domain.ChatMember;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 채팅 읽음 위치(last_read_message_id) 갱신 버퍼
+ *
+ * 메시지 조회/전송 때마다 chat_member 행을 갱신하지 않고, 채팅 멤버별 최대 메시지 ID만 메모리에 모아 두었다가
+ * 주기적으로(또는 WebSocket 연결 종료 시) 한 번의 JDBC batch UPDATE로 반영한다.
+ * 반영 시 unread_count도 새 읽음 위치 기준으로 다시 계산하고, 실제로 이동한 읽음 위치는 변경 로그(READ)로 남긴다.
+ *
+ * 반영 전까지 조회 API는 {@link #effectiveLastRead}, {@link #pendingByChatroom}으로 버퍼 값을 함께 본다.
+ * 노드가 비정상 종료되면 마지막 반영 이후의 읽음 위치는 유실되며, 다음 조회 시 다시 기록된다.
+ */
+@Slf4j
+@Component
+public class ChatReadPointerBuffer {
+
+    // 읽음 위치가 앞으로 이동하는 경우에만 갱신 (이미 더 뒤까지 읽은 값을 되돌리지 않음)
+    private static final String FLUSH_SQL = """
+            UPDATE chat_member me
+            SET unread_count = (SELECT COUNT(*)
+                                  FROM chatmessage m
+                                 WHERE m.chatroom_id = me.chatroom_id
+                                   AND m.chat_member_id <> me.id
+                                   AND m.deleted_at IS NULL
+                                   AND m.id > ?),
+                last_read_message_id = ?
+            WHERE me.id = ?
+              AND (me.last_read_message_id IS NULL OR me.last_read_message_id < ?)
+            """;
+
+    /**
+     * 반영 대기 중인 읽음 위치
+     */
+    private record PendingRead(Long chatroomId, Integer memberId, Long messageId) {
+
+        PendingRead max(PendingRead other) {
+            return other.messageId() > messageId ? other : this;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatChangeLogWriter changeLogWriter;
+
+    // key: chat_member.id
+    private final ConcurrentHashMap<Long, PendingRead> pending = new ConcurrentHashMap<>();
+
+    private final Counter flushedRows;
+    private final Counter flushFailures;
+
+    public ChatReadPointerBuffer(JdbcTemplate jdbcTemplate, ChatChangeLogWriter changeLogWriter,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeLogWriter = changeLogWriter;
+
+        Gauge.builder("moas.chat.read_pointer.pending", pending, Map::size)
+                .description("반영 대기 중인 읽음 위치 수")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("moas.chat.read_pointer.flushed")
+                .description("DB에 반영된 읽음 위치 수")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("moas.chat.read_pointer.flush_failures")
+                .description("읽음 위치 반영 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 읽음 위치 기록 (기존 대기 값보다 큰 경우에만 교체)
+     */
+    public void advance(ChatMember chatMember, Long messageId) {
+        if (messageId == null) {
+            return;
+        }
+        pending.merge(chatMember.getId(),
+                new PendingRead(chatMember.getChatroomId(), chatMember.getMemberId(), messageId),
+                PendingRead::max);
+    }
+
+    /**
+     * DB 값과 대기 중인 값 중 큰 값 (조회 응답용)
+     */
+    public Long effectiveLastRead(ChatMember chatMember) {
+        PendingRead read = pending.get(chatMember.getId());
+        Long stored = chatMember.getLastReadMessageId();
+        if (read == null) {
+            return stored;
+        }
+        return stored == null ? read.messageId() : Math.max(stored, read.messageId());
+    }
+
+    /**
+     * 회원의 반영 대기 중인 읽음 위치 (chatroomId → messageId)
+     */
+    public Map<Long, Long> pendingByChatroom(Integer memberId) {
+        Map<Long, Long> result = new HashMap<>();
+        for (PendingRead read : pending.values()) {
+            if (read.memberId().equals(memberId)) {
+                result.put(read.chatroomId(), read.messageId());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 대기 중인 읽음 위치 전체 반영
+     *
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int flush() {
+        return flushMatching(read -> true);
+    }
+
+    /**
+     * 특정 회원의 대기 중인 읽음 위치만 반영 (연결 종료 시)
+     */
+    @Transactional
+    public int flushMember(Integer memberId) {
+        return flushMatching(read -> read.memberId().equals(memberId));
+    }
+
+    /**
+     * 특정 채팅방의 대기 중인 읽음 위치만 반영 (메시지 삭제 시 안 읽은 수 감소 전)
+     */
+    @Transactional
+    public int flushChatroom(Long chatroomId) {
+        return flushMatching(read -> read.chatroomId().equals(chatroomId));
+    }
+
+    private int flushMatching(Predicate<PendingRead> filter) {
+        // chat_member 행도 항상 같은 순서(ID 순)로 잠그도록 정렬
+        Map<Long, PendingRead> drained = new TreeMap<>();
+        for (Map.Entry<Long, PendingRead> entry : pending.entrySet()) {
+            if (filter.test(entry.getValue()) && pending.remove(entry.getKey(), entry.getValue())) {
+                drained.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        List<PendingRead> reads = new ArrayList<>(drained.size());
+        List<Object[]> args = new ArrayList<>(drained.size());
+        drained.forEach((chatMemberId, read) -> {
+            reads.add(read);
+            args.add(new Object[]{read.messageId(), read.messageId(), chatMemberId, read.messageId()});
+        });
+
+        try {
+            int[] counts = jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            List<ChatChangeLogWriter.Change> changes = new ArrayList<>();
+            int updated = 0;
+            for (int i = 0; i < counts.length; i++) {
+                // 드라이버에 따라 batch 결과가 SUCCESS_NO_INFO(-2)일 수 있어 0만 건너뛴다
+                if (counts[i] == 0) {
+                    continue;
+                }
+                updated += Math.max(counts[i], 0);
+                PendingRead read = reads.get(i);
+                changes.add(new ChatChangeLogWriter.Change(read.chatroomId(), ChatChangeType.READ, read.messageId()));
+            }
+            // 변경 로그는 모아서 회원 ID 순서로 한 번에 기록 (방마다 기록하면 seq 행 잠금 순서가 엇갈려 교착될 수 있음)
+            changeLogWriter.recordForRooms(changes);
+            flushedRows.increment(drained.size());
+            log.debug("읽음 위치 반영: pending={}, updated={}", drained.size(), updated);
+            return updated;
+        } catch (RuntimeException e) {
+            // 실패한 값은 다시 버퍼에 넣어 다음 주기에 재시도
+            drained.forEach((chatMemberId, read) -> pending.merge(chatMemberId, read, PendingRead::max));
+            flushFailures.increment();
+            log.warn("읽음 위치 반영 실패: pending={}, error={}", drained.size(), e.getMessage());
+            throw e;
+        }
+    }
+}
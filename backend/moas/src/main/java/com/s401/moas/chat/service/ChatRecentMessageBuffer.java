@@ -0,0 +1,326 @@
+package com.s401.moas.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.s401.moas.chat.service.dto.GetChatMessagesDto;
+import com.s401.moas.global.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 채팅방별 최근 메시지 버퍼 (첫 페이지 조회용)
+ *
+ * 채팅방마다 최신 메시지를 최대 capacity 개까지 렌더링된 형태(발신자, 파일 포함)로 보관한다.
+ * - 로컬: Caffeine, 전체 보관 메시지 수(max-messages)를 상한으로 오래 사용되지 않은 채팅방부터 제거
+ * - Redis: 메시지 ID를 score로 하는 ZSET(chat:recent:{chatroomId})에 미러링하여 다른 노드와 공유
+ *
+ * 버퍼는 DB 첫 페이지 조회 시 채워지고(warm), 메시지 전송 커밋 시 추가된다(append).
+ * warm과 append는 서로 덮어쓰지 않고 메시지 ID 기준으로 합친다. warm이 DB를 읽은 뒤 커밋된 메시지가
+ * warm에 지워지지 않도록, append는 버퍼가 없어도 기록하고(이전 메시지는 모른다고 표시) warm은 기존 버퍼와 합친다.
+ * 조회 시 버퍼의 최신 메시지 ID가 chatroom.last_message_id와 다르면 오래된 버퍼로 보고 DB로 조회한다.
+ * 메시지 삭제처럼 기존 메시지가 바뀌면 Redis와 모든 노드의 로컬 버퍼를 함께 제거한다 ({@link CacheInvalidationBus}).
+ * Redis 장애 시에는 로컬 버퍼와 DB만으로 동작한다.
+ */
+@Slf4j
+@Component
+public class ChatRecentMessageBuffer {
+
+    private static final String KEY_PREFIX = "chat:recent:";
+    private static final String CACHE_NAME = "chat-recent-messages";
+
+    // 메시지를 ID 기준으로 기존 버퍼에 합친다 (같은 ID는 새 값으로 교체).
+    // 이전 메시지 존재 플래그는 가장 오래된 메시지를 가진 쪽의 값을 따르고, 용량을 넘어 잘라내면 세운다.
+    // ARGV: hasOlder, ttlMillis, capacity, (score, json)... (score 내림차순)
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>("""
+            local hasOlder = ARGV[1]
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            if oldest[2] ~= nil and tonumber(oldest[2]) < tonumber(ARGV[#ARGV - 1]) then
+              hasOlder = redis.call('GET', KEYS[2]) or '1'
+            end
+            for i = 4, #ARGV, 2 do
+              redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[i], ARGV[i])
+              redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[3])
+            if overflow > 0 then
+              redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+              hasOlder = '1'
+            end
+            redis.call('SET', KEYS[2], hasOlder, 'PX', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final Comparator<GetChatMessagesDto.MessageDto> NEWEST_FIRST =
+            Comparator.comparing(GetChatMessagesDto.MessageDto::getMessageId).reversed();
+
+    /**
+     * 조회 결과 페이지
+     */
+    public record Page(List<GetChatMessagesDto.MessageDto> messages, boolean hasNext) {
+    }
+
+    /**
+     * 채팅방 버퍼 (messages는 메시지 ID 내림차순, hasOlder는 버퍼 밖에 더 오래된 메시지가 있는지 여부)
+     */
+    private record RoomBuffer(List<GetChatMessagesDto.MessageDto> messages, boolean hasOlder) {
+
+        Long latestMessageId() {
+            return messages.isEmpty() ? null : messages.get(0).getMessageId();
+        }
+
+        Long oldestMessageId() {
+            return messages.get(messages.size() - 1).getMessageId();
+        }
+
+        /**
+         * 메시지 ID 기준으로 합친 버퍼 (같은 ID는 other의 값 사용)
+         * 이전 메시지 존재 여부는 가장 오래된 메시지를 가진 쪽의 값을 따른다.
+         */
+        RoomBuffer merge(RoomBuffer other, int capacity) {
+            Map<Long, GetChatMessagesDto.MessageDto> byId = new HashMap<>();
+            for (GetChatMessagesDto.MessageDto message : messages) {
+                byId.put(message.getMessageId(), message);
+            }
+            for (GetChatMessagesDto.MessageDto message : other.messages()) {
+                byId.put(message.getMessageId(), message);
+            }
+            List<GetChatMessagesDto.MessageDto> merged = new ArrayList<>(byId.values());
+            merged.sort(NEWEST_FIRST);
+
+            boolean older = oldestMessageId() < other.oldestMessageId() ? hasOlder : other.hasOlder();
+            boolean overflow = merged.size() > capacity;
+            return new RoomBuffer(
+                    List.copyOf(overflow ? merged.subList(0, capacity) : merged),
+                    older || overflow);
+        }
+
+        Optional<Page> page(int size) {
+            if (messages.size() >= size) {
+                return Optional.of(new Page(messages.subList(0, size), messages.size() > size || hasOlder));
+            }
+            // 버퍼에 요청 개수보다 적게 있으면 채팅방 전체 메시지를 보관 중일 때만 응답 가능
+            return hasOlder ? Optional.empty() : Optional.of(new Page(messages, false));
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int capacity;
+    private final Duration ttl;
+    private final Cache<Long, RoomBuffer> local;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+    private final Counter remoteErrors;
+
+    public ChatRecentMessageBuffer(StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   CacheInvalidationBus invalidationBus,
+                                   @Value("${chat.recent-buffer.enabled:true}") boolean enabled,
+                                   @Value("${chat.recent-buffer.capacity:50}") int capacity,
+                                   @Value("${chat.recent-buffer.max-messages:100000}") long maxMessages,
+                                   @Value("${chat.recent-buffer.ttl:10m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.ttl = ttl;
+        this.local = Caffeine.newBuilder()
+                .maximumWeight(maxMessages)
+                .weigher((Long chatroomId, RoomBuffer buffer) -> buffer.messages().size() + 1)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME);
+        this.invalidationBus = invalidationBus;
+        invalidationBus.register(CACHE_NAME, key -> local.invalidate(Long.valueOf(key)));
+
+        this.localHits = resultCounter(meterRegistry, "local");
+        this.remoteHits = resultCounter(meterRegistry, "remote");
+        this.misses = resultCounter(meterRegistry, "miss");
+        this.remoteErrors = resultCounter(meterRegistry, "error");
+    }
+
+    /**
+     * 최신 size 개 메시지 조회
+     *
+     * @param latestMessageId 채팅방의 마지막 메시지 ID (chatroom.last_message_id) - 버퍼 최신성 검증용
+     * @return 버퍼로 응답할 수 없으면 empty (DB 조회 필요)
+     */
+    public Optional<Page> getLatest(Long chatroomId, Long latestMessageId, int size) {
+        if (!enabled || latestMessageId == null || size > capacity) {
+            return Optional.empty();
+        }
+
+        RoomBuffer buffer = local.getIfPresent(chatroomId);
+        if (buffer != null && latestMessageId.equals(buffer.latestMessageId())) {
+            Optional<Page> page = buffer.page(size);
+            if (page.isPresent()) {
+                localHits.increment();
+                return page;
+            }
+        }
+
+        buffer = readRemote(chatroomId);
+        if (buffer != null && latestMessageId.equals(buffer.latestMessageId())) {
+            local.put(chatroomId, buffer);
+            Optional<Page> page = buffer.page(size);
+            if (page.isPresent()) {
+                remoteHits.increment();
+                return page;
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * DB에서 조회한 첫 페이지를 버퍼에 합친다 (조회 이후 추가된 메시지는 유지).
+     */
+    public void warm(Long chatroomId, Page page) {
+        if (!enabled || page.messages().isEmpty()) {
+            return;
+        }
+        List<GetChatMessagesDto.MessageDto> messages = page.messages().size() > capacity
+                ? page.messages().subList(0, capacity)
+                : page.messages();
+        RoomBuffer buffer = new RoomBuffer(List.copyOf(messages),
+                page.hasNext() || page.messages().size() > capacity);
+        local.asMap().merge(chatroomId, buffer, (existing, warmed) -> existing.merge(warmed, capacity));
+        writeRemote(chatroomId, buffer);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 새 메시지를 버퍼에 추가 (롤백된 메시지가 노출되지 않도록)
+     */
+    public void appendAfterCommit(Long chatroomId, GetChatMessagesDto.MessageDto message) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(chatroomId, message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(chatroomId, message);
+            }
+        });
+    }
+
+    /**
+     * 버퍼 제거 (메시지 삭제 등 기존 메시지가 바뀐 경우)
+     * Redis를 먼저 지운 뒤 다른 노드의 로컬 버퍼를 제거하여, 다른 노드가 Redis에서 이전 버퍼를 다시 읽지 않도록 한다.
+     */
+    public void evict(Long chatroomId) {
+        local.invalidate(chatroomId);
+        try {
+            redisTemplate.delete(List.of(redisKey(chatroomId), olderKey(chatroomId)));
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("최근 메시지 버퍼 삭제 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+        }
+        invalidationBus.publish(CACHE_NAME, String.valueOf(chatroomId));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 버퍼 제거 (커밋 전에 다시 채워진 버퍼도 지워지도록)
+     */
+    public void evictAfterCommit(Long chatroomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(chatroomId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(chatroomId);
+            }
+        });
+    }
+
+    private void append(Long chatroomId, GetChatMessagesDto.MessageDto message) {
+        // 버퍼가 없어도 기록한다 (이전 메시지는 모르므로 hasOlder). 진행 중인 warm이 이 메시지를 덮어쓰지 않고 합친다.
+        RoomBuffer appended = new RoomBuffer(List.of(message), true);
+        local.asMap().merge(chatroomId, appended, (existing, added) -> existing.merge(added, capacity));
+        writeRemote(chatroomId, appended);
+    }
+
+    private RoomBuffer readRemote(Long chatroomId) {
+        try {
+            Set<String> values = redisTemplate.opsForZSet().reverseRange(redisKey(chatroomId), 0, capacity - 1);
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            List<GetChatMessagesDto.MessageDto> messages = new ArrayList<>(values.size());
+            for (String json : values) {
+                messages.add(objectMapper.readValue(json, GetChatMessagesDto.MessageDto.class));
+            }
+            boolean hasOlder = !"0".equals(redisTemplate.opsForValue().get(olderKey(chatroomId)));
+            return new RoomBuffer(List.copyOf(messages), hasOlder);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("최근 메시지 버퍼 조회 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(Long chatroomId, RoomBuffer buffer) {
+        try {
+            List<String> args = new ArrayList<>(3 + buffer.messages().size() * 2);
+            args.add(buffer.hasOlder() ? "1" : "0");
+            args.add(String.valueOf(ttl.toMillis()));
+            args.add(String.valueOf(capacity));
+            for (GetChatMessagesDto.MessageDto message : buffer.messages()) {
+                args.add(String.valueOf(message.getMessageId()));
+                args.add(objectMapper.writeValueAsString(message));
+            }
+            redisTemplate.execute(MERGE_SCRIPT, List.of(redisKey(chatroomId), olderKey(chatroomId)), args.toArray());
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("최근 메시지 버퍼 저장 실패: chatroomId={}, error={}", chatroomId, e.getMessage());
+        }
+    }
+
+    // 해시 태그로 두 키를 같은 슬롯에 두어 클러스터에서도 스크립트 실행 가능
+    private static String redisKey(Long chatroomId) {
+        return KEY_PREFIX + "{" + chatroomId + "}";
+    }
+
+    private static String olderKey(Long chatroomId) {
+        return redisKey(chatroomId) + ":older";
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("moas.chat.recent_buffer")
+                .description("최근 메시지 버퍼 첫 페이지 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,99 @@
+package com.s401.moas.chat.service;
+
+import com.s401.moas.chat.domain.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 채팅 검색 역색인(chat_message_token) 유지
+ *
+ * 메시지 저장/삭제와 같은 트랜잭션 안에서 토큰 행을 JDBC batch로 추가/삭제한다.
+ * 기존 메시지는 {@link #backfill}로 id 순서대로 나누어 색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSearchIndexer {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_message_token (token, chatroom_id, message_id) VALUES (?, ?, ?)";
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO chat_message_token (token, chatroom_id, message_id) VALUES (?, ?, ?)";
+    private static final String DELETE_SQL =
+            "DELETE FROM chat_message_token WHERE token = ? AND chatroom_id = ? AND message_id = ?";
+    private static final String SELECT_BACKFILL_SQL = """
+            SELECT id, chatroom_id, content
+              FROM chatmessage
+             WHERE id > ? AND deleted_at IS NULL
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 메시지 색인
+     */
+    public void index(ChatMessage message) {
+        List<Object[]> rows = rows(message.getChatroomId(), message.getId(), message.getContent());
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    /**
+     * 삭제된 메시지 색인 제거
+     */
+    public void remove(ChatMessage message) {
+        List<Object[]> rows = rows(message.getChatroomId(), message.getId(), message.getContent());
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, rows);
+        }
+    }
+
+    /**
+     * 기존 메시지 색인 (이미 색인된 토큰은 건너뜀)
+     *
+     * @return 이번 배치에서 처리한 마지막 메시지 ID (더 없으면 null)
+     */
+    public Long backfill(Long afterMessageId, int batchSize) {
+        List<ChatMessage> messages = jdbcTemplate.query(SELECT_BACKFILL_SQL,
+                (rs, rowNum) -> ChatMessage.builder()
+                        .id(rs.getLong("id"))
+                        .chatroomId(rs.getLong("chatroom_id"))
+                        .content(rs.getString("content"))
+                        .build(),
+                afterMessageId, batchSize);
+        if (messages.isEmpty()) {
+            return null;
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (ChatMessage message : messages) {
+            rows.addAll(rows(message.getChatroomId(), message.getId(), message.getContent()));
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, rows);
+        }
+
+        Long lastMessageId = messages.get(messages.size() - 1).getId();
+        log.debug("채팅 검색 색인 백필: afterMessageId={}, lastMessageId={}, tokens={}",
+                afterMessageId, lastMessageId, rows.size());
+        return lastMessageId;
+    }
+
+    private List<Object[]> rows(Long chatroomId, Long messageId, String content) {
+        Set<String> tokens = ChatSearchTokenizer.indexTokens(content);
+        List<Object[]> rows = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            rows.add(new Object[]{token, chatroomId, messageId});
+        }
+        return rows;
+    }
+}
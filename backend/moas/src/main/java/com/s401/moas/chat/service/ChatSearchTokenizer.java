@@ -0,0 +1,84 @@
+package com.s401.moas.chat.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 채팅 검색용 bigram 토큰화
+ *
+ * 한국어는 조사/어미가 붙어 공백 단위 단어로는 검색이 어렵기 때문에 형태소 분석 대신 2글자 n-gram을 사용한다.
+ * ("회의록을" → 회의, 의록, 록을) 검색어도 같은 방식으로 나누므로 "회의록" 검색 시 회의, 의록을 모두 가진 메시지가 후보가 된다.
+ * bigram 일치는 부분 문자열 일치를 보장하지 않으므로 후보는 {@link #containsAll}로 다시 확인한다.
+ */
+public final class ChatSearchTokenizer {
+
+    // 한 글자 단어는 색인하지 않으므로 검색어 단어도 2글자 이상만 사용
+    static final int MIN_TERM_LENGTH = 2;
+
+    private ChatSearchTokenizer() {
+    }
+
+    /**
+     * 메시지 내용의 색인 토큰 (중복 제거)
+     */
+    public static Set<String> indexTokens(String content) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String term : terms(content)) {
+            addBigrams(term, tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어의 단어 목록 (정규화, 2글자 이상)
+     */
+    public static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (term.codePointCount(0, term.length()) >= MIN_TERM_LENGTH) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 단어들의 bigram 토큰 (중복 제거)
+     */
+    public static Set<String> queryTokens(List<String> terms) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String term : terms) {
+            addBigrams(term, tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * 메시지 내용이 검색어 단어를 모두 포함하는지 확인 (bigram 후보 검증용)
+     */
+    public static boolean containsAll(String content, List<String> terms) {
+        String normalized = normalize(content);
+        return terms.stream().allMatch(normalized::contains);
+    }
+
+    /**
+     * 전각/반각, 대소문자 차이 제거
+     */
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void addBigrams(String term, Set<String> tokens) {
+        int[] codePoints = term.codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+}
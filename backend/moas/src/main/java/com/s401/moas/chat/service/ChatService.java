@@ -1,20 +1,27 @@
 package com.s401.moas.chat.service;
 
-import com.s401.moas.application.domain.ApplicationStatus;
 import com.s401.moas.application.domain.ProjectApplication;
 import com.s401.moas.application.repository.ProjectApplicationRepository;
 import com.s401.moas.chat.controller.request.CreateChatroomRequest;
 import com.s401.moas.chat.controller.request.SendMessageRequest;
+import com.s401.moas.chat.domain.ChatChangeLog;
+import com.s401.moas.chat.domain.ChatChangeType;
 import com.s401.moas.chat.domain.ChatMember;
+import com.s401.moas.chat.domain.ChatMessageArchive;
 import com.s401.moas.chat.domain.ChatMessageFile;
+import com.s401.moas.chat.domain.ChatSyncSequence;
 import com.s401.moas.chat.domain.Chatroom;
 import com.s401.moas.chat.exception.ChatException;
+import com.s401.moas.chat.repository.ChatChangeLogRepository;
 import com.s401.moas.chat.repository.ChatMemberRepository;
+import com.s401.moas.chat.repository.ChatMessageArchiveRepository;
 import com.s401.moas.chat.repository.ChatMessageFileRepository;
 import com.s401.moas.chat.repository.ChatMessageRepository;
+import com.s401.moas.chat.repository.ChatMessageTokenRepository;
+import com.s401.moas.chat.repository.ChatSyncSequenceRepository;
 import com.s401.moas.chat.repository.ChatroomRepository;
 import com.s401.moas.chat.service.dto.*;
-import com.s401.moas.global.service.S3Service;
+import com.s401.moas.chat.websocket.ChatMessageBroadcaster;
 import com.s401.moas.global.util.FileValidator;
 import com.s401.moas.global.sse.service.SseService;
 import com.s401.moas.global.sse.service.dto.ChatMessageEventDto;
@@ -29,10 +36,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.s401.moas.chat.domain.ChatMessage;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -45,12 +55,24 @@ public class ChatService {
     private final ChatroomRepository chatroomRepository;
     private final ChatMemberRepository chatMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
     private final ChatMessageFileRepository chatMessageFileRepository;
     private final MemberRepository memberRepository;
     private final ProjectRepository projectRepository;
     private final ProjectApplicationRepository projectApplicationRepository;
-    private final S3Service s3Service;
+    private final ChatFileUploader chatFileUploader;
+    private final TransactionTemplate transactionTemplate;
     private final SseService sseService;
+    private final ChatMessageBroadcaster chatMessageBroadcaster;
+    private final ChatRecentMessageBuffer recentMessageBuffer;
+    private final ChatReadPointerBuffer readPointerBuffer;
+    private final ChatChangeLogWriter changeLogWriter;
+    private final ChatChangeLogRepository chatChangeLogRepository;
+    private final ChatSyncSequenceRepository chatSyncSequenceRepository;
+    private final ChatMessageTokenRepository chatMessageTokenRepository;
+    private final ChatSearchIndexer chatSearchIndexer;
+
+    private static final int DEFAULT_CHATROOM_PAGE_SIZE = 50;
 
     @Value("${chat.file.max-files:10}")
     private int maxFiles;
@@ -61,6 +83,13 @@ public class ChatService {
     @Value("${chat.file.max-total-size:104857600}")  // 100MB
     private long maxTotalSize;
 
+    @Value("${chat.archive.enabled:true}")
+    private boolean archiveEnabled;
+
+    // 검색 후보(bigram 일치) 중 실제 일치 확인에서 걸러질 수 있어 한 요청에서 후보 조회를 반복하는 최대 횟수
+    @Value("${chat.search.max-scan-rounds:5}")
+    private int searchMaxScanRounds;
+
     @Transactional
     public CreateChatroomDto createChatroom(Integer myMemberId, CreateChatroomRequest request) {
         Integer projectId = request.getProjectId();
@@ -114,6 +143,8 @@ public class ChatService {
                 myChatMember.rejoin();
                 myChatMember.activate();  // isValid = true로 복구
                 chatMemberRepository.save(myChatMember);
+                changeLogWriter.record(chatroom.getId(), ChatChangeType.MEMBERSHIP, null,
+                        List.of(myMemberId, otherMemberId));
             }
 
             log.info("기존 채팅방 반환: chatroomId={}", chatroom.getId());
@@ -143,7 +174,6 @@ public class ChatService {
                 .isBlocked(false)
                 .isValid(true)
                 .build();
-        chatMemberRepository.save(myChatMember);
 
         ChatMember otherChatMember = ChatMember.builder()
                 .chatroomId(newChatroom.getId())
@@ -151,7 +181,9 @@ public class ChatService {
                 .isBlocked(false)
                 .isValid(true)
                 .build();
-        chatMemberRepository.save(otherChatMember);
+        chatMemberRepository.saveAll(List.of(myChatMember, otherChatMember));
+        changeLogWriter.record(newChatroom.getId(), ChatChangeType.MEMBERSHIP, null,
+                List.of(myMemberId, otherMemberId));
 
         log.info("새 채팅방 생성 완료: chatroomId={}", newChatroom.getId());
 
@@ -167,80 +199,70 @@ public class ChatService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
     public ChatroomListDto getChatroomList(Integer myMemberId) {
-        log.info("채팅방 목록 조회: memberId={}", myMemberId);
-
-        // 1. 내가 참여 중인 채팅방 목록 조회 (퇴장하지 않은 것만)
-        List<ChatMember> myChatMembers = chatMemberRepository.findByMemberIdAndLeftAtIsNull(myMemberId);
-
-        // 2. 각 채팅방 정보 조회 및 DTO 변환
-        List<ChatroomListDto.ChatroomItemDto> chatroomItems = myChatMembers.stream()
-                .map(myChatMember -> {
-                    Long chatroomId = myChatMember.getChatroomId();
-
-                    // 채팅방 정보
-                    Chatroom chatroom = chatroomRepository.findById(chatroomId)
-                            .orElseThrow(() -> ChatException.chatroomNotFound(chatroomId));
-
-                    // 프로젝트 정보
-                    Integer projectId = chatroom.getProjectId();
-                    String projectTitle = projectRepository.findTitleById(projectId).orElse(null);
-
-                    // 상대방 정보 조회
-                    ChatMember otherChatMember = chatMemberRepository.findByChatroomId(chatroomId).stream()
-                            .filter(cm -> !cm.getMemberId().equals(myMemberId))
-                            .findFirst()
-                            .orElseThrow(() -> ChatException.chatMemberNotFound());
-
-                    Member otherMember = memberRepository.findById(otherChatMember.getMemberId())
-                            .orElseThrow(() -> ChatException.memberNotFound(otherChatMember.getMemberId()));
-
-                    // 마지막 메시지 조회
-                    Optional<ChatMessage> lastMessage = chatMessageRepository
-                            .findFirstByChatroomId(chatroomId);
+        return getChatroomList(myMemberId, null, null, DEFAULT_CHATROOM_PAGE_SIZE);
+    }
 
-                    // 안 읽은 메시지 개수 계산
-                    Integer unreadCount = chatMessageRepository.countUnreadMessages(
-                            chatroomId,
-                            myMemberId,
-                            myChatMember.getLastReadMessageId()
-                    );
+    /**
+     * 채팅방 목록 조회 (커서 페이지네이션)
+     * 상대방/마지막 메시지/안 읽은 개수/내 지원 정보까지 한 번의 쿼리로 조회한다.
+     *
+     * @param cursorMessageId  이전 페이지의 nextCursorMessageId (첫 페이지는 null)
+     * @param cursorChatroomId 이전 페이지의 nextCursorChatroomId
+     */
+    @Transactional(readOnly = true)
+    public ChatroomListDto getChatroomList(Integer myMemberId, Long cursorMessageId, Long cursorChatroomId, int size) {
+        log.info("채팅방 목록 조회: memberId={}, cursorMessageId={}, cursorChatroomId={}, size={}",
+                myMemberId, cursorMessageId, cursorChatroomId, size);
 
-                    String myApplicationStatus = null;
-                    String myApplicationPosition = null;
+        if (cursorMessageId != null && cursorChatroomId == null) {
+            cursorChatroomId = Long.MAX_VALUE;
+        }
 
-                    List<Object[]> results = projectApplicationRepository.findMyApplicationInfoByProjectId(projectId, myMemberId);
+        // size + 1 개를 조회하여 다음 페이지 존재 여부 판단
+        List<ChatMemberRepository.ChatroomInboxRow> rows =
+                chatMemberRepository.findInbox(myMemberId, cursorMessageId, cursorChatroomId, size + 1);
 
-                    if (!results.isEmpty()) {
-                        Object[] data = results.get(0);  // 첫 번째 결과 가져오기
-                        myApplicationStatus = ((ApplicationStatus) data[0]).name();
-                        myApplicationPosition = (String) data[1];
-                    }
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
 
-                    return ChatroomListDto.ChatroomItemDto.builder()
-                            .chatroomId(chatroomId)
-                            .projectId(projectId)
-                            .projectTitle(projectTitle)
-                            .otherMemberId(otherChatMember.getMemberId())
-                            .otherMemberName(otherMember.getNickname())
-                            .otherMemberProfileUrl(otherMember.getProfileImageUrl())
-                            .lastMessage(lastMessage.map(ChatMessage::getContent).orElse(null))
-                            .lastMessageAt(lastMessage.map(ChatMessage::getCreatedAt).orElse(null))
-                            .unreadCount(unreadCount)
-                            .isBlockedByMe(myChatMember.getIsBlocked())
-                            .myApplicationStatus(myApplicationStatus)
-                            .myApplicationPosition(myApplicationPosition)
-                            .build();
-                })
-                .sorted(Comparator.comparing(
-                        ChatroomListDto.ChatroomItemDto::getLastMessageAt,
-                        Comparator.nullsLast(Comparator.reverseOrder())
-                ))
+        // 아직 DB에 반영되지 않은 읽음 위치가 있는 채팅방은 안 읽은 개수를 다시 계산
+        Map<Long, Long> pendingReads = readPointerBuffer.pendingByChatroom(myMemberId);
+
+        List<ChatroomListDto.ChatroomItemDto> chatroomItems = rows.stream()
+                .map(row -> ChatroomListDto.ChatroomItemDto.builder()
+                        .chatroomId(row.getChatroomId())
+                        .projectId(row.getProjectId())
+                        .projectTitle(row.getProjectTitle())
+                        .otherMemberId(row.getOtherMemberId())
+                        .otherMemberName(row.getOtherMemberName())
+                        .otherMemberProfileUrl(row.getOtherMemberProfileUrl())
+                        .lastMessage(row.getLastMessage())
+                        .lastMessageAt(row.getLastMessageAt() != null ? row.getLastMessageAt().toLocalDateTime() : null)
+                        .unreadCount(unreadCountWithPendingRead(myMemberId, row.getChatroomId(),
+                                pendingReads.get(row.getChatroomId()), row.getLastMessageId(),
+                                row.getUnreadCount() != null ? row.getUnreadCount().intValue() : 0))
+                        .isBlockedByMe(row.getIsBlockedByMe())
+                        .myApplicationStatus(row.getMyApplicationStatus())
+                        .myApplicationPosition(row.getMyApplicationPosition())
+                        .build())
                 .toList();
 
+        Long nextCursorMessageId = null;
+        Long nextCursorChatroomId = null;
+        if (hasNext) {
+            ChatMemberRepository.ChatroomInboxRow last = rows.get(rows.size() - 1);
+            nextCursorMessageId = last.getLastMessageId() != null ? last.getLastMessageId() : 0L;
+            nextCursorChatroomId = last.getChatroomId();
+        }
+
         return ChatroomListDto.builder()
                 .chatrooms(chatroomItems)
+                .hasNext(hasNext)
+                .nextCursorMessageId(nextCursorMessageId)
+                .nextCursorChatroomId(nextCursorChatroomId)
                 .build();
     }
 
@@ -268,6 +290,8 @@ public class ChatService {
         myChatMember.leave();
         myChatMember.invalidate();
         chatMemberRepository.save(myChatMember);
+        changeLogWriter.record(chatroomId, ChatChangeType.MEMBERSHIP, null, memberIdsOf(chatroomId));
+        chatMessageBroadcaster.revokeSubscriptionsAfterCommit(chatroomId, List.of(myMemberId));
 
         log.info("채팅방 나가기 완료: chatroomId={}, memberId={}, leftAt={}",
                 chatroomId, myMemberId, myChatMember.getLeftAt());
@@ -301,6 +325,10 @@ public class ChatService {
         // 4. 차단 처리
         myChatMember.block();
         chatMemberRepository.save(myChatMember);
+        List<Integer> memberIds = memberIdsOf(chatroomId);
+        changeLogWriter.record(chatroomId, ChatChangeType.BLOCK, null, memberIds);
+        // 차단된 채팅방은 구독할 수 없으므로 양쪽 모두의 구독을 회수 (차단 해제 후 클라이언트가 다시 구독)
+        chatMessageBroadcaster.revokeSubscriptionsAfterCommit(chatroomId, memberIds);
 
         log.info("채팅 상대 차단 완료: chatroomId={}, memberId={}", chatroomId, myMemberId);
 
@@ -333,6 +361,7 @@ public class ChatService {
         // 4. 차단 해제 처리
         myChatMember.unblock();
         chatMemberRepository.save(myChatMember);
+        changeLogWriter.record(chatroomId, ChatChangeType.BLOCK, null, memberIdsOf(chatroomId));
 
         log.info("채팅 상대 차단 해제 완료: chatroomId={}, memberId={}", chatroomId, myMemberId);
 
@@ -342,7 +371,13 @@ public class ChatService {
                 .build();
     }
 
-    @Transactional
+    /**
+     * 메시지 전송
+     *
+     * 첨부파일 S3 업로드는 트랜잭션 밖에서 병렬로 먼저 수행하고(1단계),
+     * 메시지와 파일 정보 저장만 짧은 트랜잭션으로 처리한다(2단계).
+     * 2단계가 실패하면 업로드한 파일을 삭제한다.
+     */
     public SendMessageDto sendMessage(Integer myMemberId, Long chatroomId, SendMessageRequest request) {
         log.info("메시지 전송 요청: myMemberId={}, chatroomId={}, contentLength={}, fileCount={}",
                 myMemberId, chatroomId,
@@ -366,89 +401,311 @@ public class ChatService {
             throw ChatException.messageTooLong();
         }
 
-        // 1. 채팅방 존재 여부 확인
+        // 1. 파일 검증 및 업로드 (트랜잭션 밖, 병렬)
+        List<ChatFileUploader.UploadedFile> uploadedFiles = List.of();
+        if (hasFiles) {
+            // 업로드 전에 전송 가능 여부를 먼저 확인 (권한 없는 업로드 방지)
+            loadSendContext(myMemberId, chatroomId);
+
+            FileValidator.validateFiles(request.getFiles(), maxFiles, maxFileSize, maxTotalSize);
+            // 파일 타입 검증 (별도)
+            validateFileTypes(request.getFiles());
+
+            uploadedFiles = chatFileUploader.uploadAll(request.getFiles());
+        }
+
+        // 2. 메시지 내용 결정
+        String messageContent;
+        if (hasContent) {
+            // 내용이 있으면 그대로 사용
+            messageContent = request.getContent();
+        } else {
+            // 내용이 없고 파일만 있으면 자동 생성
+            messageContent = uploadedFiles.size() + "개의 파일을 전송했습니다.";
+            log.info("파일만 전송, 자동 메시지 생성: fileCount={}", uploadedFiles.size());
+        }
+
+        // 3. 메시지 및 파일 정보 저장 (짧은 트랜잭션, 커밋되지 않았을 때만 업로드한 파일 삭제)
+        // 커밋 후 후처리(afterCommit)에서 난 예외도 여기로 오지만, 그때는 저장된 메시지가 파일을 참조하므로 지우지 않는다.
+        List<ChatFileUploader.UploadedFile> files = uploadedFiles;
+        int[] completion = {TransactionSynchronization.STATUS_ROLLED_BACK};
+        try {
+            return transactionTemplate.execute(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int completionStatus) {
+                        completion[0] = completionStatus;
+                    }
+                });
+                return saveMessage(myMemberId, chatroomId, messageContent, files);
+            });
+        } catch (RuntimeException e) {
+            if (completion[0] == TransactionSynchronization.STATUS_ROLLED_BACK) {
+                chatFileUploader.deleteAll(files);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 메시지 전송 2단계 - 메시지와 파일 정보 저장 (트랜잭션 안에서 호출)
+     * 업로드 중 차단/퇴장되었을 수 있으므로 전송 가능 여부를 다시 확인한다.
+     */
+    private SendMessageDto saveMessage(Integer myMemberId, Long chatroomId, String messageContent,
+                                       List<ChatFileUploader.UploadedFile> uploadedFiles) {
+        // 1. 전송 가능 여부 확인
+        SendContext context = loadSendContext(myMemberId, chatroomId);
+        Chatroom chatroom = context.chatroom();
+        ChatMember myChatMember = context.myChatMember();
+        ChatMember otherChatMember = context.otherChatMember();
+
+        // 2. 메시지 저장
+        ChatMessage message = ChatMessage.builder()
+                .chatroomId(chatroomId)
+                .chatMemberId(myChatMember.getId())
+                .content(messageContent)
+                .build();
+        chatMessageRepository.save(message);
+        chatSearchIndexer.index(message);
+
+        // 3. 파일 정보 일괄 저장 (있는 경우)
+        List<ChatMessageFile> savedFiles = uploadedFiles.isEmpty()
+                ? List.of()
+                : chatMessageFileRepository.saveAll(uploadedFiles.stream()
+                        .map(file -> ChatMessageFile.builder()
+                                .messageId(message.getId())
+                                .fileUrl(file.fileUrl())
+                                .originalFileName(file.originalFileName())
+                                .fileType(file.fileType())
+                                .fileSize(file.fileSize())
+                                .build())
+                        .toList());
+
+        // 4. 채팅방의 마지막 메시지 업데이트
+        chatroom.updateLastMessage(message.getId());
+        chatroomRepository.save(chatroom);
+
+        // 5. 상대방의 안 읽은 메시지 수 +1
+        chatMemberRepository.incrementUnreadCount(chatroomId, myMemberId);
+
+        // 6. 발신자 자동 읽음 처리 (읽음 위치 버퍼에 기록, DB 반영 시 발신자의 unread_count도 다시 계산됨)
+        readPointerBuffer.advance(myChatMember, message.getId());
+
+        // 7. 재연결 동기화용 변경 로그 기록 (발신자의 다른 기기 포함)
+        changeLogWriter.record(chatroomId, ChatChangeType.MESSAGE, message.getId(),
+                List.of(myMemberId, otherChatMember.getMemberId()));
+
+        // 8. 최근 메시지 버퍼 추가 및 WebSocket 구독자에게 완성된 메시지 브로드캐스트 (커밋 후)
+        Member sender = memberRepository.findById(myMemberId)
+                .orElseThrow(() -> ChatException.memberNotFound(myMemberId));
+        GetChatMessagesDto.MessageDto messageDto = toMessageDto(message, sender, savedFiles);
+        recentMessageBuffer.appendAfterCommit(chatroomId, messageDto);
+        chatMessageBroadcaster.broadcastAfterCommit(chatroomId, messageDto);
+
+        // 9. SSE로 실시간 알림 (WebSocket 미연결 클라이언트용 fallback, 두 참여자에게 같은 데이터를 한 번만 직렬화)
+        sseService.send(List.of(myMemberId, otherChatMember.getMemberId()), "chat_message",
+                ChatMessageEventDto.builder()
+                        .roomId(chatroomId)
+                        .messageId(message.getId())
+                        .build());
+
+        log.info("메시지 전송 완료: messageId={}, chatroomId={}, fileCount={}",
+                message.getId(), chatroomId, savedFiles.size());
+
+        return SendMessageDto.builder()
+                .messageId(message.getId())
+                .fileCount(savedFiles.size())
+                .createdAt(message.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 메시지 전송 대상 채팅방 정보
+     */
+    private record SendContext(Chatroom chatroom, ChatMember myChatMember, ChatMember otherChatMember) {
+    }
+
+    /**
+     * 메시지 전송 가능 여부 확인 (채팅방 존재, 참여 여부, 퇴장 여부, 차단 여부)
+     */
+    private SendContext loadSendContext(Integer myMemberId, Long chatroomId) {
+        // 채팅방 존재 여부 확인
         Chatroom chatroom = chatroomRepository.findById(chatroomId)
                 .orElseThrow(() -> ChatException.chatroomNotFound(chatroomId));
 
-        // 2. 내가 해당 채팅방의 참여자인지 확인
+        // 내가 해당 채팅방의 참여자인지 확인
         ChatMember myChatMember = chatMemberRepository.findByChatroomIdAndMemberId(chatroomId, myMemberId)
                 .orElseThrow(() -> ChatException.chatAccessDenied());
 
-        // 3. 퇴장한 상태인지 확인
+        // 퇴장한 상태인지 확인
         if (myChatMember.getLeftAt() != null) {
             log.warn("퇴장한 채팅방에 메시지 전송 시도: chatroomId={}, memberId={}", chatroomId, myMemberId);
             throw ChatException.chatAccessDenied();
         }
 
-        // 4. 상대방 찾기
+        // 상대방 찾기
         ChatMember otherChatMember = chatMemberRepository.findByChatroomId(chatroomId).stream()
                 .filter(cm -> !cm.getMemberId().equals(myMemberId))
                 .findFirst()
                 .orElseThrow(() -> ChatException.chatMemberNotFound());
 
-        // 5. 차단 상태 확인 (양방향)
+        // 차단 상태 확인 (양방향)
         if (myChatMember.getIsBlocked() || otherChatMember.getIsBlocked()) {
             log.warn("차단된 채팅방에 메시지 전송 시도: chatroomId={}, senderId={}, myBlocked={}, otherBlocked={}",
                     chatroomId, myMemberId, myChatMember.getIsBlocked(), otherChatMember.getIsBlocked());
             throw ChatException.chatBlocked();
         }
 
-        // 6. 파일 검증 (있는 경우) - FileValidator 사용
-        int fileCount = 0;
-        if (hasFiles) {
-            fileCount = request.getFiles().size();
-            FileValidator.validateFiles(request.getFiles(), maxFiles, maxFileSize, maxTotalSize);
-            // 파일 타입 검증 (별도)
-            validateFileTypes(request.getFiles());
+        return new SendContext(chatroom, myChatMember, otherChatMember);
+    }
+
+    /**
+     * 메시지 삭제 (보낸 사람만 가능)
+     * 상대방이 아직 읽지 않은 메시지면 안 읽은 수를 줄이고, 검색 색인과 최근 메시지 버퍼(모든 노드)에서도 제거한다.
+     * 마지막 메시지였으면 채팅방의 마지막 메시지를 이전 메시지로 되돌리고,
+     * 변경 로그(DELETE)와 WebSocket/SSE로 상대방 화면에서도 지워지도록 알린다.
+     */
+    @Transactional
+    public DeleteMessageDto deleteMessage(Integer myMemberId, Long chatroomId, Long messageId) {
+        log.info("메시지 삭제 요청: myMemberId={}, chatroomId={}, messageId={}", myMemberId, chatroomId, messageId);
+
+        // 1. 내가 해당 채팅방의 참여자인지 확인
+        ChatMember myChatMember = chatMemberRepository.findByChatroomIdAndMemberId(chatroomId, myMemberId)
+                .orElseThrow(() -> ChatException.chatAccessDenied());
+        if (myChatMember.getLeftAt() != null) {
+            log.warn("퇴장한 채팅방 메시지 삭제 시도: chatroomId={}, memberId={}", chatroomId, myMemberId);
+            throw ChatException.chatAccessDenied();
         }
 
-        // 7. 메시지 내용 결정
-        String messageContent;
-        if (hasContent) {
-            // 내용이 있으면 그대로 사용
-            messageContent = request.getContent();
-        } else {
-            // 내용이 없고 파일만 있으면 자동 생성
-            messageContent = fileCount + "개의 파일을 전송했습니다.";
-            log.info("파일만 전송, 자동 메시지 생성: fileCount={}", fileCount);
+        // 2. 메시지 확인 (이미 삭제된 메시지는 없는 것으로 처리)
+        ChatMessage message = chatMessageRepository.findById(messageId)
+                .filter(m -> m.getChatroomId().equals(chatroomId) && m.getDeletedAt() == null)
+                .orElseThrow(() -> ChatException.messageNotFound(messageId));
+
+        // 3. 내가 보낸 메시지인지 확인
+        if (!message.getChatMemberId().equals(myChatMember.getId())) {
+            log.warn("다른 사람의 메시지 삭제 시도: messageId={}, memberId={}", messageId, myMemberId);
+            throw ChatException.chatAccessDenied();
         }
 
-        // 8. 메시지 저장
-        ChatMessage message = ChatMessage.builder()
-                .chatMemberId(myChatMember.getId())
-                .content(messageContent)
+        // 4. 삭제 처리 및 검색 색인 제거
+        message.delete();
+        chatSearchIndexer.remove(message);
+
+        // 5. 상대방이 읽지 않은 메시지였다면 안 읽은 수 -1 (버퍼에만 있는 읽음 위치를 먼저 반영)
+        readPointerBuffer.flushChatroom(chatroomId);
+        chatMemberRepository.decrementUnreadCount(chatroomId, myMemberId, messageId);
+
+        // 6. 마지막 메시지였다면 이전 메시지로 교체 (그 사이 새 메시지가 왔으면 그대로 둠)
+        Long previousMessageId = findPreviousMessageId(chatroomId, messageId);
+        chatroomRepository.replaceLastMessage(chatroomId, messageId, previousMessageId);
+
+        // 7. 재연결 동기화용 변경 로그 기록
+        List<Integer> participants = memberIdsOf(chatroomId);
+        changeLogWriter.record(chatroomId, ChatChangeType.DELETE, messageId, participants);
+
+        // 8. 최근 메시지 버퍼 제거 및 삭제 브로드캐스트 (커밋 후)
+        recentMessageBuffer.evictAfterCommit(chatroomId);
+        chatMessageBroadcaster.broadcastDeleteAfterCommit(chatroomId, messageId);
+        sseService.send(participants, "chat_message_deleted", ChatMessageEventDto.builder()
+                .roomId(chatroomId)
+                .messageId(messageId)
+                .build());
+
+        log.info("메시지 삭제 완료: messageId={}, chatroomId={}", messageId, chatroomId);
+
+        return DeleteMessageDto.builder()
+                .chatroomId(chatroomId)
+                .messageId(messageId)
+                .deletedAt(message.getDeletedAt())
                 .build();
-        chatMessageRepository.save(message);
+    }
 
-        // 9. 파일 업로드 및 저장 (있는 경우)
-        if (hasFiles) {
-            uploadAndSaveFiles(request.getFiles(), message.getId());
+    /**
+     * 특정 메시지 이전의 삭제되지 않은 가장 최근 메시지 ID
+     * 원본 테이블에 없으면 아카이브로 옮겨진 메시지에서 찾는다.
+     */
+    private Long findPreviousMessageId(Long chatroomId, Long messageId) {
+        Optional<Long> previous = chatMessageRepository
+                .findFirstByChatroomIdAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(chatroomId, messageId)
+                .map(ChatMessage::getId);
+        if (previous.isEmpty() && archiveEnabled) {
+            previous = chatMessageArchiveRepository
+                    .findFirstByChatroomIdAndIdLessThanAndDeletedAtIsNullOrderByIdDesc(chatroomId, messageId)
+                    .map(ChatMessageArchive::getId);
         }
+        return previous.orElse(null);
+    }
 
-        // 10. 채팅방의 마지막 메시지 업데이트
-        chatroom.updateLastMessage(message.getId());
-        chatroomRepository.save(chatroom);
+    /**
+     * 전체 안 읽은 메시지 수 조회 (뱃지용)
+     * 메시지를 세지 않고 채팅방별 unread_count 합계만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public UnreadCountDto getTotalUnreadCount(Integer myMemberId) {
+        Long total = chatMemberRepository.sumUnreadCount(myMemberId);
+        int totalUnreadCount = total != null ? total.intValue() : 0;
+
+        // 아직 DB에 반영되지 않은 읽음 위치가 있는 채팅방은 저장된 값 대신 다시 계산한 값으로 교체
+        Map<Long, Long> pendingReads = readPointerBuffer.pendingByChatroom(myMemberId);
+        if (!pendingReads.isEmpty()) {
+            for (ChatMember chatMember : chatMemberRepository.findByMemberIdAndLeftAtIsNull(myMemberId)) {
+                Long pendingRead = pendingReads.get(chatMember.getChatroomId());
+                if (pendingRead != null) {
+                    totalUnreadCount += unreadCountWithPendingRead(myMemberId, chatMember.getChatroomId(),
+                            pendingRead, null, chatMember.getUnreadCount()) - chatMember.getUnreadCount();
+                }
+            }
+        }
 
-        // 11. 메시지를 보낸 사람의 lastReadMessageId 업데이트 (자동 읽음 처리)
-        myChatMember.updateLastReadMessage(message.getId());
-        chatMemberRepository.save(myChatMember);
+        return UnreadCountDto.builder()
+                .totalUnreadCount(totalUnreadCount)
+                .build();
+    }
 
-        // 12. SSE로 실시간 알림
-        List<Integer> participants = List.of(myMemberId, otherChatMember.getMemberId());
-        participants.forEach(memberId -> {
-            sseService.send(memberId, "chat_message", ChatMessageEventDto.builder()
-                    .roomId(chatroomId)
-                    .messageId(message.getId())
-                    .build());
-        });
+    /**
+     * 읽음 위치 버퍼를 반영한 안 읽은 메시지 수
+     * 마지막 메시지까지 읽었으면 0, 그 사이에 새 메시지가 있으면 버퍼의 읽음 위치 기준으로 센다.
+     *
+     * @param pendingRead   반영 대기 중인 읽음 위치 (없으면 storedCount 그대로 사용)
+     * @param lastMessageId 채팅방의 마지막 메시지 ID (모르면 null)
+     */
+    private int unreadCountWithPendingRead(Integer myMemberId, Long chatroomId, Long pendingRead,
+                                           Long lastMessageId, int storedCount) {
+        if (pendingRead == null) {
+            return storedCount;
+        }
+        if (lastMessageId != null && pendingRead >= lastMessageId) {
+            return 0;
+        }
+        Integer count = chatMessageRepository.countUnreadMessages(chatroomId, myMemberId, pendingRead);
+        return count != null ? count : 0;
+    }
 
-        log.info("메시지 전송 완료: messageId={}, chatroomId={}, fileCount={}",
-                message.getId(), chatroomId, fileCount);
+    /**
+     * 안 읽은 메시지 수 보정 (afterChatMemberId 이후 batchSize 개)
+     * 메시지 기준으로 다시 계산한 값과 다르면 덮어쓴다.
+     */
+    @Transactional
+    public UnreadReconcileDto reconcileUnreadCounts(Long afterChatMemberId, int batchSize) {
+        List<ChatMemberRepository.UnreadCountRow> rows =
+                chatMemberRepository.findUnreadCounts(afterChatMemberId, batchSize);
+
+        int repaired = 0;
+        for (ChatMemberRepository.UnreadCountRow row : rows) {
+            int stored = row.getStoredCount().intValue();
+            int actual = row.getActualCount().intValue();
+            if (stored != actual) {
+                repaired += chatMemberRepository.repairUnreadCount(row.getChatMemberId(), stored, actual);
+                log.info("안 읽은 메시지 수 보정: chatMemberId={}, stored={}, actual={}",
+                        row.getChatMemberId(), stored, actual);
+            }
+        }
 
-        return SendMessageDto.builder()
-                .messageId(message.getId())
-                .fileCount(fileCount)
-                .createdAt(message.getCreatedAt())
+        return UnreadReconcileDto.builder()
+                .lastChatMemberId(rows.isEmpty() ? null : rows.get(rows.size() - 1).getChatMemberId())
+                .scannedCount(rows.size())
+                .repairedCount(repaired)
                 .build();
     }
 
@@ -489,87 +746,51 @@ public class ChatService {
     }
 
     /**
-     * 파일 업로드 및 저장
+     * DB에서 메시지 한 페이지 조회 (파일, 발신자 정보 포함)
      */
-    private void uploadAndSaveFiles(List<MultipartFile> files, Long messageId) {
-        for (MultipartFile file : files) {
-            try {
-                // S3에 파일 업로드
-                String fileUrl = s3Service.upload(file, "chat/files");
-
-                // ChatMessageFile 엔티티 생성 및 저장
-                ChatMessageFile messageFile = ChatMessageFile.builder()
-                        .messageId(messageId)
-                        .fileUrl(fileUrl)
-                        .originalFileName(file.getOriginalFilename())
-                        .fileType(file.getContentType())
-                        .fileSize((int) file.getSize())
-                        .build();
-                chatMessageFileRepository.save(messageFile);
-
-                log.info("파일 업로드 및 저장 완료: messageId={}, filename={}, url={}",
-                        messageId, file.getOriginalFilename(), fileUrl);
-
-            } catch (IOException e) {
-                log.error("파일 업로드 실패: messageId={}, filename={}", messageId, file.getOriginalFilename(), e);
-                throw ChatException.fileUploadFailed();
-            }
-        }
-    }
-
-    @Transactional
-    public GetChatMessagesDto getChatMessages(Integer myMemberId, Long chatroomId, Long lastMessageId, Integer size) {
-        log.info("채팅방 메시지 조회: myMemberId={}, chatroomId={}, lastMessageId={}, size={}",
-                myMemberId, chatroomId, lastMessageId, size);
-
-        // 1. 채팅방 존재 여부 확인
-        Chatroom chatroom = chatroomRepository.findById(chatroomId)
-                .orElseThrow(() -> ChatException.chatroomNotFound(chatroomId));
-
-        // 2. 내가 해당 채팅방의 참여자인지 확인
-        ChatMember myChatMember = chatMemberRepository.findByChatroomIdAndMemberId(chatroomId, myMemberId)
-                .orElseThrow(() -> ChatException.chatAccessDenied());
-
-        // 3. 퇴장한 상태인지 확인
-        if (myChatMember.getLeftAt() != null) {
-            log.warn("퇴장한 채팅방 메시지 조회 시도: chatroomId={}, memberId={}", chatroomId, myMemberId);
-            throw ChatException.chatAccessDenied();
-        }
-
-        // 4. 상대방 정보 조회
-        ChatMember otherChatMember = chatMemberRepository.findByChatroomId(chatroomId).stream()
-                .filter(cm -> !cm.getMemberId().equals(myMemberId))
-                .findFirst()
-                .orElseThrow(() -> ChatException.chatMemberNotFound());
-
-        Member otherMember = memberRepository.findById(otherChatMember.getMemberId())
-                .orElseThrow(() -> ChatException.memberNotFound(otherChatMember.getMemberId()));
-
-        // 5. 메시지 조회 (size + 1개 조회하여 hasNext 판단)
+    private ChatRecentMessageBuffer.Page loadMessagePage(Long chatroomId, Long lastMessageId, Integer size) {
+        // 메시지 조회 (size + 1개 조회하여 hasNext 판단)
         Pageable pageable = PageRequest.of(0, size + 1);
-        List<ChatMessage> messages = chatMessageRepository.findByChatroomIdWithCursor(
-                chatroomId, lastMessageId, pageable);
+        List<ChatMessage> messages = new ArrayList<>(chatMessageRepository.findByChatroomIdWithCursor(
+                chatroomId, lastMessageId, pageable));
+
+        // 원본 테이블에서 한 페이지를 채우지 못하면 아카이브된 이전 메시지로 이어서 조회
+        if (archiveEnabled && messages.size() <= size) {
+            Long archiveCursor = messages.isEmpty()
+                    ? lastMessageId
+                    : messages.get(messages.size() - 1).getId();
+            chatMessageArchiveRepository.findByChatroomIdWithCursor(
+                            chatroomId, archiveCursor, PageRequest.of(0, size + 1 - messages.size()))
+                    .forEach(archived -> messages.add(archived.toChatMessage()));
+        }
 
-        // 6. hasNext 판단 및 실제 반환할 메시지 목록
+        // hasNext 판단 및 실제 반환할 메시지 목록
         boolean hasNext = messages.size() > size;
         List<ChatMessage> actualMessages = hasNext ? messages.subList(0, size) : messages;
 
-        // 7. 메시지 ID 목록 추출
-        List<Long> messageIds = actualMessages.stream()
+        return new ChatRecentMessageBuffer.Page(toMessageDtos(actualMessages), hasNext);
+    }
+
+    /**
+     * 메시지 목록을 파일, 발신자 정보를 포함한 DTO로 변환 (순서 유지)
+     */
+    private List<GetChatMessagesDto.MessageDto> toMessageDtos(List<ChatMessage> messages) {
+        // 메시지 ID 목록 추출
+        List<Long> messageIds = messages.stream()
                 .map(ChatMessage::getId)
                 .toList();
 
-        // 8. 파일 목록 조회 (한번에)
+        // 파일 목록 조회 (한번에)
         List<ChatMessageFile> allFiles = messageIds.isEmpty()
                 ? List.of()
                 : chatMessageFileRepository.findByMessageIdInOrderByIdAsc(messageIds);
 
-        // 9. 메시지별 파일 그룹핑
+        // 메시지별 파일 그룹핑
         Map<Long, List<ChatMessageFile>> filesByMessageId = allFiles.stream()
                 .collect(Collectors.groupingBy(ChatMessageFile::getMessageId));
 
-        // 10. ChatMember로 발신자 정보 조회
-        List<Long> chatMemberIds = actualMessages.stream()
+        // ChatMember로 발신자 정보 조회
+        List<Long> chatMemberIds = messages.stream()
                 .map(ChatMessage::getChatMemberId)
                 .distinct()
                 .toList();
@@ -578,7 +799,7 @@ public class ChatService {
         Map<Long, ChatMember> chatMemberMap = chatMembers.stream()
                 .collect(Collectors.toMap(ChatMember::getId, cm -> cm));
 
-        // 11. 발신자 Member 정보 조회
+        // 발신자 Member 정보 조회
         List<Integer> senderIds = chatMembers.stream()
                 .map(ChatMember::getMemberId)
                 .distinct()
@@ -588,48 +809,101 @@ public class ChatService {
         Map<Integer, Member> senderMap = senders.stream()
                 .collect(Collectors.toMap(Member::getId, m -> m));
 
-        // 12. 메시지 DTO 변환
-        List<GetChatMessagesDto.MessageDto> messageDtos = actualMessages.stream()
+        // 메시지 DTO 변환
+        return messages.stream()
                 .map(message -> {
                     ChatMember sender = chatMemberMap.get(message.getChatMemberId());
                     Member senderMember = senderMap.get(sender.getMemberId());
-
-                    List<GetChatMessagesDto.FileDto> fileDtos = filesByMessageId.getOrDefault(message.getId(), List.of())
-                            .stream()
-                            .map(file -> GetChatMessagesDto.FileDto.builder()
-                                    .fileId(file.getId())
-                                    .originalFileName(file.getOriginalFileName())
-                                    .fileUrl(file.getFileUrl())
-                                    .fileType(file.getFileType())
-                                    .fileSize(Long.valueOf(file.getFileSize()))
-                                    .build())
-                            .toList();
-
-                    return GetChatMessagesDto.MessageDto.builder()
-                            .messageId(message.getId())
-                            .senderId(senderMember.getId())
-                            .senderName(senderMember.getNickname())
-                            .senderProfileUrl(senderMember.getProfileImageUrl())
-                            .content(message.getContent())
-                            .createdAt(message.getCreatedAt())
-                            .files(fileDtos)
-                            .build();
+                    return toMessageDto(message, senderMember,
+                            filesByMessageId.getOrDefault(message.getId(), List.of()));
                 })
                 .toList();
+    }
 
-        // 13. 읽음 처리 (마지막 메시지 ID로 업데이트)
-        if (lastMessageId == null && !actualMessages.isEmpty()) {
-            Long latestMessageId = actualMessages.get(0).getId(); // DESC 정렬이므로 첫번째가 최신
-            myChatMember.updateLastReadMessage(latestMessageId);
-            chatMemberRepository.save(myChatMember);
+    /**
+     * 메시지 DTO 변환 (조회 API와 WebSocket 브로드캐스트 공용)
+     */
+    private GetChatMessagesDto.MessageDto toMessageDto(ChatMessage message, Member sender, List<ChatMessageFile> files) {
+        List<GetChatMessagesDto.FileDto> fileDtos = files.stream()
+                .map(file -> GetChatMessagesDto.FileDto.builder()
+                        .fileId(file.getId())
+                        .originalFileName(file.getOriginalFileName())
+                        .fileUrl(file.getFileUrl())
+                        .fileType(file.getFileType())
+                        .fileSize(Long.valueOf(file.getFileSize()))
+                        .build())
+                .toList();
+
+        return GetChatMessagesDto.MessageDto.builder()
+                .messageId(message.getId())
+                .senderId(sender.getId())
+                .senderName(sender.getNickname())
+                .senderProfileUrl(sender.getProfileImageUrl())
+                .content(message.getContent())
+                .createdAt(message.getCreatedAt())
+                .files(fileDtos)
+                .build();
+    }
+
+    /**
+     * 채팅방 메시지 조회
+     * 첫 페이지 조회 시 읽음 위치는 읽음 위치 버퍼에 기록하고 DB에는 주기적으로 반영하므로 읽기 전용 트랜잭션으로 처리한다.
+     */
+    @Transactional(readOnly = true)
+    public GetChatMessagesDto getChatMessages(Integer myMemberId, Long chatroomId, Long lastMessageId, Integer size) {
+        log.info("채팅방 메시지 조회: myMemberId={}, chatroomId={}, lastMessageId={}, size={}",
+                myMemberId, chatroomId, lastMessageId, size);
+
+        // 1. 채팅방 존재 여부 확인
+        Chatroom chatroom = chatroomRepository.findById(chatroomId)
+                .orElseThrow(() -> ChatException.chatroomNotFound(chatroomId));
+
+        // 2. 내가 해당 채팅방의 참여자인지 확인
+        ChatMember myChatMember = chatMemberRepository.findByChatroomIdAndMemberId(chatroomId, myMemberId)
+                .orElseThrow(() -> ChatException.chatAccessDenied());
+
+        // 3. 퇴장한 상태인지 확인
+        if (myChatMember.getLeftAt() != null) {
+            log.warn("퇴장한 채팅방 메시지 조회 시도: chatroomId={}, memberId={}", chatroomId, myMemberId);
+            throw ChatException.chatAccessDenied();
+        }
+
+        // 4. 상대방 정보 조회
+        ChatMember otherChatMember = chatMemberRepository.findByChatroomId(chatroomId).stream()
+                .filter(cm -> !cm.getMemberId().equals(myMemberId))
+                .findFirst()
+                .orElseThrow(() -> ChatException.chatMemberNotFound());
+
+        Member otherMember = memberRepository.findById(otherChatMember.getMemberId())
+                .orElseThrow(() -> ChatException.memberNotFound(otherChatMember.getMemberId()));
+
+        // 5. 메시지 조회 - 첫 페이지는 최근 메시지 버퍼를 우선 사용하고, 없거나 오래된 경우 DB 조회 후 버퍼를 채운다
+        ChatRecentMessageBuffer.Page page;
+        if (lastMessageId == null) {
+            page = recentMessageBuffer.getLatest(chatroomId, chatroom.getLastMessageId(), size)
+                    .orElseGet(() -> {
+                        ChatRecentMessageBuffer.Page loaded = loadMessagePage(chatroomId, null, size);
+                        recentMessageBuffer.warm(chatroomId, loaded);
+                        return loaded;
+                    });
+        } else {
+            page = loadMessagePage(chatroomId, lastMessageId, size);
+        }
+        List<GetChatMessagesDto.MessageDto> messageDtos = page.messages();
+        boolean hasNext = page.hasNext();
+
+        // 6. 읽음 처리 (마지막 메시지 ID로 업데이트)
+        if (lastMessageId == null && !messageDtos.isEmpty()) {
+            Long latestMessageId = messageDtos.get(0).getMessageId(); // DESC 정렬이므로 첫번째가 최신
+            readPointerBuffer.advance(myChatMember, latestMessageId);
             log.info("읽음 처리 완료: chatroomId={}, memberId={}, lastReadMessageId={}",
                     chatroomId, myMemberId, latestMessageId);
         }
 
-        // 14. 메시지 전송 가능 여부 판단
+        // 7. 메시지 전송 가능 여부 판단
         boolean canSendMessage = !myChatMember.getIsBlocked() && !otherChatMember.getIsBlocked();
 
-        // 15. 프로젝트 정보
+        // 8. 프로젝트 정보
         Integer projectId = chatroom.getProjectId();
         String projectTitle = projectRepository.findTitleById(projectId).orElse(null);
 
@@ -647,10 +921,288 @@ public class ChatService {
                 .isBlockedByOther(otherChatMember.getIsBlocked())
                 .myLeftAt(myChatMember.getLeftAt())
                 .canSendMessage(canSendMessage)
-                .myLastReadMessageId(myChatMember.getLastReadMessageId())
-                .otherLastReadMessageId(otherChatMember.getLastReadMessageId())
+                .myLastReadMessageId(readPointerBuffer.effectiveLastRead(myChatMember))
+                .otherLastReadMessageId(readPointerBuffer.effectiveLastRead(otherChatMember))
                 .messages(messageDtos)
                 .hasNext(hasNext)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 참여 중인 채팅방의 메시지 검색 (최신순, 커서 기반)
+     *
+     * 검색어를 bigram 토큰으로 나누어 역색인에서 모든 토큰을 가진 메시지 ID를 찾고,
+     * 메시지를 한 번에 조회한 뒤 실제로 검색어 단어를 포함하는지 다시 확인한다.
+     * 확인에서 걸러져 한 페이지를 채우지 못하면 다음 후보를 이어서 조회한다 (최대 searchMaxScanRounds회).
+     *
+     * @param chatroomId 특정 채팅방만 검색할 때 지정 (null이면 참여 중인 전체 채팅방)
+     */
+    @Transactional(readOnly = true)
+    public ChatSearchDto searchMessages(Integer myMemberId, String query, Long chatroomId,
+                                        Long beforeMessageId, int size) {
+        List<String> terms = ChatSearchTokenizer.terms(query);
+        if (terms.isEmpty()) {
+            throw ChatException.invalidSearchQuery();
+        }
+        Set<String> tokens = ChatSearchTokenizer.queryTokens(terms);
+
+        // 1. 검색 대상 채팅방 (참여 중인 채팅방만)
+        List<Long> chatroomIds = chatMemberRepository.findByMemberIdAndLeftAtIsNull(myMemberId).stream()
+                .map(ChatMember::getChatroomId)
+                .filter(id -> chatroomId == null || id.equals(chatroomId))
+                .toList();
+        if (chatroomIds.isEmpty()) {
+            if (chatroomId != null) {
+                throw ChatException.chatAccessDenied();
+            }
+            return ChatSearchDto.builder()
+                    .results(List.of())
+                    .hasNext(false)
+                    .build();
+        }
+
+        // 2. 후보 조회 → 일괄 조회 → 검색어 포함 여부 확인
+        List<ChatMessage> matched = new ArrayList<>();
+        Long cursor = beforeMessageId;
+        boolean exhausted = false;
+        for (int round = 0; round < searchMaxScanRounds && matched.size() <= size; round++) {
+            List<Long> candidateIds = chatMessageTokenRepository.findMessageIdsMatchingAll(
+                            tokens, chatroomIds, cursor, tokens.size(), size + 1).stream()
+                    .map(ChatMessageTokenRepository.MessageIdRow::getMessageId)
+                    .toList();
+
+            for (ChatMessage message : findMessagesInOrder(candidateIds)) {
+                if (message.getDeletedAt() == null && ChatSearchTokenizer.containsAll(message.getContent(), terms)) {
+                    matched.add(message);
+                }
+            }
+
+            if (candidateIds.size() <= size) {
+                exhausted = true;
+                break;
+            }
+            cursor = candidateIds.get(candidateIds.size() - 1);
+        }
+
+        // 3. 다음 페이지 커서 - 결과가 남았으면 마지막 결과, 후보만 남았으면 마지막으로 확인한 후보
+        boolean hasNext = matched.size() > size || !exhausted;
+        List<ChatMessage> results = matched.size() > size ? matched.subList(0, size) : matched;
+        Long nextBeforeMessageId = null;
+        if (matched.size() > size) {
+            nextBeforeMessageId = results.get(results.size() - 1).getId();
+        } else if (!exhausted) {
+            nextBeforeMessageId = cursor;
+        }
+
+        // 4. 파일, 발신자 정보 일괄 조회
+        List<GetChatMessagesDto.MessageDto> messageDtos = toMessageDtos(results);
+        List<ChatSearchDto.ResultDto> resultDtos = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            resultDtos.add(ChatSearchDto.ResultDto.builder()
+                    .chatroomId(results.get(i).getChatroomId())
+                    .message(messageDtos.get(i))
+                    .build());
+        }
+
+        log.info("채팅 메시지 검색: memberId={}, chatroomCount={}, tokenCount={}, resultCount={}, hasNext={}",
+                myMemberId, chatroomIds.size(), tokens.size(), resultDtos.size(), hasNext);
+
+        return ChatSearchDto.builder()
+                .results(resultDtos)
+                .hasNext(hasNext)
+                .nextBeforeMessageId(nextBeforeMessageId)
+                .build();
+    }
+
+    /**
+     * 메시지 ID 목록을 한 번에 조회하여 ID 순서대로 반환 (아카이브된 메시지 포함)
+     */
+    private List<ChatMessage> findMessagesInOrder(List<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ChatMessage> byId = new HashMap<>();
+        chatMessageRepository.findAllById(messageIds)
+                .forEach(message -> byId.put(message.getId(), message));
+
+        List<Long> missingIds = messageIds.stream()
+                .filter(id -> !byId.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            chatMessageArchiveRepository.findAllById(missingIds)
+                    .forEach(archived -> byId.put(archived.getId(), archived.toChatMessage()));
+        }
+
+        return messageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 보관 기간이 지난 변경 로그 삭제 (batchSize 개)
+     * 삭제된 구간의 커서로 동기화를 요청하면 resyncRequired로 응답한다.
+     */
+    @Transactional
+    public int pruneChangeLogs(LocalDateTime before, int batchSize) {
+        return chatChangeLogRepository.deleteOlderThan(before, batchSize);
+    }
+
+    /**
+     * 재연결 시 델타 동기화
+     * 커서(since) 이후의 변경 로그를 읽어 새 메시지, 읽음 위치, 퇴장/차단 상태 변경을 한 번에 반환한다.
+     * 읽음 위치와 채팅방 상태는 변경 시점 값이 아니라 현재 값을 내려준다.
+     *
+     * @param since 이전 응답의 cursor (처음이면 0)
+     * @param limit 한 번에 처리할 최대 변경 수 (남으면 hasMore = true)
+     */
+    @Transactional(readOnly = true)
+    public ChatSyncDto sync(Integer myMemberId, Long since, int limit) {
+        long cursor = since != null ? since : 0L;
+        long currentSeq = chatSyncSequenceRepository.findById(myMemberId)
+                .map(ChatSyncSequence::getLastSeq)
+                .orElse(0L);
+
+        List<ChatChangeLog> changes = chatChangeLogRepository.findByMemberIdAndSeqGreaterThanOrderBySeqAsc(
+                myMemberId, cursor, PageRequest.of(0, limit + 1));
+
+        // seq는 회원별로 빈틈없이 증가하므로, 커서 바로 다음 로그가 없으면 보관 기간이 지나 삭제된 것
+        boolean resyncRequired = cursor > currentSeq
+                || (cursor < currentSeq && (changes.isEmpty() || changes.get(0).getSeq() != cursor + 1));
+        if (resyncRequired) {
+            log.info("델타 동기화 불가, 전체 재조회 필요: memberId={}, since={}, currentSeq={}",
+                    myMemberId, cursor, currentSeq);
+            return ChatSyncDto.builder()
+                    .cursor(currentSeq)
+                    .hasMore(false)
+                    .resyncRequired(true)
+                    .messages(List.of())
+                    .deletedMessages(List.of())
+                    .readPointers(List.of())
+                    .rooms(List.of())
+                    .build();
+        }
+
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        long nextCursor = changes.isEmpty() ? cursor : changes.get(changes.size() - 1).getSeq();
+
+        // 변경 유형별 분류
+        List<Long> messageIds = new ArrayList<>();
+        List<ChatChangeLog> deletes = new ArrayList<>();
+        Set<Long> readChangedRooms = new LinkedHashSet<>();
+        Set<Long> stateChangedRooms = new LinkedHashSet<>();
+        for (ChatChangeLog change : changes) {
+            switch (change.getChangeType()) {
+                case MESSAGE -> messageIds.add(change.getRefId());
+                case DELETE -> deletes.add(change);
+                case READ -> readChangedRooms.add(change.getChatroomId());
+                case MEMBERSHIP, BLOCK -> stateChangedRooms.add(change.getChatroomId());
+            }
+        }
+
+        // 관련 채팅방 멤버 일괄 조회
+        Set<Long> roomIds = new HashSet<>(readChangedRooms);
+        roomIds.addAll(stateChangedRooms);
+        deletes.forEach(change -> roomIds.add(change.getChatroomId()));
+        List<ChatMessage> messages = messageIds.isEmpty()
+                ? List.of()
+                : chatMessageRepository.findAllById(messageIds).stream()
+                        .filter(message -> message.getDeletedAt() == null)
+                        .sorted(Comparator.comparing(ChatMessage::getId))
+                        .toList();
+        messages.forEach(message -> roomIds.add(message.getChatroomId()));
+
+        Map<Long, List<ChatMember>> membersByRoom = roomIds.isEmpty()
+                ? Map.of()
+                : chatMemberRepository.findByChatroomIdIn(roomIds).stream()
+                        .collect(Collectors.groupingBy(ChatMember::getChatroomId));
+
+        // 새 메시지 (현재 참여 중인 채팅방만)
+        List<ChatMessage> visibleMessages = messages.stream()
+                .filter(message -> isActiveMember(membersByRoom.get(message.getChatroomId()), myMemberId))
+                .toList();
+        List<GetChatMessagesDto.MessageDto> messageDtos = toMessageDtos(visibleMessages);
+        List<ChatSyncDto.MessageChangeDto> messageChanges = new ArrayList<>(messageDtos.size());
+        for (int i = 0; i < messageDtos.size(); i++) {
+            messageChanges.add(ChatSyncDto.MessageChangeDto.builder()
+                    .chatroomId(visibleMessages.get(i).getChatroomId())
+                    .message(messageDtos.get(i))
+                    .build());
+        }
+
+        // 삭제된 메시지 (현재 참여 중인 채팅방만)
+        List<ChatSyncDto.DeletedMessageDto> deletedMessages = deletes.stream()
+                .filter(change -> isActiveMember(membersByRoom.get(change.getChatroomId()), myMemberId))
+                .map(change -> ChatSyncDto.DeletedMessageDto.builder()
+                        .chatroomId(change.getChatroomId())
+                        .messageId(change.getRefId())
+                        .build())
+                .toList();
+
+        // 읽음 위치 (현재 값)
+        List<ChatSyncDto.ReadChangeDto> readChanges = new ArrayList<>();
+        for (Long chatroomId : readChangedRooms) {
+            List<ChatMember> members = membersByRoom.getOrDefault(chatroomId, List.of());
+            if (!isActiveMember(members, myMemberId)) {
+                continue;
+            }
+            readChanges.add(ChatSyncDto.ReadChangeDto.builder()
+                    .chatroomId(chatroomId)
+                    .myLastReadMessageId(lastReadOf(members, myMemberId, true))
+                    .otherLastReadMessageId(lastReadOf(members, myMemberId, false))
+                    .build());
+        }
+
+        // 퇴장/재입장/차단 상태 (현재 값)
+        List<ChatSyncDto.RoomChangeDto> roomChanges = new ArrayList<>();
+        for (Long chatroomId : stateChangedRooms) {
+            List<ChatMember> members = membersByRoom.getOrDefault(chatroomId, List.of());
+            Optional<ChatMember> me = members.stream().filter(cm -> cm.getMemberId().equals(myMemberId)).findFirst();
+            if (me.isEmpty()) {
+                continue;
+            }
+            Optional<ChatMember> other = members.stream().filter(cm -> !cm.getMemberId().equals(myMemberId)).findFirst();
+            roomChanges.add(ChatSyncDto.RoomChangeDto.builder()
+                    .chatroomId(chatroomId)
+                    .myLeftAt(me.get().getLeftAt())
+                    .isBlockedByMe(me.get().getIsBlocked())
+                    .isBlockedByOther(other.map(ChatMember::getIsBlocked).orElse(false))
+                    .build());
+        }
+
+        log.info("델타 동기화: memberId={}, since={}, cursor={}, changes={}, messages={}, hasMore={}",
+                myMemberId, cursor, nextCursor, changes.size(), messageChanges.size(), hasMore);
+
+        return ChatSyncDto.builder()
+                .cursor(nextCursor)
+                .hasMore(hasMore)
+                .resyncRequired(false)
+                .messages(messageChanges)
+                .deletedMessages(deletedMessages)
+                .readPointers(readChanges)
+                .rooms(roomChanges)
+                .build();
+    }
+
+    private boolean isActiveMember(List<ChatMember> members, Integer memberId) {
+        return members != null && members.stream()
+                .anyMatch(cm -> cm.getMemberId().equals(memberId) && cm.getLeftAt() == null);
+    }
+
+    private Long lastReadOf(List<ChatMember> members, Integer myMemberId, boolean mine) {
+        return members.stream()
+                .filter(cm -> cm.getMemberId().equals(myMemberId) == mine)
+                .findFirst()
+                .map(readPointerBuffer::effectiveLastRead)
+                .orElse(null);
+    }
+
+    private List<Integer> memberIdsOf(Long chatroomId) {
+        return chatMemberRepository.findByChatroomId(chatroomId).stream()
+                .map(ChatMember::getMemberId)
+                .toList();
+    }
+}
@@ -0,0 +1,21 @@
+package com.s401.moas.chat.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ChatSearchDto {
+    private final List<ResultDto> results;
+    private final Boolean hasNext;
+    private final Long nextBeforeMessageId;
+
+    @Getter
+    @Builder
+    public static class ResultDto {
+        private final Long chatroomId;
+        private final GetChatMessagesDto.MessageDto message;
+    }
+}
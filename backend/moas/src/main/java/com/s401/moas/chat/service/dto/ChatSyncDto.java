@@ -0,0 +1,50 @@
+package com.s401.moas.chat.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ChatSyncDto {
+    private final Long cursor;
+    private final Boolean hasMore;
+    private final Boolean resyncRequired;
+    private final List<MessageChangeDto> messages;
+    private final List<DeletedMessageDto> deletedMessages;
+    private final List<ReadChangeDto> readPointers;
+    private final List<RoomChangeDto> rooms;
+
+    @Getter
+    @Builder
+    public static class MessageChangeDto {
+        private final Long chatroomId;
+        private final GetChatMessagesDto.MessageDto message;
+    }
+
+    @Getter
+    @Builder
+    public static class DeletedMessageDto {
+        private final Long chatroomId;
+        private final Long messageId;
+    }
+
+    @Getter
+    @Builder
+    public static class ReadChangeDto {
+        private final Long chatroomId;
+        private final Long myLastReadMessageId;
+        private final Long otherLastReadMessageId;
+    }
+
+    @Getter
+    @Builder
+    public static class RoomChangeDto {
+        private final Long chatroomId;
+        private final LocalDateTime myLeftAt;
+        private final Boolean isBlockedByMe;
+        private final Boolean isBlockedByOther;
+    }
+}
@@ -10,6 +10,9 @@ import java.util.List;
 @Builder
 public class ChatroomListDto {
     private final List<ChatroomItemDto> chatrooms;
+    private final Boolean hasNext;
+    private final Long nextCursorMessageId;
+    private final Long nextCursorChatroomId;
 
     @Getter
     @Builder
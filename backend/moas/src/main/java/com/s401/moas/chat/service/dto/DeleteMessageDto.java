@@ -0,0 +1,14 @@
+package com.s401.moas.chat.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class DeleteMessageDto {
+    private Long chatroomId;
+    private Long messageId;
+    private LocalDateTime deletedAt;
+}
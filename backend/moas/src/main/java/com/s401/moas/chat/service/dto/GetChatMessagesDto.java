@@ -3,6 +3,7 @@ package com.s401.moas.chat.service.dto;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,6 +28,7 @@ public class GetChatMessagesDto {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class MessageDto {
         private final Long messageId;
         private final Integer senderId;
@@ -40,6 +42,7 @@ public class GetChatMessagesDto {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class FileDto {
         private final Long fileId;
         private final String originalFileName;
@@ -0,0 +1,10 @@
+package com.s401.moas.chat.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UnreadCountDto {
+    private Integer totalUnreadCount;
+}
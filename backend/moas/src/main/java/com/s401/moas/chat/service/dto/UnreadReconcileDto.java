@@ -0,0 +1,12 @@
+package com.s401.moas.chat.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class UnreadReconcileDto {
+    private Long lastChatMemberId;  // 다음 배치의 시작 기준 (더 없으면 null)
+    private int scannedCount;
+    private int repairedCount;
+}
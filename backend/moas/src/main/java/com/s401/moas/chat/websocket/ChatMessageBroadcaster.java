@@ -0,0 +1,185 @@
+package com.s401.moas.chat.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.s401.moas.chat.controller.response.GetChatMessagesResponse;
+import com.s401.moas.chat.service.dto.GetChatMessagesDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채팅방 토픽(/topic/chat/rooms/{chatroomId})으로 완성된 메시지를 브로드캐스트
+ * 클라이언트는 받은 메시지를 그대로 목록에 추가하면 되므로 추가 조회가 필요 없다.
+ *
+ * 심플 브로커는 자기 노드의 구독자에게만 전달하므로, 브로드캐스트와 구독 회수는 Redis 채널(chat:room:relay)로도
+ * 발행하고 다른 노드가 받아 자기 구독자에게 적용한다. 자신이 발행한 메시지는 이미 로컬에 적용했으므로 건너뛴다.
+ * pub/sub은 전달을 보장하지 않으므로 유실된 메시지는 클라이언트가 동기화 API로 다시 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBroadcaster implements MessageListener {
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/chat/rooms/";
+    public static final String CHANNEL = "chat:room:relay";
+
+    /**
+     * 노드 간 중계 메시지 (payload가 있으면 브로드캐스트, revokedMemberIds가 있으면 구독 회수)
+     */
+    record RoomRelayMessage(String origin, Long chatroomId, String payload, List<Integer> revokedMemberIds) {
+    }
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatSubscriptionRegistry subscriptionRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 트랜잭션 커밋 후 브로드캐스트 (롤백된 메시지가 전달되지 않도록)
+     * 트랜잭션 밖에서 호출되면 즉시 전송한다.
+     */
+    public void broadcastAfterCommit(Long chatroomId, GetChatMessagesDto.MessageDto message) {
+        afterCommit(() -> broadcast(chatroomId, message));
+    }
+
+    public void broadcast(Long chatroomId, GetChatMessagesDto.MessageDto message) {
+        try {
+            broadcast(chatroomId, ChatMessagePushDto.builder()
+                    .type(ChatMessagePushDto.TYPE_MESSAGE)
+                    .chatroomId(chatroomId)
+                    .message(GetChatMessagesResponse.MessageItem.from(message))
+                    .build());
+        } catch (Exception e) {
+            // 실시간 전송 실패는 메시지 저장에 영향을 주지 않음 (SSE 알림 + 조회 API로 복구)
+            log.warn("채팅 메시지 브로드캐스트 실패: chatroomId={}, messageId={}, error={}",
+                    chatroomId, message.getMessageId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 메시지 삭제 브로드캐스트
+     */
+    public void broadcastDeleteAfterCommit(Long chatroomId, Long messageId) {
+        afterCommit(() -> broadcastDelete(chatroomId, messageId));
+    }
+
+    public void broadcastDelete(Long chatroomId, Long messageId) {
+        try {
+            broadcast(chatroomId, ChatMessagePushDto.builder()
+                    .type(ChatMessagePushDto.TYPE_DELETE)
+                    .chatroomId(chatroomId)
+                    .messageId(messageId)
+                    .build());
+        } catch (Exception e) {
+            log.warn("채팅 메시지 삭제 브로드캐스트 실패: chatroomId={}, messageId={}, error={}",
+                    chatroomId, messageId, e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 회원들의 채팅방 구독 회수 (퇴장/차단으로 구독 권한이 사라진 경우)
+     * 모든 노드의 구독을 해제하며, 이후 재구독은 StompAuthChannelInterceptor에서 거부된다.
+     */
+    public void revokeSubscriptionsAfterCommit(Long chatroomId, List<Integer> memberIds) {
+        afterCommit(() -> revokeSubscriptions(chatroomId, memberIds));
+    }
+
+    public void revokeSubscriptions(Long chatroomId, List<Integer> memberIds) {
+        memberIds.forEach(memberId -> subscriptionRegistry.revoke(chatroomId, memberId));
+        publish(new RoomRelayMessage(nodeId, chatroomId, null, memberIds));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RoomRelayMessage relay;
+        try {
+            relay = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), RoomRelayMessage.class);
+        } catch (Exception e) {
+            log.warn("채팅방 중계 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(relay.origin())) {
+            return;
+        }
+
+        if (relay.revokedMemberIds() != null) {
+            relay.revokedMemberIds().forEach(memberId -> subscriptionRegistry.revoke(relay.chatroomId(), memberId));
+        }
+        if (relay.payload() != null) {
+            try {
+                sendLocal(relay.chatroomId(), relay.payload());
+            } catch (Exception e) {
+                log.warn("중계된 채팅 메시지 전송 실패: chatroomId={}, error={}", relay.chatroomId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 한 번 직렬화한 JSON을 로컬 구독자에게 보내고 다른 노드로 중계
+     */
+    private void broadcast(Long chatroomId, ChatMessagePushDto push) throws Exception {
+        String payload = objectMapper.writeValueAsString(push);
+        sendLocal(chatroomId, payload);
+        publish(new RoomRelayMessage(nodeId, chatroomId, payload, null));
+    }
+
+    private void sendLocal(Long chatroomId, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(ROOM_TOPIC_PREFIX + chatroomId,
+                MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+    }
+
+    private void publish(RoomRelayMessage relay) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(relay));
+        } catch (Exception e) {
+            log.warn("채팅방 중계 메시지 발행 실패: chatroomId={}, error={}", relay.chatroomId(), e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 구독 destination에서 채팅방 ID 추출 (채팅방 토픽이 아니면 null)
+     */
+    static Long parseChatroomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(ROOM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.s401.moas.chat.websocket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.s401.moas.chat.controller.response.GetChatMessagesResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * STOMP로 전달되는 채팅 메시지 (메시지 조회 API의 메시지 아이템과 동일한 형태)
+ * type이 MESSAGE면 message에 새 메시지가, DELETE면 messageId에 삭제된 메시지 ID가 담긴다.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatMessagePushDto {
+
+    public static final String TYPE_MESSAGE = "MESSAGE";
+    public static final String TYPE_DELETE = "DELETE";
+
+    private final String type;
+    private final Long chatroomId;
+    private final GetChatMessagesResponse.MessageItem message;
+    private final Long messageId;
+}
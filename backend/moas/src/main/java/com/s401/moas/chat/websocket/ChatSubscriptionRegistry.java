@@ -0,0 +1,150 @@
+package com.s401.moas.chat.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드의 채팅방 토픽 구독 목록 (채팅방/회원 → STOMP 세션의 구독)
+ *
+ * 구독 권한은 SUBSCRIBE 시점에만 확인하므로, 퇴장/차단으로 권한이 사라지면 revoke로 해당 회원의 구독을
+ * 브로커에서 직접 해제한다. 해제된 클라이언트는 동기화 API의 MEMBERSHIP/BLOCK 변경으로 상태를 알게 된다.
+ */
+@Slf4j
+@Component
+public class ChatSubscriptionRegistry {
+
+    record RoomMember(Long chatroomId, Integer memberId) {
+    }
+
+    record Subscription(String sessionId, String subscriptionId) {
+    }
+
+    private final MessageChannel brokerChannel;
+
+    private final Map<RoomMember, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Set<RoomMember>> roomMembersBySession = new ConcurrentHashMap<>();
+
+    public ChatSubscriptionRegistry(@Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.brokerChannel = brokerChannel;
+    }
+
+    /**
+     * 권한 확인(StompAuthChannelInterceptor)을 통과한 채팅방 구독 기록
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (!(event.getUser() instanceof UsernamePasswordAuthenticationToken auth)
+                || !(auth.getPrincipal() instanceof Integer memberId)) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Long chatroomId = ChatMessageBroadcaster.parseChatroomId(accessor.getDestination());
+        if (chatroomId != null) {
+            register(chatroomId, memberId, accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+    }
+
+    void register(Long chatroomId, Integer memberId, String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        RoomMember roomMember = new RoomMember(chatroomId, memberId);
+        subscriptions.computeIfAbsent(roomMember, key -> ConcurrentHashMap.newKeySet())
+                .add(new Subscription(sessionId, subscriptionId));
+        roomMembersBySession.computeIfAbsent(sessionId, key -> ConcurrentHashMap.newKeySet()).add(roomMember);
+    }
+
+    /**
+     * 채팅방에 대한 회원의 구독을 모두 해제
+     *
+     * @return 해제한 구독 수
+     */
+    public int revoke(Long chatroomId, Integer memberId) {
+        RoomMember roomMember = new RoomMember(chatroomId, memberId);
+        Set<Subscription> revoked = subscriptions.remove(roomMember);
+        if (revoked == null) {
+            return 0;
+        }
+
+        for (Subscription subscription : revoked) {
+            roomMembersBySession.computeIfPresent(subscription.sessionId(), (key, roomMembers) -> {
+                roomMembers.remove(roomMember);
+                return roomMembers.isEmpty() ? null : roomMembers;
+            });
+            try {
+                brokerChannel.send(unsubscribeMessage(subscription));
+            } catch (Exception e) {
+                log.warn("채팅방 구독 해제 실패: chatroomId={}, memberId={}, sessionId={}, error={}",
+                        chatroomId, memberId, subscription.sessionId(), e.getMessage());
+            }
+        }
+        log.info("채팅방 구독 권한 회수: chatroomId={}, memberId={}, subscriptions={}",
+                chatroomId, memberId, revoked.size());
+        return revoked.size();
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        Set<RoomMember> roomMembers = sessionId == null ? null : roomMembersBySession.get(sessionId);
+        if (roomMembers == null || subscriptionId == null) {
+            return;
+        }
+        Subscription subscription = new Subscription(sessionId, subscriptionId);
+        for (RoomMember roomMember : List.copyOf(roomMembers)) {
+            removeSubscription(roomMember, subscription);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Set<RoomMember> roomMembers = roomMembersBySession.remove(event.getSessionId());
+        if (roomMembers == null) {
+            return;
+        }
+        for (RoomMember roomMember : roomMembers) {
+            subscriptions.computeIfPresent(roomMember, (key, subs) -> {
+                subs.removeIf(subscription -> subscription.sessionId().equals(event.getSessionId()));
+                return subs.isEmpty() ? null : subs;
+            });
+        }
+    }
+
+    int subscriptionCount(Long chatroomId, Integer memberId) {
+        Set<Subscription> subs = subscriptions.get(new RoomMember(chatroomId, memberId));
+        return subs == null ? 0 : subs.size();
+    }
+
+    private void removeSubscription(RoomMember roomMember, Subscription subscription) {
+        subscriptions.computeIfPresent(roomMember, (key, subs) -> {
+            subs.remove(subscription);
+            return subs.isEmpty() ? null : subs;
+        });
+    }
+
+    private static Message<byte[]> unsubscribeMessage(Subscription subscription) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(subscription.sessionId());
+        accessor.setSubscriptionId(subscription.subscriptionId());
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,119 @@
+package com.s401.moas.chat.websocket;
+
+import com.s401.moas.auth.exception.AuthException;
+import com.s401.moas.auth.service.RefreshTokenService;
+import com.s401.moas.chat.domain.ChatMember;
+import com.s401.moas.chat.exception.ChatException;
+import com.s401.moas.chat.repository.ChatMemberRepository;
+import com.s401.moas.global.security.JWTUtil;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * STOMP 인바운드 프레임 인증/인가
+ *
+ * - CONNECT: Authorization 헤더의 access token을 JWTFilter와 동일한 기준으로 검증하고 세션 사용자로 등록
+ * - SUBSCRIBE: 채팅방 토픽은 퇴장하지 않은 참여자만, 어느 쪽도 차단하지 않은 채팅방만 구독 가능
+ *   (통과한 구독은 ChatSubscriptionRegistry가 기록해 두었다가 이후 퇴장/차단 시 회수된다)
+ * - SEND: 전송은 REST API로만 받으므로 거부
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JWTUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final ChatMemberRepository chatMemberRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            authorizeSubscription(accessor.getUser(), accessor.getDestination());
+        } else if (command == StompCommand.SEND) {
+            throw ChatException.chatAccessDenied();
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            log.warn("STOMP 인증 실패: Authorization 헤더 없음");
+            throw AuthException.accessTokenNotFound();
+        }
+        String token = authorization.substring("Bearer ".length());
+
+        try {
+            if (jwtUtil.isExpired(token)) {
+                throw AuthException.accessTokenExpired();
+            }
+
+            Integer memberId = jwtUtil.getMemberId(token);
+            String role = jwtUtil.getRole(token);
+            if (memberId == null || role == null) {
+                throw AuthException.accessTokenInvalid();
+            }
+
+            String familyId = jwtUtil.getFamilyId(token);
+            Integer tokenFver = jwtUtil.getFamilyVersion(token);
+            if (familyId != null && tokenFver != null
+                    && tokenFver != refreshTokenService.getFamilyVersion(familyId)) {
+                log.warn("STOMP 인증 실패: 토큰 버전 불일치 - memberId={}, fid={}", memberId, familyId);
+                throw AuthException.refreshTokenReuseDetected();
+            }
+
+            log.info("STOMP 연결 인증 완료: memberId={}", memberId);
+            return new UsernamePasswordAuthenticationToken(memberId, null, List.of(new SimpleGrantedAuthority(role)));
+        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+            throw AuthException.accessTokenExpired();
+        } catch (JwtException e) {
+            log.warn("STOMP 인증 실패: JWT 예외 - {}", e.getClass().getSimpleName());
+            throw AuthException.accessTokenInvalid();
+        }
+    }
+
+    private void authorizeSubscription(Principal user, String destination) {
+        if (!(user instanceof UsernamePasswordAuthenticationToken auth) || !(auth.getPrincipal() instanceof Integer memberId)) {
+            throw AuthException.accessTokenNotFound();
+        }
+
+        Long chatroomId = ChatMessageBroadcaster.parseChatroomId(destination);
+        if (chatroomId == null) {
+            log.warn("STOMP 구독 거부: 지원하지 않는 destination={}, memberId={}", destination, memberId);
+            throw ChatException.chatAccessDenied();
+        }
+
+        List<ChatMember> chatMembers = chatMemberRepository.findByChatroomId(chatroomId);
+        boolean isParticipant = chatMembers.stream()
+                .anyMatch(chatMember -> chatMember.getMemberId().equals(memberId) && chatMember.getLeftAt() == null);
+        if (!isParticipant) {
+            log.warn("STOMP 구독 거부: 채팅방 참여자 아님 - chatroomId={}, memberId={}", chatroomId, memberId);
+            throw ChatException.chatAccessDenied();
+        }
+        if (chatMembers.stream().anyMatch(ChatMember::getIsBlocked)) {
+            log.warn("STOMP 구독 거부: 차단된 채팅방 - chatroomId={}, memberId={}", chatroomId, memberId);
+            throw ChatException.chatAccessDenied();
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.s401.moas.contract.service;
 
-import com.s401.moas.admin.feepolicy.repository.FeePolicyRepository;
+import com.s401.moas.admin.feepolicy.service.AdminFeePolicyService;
 import com.s401.moas.application.domain.ProjectApplication;
 import com.s401.moas.application.exception.ApplicationException;
 import com.s401.moas.application.repository.ProjectApplicationRepository;
@@ -81,7 +81,7 @@ public class ContractService {
     private final ProjectPositionRepository projectPositionRepository;
     private final OnchainRecordRepository onchainRecordRepository;
     private final ContractNftRepository contractNftRepository;
-    private final FeePolicyRepository feePolicyRepository;
+    private final AdminFeePolicyService adminFeePolicyService;
     private final NotificationService notificationService;
 
     @Transactional
@@ -103,8 +103,7 @@ public class ContractService {
         }
 
         // 3. 계약서 엔티티 생성
-        BigDecimal feeRate = feePolicyRepository.findCurrentFeeRate(LocalDateTime.now())
-                .orElse(new BigDecimal("5.0")) // 정책 없을 때 기본값
+        BigDecimal feeRate = adminFeePolicyService.getCurrentFeeRate() // 정책 없을 때 기본값 5.0
                 .setScale(2, RoundingMode.HALF_UP);
 
 
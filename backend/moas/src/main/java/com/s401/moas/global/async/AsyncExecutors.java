@@ -0,0 +1,29 @@
+package com.s401.moas.global.async;
+
+/**
+ * 도메인별 비동기 실행기(Executor) Bean 이름 모음
+ * {@code @Async(AsyncExecutors.INDEXING)} 형태로 사용하여 도메인 간 스레드 풀을 격리한다.
+ */
+public final class AsyncExecutors {
+
+    /** 프로젝트 임베딩 / 벡터 인덱싱 */
+    public static final String INDEXING = "indexingExecutor";
+
+    /** 블록체인 온체인 명령 전송 */
+    public static final String ONCHAIN = "onchainExecutor";
+
+    /** 알림 / SSE 발송 */
+    public static final String NOTIFICATION = "notificationExecutor";
+
+    /** SSE 연결별 송신 큐 비우기 (소켓 쓰기) */
+    public static final String SSE = "sseExecutor";
+
+    /** 파일 업로드 등 미디어 처리 */
+    public static final String MEDIA = "mediaExecutor";
+
+    /** 이름을 지정하지 않은 @Async 메서드의 기본 실행기 */
+    public static final String COMMON = "commonExecutor";
+
+    private AsyncExecutors() {
+    }
+}
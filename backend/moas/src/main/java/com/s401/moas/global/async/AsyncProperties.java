@@ -0,0 +1,56 @@
+package com.s401.moas.global.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인별 비동기 스레드 풀 설정
+ * async.virtual-threads 가 true 이면 모든 풀이 가상 스레드로 작업을 실행한다.
+ * (풀 크기와 큐 용량은 그대로 적용되어 도메인 간 격리는 유지된다)
+ */
+@Component
+@ConfigurationProperties(prefix = "async")
+@Getter
+@Setter
+public class AsyncProperties {
+
+    private boolean virtualThreads = false;
+
+    private Pool indexing = new Pool(2, 4, 200, RejectionPolicy.ABORT);
+    private Pool onchain = new Pool(2, 4, 100, RejectionPolicy.CALLER_RUNS);
+    private Pool notification = new Pool(2, 8, 1000, RejectionPolicy.ABORT);
+    private Pool sse = new Pool(4, 16, 10000, RejectionPolicy.ABORT);
+    private Pool media = new Pool(4, 8, 100, RejectionPolicy.CALLER_RUNS);
+    private Pool common = new Pool(2, 4, 200, RejectionPolicy.ABORT);
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int coreSize;
+        private int maxSize;
+        private int queueCapacity;
+        private int keepAliveSeconds = 60;
+        private RejectionPolicy rejectionPolicy;
+
+        public Pool() {
+        }
+
+        public Pool(int coreSize, int maxSize, int queueCapacity, RejectionPolicy rejectionPolicy) {
+            this.coreSize = coreSize;
+            this.maxSize = maxSize;
+            this.queueCapacity = queueCapacity;
+            this.rejectionPolicy = rejectionPolicy;
+        }
+    }
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식
+     * ABORT: 거절 기록 후 TaskRejectedException 발생
+     * CALLER_RUNS: 거절 기록 후 호출 스레드에서 직접 실행 (작업 유실 방지, 호출자에게 배압 전달)
+     */
+    public enum RejectionPolicy {
+        ABORT, CALLER_RUNS
+    }
+}
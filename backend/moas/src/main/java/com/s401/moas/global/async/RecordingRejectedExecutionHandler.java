@@ -0,0 +1,35 @@
+package com.s401.moas.global.async;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 거절된 작업을 조용히 버리지 않고 메트릭과 로그로 남기는 RejectedExecutionHandler
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RecordingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private final String poolName;
+    private final AsyncProperties.RejectionPolicy policy;
+    private final Counter rejectedCounter;
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        rejectedCounter.increment();
+        log.warn("비동기 작업 거절: pool={}, policy={}, active={}, queued={}",
+                poolName, policy, executor.getActiveCount(), executor.getQueue().size());
+
+        if (policy == AsyncProperties.RejectionPolicy.CALLER_RUNS && !executor.isShutdown()) {
+            task.run();
+            return;
+        }
+
+        throw new RejectedExecutionException("비동기 작업 큐가 가득 찼습니다: pool=" + poolName);
+    }
+}
@@ -0,0 +1,31 @@
+package com.s401.moas.global.audit;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 외부 시스템(LLM, 임베딩, Qdrant, web3j) 호출로 스레드가 대기한 구간을 기록하는 JFR 이벤트
+ */
+@Name("com.s401.moas.BlockingCall")
+@Label("Blocking Remote Call")
+@Category({"MOAS", "Blocking"})
+@Description("원격 호출 응답을 기다리며 스레드가 블로킹된 구간")
+@StackTrace(false)
+class BlockingCallEvent extends Event {
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Target")
+    String target;
+
+    @Label("Virtual Thread")
+    boolean virtualThread;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,105 @@
+package com.s401.moas.global.audit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 원격 블로킹 호출 감사 유틸리티
+ * 호출 구간을 BlockingCallEvent(JFR)로 기록하고, 종류별 동시 대기 수를 집계한다.
+ *
+ * <pre>
+ * String body = BlockingCalls.audit(BlockingCalls.LLM, "chat/completions", () -> restTemplate.exchange(...));
+ * List&lt;ScoredPoint&gt; hits = BlockingCalls.await(BlockingCalls.QDRANT, "query", qdrant.queryAsync(q));
+ * </pre>
+ */
+public final class BlockingCalls {
+
+    public static final String LLM = "llm";
+    public static final String EMBEDDING = "embedding";
+    public static final String QDRANT = "qdrant";
+    public static final String WEB3J = "web3j";
+
+    private static final Map<String, AtomicInteger> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    private BlockingCalls() {
+    }
+
+    @FunctionalInterface
+    public interface BlockingCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /**
+     * 블로킹 호출을 실행하며 JFR 이벤트와 동시 대기 수를 기록
+     */
+    public static <T, E extends Exception> T audit(String kind, String target, BlockingCall<T, E> call) throws E {
+        try (AuditedWait audited = new AuditedWait(kind, target)) {
+            T result = call.call();
+            audited.succeeded();
+            return result;
+        }
+    }
+
+    /**
+     * Future 결과를 기다리는 구간을 기록 (Qdrant ListenableFuture, web3j sendAsync 등)
+     */
+    public static <T> T await(String kind, String target, Future<T> future)
+            throws InterruptedException, ExecutionException {
+        try (AuditedWait audited = new AuditedWait(kind, target)) {
+            T result = future.get();
+            audited.succeeded();
+            return result;
+        }
+    }
+
+    /**
+     * 현재 해당 종류의 원격 호출을 기다리고 있는 스레드 수
+     */
+    public static int inFlight(String kind) {
+        return inFlightCounter(kind).get();
+    }
+
+    private static AtomicInteger inFlightCounter(String kind) {
+        return IN_FLIGHT.computeIfAbsent(kind, k -> new AtomicInteger());
+    }
+
+    /**
+     * 대기 구간 하나 (생성 시 시작, close 시 동시 대기 수 감소 및 JFR 이벤트 기록)
+     */
+    private static final class AuditedWait implements AutoCloseable {
+
+        private final String kind;
+        private final String target;
+        private final AtomicInteger inFlight;
+        private final BlockingCallEvent event = new BlockingCallEvent();
+        private boolean failed = true;
+
+        AuditedWait(String kind, String target) {
+            this.kind = kind;
+            this.target = target;
+            this.inFlight = inFlightCounter(kind);
+            event.begin();
+            inFlight.incrementAndGet();
+        }
+
+        void succeeded() {
+            failed = false;
+        }
+
+        @Override
+        public void close() {
+            inFlight.decrementAndGet();
+            event.end();
+            if (event.shouldCommit()) {
+                event.kind = kind;
+                event.target = target;
+                event.virtualThread = Thread.currentThread().isVirtual();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+}
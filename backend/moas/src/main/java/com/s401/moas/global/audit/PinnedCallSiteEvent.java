@@ -0,0 +1,30 @@
+package com.s401.moas.global.audit;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * jdk.VirtualThreadPinned 이벤트를 애플리케이션 호출 지점 기준으로 요약한 JFR 이벤트
+ */
+@Name("com.s401.moas.PinnedCallSite")
+@Label("Virtual Thread Pinned Call Site")
+@Category({"MOAS", "Blocking"})
+@Description("가상 스레드가 캐리어 스레드에 고정된(pinned) 애플리케이션 호출 지점")
+@StackTrace(false)
+class PinnedCallSiteEvent extends Event {
+
+    @Label("Call Site")
+    String callSite;
+
+    @Label("Reason")
+    String reason;
+
+    @Label("Pinned Duration")
+    @Timespan(Timespan.MILLISECONDS)
+    long pinnedMillis;
+}
@@ -0,0 +1,104 @@
+package com.s401.moas.global.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 pinning 감사
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독하여 synchronized 블록 / 네이티브 프레임 때문에
+ * 캐리어 스레드에 고정된 호출 지점을 찾아 로그, 메트릭(moas.vthread.pinned), PinnedCallSite JFR 이벤트로 보고한다.
+ * 원격 호출 종류별 동시 대기 수는 moas.blocking.inflight 게이지로 노출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "audit.pinning.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.s401.moas.";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${audit.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        for (String kind : List.of(BlockingCalls.LLM, BlockingCalls.EMBEDDING, BlockingCalls.QDRANT, BlockingCalls.WEB3J)) {
+            Gauge.builder("moas.blocking.inflight", () -> BlockingCalls.inFlight(kind))
+                    .tag("kind", kind)
+                    .description("원격 호출 응답을 기다리는 스레드 수")
+                    .register(meterRegistry);
+        }
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        stream.enable("com.s401.moas.BlockingCall");
+        stream.enable("com.s401.moas.PinnedCallSite");
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+
+        log.info("가상 스레드 pinning 감사 시작: threshold={}ms", thresholdMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+
+        String reason = frames.stream().anyMatch(f -> "Native".equals(f.getType())) ? "native" : "monitor";
+        String callSite = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(f -> f.getMethod().getType().getName().startsWith(APP_PACKAGE))
+                .findFirst()
+                .map(f -> f.getMethod().getType().getName() + "#" + f.getMethod().getName())
+                .orElse("external");
+        long pinnedMillis = event.getDuration().toMillis();
+
+        Counter.builder("moas.vthread.pinned")
+                .tag("reason", reason)
+                .tag("site", callSite)
+                .register(meterRegistry)
+                .increment();
+
+        PinnedCallSiteEvent summary = new PinnedCallSiteEvent();
+        summary.callSite = callSite;
+        summary.reason = reason;
+        summary.pinnedMillis = pinnedMillis;
+        summary.commit();
+
+        log.warn("가상 스레드 pinning 감지: site={}, reason={}, duration={}ms, topFrame={}",
+                callSite, reason, pinnedMillis, frames.isEmpty() ? "unknown" : describe(frames.get(0)));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "#" + frame.getMethod().getName()
+                + " (" + frame.getType() + ")";
+    }
+}
@@ -0,0 +1,84 @@
+package com.s401.moas.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 로컬 캐시 무효화 버스
+ * 한 노드에서 evict 하면 다른 노드들의 로컬(L1) 캐시에서도 같은 키를 제거한다.
+ * TwoTierCache 외에 노드별 로컬 버퍼(채팅 최근 메시지 등)도 이름과 로컬 제거 함수로 등록할 수 있다.
+ * 메시지 유실 시에도 로컬 캐시 TTL이 지나면 자연히 정리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "cache:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> localInvalidators = new ConcurrentHashMap<>();
+
+    void register(TwoTierCache<?> cache) {
+        register(cache.getName(), cache::invalidateLocal);
+    }
+
+    /**
+     * 다른 노드에서 무효화 메시지를 받으면 호출할 로컬 제거 함수 등록
+     */
+    public void register(String cacheName, Consumer<String> localInvalidator) {
+        localInvalidators.put(cacheName, localInvalidator);
+    }
+
+    /**
+     * 다른 노드들의 로컬 캐시에서 키 제거 (자기 노드의 로컬 캐시는 호출한 쪽에서 제거)
+     */
+    public void publish(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key));
+            stringRedisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+
+        Consumer<String> localInvalidator = localInvalidators.get(invalidation.cache());
+        if (localInvalidator != null) {
+            localInvalidator.accept(invalidation.key());
+            log.debug("원격 캐시 무효화 수신: cache={}, key={}", invalidation.cache(), invalidation.key());
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,11 @@
+package com.s401.moas.global.cache;
+
+/**
+ * 노드 간 로컬 캐시 무효화 메시지
+ *
+ * @param nodeId 발행한 노드 ID (자기 자신이 보낸 메시지는 무시)
+ * @param cache  캐시 이름
+ * @param key    무효화할 키
+ */
+public record CacheInvalidationMessage(String nodeId, String cache, String key) {
+}
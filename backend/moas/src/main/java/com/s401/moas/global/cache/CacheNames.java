@@ -0,0 +1,14 @@
+package com.s401.moas.global.cache;
+
+/**
+ * 2단계 캐시 이름 (Redis 키 prefix 및 메트릭 cache 태그로 사용)
+ */
+public final class CacheNames {
+
+    public static final String MEMBER_PROFILE = "member-profile";
+    public static final String PROJECT_DETAIL = "project-detail";
+    public static final String FEE_POLICY = "fee-policy";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,282 @@
+package com.s401.moas.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 로컬(Caffeine, L1) + Redis(L2) 2단계 캐시
+ *
+ * 조회 순서: L1 → L2 → loader(DB). L2 값은 JSON으로 저장한다.
+ * - 같은 노드에서 같은 키를 동시에 조회하면 한 요청만 적재하고 나머지는 결과를 기다린다.
+ * - 노드 간에는 Redis 락(SET NX)으로 적재를 한 노드에 몰아주고, 나머지는 잠시 L2를 재확인한다.
+ * - evict 시 L2 삭제 후 무효화 메시지를 발행하여 다른 노드의 L1도 제거한다.
+ *
+ * Redis 장애 시에는 L2를 건너뛰고 L1 + loader 만으로 동작한다.
+ * 적재 중 DB가 변경되는 드문 경합은 TTL 동안만 남도록 L1/L2 TTL을 짧게 둔다.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private static final String KEY_PREFIX = "cache:";
+    private static final String LOCK_PREFIX = "cache:lock:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(5);
+    private static final int LOCK_WAIT_ATTEMPTS = 5;
+    private static final long LOCK_WAIT_MILLIS = 50;
+
+    private final String name;
+    private final Cache<String, V> local;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final Duration remoteTtl;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final ConcurrentHashMap<String, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteErrors;
+    private final Counter loadSuccesses;
+    private final Counter loadFailures;
+    private final Counter evictions;
+
+    TwoTierCache(String name, Cache<String, V> local, StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                 JavaType valueType, Duration remoteTtl, CacheInvalidationBus invalidationBus,
+                 MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.remoteTtl = remoteTtl;
+        this.invalidationBus = invalidationBus;
+
+        this.remoteHits = remoteCounter(meterRegistry, "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, "miss");
+        this.remoteErrors = remoteCounter(meterRegistry, "error");
+        this.loadSuccesses = loadCounter(meterRegistry, "success");
+        this.loadFailures = loadCounter(meterRegistry, "failure");
+        this.evictions = Counter.builder("moas.cache.evictions")
+                .description("명시적 무효화 횟수")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 loader로 적재한다.
+     * loader가 null을 반환하면 캐시하지 않고, 예외는 그대로 전파한다.
+     */
+    public V get(Object key, Supplier<V> loader) {
+        String cacheKey = String.valueOf(key);
+
+        V value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(cacheKey, mine);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            V loaded = loadThroughRemote(cacheKey, loader);
+            if (loaded != null) {
+                local.put(cacheKey, loaded);
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(cacheKey, mine);
+        }
+    }
+
+    /**
+     * L1/L2에서 제거하고 다른 노드에 무효화를 전파한다.
+     */
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        try {
+            redisTemplate.delete(redisKey(cacheKey));
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("캐시 L2 삭제 실패: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+        }
+        local.invalidate(cacheKey);
+        invalidationBus.publish(name, cacheKey);
+        evictions.increment();
+    }
+
+    /**
+     * 트랜잭션 커밋 후 evict (커밋 전 다른 요청이 이전 값을 다시 적재하는 것을 방지)
+     * 트랜잭션 밖에서 호출되면 즉시 evict 한다.
+     */
+    public void evictAfterCommit(Object key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(key);
+            }
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void invalidateLocal(String key) {
+        local.invalidate(key);
+    }
+
+    private V loadThroughRemote(String cacheKey, Supplier<V> loader) {
+        V cached = readRemote(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean locked = tryLock(cacheKey);
+        if (!locked) {
+            // 다른 노드가 적재 중 - 잠시 기다리며 L2를 재확인하고, 끝내 없으면 직접 적재
+            for (int i = 0; i < LOCK_WAIT_ATTEMPTS; i++) {
+                if (!pause()) {
+                    break;
+                }
+                cached = readRemote(cacheKey);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
+        try {
+            V loaded = invokeLoader(loader);
+            if (loaded != null) {
+                writeRemote(cacheKey, loaded);
+            }
+            return loaded;
+        } finally {
+            if (locked) {
+                unlock(cacheKey);
+            }
+        }
+    }
+
+    private V invokeLoader(Supplier<V> loader) {
+        try {
+            V loaded = loader.get();
+            loadSuccesses.increment();
+            return loaded;
+        } catch (RuntimeException e) {
+            loadFailures.increment();
+            throw e;
+        }
+    }
+
+    private V readRemote(String cacheKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(cacheKey));
+            if (json == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            return objectMapper.readValue(json, valueType);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("캐시 L2 조회 실패: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String cacheKey, V value) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheKey), objectMapper.writeValueAsString(value), remoteTtl);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("캐시 L2 저장 실패: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private boolean tryLock(String cacheKey) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_PREFIX + name + ":" + cacheKey, invalidationBus.getNodeId(), LOCK_TTL);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            // Redis 장애 시 락 없이 적재 (노드 내 중복 적재는 loading 맵이 막아준다)
+            remoteErrors.increment();
+            return true;
+        }
+    }
+
+    private void unlock(String cacheKey) {
+        try {
+            redisTemplate.delete(LOCK_PREFIX + name + ":" + cacheKey);
+        } catch (Exception e) {
+            // 락은 TTL로 자동 해제된다
+            log.debug("캐시 적재 락 해제 실패: cache={}, key={}", name, cacheKey);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(LOCK_WAIT_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private V await(CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private String redisKey(String cacheKey) {
+        return KEY_PREFIX + name + ":" + cacheKey;
+    }
+
+    private Counter remoteCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("moas.cache.remote")
+                .description("L2(Redis) 조회 결과")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter loadCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("moas.cache.loads")
+                .description("원본(loader) 적재 결과")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.s401.moas.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * TwoTierCache 생성기
+ * 생성된 캐시는 무효화 버스에 등록되고, L1 통계는 cache.* 메트릭(cache 태그)으로 노출된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TwoTierCacheManager {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param name         캐시 이름 ({@link CacheNames})
+     * @param valueType    캐시 값 타입 (Jackson으로 역직렬화 가능해야 함)
+     * @param localMaxSize L1 최대 항목 수
+     * @param localTtl     L1 TTL (무효화 메시지 유실 시 최대 stale 시간)
+     * @param remoteTtl    L2 TTL
+     */
+    public <V> TwoTierCache<V> create(String name, Class<V> valueType, long localMaxSize,
+                                      Duration localTtl, Duration remoteTtl) {
+        Cache<String, V> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+
+        TwoTierCache<V> cache = new TwoTierCache<>(name, local, stringRedisTemplate, objectMapper,
+                objectMapper.constructType(valueType), remoteTtl, invalidationBus, meterRegistry);
+        invalidationBus.register(cache);
+        return cache;
+    }
+}
@@ -3,9 +3,12 @@ package com.s401.moas.global.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
@@ -18,12 +21,20 @@ public class AppConfig {
         return mapper;
     }
 
+    /**
+     * HttpURLConnection(SimpleClientHttpRequestFactory)은 내부 synchronized 구간에서 가상 스레드를 pinning 하므로
+     * java.net.http.HttpClient 기반 팩토리를 사용한다.
+     * HttpClient는 기본이 HTTP/2라 평문 http 요청에도 h2c 업그레이드 헤더를 붙이므로, 기존 동작과 같도록 HTTP/1.1로 고정한다.
+     */
     @Bean
     public RestTemplate restTemplate(
             @Value("${llm.timeout.connect:10000}") int connectTimeout,
             @Value("${llm.timeout.read:10000}") int readTimeout) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(connectTimeout);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
         factory.setReadTimeout(readTimeout);
         return new RestTemplate(factory);
     }
@@ -0,0 +1,123 @@
+package com.s401.moas.global.config;
+
+import com.s401.moas.global.async.AsyncExecutors;
+import com.s401.moas.global.async.AsyncProperties;
+import com.s401.moas.global.async.RecordingRejectedExecutionHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 도메인별 비동기 스레드 풀 설정
+ * 벡터 인덱싱 / 온체인 명령 / 알림 / SSE 송신 / 미디어 작업을 서로 다른 풀에서 실행하여
+ * 한 도메인의 작업 폭주가 다른 도메인의 처리를 막지 않도록 격리한다.
+ * 각 풀은 moas.executor.* 메트릭(active, queued, completed, rejected)을 pool 태그로 노출한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final AsyncProperties asyncProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(AsyncExecutors.INDEXING)
+    public ThreadPoolTaskExecutor indexingExecutor() {
+        return buildExecutor("indexing", asyncProperties.getIndexing());
+    }
+
+    @Bean(AsyncExecutors.ONCHAIN)
+    public ThreadPoolTaskExecutor onchainExecutor() {
+        return buildExecutor("onchain", asyncProperties.getOnchain());
+    }
+
+    @Bean(AsyncExecutors.NOTIFICATION)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return buildExecutor("notification", asyncProperties.getNotification());
+    }
+
+    @Bean(AsyncExecutors.SSE)
+    public ThreadPoolTaskExecutor sseExecutor() {
+        return buildExecutor("sse", asyncProperties.getSse());
+    }
+
+    @Bean(AsyncExecutors.MEDIA)
+    public ThreadPoolTaskExecutor mediaExecutor() {
+        return buildExecutor("media", asyncProperties.getMedia());
+    }
+
+    @Bean(AsyncExecutors.COMMON)
+    public ThreadPoolTaskExecutor commonExecutor() {
+        return buildExecutor("common", asyncProperties.getCommon());
+    }
+
+    /**
+     * 이름을 지정하지 않은 @Async 메서드는 SimpleAsyncTaskExecutor(무제한 스레드) 대신 공용 풀에서 실행
+     */
+    @Override
+    public Executor getAsyncExecutor() {
+        return commonExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("비동기 작업 처리 중 예외 발생: method={}", method.toGenericString(), ex);
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(String poolName, AsyncProperties.Pool pool) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds(pool.getKeepAliveSeconds());
+        executor.setThreadNamePrefix("async-" + poolName + "-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        if (asyncProperties.isVirtualThreads()) {
+            executor.setThreadFactory(Thread.ofVirtual().name("async-" + poolName + "-vt-", 0).factory());
+        }
+
+        Counter rejected = Counter.builder("moas.executor.rejected")
+                .tag("pool", poolName)
+                .description("큐 포화로 거절된 작업 수")
+                .register(meterRegistry);
+        executor.setRejectedExecutionHandler(
+                new RecordingRejectedExecutionHandler(poolName, pool.getRejectionPolicy(), rejected));
+
+        Gauge.builder("moas.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        Gauge.builder("moas.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        FunctionCounter.builder("moas.executor.completed", executor, AsyncConfig::completedTaskCount)
+                .tag("pool", poolName)
+                .register(meterRegistry);
+
+        log.info("비동기 스레드 풀 구성: pool={}, core={}, max={}, queue={}, policy={}, virtual={}",
+                poolName, pool.getCoreSize(), pool.getMaxSize(), pool.getQueueCapacity(),
+                pool.getRejectionPolicy(), asyncProperties.isVirtualThreads());
+        return executor;
+    }
+
+    private static double completedTaskCount(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getCompletedTaskCount();
+        } catch (IllegalStateException e) {
+            // 아직 초기화되지 않은 풀
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.s401.moas.global.config;
+
+import com.s401.moas.admin.feepolicy.service.dto.FeePolicyTimelineDto;
+import com.s401.moas.global.cache.CacheInvalidationBus;
+import com.s401.moas.global.cache.CacheNames;
+import com.s401.moas.global.cache.TwoTierCache;
+import com.s401.moas.global.cache.TwoTierCacheManager;
+import com.s401.moas.member.service.dto.MemberProfileDto;
+import com.s401.moas.project.service.dto.ProjectDetailSkeleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * 2단계 캐시(로컬 Caffeine + Redis) 설정
+ * 로컬 TTL은 무효화 메시지가 유실되었을 때의 최대 stale 시간이므로 짧게 유지한다.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        return container;
+    }
+
+    @Bean
+    public TwoTierCache<MemberProfileDto> memberProfileCache(TwoTierCacheManager cacheManager) {
+        return cacheManager.create(CacheNames.MEMBER_PROFILE, MemberProfileDto.class,
+                10_000, Duration.ofMinutes(1), Duration.ofMinutes(10));
+    }
+
+    @Bean
+    public TwoTierCache<ProjectDetailSkeleton> projectDetailCache(TwoTierCacheManager cacheManager) {
+        return cacheManager.create(CacheNames.PROJECT_DETAIL, ProjectDetailSkeleton.class,
+                5_000, Duration.ofMinutes(1), Duration.ofMinutes(30));
+    }
+
+    @Bean
+    public TwoTierCache<FeePolicyTimelineDto> feePolicyCache(TwoTierCacheManager cacheManager) {
+        return cacheManager.create(CacheNames.FEE_POLICY, FeePolicyTimelineDto.class,
+                1, Duration.ofMinutes(5), Duration.ofHours(1));
+    }
+}
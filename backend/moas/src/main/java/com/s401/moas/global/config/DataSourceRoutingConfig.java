@@ -0,0 +1,99 @@
+package com.s401.moas.global.config;
+
+import com.s401.moas.global.datasource.DataSourceType;
+import com.s401.moas.global.datasource.ReadYourWritesTracker;
+import com.s401.moas.global.datasource.ReplicaLagMonitor;
+import com.s401.moas.global.datasource.ReplicaProperties;
+import com.s401.moas.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정 (datasource.replica.enabled=true 일 때만 활성화)
+ * spring.datasource 는 primary, datasource.replica 는 replica 풀로 구성되며
+ * @Transactional(readOnly = true) 트랜잭션은 replica로 라우팅된다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setDriverClassName(properties.getDriverClassName());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(properties.getMinimumIdle());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaProperties properties,
+                                               MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, properties);
+        Gauge.builder("moas.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                .description("마지막으로 확인한 replica 복제 지연(초), 확인 실패 시 -1")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("moas.datasource.replica.available", monitor, m -> m.isReplicaAvailable() ? 1 : 0)
+                .description("replica 라우팅 사용 여부")
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties properties,
+                                                       StringRedisTemplate redisTemplate) {
+        // 쓰기 노드와 읽기 노드가 달라도 고정되도록 Redis로 공유
+        return new ReadYourWritesTracker(redisTemplate, properties.getStickyWindowMs());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primaryDataSource,
+                DataSourceType.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        log.info("읽기/쓰기 데이터소스 라우팅 활성화");
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,21 @@
+package com.s401.moas.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * SSE 노드 간 중계 설정
+ * 샤드 채널 구독은 로컬 연결 상태에 따라 SseRelay가 실행 중에 추가/해제한다.
+ */
+@Configuration
+public class SseConfig {
+
+    @Bean
+    public RedisMessageListenerContainer sseRelayListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+}
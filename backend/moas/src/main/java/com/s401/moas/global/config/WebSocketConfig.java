@@ -0,0 +1,78 @@
+package com.s401.moas.global.config;
+
+import com.s401.moas.chat.websocket.ChatMessageBroadcaster;
+import com.s401.moas.chat.websocket.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+import java.util.List;
+
+/**
+ * 채팅 STOMP over WebSocket 설정
+ *
+ * - 엔드포인트: /ws/chat (핸드셰이크는 인증 없이 허용, CONNECT 프레임의 Authorization 헤더로 인증)
+ * - 구독: /topic/chat/rooms/{chatroomId} (참여 중인 채팅방만 구독 가능)
+ * - 메시지 전송은 기존 REST API를 사용하고, 서버는 커밋 후 구독자에게 완성된 메시지를 브로드캐스트한다.
+ * - 심플 브로커는 노드별로 동작하므로 브로드캐스트/구독 회수는 Redis 채널로 다른 노드에 중계한다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final Environment environment;
+
+    @Bean
+    public RedisMessageListenerContainer chatRelayListenerContainer(
+            RedisConnectionFactory redisConnectionFactory, ChatMessageBroadcaster chatMessageBroadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(chatMessageBroadcaster, new ChannelTopic(ChatMessageBroadcaster.CHANNEL));
+        return container;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        List<String> allowedOrigins = Binder.get(environment)
+                .bind("app.cors.allowed-origins", List.class)
+                .orElse(List.of());
+
+        registry.addEndpoint("/ws/chat")
+                .setAllowedOriginPatterns(allowedOrigins.toArray(String[]::new));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{10_000, 10_000})
+                .setTaskScheduler(heartbeatScheduler());
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
+    private ThreadPoolTaskScheduler heartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,9 @@
+package com.s401.moas.global.datasource;
+
+/**
+ * 라우팅 대상 데이터소스
+ */
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,85 @@
+package com.s401.moas.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 마지막 쓰기 커밋 시각을 기록한다.
+ * 쓰기 직후 짧은 시간 동안은 복제 지연으로 자신의 변경이 보이지 않을 수 있으므로
+ * 해당 회원의 읽기 트랜잭션을 primary로 고정(read-your-writes)하는 데 사용한다.
+ *
+ * 쓰기와 다음 읽기가 다른 노드로 갈 수 있으므로 고정 표시는 Redis(rw:sticky:{memberId}, TTL = 고정 시간)에도 남기고,
+ * 이 노드에 기록이 없으면 Redis를 확인한다. Redis를 쓸 수 없으면 이 노드의 기록만으로 판단한다.
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "rw:sticky:";
+
+    private final Map<Integer, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMillis;
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this(null, windowMillis);
+    }
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, long windowMillis) {
+        this.redisTemplate = redisTemplate;
+        this.windowMillis = windowMillis;
+    }
+
+    public void recordWrite(Integer memberId) {
+        lastWriteAt.put(memberId, System.currentTimeMillis());
+        if (redisTemplate == null || windowMillis <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(memberId), "1", Duration.ofMillis(windowMillis));
+        } catch (Exception e) {
+            log.warn("읽기 고정 표시 저장 실패: memberId={}, error={}", memberId, e.getMessage());
+        }
+    }
+
+    public boolean isSticky(Integer memberId) {
+        Long writtenAt = lastWriteAt.get(memberId);
+        if (writtenAt != null) {
+            if (System.currentTimeMillis() - writtenAt < windowMillis) {
+                return true;
+            }
+            lastWriteAt.remove(memberId, writtenAt);
+        }
+        return isStickyRemote(memberId);
+    }
+
+    /**
+     * 만료된 기록 정리 (조회되지 않은 회원의 기록이 쌓이지 않도록)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - windowMillis;
+        lastWriteAt.entrySet().removeIf(entry -> entry.getValue() <= threshold);
+    }
+
+    // 다른 노드에서 커밋된 쓰기 확인
+    private boolean isStickyRemote(Integer memberId) {
+        if (redisTemplate == null) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(redisKey(memberId)));
+        } catch (Exception e) {
+            log.warn("읽기 고정 표시 조회 실패: memberId={}, error={}", memberId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String redisKey(Integer memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
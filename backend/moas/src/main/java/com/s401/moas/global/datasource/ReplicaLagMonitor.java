@@ -0,0 +1,82 @@
+package com.s401.moas.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 복제본의 복제 지연을 주기적으로 확인한다.
+ * 지연이 허용치를 넘거나, 복제가 중단되었거나(지연 값 NULL), 조회 자체가 실패하면
+ * 복제본을 사용 불가로 표시하여 읽기 트랜잭션이 primary로 가도록 한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaProperties properties;
+
+    // 첫 점검 전까지는 복제본을 사용하지 않는다
+    private volatile boolean replicaAvailable = false;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaProperties properties) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        Long lag;
+        try {
+            lag = replicaJdbcTemplate.query(properties.getLagQuery(), this::extractLag);
+        } catch (Exception e) {
+            log.warn("Replica 지연 조회 실패 - primary로 대체합니다: {}", e.getMessage());
+            update(null);
+            return;
+        }
+        update(lag);
+    }
+
+    void update(Long lag) {
+        boolean available = lag != null && lag <= properties.getMaxLagSeconds();
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("Replica 사용 재개: lag={}s", lag);
+            } else {
+                log.warn("Replica 사용 중지 (primary로 대체): lag={}s, maxLag={}s", lag, properties.getMaxLagSeconds());
+            }
+        }
+        this.lagSeconds = lag != null ? lag : -1;
+        this.replicaAvailable = available;
+    }
+
+    private Long extractLag(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            // 복제 채널이 없는 단독 인스턴스 - 복제본으로 간주하지 않는다
+            return null;
+        }
+        Object value;
+        try {
+            value = rs.getObject("Seconds_Behind_Source");
+        } catch (SQLException e) {
+            // MySQL 8.0.22 미만
+            value = rs.getObject("Seconds_Behind_Master");
+        }
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * 마지막으로 확인한 복제 지연(초). 확인 실패 또는 복제 중단 시 -1
+     */
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,44 @@
+package com.s401.moas.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용 복제본(Replica) 설정
+ * enabled 가 true 일 때만 읽기/쓰기 라우팅 데이터소스가 구성된다.
+ */
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+@Getter
+@Setter
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName = "com.mysql.cj.jdbc.Driver";
+
+    private int maximumPoolSize = 10;
+    private int minimumIdle = 2;
+    private long connectionTimeout = 3000;
+
+    /**
+     * 허용 복제 지연(초). 초과하면 읽기 트랜잭션도 primary로 보낸다.
+     */
+    private long maxLagSeconds = 5;
+
+    /**
+     * 복제 지연 조회 쿼리. 결과의 Seconds_Behind_Source(또는 Seconds_Behind_Master) 컬럼을 사용한다.
+     * 로컬에서 복제 구성 없이 두 인스턴스로 테스트할 때는 "SELECT 0 AS Seconds_Behind_Source" 로 대체할 수 있다.
+     */
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    /**
+     * 회원이 쓰기 트랜잭션을 커밋한 뒤 읽기를 primary에 고정하는 시간(ms)
+     */
+    private long stickyWindowMs = 5000;
+}
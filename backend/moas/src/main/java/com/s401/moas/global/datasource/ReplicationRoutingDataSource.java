@@ -0,0 +1,64 @@
+package com.s401.moas.global.datasource;
+
+import com.s401.moas.global.security.SecurityUtil;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 속성에 따라 primary / replica 데이터소스를 선택한다.
+ * - readOnly 트랜잭션: replica (복제 지연 초과 또는 회원의 최근 쓰기가 있으면 primary)
+ * - 그 외: primary, 커밋 후 회원의 쓰기 시각을 기록
+ *
+ * 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 readOnly 여부를 판단해야 하므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteCommit();
+            return DataSourceType.PRIMARY;
+        }
+
+        if (!lagMonitor.isReplicaAvailable()) {
+            return DataSourceType.PRIMARY;
+        }
+
+        Integer memberId = currentMemberId();
+        if (memberId != null && readYourWritesTracker.isSticky(memberId)) {
+            return DataSourceType.PRIMARY;
+        }
+
+        return DataSourceType.REPLICA;
+    }
+
+    private void trackWriteCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Integer memberId = currentMemberId();
+        if (memberId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(memberId);
+            }
+        });
+    }
+
+    private Integer currentMemberId() {
+        return SecurityUtil.isAuthenticated() ? SecurityUtil.getCurrentMemberId() : null;
+    }
+}
@@ -68,6 +68,9 @@ public class SecurityWhitelist {
             // SSE 연결 시도 API
             //new WhitelistEntry(HttpMethod.GET, "/api/stream"),
 
+            // 채팅 WebSocket 핸드셰이크 (인증은 STOMP CONNECT 프레임에서 수행)
+            new WhitelistEntry(HttpMethod.GET, "/ws/chat/**"),
+
             // 메타데이터 접근 API
             new WhitelistEntry(HttpMethod.GET, Pattern.compile("^/api/metadata/\\d+$")),
             new WhitelistEntry(HttpMethod.HEAD, Pattern.compile("^/api/metadata/\\d+$")));
@@ -1,5 +1,6 @@
 package com.s401.moas.global.service;
 
+import com.s401.moas.global.audit.BlockingCalls;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -33,13 +34,13 @@ public class EmbeddingService {
                 "prompt", text
         );
 
-        Map<String, Object> res = web.post()
+        Map<String, Object> res = BlockingCalls.audit(BlockingCalls.EMBEDDING, "embeddings", () -> web.post()
                 .uri(embedUrl)
                 .bodyValue(body)
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
                 })
-                .block();
+                .block());
 
         List<Double> arr = (List<Double>) res.get("embedding");
         float[] v = new float[arr.size()];
@@ -18,6 +18,7 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.s401.moas.global.audit.BlockingCalls;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -85,11 +86,12 @@ public class LlmClient {
                 HttpEntity<String> requestEntity = new HttpEntity<>(requestBodyJson, headers);
 
                 @SuppressWarnings("unchecked")
-                ResponseEntity<Map> responseEntity = restTemplate.exchange(
-                        apiUrl,
-                        HttpMethod.POST,
-                        requestEntity,
-                        Map.class);
+                ResponseEntity<Map> responseEntity = BlockingCalls.audit(BlockingCalls.LLM, "chat/completions",
+                        () -> restTemplate.exchange(
+                                apiUrl,
+                                HttpMethod.POST,
+                                requestEntity,
+                                Map.class));
 
                 // 응답 파싱
                 @SuppressWarnings("unchecked")
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -20,11 +21,12 @@ public class SseController {
 
     /**
      * SSE 연결
+     * 재연결 시 Last-Event-ID 이후 놓친 이벤트를 먼저 보낸다.
      */
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter stream() {
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         Integer memberId = SecurityUtil.getCurrentMemberId();
-        log.info("SSE 연결 요청: memberId={}", memberId);
-        return sseService.connect(memberId);
+        log.info("SSE 연결 요청: memberId={}, lastEventId={}", memberId, lastEventId);
+        return sseService.connect(memberId, lastEventId);
     }
 }
\ No newline at end of file
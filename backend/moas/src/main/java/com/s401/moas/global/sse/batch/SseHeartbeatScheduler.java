@@ -0,0 +1,123 @@
+package com.s401.moas.global.sse.batch;
+
+import com.s401.moas.global.sse.service.SseConnection;
+import com.s401.moas.global.sse.service.SseEmitterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 하트비트 및 멈춘 연결 정리
+ *
+ * 프록시가 유휴 스트림을 끊지 않도록 마지막 쓰기 후 일정 시간이 지난 연결에 주석 한 줄을 보낸다.
+ * 연결들을 tick마다 한 묶음씩(interval / tick 개로 나눔) 처리하여 한 시점에 모든 연결에 쓰지 않는다.
+ * 쓰기가 write-timeout 넘게 끝나지 않은 연결은 매 tick 확인하여 레지스트리에서 제거하고,
+ * emitter 종료는 멈춘 쓰기의 잠금을 기다리므로 연결마다 가상 스레드에서 처리하여 타이머 스레드가 막히지 않게 한다.
+ * SSE 실행기 포화로 전송 작업이 거절되어 멈춘 송신 큐도 매 tick 다시 전송을 시작한다.
+ *
+ * 다른 배치(@Scheduled)가 오래 걸려도 하트비트가 밀리지 않도록 전용 타이머 스레드 하나에서 실행한다.
+ * 실제 쓰기는 각 연결의 송신 큐를 통해 SSE 실행기에서 수행된다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+
+    private final SseEmitterRegistry registry;
+    private final Duration interval;
+    private final Duration tick;
+    private final Duration writeTimeout;
+    private final int buckets;
+
+    private final Counter heartbeats;
+    private final Counter reaped;
+
+    private ScheduledExecutorService timer;
+    private long tickCount;
+
+    public SseHeartbeatScheduler(SseEmitterRegistry registry,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${sse.heartbeat.interval:15s}") Duration interval,
+                                 @Value("${sse.heartbeat.tick:1s}") Duration tick,
+                                 @Value("${sse.heartbeat.write-timeout:30s}") Duration writeTimeout) {
+        this.registry = registry;
+        this.interval = interval;
+        this.tick = tick;
+        this.writeTimeout = writeTimeout;
+        this.buckets = (int) Math.max(1, interval.toMillis() / tick.toMillis());
+
+        this.heartbeats = Counter.builder("moas.sse.heartbeats")
+                .description("보낸 SSE 하트비트 수")
+                .register(meterRegistry);
+        this.reaped = Counter.builder("moas.sse.reaped")
+                .tag("reason", "write_timeout")
+                .description("정리한 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleAtFixedRate(this::tickSafely, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("SSE 하트비트 시작: interval={}, tick={}, writeTimeout={}", interval, tick, writeTimeout);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+
+    /**
+     * 이번 묶음의 유휴 연결에 하트비트를 넣고, 모든 연결 중 쓰기가 멈춘 연결을 정리한다.
+     */
+    void tick() {
+        int bucket = (int) (tickCount++ % buckets);
+        long now = System.nanoTime();
+        // 묶음마다 interval에 한 번씩 확인하므로 절반 이상 유휴면 보내 최대 공백을 1.5 interval로 제한
+        long idleNanos = interval.toNanos() / 2;
+        long writeTimeoutNanos = writeTimeout.toNanos();
+
+        int sent = 0;
+        int stalled = 0;
+        for (SseConnection connection : registry.connections()) {
+            if (connection.isStalled(now, writeTimeoutNanos)) {
+                connection.reap();
+                stalled++;
+                continue;
+            }
+            if (Math.floorMod(System.identityHashCode(connection), buckets) != bucket) {
+                connection.resume();
+            } else if (connection.heartbeatIfIdle(now, idleNanos)) {
+                sent++;
+            }
+        }
+
+        heartbeats.increment(sent);
+        reaped.increment(stalled);
+        if (stalled > 0) {
+            log.warn("SSE 멈춘 연결 정리: reaped={}, connections={}", stalled, registry.size());
+        }
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (Exception e) {
+            log.error("!! [배치 오류] SSE 하트비트 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.s401.moas.global.sse.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SSE 연결 하나와 그 연결의 송신 큐
+ *
+ * 이벤트는 큐에 넣기만 하고, 실제 소켓 쓰기는 SSE 실행기에서 연결별로 한 번에 하나의 작업이 큐를 비우며 수행한다.
+ * 느린 클라이언트는 자기 큐만 채우며, 큐가 가득 차면 정책에 따라 가장 오래된 이벤트를 버리거나(DROP_OLDEST)
+ * 연결을 끊는다(DISCONNECT). 끊긴 클라이언트는 Last-Event-ID로 재연결하여 놓친 이벤트를 다시 받는다.
+ *
+ * 큐에는 미리 UTF-8 바이트로 만든 {@link SseFrame}이 들어가 연결마다 직렬화/인코딩하지 않고 그대로 쓴다.
+ * 하트비트(주석 한 줄)도 같은 큐로 보내며, 마지막 쓰기 시각과 진행 중인 쓰기 시작 시각은
+ * {@link com.s401.moas.global.sse.batch.SseHeartbeatScheduler}가 유휴/멈춘 연결을 찾는 데 사용한다.
+ */
+@Slf4j
+public class SseConnection {
+
+    // 한 번의 작업에서 보내는 최대 이벤트 수 (한 연결이 실행기 스레드를 오래 점유하지 않도록)
+    private static final int MAX_SENDS_PER_DRAIN = 32;
+
+    // emitter 종료는 진행 중인 쓰기의 잠금을 기다리므로 호출 스레드 대신 종료마다 가상 스레드에서 수행
+    private static final Executor DEFAULT_COMPLETER =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-complete-", 0).factory());
+
+    enum OverflowPolicy {
+        DROP_OLDEST, DISCONNECT
+    }
+
+    /**
+     * 연결 공통 메트릭
+     *
+     * @param send         연결 하나에 이벤트를 쓰는 시간 (count의 증가율이 초당 전송 이벤트 수)
+     * @param sendFailures 쓰기 실패 수
+     * @param overflows    송신 큐 초과 수
+     */
+    record Metrics(Timer send, Counter sendFailures, Counter overflows) {
+    }
+
+    private final Integer memberId;
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Metrics metrics;
+    private final Executor completer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<SseFrame> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+
+    private volatile long lastWriteNanos = System.nanoTime();
+    // 진행 중인 쓰기의 시작 시각 (쓰는 중이 아니면 0)
+    private volatile long writeStartedNanos;
+    private volatile Runnable closeListener = () -> {
+    };
+
+    SseConnection(Integer memberId, SseEmitter emitter, Executor executor, int capacity,
+                  OverflowPolicy overflowPolicy, Metrics metrics) {
+        this(memberId, emitter, executor, capacity, overflowPolicy, metrics, DEFAULT_COMPLETER);
+    }
+
+    SseConnection(Integer memberId, SseEmitter emitter, Executor executor, int capacity,
+                  OverflowPolicy overflowPolicy, Metrics metrics, Executor completer) {
+        this.memberId = memberId;
+        this.emitter = emitter;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.metrics = metrics;
+        this.completer = completer;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * 이 객체가 연결을 닫았을 때 호출할 작업 (레지스트리 제거 등, 여러 번 호출될 수 있음)
+     */
+    void onClose(Runnable listener) {
+        this.closeListener = listener;
+    }
+
+    boolean enqueue(SseEventLog.SseEventRecord event) {
+        return enqueue(SseFrame.of(event));
+    }
+
+    /**
+     * 송신 큐에 이벤트 추가
+     *
+     * @return 큐에 넣었는지 여부 (이미 닫혔거나 큐가 넘쳐 연결을 끊었으면 false)
+     */
+    boolean enqueue(SseFrame event) {
+        boolean disconnect = false;
+        boolean schedule = false;
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (queue.size() >= capacity) {
+                metrics.overflows().increment();
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    closed = true;
+                    queue.clear();
+                    disconnect = true;
+                } else {
+                    queue.pollFirst();
+                }
+            }
+            if (!disconnect) {
+                queue.addLast(event);
+                schedule = !draining;
+                draining = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (disconnect) {
+            log.warn("SSE 송신 큐 초과로 연결을 종료합니다: memberId={}, capacity={}", memberId, capacity);
+            closeListener.run();
+            completeLater(null);
+            return false;
+        }
+        if (schedule) {
+            scheduleDrain();
+        }
+        return true;
+    }
+
+    /**
+     * 마지막 쓰기 후 idleNanos 이상 지났고 보낼 이벤트가 없으면 하트비트 추가
+     * 실행기 포화로 멈춘 송신 큐도 여기서 다시 전송을 시작한다.
+     *
+     * @return 하트비트를 넣었는지 여부
+     */
+    public boolean heartbeatIfIdle(long nowNanos, long idleNanos) {
+        boolean heartbeat = false;
+        boolean schedule = false;
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (queue.isEmpty() && nowNanos - lastWriteNanos >= idleNanos) {
+                queue.addLast(SseFrame.HEARTBEAT);
+                heartbeat = true;
+            }
+            if (!queue.isEmpty() && !draining) {
+                draining = true;
+                schedule = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (schedule) {
+            scheduleDrain();
+        }
+        return heartbeat;
+    }
+
+    /**
+     * 실행기 포화로 전송 작업을 예약하지 못해 멈춘 송신 큐를 다시 전송 시작
+     *
+     * @return 전송 작업을 다시 예약했는지 여부
+     */
+    public boolean resume() {
+        lock.lock();
+        try {
+            if (closed || queue.isEmpty() || draining) {
+                return false;
+            }
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 진행 중인 쓰기가 writeTimeoutNanos 넘게 끝나지 않았는지 여부
+     */
+    public boolean isStalled(long nowNanos, long writeTimeoutNanos) {
+        long started = writeStartedNanos;
+        return started != 0 && nowNanos - started > writeTimeoutNanos;
+    }
+
+    /**
+     * 쓰기가 멈춘 연결 정리
+     *
+     * 이 스레드에서는 연결을 닫고 레지스트리/relay에서 제거만 한다. emitter 종료는 멈춘 쓰기가 잡고 있는
+     * emitter의 쓰기 잠금을 기다려야 하므로 completer에 넘기고 기다리지 않는다 (호출한 타이머 스레드가 막히지 않도록).
+     * 종료 처리는 멈춘 소켓 쓰기를 풀지 못하며, 그 쓰기는 컨테이너의 쓰기 타임아웃이나 연결 끊김으로 끝난다.
+     */
+    public void reap() {
+        close();
+        closeListener.run();
+        log.warn("SSE 쓰기 시간 초과로 연결을 정리합니다: memberId={}", memberId);
+        completeLater(new TimeoutException("SSE write timeout"));
+    }
+
+    /**
+     * 연결 수 상한으로 밀려난 연결 종료 (레지스트리에서는 이미 빠진 상태, emitter 종료는 기다리지 않음)
+     */
+    void evict() {
+        close();
+        completeLater(null);
+    }
+
+    /**
+     * 연결 종료 시 남은 이벤트 폐기
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleDrain() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 실행기가 포화 상태 - 이벤트는 큐에 남겨 두고 다음 추가나 하트비트 tick(resume)에서 다시 시도
+            lock.lock();
+            try {
+                draining = false;
+            } finally {
+                lock.unlock();
+            }
+            log.warn("SSE 송신 작업 거절: memberId={}, error={}", memberId, e.getMessage());
+        }
+    }
+
+    private void drain() {
+        for (int sent = 0; ; sent++) {
+            SseFrame event;
+            lock.lock();
+            try {
+                event = closed ? null : queue.peekFirst();
+                if (event == null) {
+                    draining = false;
+                    return;
+                }
+                if (sent == MAX_SENDS_PER_DRAIN) {
+                    break;
+                }
+                queue.pollFirst();
+            } finally {
+                lock.unlock();
+            }
+
+            long start = System.nanoTime();
+            writeStartedNanos = start;
+            try {
+                emitter.send(event.parts());
+                lastWriteNanos = System.nanoTime();
+            } catch (Exception e) {
+                // 연결 종료 후 레지스트리에서 제거 (relay 구독 해제도 함께)
+                close();
+                lock.lock();
+                try {
+                    draining = false;
+                } finally {
+                    lock.unlock();
+                }
+                metrics.sendFailures().increment();
+                log.warn("SSE 이벤트 전송 실패: memberId={}, eventType={}, error={}",
+                        memberId, event.eventType(), e.getMessage());
+                completeQuietly(e);
+                closeListener.run();
+                return;
+            } finally {
+                writeStartedNanos = 0;
+                metrics.send().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        // 남은 이벤트는 새 작업으로 이어서 전송 (다른 연결에 차례를 넘김)
+        scheduleDrain();
+    }
+
+    private void completeLater(Exception cause) {
+        try {
+            completer.execute(() -> completeQuietly(cause));
+        } catch (RejectedExecutionException e) {
+            log.warn("SSE 연결 종료 작업 거절: memberId={}, error={}", memberId, e.getMessage());
+        }
+    }
+
+    private void completeQuietly(Exception cause) {
+        try {
+            if (cause == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(cause);
+            }
+        } catch (Exception ignored) {
+            // 이미 종료된 연결
+        }
+    }
+}
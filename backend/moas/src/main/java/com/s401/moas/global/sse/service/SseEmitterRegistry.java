@@ -0,0 +1,141 @@
+package com.s401.moas.global.sse.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드에 연결된 SSE 연결 보관소
+ * SseService(연결/로컬 전송)와 SseRelay(다른 노드에서 넘어온 이벤트 전송)가 함께 사용한다.
+ *
+ * 한 회원이 여러 탭/기기에서 동시에 연결할 수 있으며, 회원별 연결 목록은 변경 시마다 새 불변 리스트로 교체한다.
+ * 전송(조회)은 잠금 없이 현재 리스트를 읽고, 연결/해제만 해당 회원 키에서 직렬화된다.
+ * 전송은 각 연결의 송신 큐에 넣기만 하므로 느린 연결이 다른 연결이나 호출 스레드를 막지 않는다.
+ */
+@Component
+public class SseEmitterRegistry {
+
+    /**
+     * @param firstConnection 이 회원의 첫 연결인지 여부
+     * @param evicted         회원별 연결 수 상한을 넘어 밀려난 가장 오래된 연결 (없으면 null)
+     */
+    record Registration(boolean firstConnection, SseConnection evicted) {
+    }
+
+    private final Map<Integer, List<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final int maxConnectionsPerMember;
+
+    public SseEmitterRegistry(@Value("${sse.max-connections-per-member:5}") int maxConnectionsPerMember) {
+        this.maxConnectionsPerMember = maxConnectionsPerMember;
+    }
+
+    Registration register(Integer memberId, SseConnection connection) {
+        boolean[] first = new boolean[1];
+        SseConnection[] evicted = new SseConnection[1];
+        connections.compute(memberId, (id, current) -> {
+            if (current == null) {
+                first[0] = true;
+                return List.of(connection);
+            }
+            List<SseConnection> next = new ArrayList<>(current.size() + 1);
+            next.addAll(current);
+            next.add(connection);
+            if (next.size() > maxConnectionsPerMember) {
+                evicted[0] = next.remove(0);
+            }
+            return List.copyOf(next);
+        });
+        return new Registration(first[0], evicted[0]);
+    }
+
+    /**
+     * 주어진 연결 하나만 제거 (같은 회원의 다른 연결은 유지)
+     *
+     * @return 이 회원의 마지막 연결이 제거되었는지 여부
+     */
+    boolean remove(Integer memberId, SseConnection connection) {
+        boolean[] last = new boolean[1];
+        connections.computeIfPresent(memberId, (id, current) -> {
+            List<SseConnection> next = new ArrayList<>(current);
+            if (!next.removeIf(c -> c == connection)) {
+                return current;
+            }
+            if (next.isEmpty()) {
+                last[0] = true;
+                return null;
+            }
+            return List.copyOf(next);
+        });
+        return last[0];
+    }
+
+    public boolean isConnected(Integer memberId) {
+        return connections.containsKey(memberId);
+    }
+
+    /**
+     * 이 노드에 있는 회원의 모든 연결의 송신 큐에 이벤트 추가
+     *
+     * @return 이벤트를 받은 연결 수
+     */
+    int deliver(Integer memberId, SseEventLog.SseEventRecord event) {
+        return deliver(memberId, SseFrame.of(event));
+    }
+
+    /**
+     * 이 노드에 있는 회원의 모든 연결에 같은 프레임 추가 (연결마다 다시 인코딩하지 않음)
+     *
+     * @return 이벤트를 받은 연결 수
+     */
+    int deliver(Integer memberId, SseFrame event) {
+        List<SseConnection> current = connections.get(memberId);
+        if (current == null) {
+            return 0;
+        }
+
+        int accepted = 0;
+        for (SseConnection connection : current) {
+            if (connection.enqueue(event)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * 현재 연결 전체 (하트비트/정리용 스냅샷)
+     */
+    public List<SseConnection> connections() {
+        return connections.values().stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    /**
+     * 이 노드의 전체 연결 수
+     */
+    public int size() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 이 노드에 연결된 회원 수
+     */
+    public int memberCount() {
+        return connections.size();
+    }
+
+    /**
+     * 전체 연결의 송신 대기 이벤트 수
+     */
+    public int queued() {
+        return connections.values().stream()
+                .flatMap(List::stream)
+                .mapToInt(SseConnection::queued)
+                .sum();
+    }
+}
@@ -0,0 +1,225 @@
+package com.s401.moas.global.sse.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원별 최근 SSE 이벤트 기록 (Last-Event-ID 재전송용)
+ *
+ * 이벤트 ID는 Redis Stream(sse:events:{memberId})의 항목 ID("밀리초-순번")로, 회원별로 단조 증가한다.
+ * 스트림은 회원당 capacity개까지만 보관하고, 마지막 이벤트 후 ttl이 지나면 삭제된다.
+ * 이 노드에서 보내거나 중계받은 이벤트는 로컬 링 버퍼(Caffeine)에도 남겨 Redis 장애 시 재전송에 사용한다.
+ * Redis 장애 중에는 로컬에서 같은 형식의 ID를 이어서 발급한다.
+ */
+@Slf4j
+@Component
+public class SseEventLog {
+
+    private static final String KEY_PREFIX = "sse:events:";
+
+    // ARGV: capacity, ttlMillis, event, data
+    private static final RedisScript<String> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            local id = redis.call('XADD', KEYS[1], 'MAXLEN', ARGV[1], '*', 'event', ARGV[3], 'data', ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return id
+            """, String.class);
+
+    /**
+     * 기록된 SSE 이벤트
+     */
+    public record SseEventRecord(String id, String event, String data) {
+    }
+
+    /**
+     * 재전송 대상
+     *
+     * @param events    Last-Event-ID 이후 이벤트 (오래된 순)
+     * @param truncated 보관 범위를 벗어나 일부 이벤트를 재전송할 수 없는지 여부
+     */
+    public record Replay(List<SseEventRecord> events, boolean truncated) {
+    }
+
+    /**
+     * 회원별 링 버퍼 (오래된 순, 불변)
+     */
+    private record Ring(List<SseEventRecord> events) {
+
+        Ring append(SseEventRecord event, int capacity) {
+            List<SseEventRecord> next = new ArrayList<>(events.size() + 1);
+            next.addAll(events);
+            next.add(event);
+            int overflow = next.size() - capacity;
+            return new Ring(List.copyOf(overflow > 0 ? next.subList(overflow, next.size()) : next));
+        }
+
+        String lastId() {
+            return events.isEmpty() ? null : events.get(events.size() - 1).id();
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final int capacity;
+    private final Duration ttl;
+    private final Cache<Integer, Ring> local;
+
+    private final Counter remoteErrors;
+
+    public SseEventLog(StringRedisTemplate redisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${sse.replay.capacity:100}") int capacity,
+                       @Value("${sse.replay.max-members:50000}") long maxMembers,
+                       @Value("${sse.replay.ttl:1h}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = capacity;
+        this.ttl = ttl;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxMembers)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "sse-event-log");
+
+        this.remoteErrors = Counter.builder("moas.sse.event_log.errors")
+                .description("SSE 이벤트 기록 Redis 오류 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 기록 후 ID 발급
+     */
+    public SseEventRecord append(Integer memberId, String eventType, String jsonData) {
+        String id = null;
+        try {
+            id = redisTemplate.execute(APPEND_SCRIPT, List.of(redisKey(memberId)),
+                    String.valueOf(capacity), String.valueOf(ttl.toMillis()), eventType, jsonData);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("SSE 이벤트 기록 실패 - 로컬 ID 사용: memberId={}, error={}", memberId, e.getMessage());
+        }
+
+        SseEventRecord[] appended = new SseEventRecord[1];
+        String remoteId = id;
+        local.asMap().compute(memberId, (key, ring) -> {
+            Ring current = ring == null ? new Ring(List.of()) : ring;
+            String eventId = remoteId != null ? remoteId : nextLocalId(current.lastId());
+            appended[0] = new SseEventRecord(eventId, eventType, jsonData);
+            return current.append(appended[0], capacity);
+        });
+        return appended[0];
+    }
+
+    /**
+     * 다른 노드에서 기록되어 중계받은 이벤트를 로컬 링 버퍼에 추가
+     */
+    public void remember(Integer memberId, SseEventRecord event) {
+        local.asMap().compute(memberId, (key, ring) -> {
+            Ring current = ring == null ? new Ring(List.of()) : ring;
+            String lastId = current.lastId();
+            if (lastId != null && compareIds(event.id(), lastId) <= 0) {
+                return current;
+            }
+            return current.append(event, capacity);
+        });
+    }
+
+    /**
+     * lastEventId 이후 이벤트 조회 (Redis 우선, 실패 시 로컬 링 버퍼)
+     */
+    public Replay replay(Integer memberId, String lastEventId) {
+        long[] last = parseId(lastEventId);
+        if (last == null) {
+            return new Replay(List.of(), false);
+        }
+
+        List<SseEventRecord> events;
+        try {
+            events = readRemote(memberId);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("SSE 이벤트 기록 조회 실패 - 로컬 버퍼 사용: memberId={}, error={}", memberId, e.getMessage());
+            Ring ring = local.getIfPresent(memberId);
+            events = ring == null ? List.of() : ring.events();
+        }
+
+        List<SseEventRecord> missed = events.stream()
+                .filter(event -> compareIds(event.id(), lastEventId) > 0)
+                .toList();
+        // 보관 중인 이벤트가 없거나(스트림 만료) 가장 오래된 이벤트도 Last-Event-ID보다 뒤면 그 사이 이벤트는 잘려 나갔을 수 있다.
+        // Last-Event-ID가 ttl보다 오래됐으면 스트림이 만료 후 다시 만들어졌을 수 있으므로 마찬가지로 본다.
+        boolean truncated = events.isEmpty()
+                || compareIds(events.get(0).id(), lastEventId) > 0
+                || last[0] < System.currentTimeMillis() - ttl.toMillis();
+        return new Replay(missed, truncated);
+    }
+
+    private List<SseEventRecord> readRemote(Integer memberId) {
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().range(redisKey(memberId), Range.unbounded());
+        if (records == null) {
+            return List.of();
+        }
+        List<SseEventRecord> events = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            events.add(new SseEventRecord(record.getId().getValue(),
+                    String.valueOf(record.getValue().get("event")),
+                    String.valueOf(record.getValue().get("data"))));
+        }
+        return events;
+    }
+
+    /**
+     * 이벤트 ID 비교 ("밀리초-순번")
+     */
+    static int compareIds(String a, String b) {
+        long[] left = parseId(a);
+        long[] right = parseId(b);
+        int result = Long.compare(left[0], right[0]);
+        return result != 0 ? result : Long.compare(left[1], right[1]);
+    }
+
+    /**
+     * @return [밀리초, 순번] (형식이 맞지 않으면 null)
+     */
+    static long[] parseId(String id) {
+        if (id == null) {
+            return null;
+        }
+        int dash = id.indexOf('-');
+        if (dash <= 0 || dash == id.length() - 1) {
+            return null;
+        }
+        try {
+            return new long[]{Long.parseLong(id.substring(0, dash)), Long.parseLong(id.substring(dash + 1))};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String nextLocalId(String lastId) {
+        long now = System.currentTimeMillis();
+        long[] last = parseId(lastId);
+        if (last == null || now > last[0]) {
+            return now + "-0";
+        }
+        return last[0] + "-" + (last[1] + 1);
+    }
+
+    private static String redisKey(Integer memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
@@ -0,0 +1,60 @@
+package com.s401.moas.global.sse.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 미리 UTF-8 바이트로 만들어 둔 SSE 이벤트 (text/event-stream 형식)
+ *
+ * 회원의 모든 연결(탭/기기)이 같은 프레임을 공유하며, 연결마다 문자열을 다시 조립하거나 인코딩하지 않고
+ * 바이트 그대로 {@link ResponseBodyEmitter#send(Set)}로 쓴다.
+ * data 부분의 바이트는 같은 데이터를 받는 다른 회원의 프레임과도 공유할 수 있다.
+ */
+final class SseFrame {
+
+    private static final byte[] FRAME_END = "\n\n".getBytes(StandardCharsets.UTF_8);
+
+    static final SseFrame HEARTBEAT = new SseFrame("heartbeat",
+            ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8));
+
+    private final String eventType;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> parts;
+
+    private SseFrame(String eventType, byte[]... parts) {
+        Set<ResponseBodyEmitter.DataWithMediaType> items = new LinkedHashSet<>();
+        for (byte[] part : parts) {
+            items.add(new ResponseBodyEmitter.DataWithMediaType(part, MediaType.TEXT_PLAIN));
+        }
+        this.eventType = eventType;
+        this.parts = Collections.unmodifiableSet(items);
+    }
+
+    static SseFrame of(SseEventLog.SseEventRecord event) {
+        return of(event, event.data().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param data 이벤트 데이터(JSON)의 UTF-8 바이트 (여러 프레임이 공유할 수 있으므로 변경하지 않음)
+     */
+    static SseFrame of(SseEventLog.SseEventRecord event, byte[] data) {
+        StringBuilder header = new StringBuilder(64);
+        if (event.id() != null) {
+            header.append("id:").append(event.id()).append('\n');
+        }
+        header.append("event:").append(event.event()).append('\n').append("data:");
+        return new SseFrame(event.event(), header.toString().getBytes(StandardCharsets.UTF_8), data, FRAME_END);
+    }
+
+    String eventType() {
+        return eventType;
+    }
+
+    Set<ResponseBodyEmitter.DataWithMediaType> parts() {
+        return parts;
+    }
+}
@@ -0,0 +1,283 @@
+package com.s401.moas.global.sse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Redis pub/sub 기반 SSE 이벤트 중계
+ *
+ * 한 회원이 여러 노드에 동시에 연결될 수 있으므로 이벤트는 로컬 전송과 별개로 회원 ID로 나눈 샤드 채널
+ * (sse:relay:{memberId % shards})로도 보내고, 해당 회원이 연결된 다른 노드가 받아서 전송한다.
+ * 각 노드는 로컬 연결이 있는 샤드만 구독하며, 자신이 발행한 묶음은 이미 로컬로 보냈으므로 건너뛴다.
+ *
+ * 발행은 곧바로 하지 않고 큐에 모았다가 flush-interval-ms마다 샤드별로 묶어 한 번에 보낸다 (max-batch 단위).
+ * pub/sub은 전달을 보장하지 않으므로 유실된 이벤트는 클라이언트가 재연결 시 동기화 API로 다시 받는다.
+ */
+@Slf4j
+@Component
+public class SseRelay implements MessageListener {
+
+    static final String CHANNEL_PREFIX = "sse:relay:";
+
+    record RelayEvent(Integer memberId, String id, String event, String data) {
+    }
+
+    record RelayBatch(String origin, List<RelayEvent> events) {
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseEmitterRegistry registry;
+    private final SseEventLog eventLog;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final int shards;
+    private final long flushIntervalMs;
+    private final int maxBatch;
+    private final int maxPending;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentLinkedQueue<RelayEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    // 샤드별 로컬 연결 회원 수 (0 → 1일 때 구독, 1 → 0일 때 구독 해제)
+    private final int[] shardConnections;
+    private final AtomicInteger subscribedShards = new AtomicInteger();
+    private final ReentrantLock subscriptionLock = new ReentrantLock();
+
+    private final Counter published;
+    private final Counter batches;
+    private final Counter unreceived;
+    private final Counter delivered;
+    private final Counter droppedOverflow;
+    private final Counter droppedPublishFailure;
+
+    private ScheduledExecutorService flusher;
+
+    public SseRelay(StringRedisTemplate stringRedisTemplate,
+                    ObjectMapper objectMapper,
+                    SseEmitterRegistry registry,
+                    SseEventLog eventLog,
+                    @Qualifier("sseRelayListenerContainer") RedisMessageListenerContainer listenerContainer,
+                    MeterRegistry meterRegistry,
+                    @Value("${sse.relay.shards:256}") int shards,
+                    @Value("${sse.relay.flush-interval-ms:10}") long flushIntervalMs,
+                    @Value("${sse.relay.max-batch:100}") int maxBatch,
+                    @Value("${sse.relay.max-pending:10000}") int maxPending) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+        this.eventLog = eventLog;
+        this.listenerContainer = listenerContainer;
+        this.shards = shards;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxBatch = maxBatch;
+        this.maxPending = maxPending;
+        this.shardConnections = new int[shards];
+
+        Gauge.builder("moas.sse.relay.pending", pendingCount, AtomicInteger::get)
+                .description("발행 대기 중인 SSE 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("moas.sse.relay.subscribed_shards", subscribedShards, AtomicInteger::get)
+                .description("이 노드가 구독 중인 SSE 샤드 채널 수")
+                .register(meterRegistry);
+        this.published = Counter.builder("moas.sse.relay.published")
+                .description("Redis로 발행한 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.batches = Counter.builder("moas.sse.relay.batches")
+                .description("Redis PUBLISH 횟수")
+                .register(meterRegistry);
+        this.unreceived = Counter.builder("moas.sse.relay.unreceived")
+                .description("구독 중인 노드가 없어 전달되지 않은 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("moas.sse.delivered")
+                .tag("path", "relay")
+                .description("전송한 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.droppedOverflow = Counter.builder("moas.sse.relay.dropped")
+                .tag("reason", "overflow")
+                .description("발행하지 못하고 버린 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.droppedPublishFailure = Counter.builder("moas.sse.relay.dropped")
+                .tag("reason", "publish_failure")
+                .description("발행하지 못하고 버린 SSE 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-relay-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 시 남은 이벤트 발행
+     */
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flushSafely();
+    }
+
+    /**
+     * 다른 노드로 보낼 이벤트 등록
+     */
+    public void publish(Integer memberId, SseEventLog.SseEventRecord event) {
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            droppedOverflow.increment();
+            log.warn("SSE relay 대기열 초과로 이벤트를 버립니다: memberId={}, eventType={}", memberId, event.event());
+            return;
+        }
+        pending.add(new RelayEvent(memberId, event.id(), event.event(), event.data()));
+    }
+
+    /**
+     * 이 노드에 회원의 첫 연결이 생김 - 해당 샤드의 첫 연결이면 구독
+     */
+    public void onConnect(Integer memberId) {
+        int shard = shardOf(memberId);
+        subscriptionLock.lock();
+        try {
+            if (shardConnections[shard]++ == 0) {
+                subscribedShards.incrementAndGet();
+                // 구독 실패 시에도 리스너는 컨테이너에 남아 Redis 재연결 시 다시 구독된다
+                listenerContainer.addMessageListener(this, new ChannelTopic(channel(shard)));
+            }
+        } catch (Exception e) {
+            log.warn("SSE relay 구독 실패: shard={}, error={}", shard, e.getMessage());
+        } finally {
+            subscriptionLock.unlock();
+        }
+    }
+
+    /**
+     * 이 노드에서 회원의 마지막 연결이 끊김 - 해당 샤드의 마지막 연결이면 구독 해제
+     */
+    public void onDisconnect(Integer memberId) {
+        int shard = shardOf(memberId);
+        subscriptionLock.lock();
+        try {
+            if (shardConnections[shard] > 0 && --shardConnections[shard] == 0) {
+                subscribedShards.decrementAndGet();
+                listenerContainer.removeMessageListener(this, new ChannelTopic(channel(shard)));
+            }
+        } catch (Exception e) {
+            log.warn("SSE relay 구독 해제 실패: shard={}, error={}", shard, e.getMessage());
+        } finally {
+            subscriptionLock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 이벤트를 샤드별로 묶어 발행
+     */
+    void flush() {
+        if (pendingCount.get() == 0) {
+            return;
+        }
+
+        Map<Integer, List<RelayEvent>> byShard = new HashMap<>();
+        RelayEvent event;
+        while ((event = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            byShard.computeIfAbsent(shardOf(event.memberId()), shard -> new ArrayList<>()).add(event);
+        }
+
+        byShard.forEach((shard, events) -> {
+            for (int from = 0; from < events.size(); from += maxBatch) {
+                publishBatch(shard, events.subList(from, Math.min(from + maxBatch, events.size())));
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RelayBatch batch;
+        try {
+            batch = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), RelayBatch.class);
+        } catch (Exception e) {
+            log.warn("SSE relay 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(batch.origin())) {
+            return;
+        }
+
+        for (RelayEvent event : batch.events()) {
+            if (!registry.isConnected(event.memberId())) {
+                continue;
+            }
+            SseEventLog.SseEventRecord record = new SseEventLog.SseEventRecord(event.id(), event.event(), event.data());
+            eventLog.remember(event.memberId(), record);
+            int sent = registry.deliver(event.memberId(), record);
+            if (sent > 0) {
+                delivered.increment(sent);
+            }
+        }
+    }
+
+    private void publishBatch(int shard, List<RelayEvent> events) {
+        try {
+            String payload = objectMapper.writeValueAsString(new RelayBatch(nodeId, events));
+            Long receivers = stringRedisTemplate.convertAndSend(channel(shard), payload);
+            batches.increment();
+            published.increment(events.size());
+            if (receivers != null && receivers == 0) {
+                unreceived.increment(events.size());
+            }
+        } catch (Exception e) {
+            droppedPublishFailure.increment(events.size());
+            log.warn("SSE relay 발행 실패: shard={}, events={}, error={}", shard, events.size(), e.getMessage());
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("SSE relay 발행 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private int shardOf(Integer memberId) {
+        return Math.floorMod(memberId, shards);
+    }
+
+    private static String channel(int shard) {
+        return CHANNEL_PREFIX + shard;
+    }
+}
@@ -1,45 +1,169 @@
 package com.s401.moas.global.sse.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.s401.moas.global.async.AsyncExecutors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * SSE 연결 관리 및 이벤트 전송
+ * 회원당 여러 연결(탭/기기)을 허용하며, 이 노드의 연결로 바로 보내고 {@link SseRelay}를 통해 다른 노드의 연결로도 넘긴다.
+ * 모든 이벤트는 {@link SseEventLog}에 기록되어 ID가 붙고, 재연결 시 Last-Event-ID 이후 이벤트를 다시 보낸다.
+ * 보관 범위를 벗어나 재전송할 수 없으면 "resync" 이벤트로 클라이언트가 목록을 다시 조회하도록 알린다.
+ *
+ * {@link #send}/{@link #sendAll}은 호출 트랜잭션이 커밋된 뒤 전송 레인에서 처리되므로
+ * JSON 직렬화, Redis 기록이 비즈니스 트랜잭션을 붙잡지 않는다. 레인은 회원 ID로 나눈 단일 스레드 실행기라
+ * 같은 회원의 이벤트는 요청 순서대로 ID를 받고 연결 큐에 들어간다 (ID 역전 시 Last-Event-ID 재전송이 어긋남).
+ * 레인이 포화되면 이벤트를 버린다. 소켓 쓰기는 연결별 송신 큐를 SSE 실행기(sseExecutor)에서 비우며 수행한다.
+ *
+ * 같은 데이터 객체를 여러 회원에게 보내면 한 번만 직렬화하고 UTF-8 바이트를 공유하며,
+ * 회원의 여러 연결에는 같은 {@link SseFrame}을 그대로 쓴다. 이벤트별 로그는 sample-rate건마다 한 번만 DEBUG로 남긴다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor  // ObjectMapper 주입을 위해
 public class SseService {
 
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 60분
-    private final Map<Integer, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final ObjectMapper objectMapper;  // 추가!
+    private static final String RESYNC_EVENT = "resync";
 
-    public SseEmitter connect(Integer memberId) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitters.put(memberId, emitter);
+    private final SseEmitterRegistry registry;
+    private final SseRelay relay;
+    private final SseEventLog eventLog;
+    private final ObjectMapper objectMapper;
+    private final Executor sseExecutor;
+    private final ExecutorService[] lanes;
 
-        log.info("SSE 연결 성공: memberId={}", memberId);
+    private final int outboundCapacity;
+    private final SseConnection.OverflowPolicy overflowPolicy;
+    private final long logSampleRate;
+    private final AtomicLong logSequence = new AtomicLong();
+
+    private final Counter deliveredLocal;
+    private final Counter replayed;
+    private final Counter resyncs;
+    private final Counter dispatchRejected;
+    private final Timer dispatchWait;
+    private final SseConnection.Metrics connectionMetrics;
+
+    public SseService(SseEmitterRegistry registry,
+                      SseRelay relay,
+                      SseEventLog eventLog,
+                      ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Qualifier(AsyncExecutors.SSE) Executor sseExecutor,
+                      @Value("${sse.dispatch.lanes:4}") int dispatchLanes,
+                      @Value("${sse.dispatch.queue-capacity:1000}") int dispatchQueueCapacity,
+                      @Value("${sse.outbound.queue-capacity:256}") int outboundCapacity,
+                      @Value("${sse.outbound.overflow-policy:DISCONNECT}") SseConnection.OverflowPolicy overflowPolicy,
+                      @Value("${sse.log.sample-rate:100}") long logSampleRate) {
+        this.registry = registry;
+        this.relay = relay;
+        this.eventLog = eventLog;
+        this.objectMapper = objectMapper;
+        this.sseExecutor = sseExecutor;
+        this.lanes = new ExecutorService[Math.max(1, dispatchLanes)];
+        for (int i = 0; i < lanes.length; i++) {
+            String name = "sse-dispatch-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(dispatchQueueCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        this.outboundCapacity = outboundCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.logSampleRate = Math.max(1, logSampleRate);
+
+        Gauge.builder("moas.sse.connections", registry, SseEmitterRegistry::size)
+                .description("이 노드에 연결된 SSE 수")
+                .register(meterRegistry);
+        Gauge.builder("moas.sse.connected_members", registry, SseEmitterRegistry::memberCount)
+                .description("이 노드에 SSE로 연결된 회원 수")
+                .register(meterRegistry);
+        Gauge.builder("moas.sse.outbound.queued", registry, SseEmitterRegistry::queued)
+                .description("연결별 송신 큐에서 대기 중인 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.deliveredLocal = Counter.builder("moas.sse.delivered")
+                .tag("path", "local")
+                .description("전송한 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.replayed = Counter.builder("moas.sse.replayed")
+                .description("재연결 시 다시 보낸 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("moas.sse.resyncs")
+                .description("재전송 범위를 벗어나 전체 재조회를 요청한 횟수")
+                .register(meterRegistry);
+        this.dispatchRejected = Counter.builder("moas.sse.dispatch.rejected")
+                .description("전송 레인 포화로 버린 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.dispatchWait = Timer.builder("moas.sse.dispatch.wait")
+                .description("SSE 이벤트가 전송 레인에서 처리되기까지 기다린 시간")
+                .register(meterRegistry);
+        this.connectionMetrics = new SseConnection.Metrics(
+                Timer.builder("moas.sse.send")
+                        .description("SSE 연결 하나에 이벤트(하트비트 포함)를 쓰는 데 걸린 시간")
+                        .register(meterRegistry),
+                Counter.builder("moas.sse.send.failures")
+                        .description("SSE 쓰기 실패 수")
+                        .register(meterRegistry),
+                Counter.builder("moas.sse.outbound.overflow")
+                        .tag("policy", overflowPolicy.name())
+                        .description("송신 큐가 가득 차 이벤트를 버리거나 연결을 끊은 횟수")
+                        .register(meterRegistry));
+    }
+
+    /**
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID (첫 연결이면 null)
+     */
+    public SseEmitter connect(Integer memberId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+        SseConnection connection = new SseConnection(memberId, emitter, sseExecutor,
+                outboundCapacity, overflowPolicy, connectionMetrics);
+        connection.onClose(() -> release(memberId, connection));
 
         emitter.onCompletion(() -> {
-            emitters.remove(memberId);
+            release(memberId, connection);
             log.info("SSE 연결 종료: memberId={}", memberId);
         });
 
         emitter.onTimeout(() -> {
-            emitters.remove(memberId);
+            release(memberId, connection);
             log.info("SSE 타임아웃: memberId={}", memberId);
         });
 
         emitter.onError((e) -> {
-            emitters.remove(memberId);
+            release(memberId, connection);
             log.error("SSE 에러 발생: memberId={}", memberId, e);
         });
 
+        // 등록 전에 보내 송신 큐 작업과 동시에 쓰지 않도록 함
         try {
             emitter.send(SseEmitter.event()
                     .name("connect")
@@ -48,29 +172,208 @@ public class SseService {
             log.error("SSE 연결 확인 이벤트 전송 실패: memberId={}", memberId, e);
         }
 
+        SseEmitterRegistry.Registration registration = registry.register(memberId, connection);
+        if (registration.firstConnection()) {
+            relay.onConnect(memberId);
+        }
+        if (registration.evicted() != null) {
+            // 연결 수 상한 초과 - 가장 오래된 연결 종료 (emitter 종료는 그 연결의 쓰기를 기다리므로 요청 스레드에서 하지 않음)
+            registration.evicted().evict();
+            log.info("SSE 연결 수 초과로 이전 연결 종료: memberId={}", memberId);
+        }
+
+        log.info("SSE 연결 성공: memberId={}", memberId);
+
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            replay(memberId, connection, lastEventId);
+        }
+
         return emitter;
     }
 
+    /**
+     * 전송할 이벤트 하나 (회원, 이벤트 이름, JSON으로 직렬화할 데이터)
+     */
+    public record OutboundEvent(Integer memberId, String eventType, Object data) {
+    }
+
+    /**
+     * 이벤트 전송 예약
+     * 트랜잭션 안에서 호출되면 커밋 후에, 밖에서 호출되면 즉시 전송 레인에 넘긴다 (롤백된 변경은 전송되지 않음).
+     */
     public void send(Integer memberId, String eventType, Object data) {
-        SseEmitter emitter = emitters.get(memberId);
+        sendAll(List.of(new OutboundEvent(memberId, eventType, data)));
+    }
+
+    /**
+     * 같은 이벤트를 여러 회원에게 전송 예약 (데이터는 한 번만 직렬화)
+     */
+    public void send(List<Integer> memberIds, String eventType, Object data) {
+        sendAll(memberIds.stream()
+                .map(memberId -> new OutboundEvent(memberId, eventType, data))
+                .toList());
+    }
+
+    /**
+     * 여러 이벤트 전송 예약
+     * 커밋 후 레인별 작업 하나에서 순서대로 전송하므로 대량 알림도 작업/트랜잭션 동기화가 이벤트 수만큼 늘지 않는다.
+     */
+    public void sendAll(List<OutboundEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(events);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션과 관계없이 바로 전송 레인에 넘김
+     * 커밋 후 콜백(afterCommit) 안에서는 새로 등록한 트랜잭션 동기화가 실행되지 않으므로 이 메서드를 사용한다.
+     */
+    public void sendNow(List<OutboundEvent> events) {
+        if (!events.isEmpty()) {
+            dispatch(events);
+        }
+    }
+
+    /**
+     * 이벤트를 회원별 레인으로 나눠 넘김 (레인 안에서는 요청 순서 유지)
+     */
+    private void dispatch(List<OutboundEvent> events) {
+        long requestedAt = System.nanoTime();
+        Map<Integer, List<OutboundEvent>> byLane = new LinkedHashMap<>();
+        for (OutboundEvent event : events) {
+            byLane.computeIfAbsent(laneOf(event.memberId()), lane -> new ArrayList<>()).add(event);
+        }
 
-        if (emitter != null) {
+        // 같은 데이터 객체는 레인이 달라도 한 번만 직렬화
+        PayloadCache payloads = new PayloadCache();
+        byLane.forEach((lane, laneEvents) -> {
             try {
-                // ObjectMapper로 JSON 변환
-                String jsonData = objectMapper.writeValueAsString(data);
-
-                emitter.send(SseEmitter.event()
-                        .name(eventType)
-                        .data(jsonData));
-
-                log.info("SSE 이벤트 전송 성공: memberId={}, eventType={}, data={}",
-                        memberId, eventType, jsonData);
-            } catch (IOException e) {
-                emitters.remove(memberId);
-                log.error("SSE 이벤트 전송 실패: memberId={}, eventType={}", memberId, eventType, e);
+                lanes[lane].execute(() -> {
+                    dispatchWait.record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+                    for (OutboundEvent event : laneEvents) {
+                        try {
+                            Payload payload = payloads.get(event);
+                            if (payload != null) {
+                                deliver(event.memberId(), event.eventType(), payload);
+                            }
+                        } catch (RuntimeException e) {
+                            // 한 이벤트의 실패가 나머지 전송을 막지 않도록 함
+                            log.error("SSE 이벤트 전송 실패: memberId={}, eventType={}",
+                                    event.memberId(), event.eventType(), e);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                dispatchRejected.increment(laneEvents.size());
+                log.warn("SSE 이벤트 전송 작업 거절: lane={}, events={}, firstMemberId={}",
+                        lane, laneEvents.size(), laneEvents.get(0).memberId());
             }
-        } else {
-            log.debug("SSE 미접속 사용자: memberId={}, eventType={}", memberId, eventType);
+        });
+    }
+
+    /**
+     * 종료 시 레인에 남은 작업 처리
+     */
+    @PreDestroy
+    public void stop() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ExecutorService lane : lanes) {
+                lane.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int laneOf(Integer memberId) {
+        return Math.floorMod(memberId, lanes.length);
+    }
+
+    /**
+     * dispatch 한 번 안에서 데이터 객체별 직렬화 결과 공유 (여러 레인에서 접근)
+     */
+    private final class PayloadCache {
+
+        private final Map<Object, Payload> payloads = new IdentityHashMap<>();
+
+        synchronized Payload get(OutboundEvent event) {
+            if (payloads.containsKey(event.data())) {
+                return payloads.get(event.data());
+            }
+            Payload payload = serialize(event);
+            payloads.put(event.data(), payload);
+            return payload;
+        }
+    }
+
+    /**
+     * 직렬화한 이벤트 데이터 (이벤트 기록/중계용 문자열과 연결에 쓰는 UTF-8 바이트)
+     */
+    private record Payload(String json, byte[] bytes) {
+    }
+
+    private Payload serialize(OutboundEvent event) {
+        try {
+            String json = objectMapper.writeValueAsString(event.data());
+            return new Payload(json, json.getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패: memberId={}, eventType={}", event.memberId(), event.eventType(), e);
+            return null;
+        }
+    }
+
+    private void deliver(Integer memberId, String eventType, Payload payload) {
+        SseEventLog.SseEventRecord event = eventLog.append(memberId, eventType, payload.json());
+        int sent = registry.isConnected(memberId)
+                ? registry.deliver(memberId, SseFrame.of(event, payload.bytes()))
+                : 0;
+        if (sent > 0) {
+            deliveredLocal.increment(sent);
+        }
+        if (log.isDebugEnabled() && logSequence.getAndIncrement() % logSampleRate == 0) {
+            log.debug("SSE 이벤트 전송 (표본 1/{}): memberId={}, eventId={}, eventType={}, bytes={}, localConnections={}",
+                    logSampleRate, memberId, event.id(), eventType, payload.bytes().length, sent);
+        }
+
+        // 다른 노드에 있는 연결로 전달
+        relay.publish(memberId, event);
+    }
+
+    /**
+     * Last-Event-ID 이후 놓친 이벤트를 송신 큐에 넣음
+     * 연결 등록 후에 조회하므로 그 사이 새로 보낸 이벤트는 중복으로 한 번 더 갈 수 있다 (클라이언트는 ID로 구분 가능).
+     */
+    private void replay(Integer memberId, SseConnection connection, String lastEventId) {
+        SseEventLog.Replay replay = eventLog.replay(memberId, lastEventId);
+        if (replay.truncated()) {
+            connection.enqueue(new SseEventLog.SseEventRecord(null, RESYNC_EVENT, "{}"));
+            resyncs.increment();
+        }
+        for (SseEventLog.SseEventRecord event : replay.events()) {
+            connection.enqueue(event);
+        }
+        replayed.increment(replay.events().size());
+        log.info("SSE 재연결 이벤트 재전송: memberId={}, lastEventId={}, replayed={}, truncated={}",
+                memberId, lastEventId, replay.events().size(), replay.truncated());
+    }
+
+    private void release(Integer memberId, SseConnection connection) {
+        connection.close();
+        if (registry.remove(memberId, connection)) {
+            relay.onDisconnect(memberId);
         }
     }
-}
\ No newline at end of file
+}
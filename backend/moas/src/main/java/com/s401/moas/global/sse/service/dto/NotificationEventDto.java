@@ -13,4 +13,8 @@ public class NotificationEventDto {
     private Long notificationId;
     private String alarmType;
     private Long relatedId;
+    // 묶인 이벤트 수 (예: 10초 동안 들어온 지원 5건이면 5)
+    private Integer eventCount;
+    // 이 알림을 포함한 안 읽은 알림 수 (배지 표시용, 알 수 없으면 null)
+    private Long unreadCount;
 }
\ No newline at end of file
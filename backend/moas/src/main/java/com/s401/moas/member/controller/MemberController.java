@@ -84,20 +84,19 @@ public class MemberController implements MemberControllerSpec {
 
         MemberProfileDto profileDto = memberService.getPublicProfile(memberId);
 
-        Member member = profileDto.getMember();
         MemberProfileDto.ReviewStatsDto stats = profileDto.getReviewStats();
 
         MemberPublicProfileResponse response = MemberPublicProfileResponse.builder()
-                .memberId(member.getId())
-                .nickname(member.getNickname())
-                .profileImageUrl(member.getProfileImageUrl())
-                .chainExploreUrl(blockExplorerUtil.buildWalletNftTransfersUrl(member.getWalletAddress()))
-                .role(member.getRole().name())
+                .memberId(profileDto.getMemberId())
+                .nickname(profileDto.getNickname())
+                .profileImageUrl(profileDto.getProfileImageUrl())
+                .chainExploreUrl(blockExplorerUtil.buildWalletNftTransfersUrl(profileDto.getWalletAddress()))
+                .role(profileDto.getRole().name())
                 .averageRating(stats.getAverageRating())
                 .reviewCount(stats.getReviewCount())
                 .build();
 
-        log.info("공개 프로필 조회 성공: memberId={}, role={}", memberId, member.getRole());
+        log.info("공개 프로필 조회 성공: memberId={}, role={}", memberId, profileDto.getRole());
 
         return ResponseEntity.ok(response);
     }
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,19 @@ public interface MemberRepository extends JpaRepository<Member, Integer> {
      */
     Optional<Member> findByIdAndDeletedAtIsNull(Integer memberId);
 
+    /**
+     * 탈퇴하지 않은 회원 ID를 ID 키셋으로 조회합니다. (알림 일괄 발송용)
+     * @param lastMemberId 이전 chunk의 마지막 회원 ID (처음이면 0)
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.id > :lastMemberId AND m.deletedAt IS NULL ORDER BY m.id")
+    List<Integer> findActiveMemberIdsAfter(@Param("lastMemberId") Integer lastMemberId, Pageable pageable);
+
+    /**
+     * 주어진 ID 중 존재하고 탈퇴하지 않은 회원 ID만 조회합니다.
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :memberIds AND m.deletedAt IS NULL")
+    List<Integer> findActiveMemberIdsIn(@Param("memberIds") Collection<Integer> memberIds);
+
     // ===== 관리자용 회원 조회 메서드 (DTO Projection) =====
 
     /**
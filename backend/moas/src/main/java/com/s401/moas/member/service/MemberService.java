@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import com.s401.moas.global.cache.TwoTierCache;
 import com.s401.moas.global.util.BlockExplorerUtil;
 import com.s401.moas.global.util.PageInfo;
 import com.s401.moas.member.service.dto.*;
@@ -52,6 +53,7 @@ public class MemberService {
     private final S3Service s3Service;
     private final PaymentRepository paymentRepository;
     private final BlockExplorerUtil blockExplorerUtil;
+    private final TwoTierCache<MemberProfileDto> memberProfileCache;
 
     // 진행중인 계약 상태 목록 (탈퇴 제한 조건)
     // PENDING, DECLINED, WITHDRAWN, COMPLETED, CANCELED를 제외한 상태에서 탈퇴 불가
@@ -103,6 +105,7 @@ public class MemberService {
     /**
      * 회원 공개 프로필 조회
      * DB 조회 후 검증: 미존재/비공개(PENDING)/탈퇴/형식 은닉 처리
+     * 조회 결과는 2단계 캐시에 저장되며 프로필/역할 변경, 탈퇴, 리뷰 작성 시 무효화된다.
      *
      * @param memberId 회원 ID (양수, 컨트롤러에서 이미 검증됨)
      * @return 공개 프로필 정보
@@ -110,6 +113,17 @@ public class MemberService {
      */
     @Transactional(readOnly = true)
     public MemberProfileDto getPublicProfile(Integer memberId) {
+        return memberProfileCache.get(memberId, () -> loadPublicProfile(memberId));
+    }
+
+    /**
+     * 공개 프로필 캐시 무효화 (커밋 후)
+     */
+    private void evictPublicProfile(Integer memberId) {
+        memberProfileCache.evictAfterCommit(memberId);
+    }
+
+    private MemberProfileDto loadPublicProfile(Integer memberId) {
         // 1. Member 엔티티 조회 및 검증 (존재 여부, 상태, 탈퇴 여부)
         Member member = memberRepository.findById(memberId)
                 .filter(m -> m.getRole() != MemberRole.PENDING && m.getDeletedAt() == null)
@@ -251,6 +265,7 @@ public class MemberService {
         // 8. Soft Delete: deletedAt 업데이트
         member.delete();
         memberRepository.save(member);
+        evictPublicProfile(memberId);
 
         log.info("회원 탈퇴 완료: memberId={}, deletedAt={}", memberId, member.getDeletedAt());
 
@@ -380,6 +395,7 @@ public class MemberService {
                 uploadedProfileImageUrl);
 
         memberRepository.save(member);
+        evictPublicProfile(memberId);
 
         log.info("프로필 수정 완료: memberId={}, nickname={}, biography={}, phoneNumber={}, profileImageUrl={}",
                 memberId, member.getNickname(), member.getBiography(), member.getPhoneNumber(),
@@ -446,6 +462,7 @@ public class MemberService {
         try {
             member.updateRole(role);
             memberRepository.save(member);
+            evictPublicProfile(memberId);
             log.info("회원 역할 변경 완료: memberId={}, role={}", memberId, role);
         } catch (IllegalStateException | IllegalArgumentException e) {
             log.warn("회원 역할 변경 실패: memberId={}, role={}, error={}", memberId, role, e.getMessage());
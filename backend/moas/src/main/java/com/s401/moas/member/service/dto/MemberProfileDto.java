@@ -1,15 +1,32 @@
 package com.s401.moas.member.service.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.s401.moas.member.domain.Member;
+import com.s401.moas.member.domain.MemberRole;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+/**
+ * 회원 공개 프로필 (2단계 캐시 저장 대상이므로 엔티티 대신 필요한 값만 보관)
+ */
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MemberProfileDto {
-    private final Member member;
-    private final ReviewStatsDto reviewStats;
+    private Integer memberId;
+    private String nickname;
+    private String profileImageUrl;
+    private String walletAddress;
+    private MemberRole role;
+    private ReviewStatsDto reviewStats;
 
     public MemberProfileDto(Member member, ReviewStatsDto reviewStats) {
-        this.member = member;
+        this.memberId = member.getId();
+        this.nickname = member.getNickname();
+        this.profileImageUrl = member.getProfileImageUrl();
+        this.walletAddress = member.getWalletAddress();
+        this.role = member.getRole();
         this.reviewStats = reviewStats;
     }
 
@@ -18,9 +35,11 @@ public class MemberProfileDto {
         private final Double averageRating;
         private final Integer reviewCount;
 
-        public ReviewStatsDto(Double averageRating, Integer reviewCount) {
+        @JsonCreator
+        public ReviewStatsDto(@JsonProperty("averageRating") Double averageRating,
+                              @JsonProperty("reviewCount") Integer reviewCount) {
             this.averageRating = (averageRating != null) ? averageRating : 0.0;
             this.reviewCount = (reviewCount != null) ? reviewCount : 0;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package com.s401.moas.notification.batch;
+
+import com.s401.moas.global.async.AsyncExecutors;
+import com.s401.moas.notification.service.NotificationCoalescer;
+import com.s401.moas.notification.service.NotificationService;
+import com.s401.moas.notification.service.dto.NotificationCommand;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalesceFlushScheduler {
+
+    private final NotificationCoalescer coalescer;
+    private final NotificationService notificationService;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 묶음 window가 지난 알림을 한 건씩 저장합니다.
+     * 저장에 실패하면 버퍼에 되돌려 다음 주기에 다시 시도합니다.
+     * 저장이 느려도 기본 스케줄링 스레드를 붙잡지 않도록 공용 실행기에서 실행하며, 이전 저장이 끝나지 않았으면 건너뜁니다.
+     */
+    @Async(AsyncExecutors.COMMON)
+    @Scheduled(fixedDelayString = "${notification.coalesce.flush-interval-ms:1000}")
+    public void flush() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("이전 묶음 알림 저장이 아직 실행 중이어서 건너뜁니다.");
+            return;
+        }
+        try {
+            save(coalescer.drainDue(System.nanoTime()));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 종료 시 남은 묶음을 window와 관계없이 저장합니다.
+     */
+    @PreDestroy
+    public void flushAll() {
+        List<NotificationCommand> commands = coalescer.drainAll();
+        if (!commands.isEmpty()) {
+            log.info("종료 전 묶음 알림 저장: count={}", commands.size());
+            save(commands);
+        }
+    }
+
+    private void save(List<NotificationCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        try {
+            notificationService.saveNotifications(commands);
+        } catch (Exception e) {
+            coalescer.restore(commands);
+            log.error("!! [배치 오류] 묶음 알림 저장 중 오류가 발생했습니다: count={}", commands.size(), e);
+        }
+    }
+}
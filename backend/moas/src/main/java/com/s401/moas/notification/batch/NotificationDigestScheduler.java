@@ -0,0 +1,53 @@
+package com.s401.moas.notification.batch;
+
+import com.s401.moas.global.async.AsyncExecutors;
+import com.s401.moas.notification.service.NotificationDigestStore;
+import com.s401.moas.notification.service.NotificationService;
+import com.s401.moas.notification.service.dto.NotificationCommand;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDigestScheduler {
+
+    private final NotificationDigestStore digestStore;
+    private final NotificationService notificationService;
+
+    @Value("${notification.digest.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 매일 오전 9시에 하루 동안 모인 다이제스트 알림을 (회원, 유형, 관련 ID)마다 한 건씩 저장합니다.
+     * 모인 키를 처리용 키로 옮긴 노드 하나만 처리하며, 저장이 끝난 뒤에 처리용 키를 삭제합니다.
+     * 중간에 실패하면 처리용 키는 보관 기간 동안 남아 수동으로 확인할 수 있습니다.
+     */
+    @Async(AsyncExecutors.COMMON)
+    @Scheduled(cron = "${notification.digest.cron:0 0 9 * * *}")
+    public void sendDigest() {
+        String processingKey = digestStore.claim();
+        if (processingKey == null) {
+            return;
+        }
+
+        log.info("[배치 시작] 알림 다이제스트 저장을 시작합니다: key={}", processingKey);
+        try {
+            List<NotificationCommand> commands = digestStore.read(processingKey);
+            for (int from = 0; from < commands.size(); from += chunkSize) {
+                notificationService.saveNotifications(
+                        commands.subList(from, Math.min(from + chunkSize, commands.size())));
+            }
+            digestStore.complete(processingKey);
+            log.info("[배치 종료] 알림 다이제스트 저장 완료: count={}", commands.size());
+        } catch (Exception e) {
+            log.error("!! [배치 오류] 알림 다이제스트 저장 중 오류가 발생했습니다: key={}", processingKey, e);
+        }
+    }
+}
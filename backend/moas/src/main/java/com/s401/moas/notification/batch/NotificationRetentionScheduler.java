@@ -0,0 +1,83 @@
+package com.s401.moas.notification.batch;
+
+import com.s401.moas.global.async.AsyncExecutors;
+import com.s401.moas.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+    private final NotificationService notificationService;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${notification.retention.days:90}")
+    private int retentionDays;
+
+    @Value("${notification.retention.chunk-size:1000}")
+    private long chunkSize;
+
+    @Value("${notification.retention.throttle-ms:100}")
+    private long throttleMs;
+
+    @Value("${notification.retention.max-duration:10m}")
+    private Duration maxDuration;
+
+    /**
+     * 매일 새벽 4시 10분에 보관 기간이 지난 읽은 알림을 삭제합니다.
+     * PK(id) 구간 단위로 나누어 구간마다 별도 트랜잭션으로 삭제하고, 구간 사이에 쉬어 복제 지연과 잠금 경합을 줄입니다.
+     * 쉬는 동안 다른 배치가 밀리지 않도록 공용 실행기에서 실행하며, max-duration을 넘기면 다음 실행으로 넘깁니다.
+     */
+    @Async(AsyncExecutors.COMMON)
+    @Scheduled(cron = "${notification.retention.cron:0 10 4 * * *}")
+    public void pruneReadNotifications() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("이전 알림 정리 배치가 아직 실행 중이어서 건너뜁니다.");
+            return;
+        }
+
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        log.info("[배치 시작] {} 이전 읽은 알림 삭제를 시작합니다.", before);
+
+        long deleted = 0;
+        int chunks = 0;
+        long cursor = 0L;
+        try {
+            // 남아 있는 오래된 안 읽은 알림 구간은 건너뛰고 정리 대상 중 가장 작은 ID부터 시작
+            Long start = notificationService.findFirstPruneStart(before);
+            while (start != null) {
+                long end = start + chunkSize;
+                deleted += notificationService.pruneReadNotifications(start, end, before);
+                chunks++;
+                cursor = end;
+
+                if (System.nanoTime() > deadline) {
+                    log.warn("알림 정리 최대 실행 시간 초과로 중단합니다: cursor={}", cursor);
+                    break;
+                }
+                Thread.sleep(throttleMs);
+                start = notificationService.findPruneStart(cursor, before);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("!! [배치 오류] 알림 정리 중 오류가 발생했습니다: cursor={}", cursor, e);
+        } finally {
+            running.set(false);
+        }
+
+        log.info("[배치 종료] 읽은 알림 삭제 완료: deleted={}, chunks={}", deleted, chunks);
+    }
+}
@@ -24,11 +24,10 @@ public class NotificationController implements NotificationControllerSpec {
     ) {
         Integer myMemberId = SecurityUtil.getCurrentMemberId();
 
-        NotificationListDto dto = notificationService.getNotifications(
-                myMemberId,
-                request.getPage(),
-                request.getSize()
-        );
+        // 첫 페이지와 beforeId 요청은 커서 방식, page 번호만 넘긴 기존 요청은 페이지 방식
+        NotificationListDto dto = request.getBeforeId() != null || request.getPage() == 0
+                ? notificationService.getNotificationsBefore(myMemberId, request.getBeforeId(), request.getSize())
+                : notificationService.getNotifications(myMemberId, request.getPage(), request.getSize());
 
         return ResponseEntity.ok(NotificationListResponse.from(dto));
     }
@@ -54,4 +53,14 @@ public class NotificationController implements NotificationControllerSpec {
 
         return ResponseEntity.ok(MarkAllAsReadResponse.create());
     }
-}
\ No newline at end of file
+
+    @Override
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadCountResponse> getUnreadCount() {
+        Integer myMemberId = SecurityUtil.getCurrentMemberId();
+
+        long unreadCount = notificationService.getUnreadCount(myMemberId);
+
+        return ResponseEntity.ok(UnreadCountResponse.from(unreadCount));
+    }
+}
@@ -21,7 +21,8 @@ public interface NotificationControllerSpec {
     @Operation(
             operationId = "1-getNotifications",
             summary = "알림 목록 조회",
-            description = "내 알림 목록을 최신순으로 조회합니다."
+            description = "내 알림 목록을 최신순으로 조회합니다. " +
+                    "다음 페이지는 응답의 nextBeforeId를 beforeId로 넘겨 조회합니다 (page 번호 방식도 계속 지원)."
     )
     @ApiResponses({
             @ApiResponse(
@@ -132,4 +133,39 @@ public interface NotificationControllerSpec {
     })
     ResponseEntity<MarkAllAsReadResponse> markAllAsRead();
 
+    @Operation(
+            operationId = "4-getUnreadCount",
+            summary = "안 읽은 알림 수 조회",
+            description = "배지 표시용으로 내 안 읽은 알림 수를 조회합니다. 목록을 조회하지 않고 캐시된 값을 바로 반환합니다. " +
+                    "SSE notification 이벤트의 unreadCount와 같은 값입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "안 읽은 알림 수 조회 성공",
+                    content = @Content(schema = @Schema(implementation = UnreadCountResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자 - errorCode: UNAUTHORIZED",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류 - errorCode: INTERNAL_SERVER_ERROR",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    value = "{\"errorCode\":\"INTERNAL_SERVER_ERROR\",\"message\":\"서버 내부 오류가 발생했습니다.\",\"timestamp\":1699999999999}"
+                            )
+                    )
+            )
+    })
+    ResponseEntity<UnreadCountResponse> getUnreadCount();
+
 }
\ No newline at end of file
@@ -13,7 +13,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class GetNotificationsRequest {
 
-    @Schema(description = "페이지 번호 (0부터 시작)", example = "0", defaultValue = "0")
+    @Schema(description = "이 ID보다 오래된 알림부터 조회 (이전 응답의 nextBeforeId, 처음이면 생략)", example = "120")
+    @Min(1)
+    private Long beforeId;
+
+    @Schema(description = "페이지 번호 (0부터 시작, beforeId를 사용하지 않을 때만 적용)", example = "0", defaultValue = "0")
     @Min(0)
     private Integer page = 0;
 
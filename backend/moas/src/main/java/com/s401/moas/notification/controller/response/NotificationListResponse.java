@@ -17,6 +17,12 @@ public class NotificationListResponse {
     @Schema(description = "알림 목록")
     private List<NotificationItemResponse> notifications;
 
+    @Schema(description = "다음 페이지 조회 시 beforeId로 넘길 값", example = "101")
+    private Long nextBeforeId;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private Boolean hasNext;
+
     @Schema(description = "응답 시간", example = "2025-01-15T10:30:00")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime timestamp;
@@ -28,6 +34,8 @@ public class NotificationListResponse {
 
         return NotificationListResponse.builder()
                 .notifications(notifications)
+                .nextBeforeId(dto.getNextBeforeId())
+                .hasNext(dto.getHasNext())
                 .timestamp(LocalDateTime.now())
                 .build();
     }
@@ -46,6 +54,9 @@ public class NotificationListResponse {
         @Schema(description = "관련 ID", example = "123")
         private Long relatedId;
 
+        @Schema(description = "묶인 이벤트 수 (묶음 알림/다이제스트가 아니면 1)", example = "1")
+        private Integer eventCount;
+
         @Schema(description = "읽음 여부", example = "false")
         private Boolean isRead;
 
@@ -58,6 +69,7 @@ public class NotificationListResponse {
                     .notificationId(dto.getNotificationId())
                     .alarmType(dto.getAlarmType())
                     .relatedId(dto.getRelatedId())
+                    .eventCount(dto.getEventCount())
                     .isRead(dto.getIsRead())
                     .createdAt(dto.getCreatedAt())
                     .build();
@@ -0,0 +1,20 @@
+package com.s401.moas.notification.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Schema(description = "안 읽은 알림 수 응답")
+@Getter
+@Builder
+public class UnreadCountResponse {
+
+    @Schema(description = "안 읽은 알림 수", example = "3")
+    private Long unreadCount;
+
+    public static UnreadCountResponse from(long unreadCount) {
+        return UnreadCountResponse.builder()
+                .unreadCount(unreadCount)
+                .build();
+    }
+}
@@ -30,6 +30,10 @@ public class Notification {
     @Column(name = "is_read", nullable = false)
     private Boolean isRead;
 
+    // 이 알림으로 묶인 이벤트 수 (묶음 알림/다이제스트가 아니면 1)
+    @Column(name = "event_count", nullable = false)
+    private Integer eventCount;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -39,6 +43,7 @@ public class Notification {
         this.relatedId = relatedId;
         this.alarmType = alarmType;
         this.isRead = false;
+        this.eventCount = 1;
         this.createdAt = LocalDateTime.now();
     }
 
@@ -0,0 +1,70 @@
+package com.s401.moas.notification.repository;
+
+import com.s401.moas.notification.service.dto.NotificationCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 일괄 저장
+ *
+ * IDENTITY 키는 Hibernate가 batch insert를 하지 못하므로 JDBC batch로 직접 넣는다.
+ * MySQL에서는 rewriteBatchedStatements 설정으로 multi-row INSERT 한 번으로 전송되며,
+ * 호출한 쪽의 트랜잭션(같은 커넥션)에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification (member_id, related_id, alarm_type, is_read, event_count, created_at)
+            VALUES (?, ?, ?, false, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 입력 순서대로 발급된 알림 ID (드라이버가 키를 돌려주지 않으면 빈 목록)
+     */
+    public List<Long> insertAll(List<NotificationCommand> commands, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationCommand command = commands.get(i);
+                        ps.setInt(1, command.memberId());
+                        ps.setLong(2, command.relatedId());
+                        ps.setString(3, command.alarmType());
+                        ps.setInt(4, command.eventCount());
+                        ps.setTimestamp(5, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return commands.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(commands.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            // 키 컬럼 이름이 드라이버마다 달라(MySQL: GENERATED_KEY) 첫 값을 사용
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,12 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     List<Notification> findByMemberIdOrderByIdDesc(Integer memberId, Pageable pageable);
 
+    /**
+     * 특정 회원의 beforeId보다 오래된 알림 조회 (최신순, 커서 페이징)
+     * (member_id, id DESC) 인덱스를 따라 커서 위치부터 size만큼만 읽는다.
+     */
+    List<Notification> findByMemberIdAndIdLessThanOrderByIdDesc(Integer memberId, Long beforeId, Pageable pageable);
+
     /**
      * 특정 회원의 특정 알림 조회 (권한 체크용)
      */
@@ -36,5 +43,28 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     int countByMemberIdAndIsReadFalse(Integer memberId);
 
+    /**
+     * 보관 기간이 지난 읽은 알림 중 가장 작은 ID (보관 기간 정리 시작점, idx_notification_read_created_at 사용)
+     */
+    @Query("SELECT MIN(n.id) FROM Notification n WHERE n.isRead = true AND n.createdAt < :before")
+    Long findMinReadIdBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * fromId 이상인 첫 알림 조회 (보관 기간 정리 구간 탐색용, PK 순서)
+     */
+    Optional<Notification> findFirstByIdGreaterThanEqualOrderByIdAsc(Long fromId);
 
+    /**
+     * id 구간 안의 보관 기간이 지난 읽은 알림 삭제
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM notification
+            WHERE id >= :fromId AND id < :toId
+              AND is_read = true
+              AND created_at < :before
+            """, nativeQuery = true)
+    int deleteReadInRange(@Param("fromId") Long fromId,
+                          @Param("toId") Long toId,
+                          @Param("before") LocalDateTime before);
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.s401.moas.notification.service;
+
+import com.s401.moas.notification.service.dto.NotificationCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 잦은 알림 유형의 묶음 버퍼
+ *
+ * 같은 (회원, 알림 유형, 관련 ID)로 window 안에 들어온 알림을 하나로 모아, 처음 들어온 지 window가 지나면
+ * 이벤트 수를 담은 알림 한 건으로 저장한다 (지원이 몰릴 때 행 수와 SSE 전송을 줄임).
+ * 커밋된 알림만 들어오며, 노드가 비정상 종료되면 아직 저장하지 않은 묶음은 유실될 수 있다.
+ * 저장은 {@link com.s401.moas.notification.batch.NotificationCoalesceFlushScheduler}가 주기적으로 수행한다.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private record Key(Integer memberId, String alarmType, Long relatedId) {
+    }
+
+    private record Pending(int eventCount, long firstAtNanos) {
+
+        Pending merge(int count) {
+            return new Pending(eventCount + count, firstAtNanos);
+        }
+    }
+
+    private final Set<String> types;
+    private final long windowNanos;
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+
+    private final Counter received;
+    private final Counter flushed;
+
+    public NotificationCoalescer(MeterRegistry meterRegistry,
+                                 @Value("${notification.coalesce.types:NEW_APPLICATION_RECEIVED}") Set<String> types,
+                                 @Value("${notification.coalesce.window:10s}") Duration window) {
+        this.types = Set.copyOf(types);
+        this.windowNanos = window.toNanos();
+
+        Gauge.builder("moas.notification.coalesce.pending", pending, Map::size)
+                .description("묶음 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.received = Counter.builder("moas.notification.coalesce.received")
+                .description("묶음 버퍼에 들어온 알림 이벤트 수")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("moas.notification.coalesce.flushed")
+                .description("묶음 버퍼에서 저장한 알림 수")
+                .register(meterRegistry);
+    }
+
+    public boolean supports(String alarmType) {
+        return types.contains(alarmType);
+    }
+
+    public void add(NotificationCommand command) {
+        merge(command);
+        received.increment(command.eventCount());
+    }
+
+    /**
+     * 처음 들어온 지 window가 지난 묶음을 꺼냄
+     */
+    public List<NotificationCommand> drainDue(long nowNanos) {
+        return drain(nowNanos, false);
+    }
+
+    /**
+     * 남은 묶음을 모두 꺼냄 (종료 시)
+     */
+    public List<NotificationCommand> drainAll() {
+        return drain(System.nanoTime(), true);
+    }
+
+    /**
+     * 꺼낸 묶음 저장에 실패했을 때 다시 넣음
+     */
+    public void restore(List<NotificationCommand> commands) {
+        commands.forEach(this::merge);
+    }
+
+    private void merge(NotificationCommand command) {
+        Key key = new Key(command.memberId(), command.alarmType(), command.relatedId());
+        pending.merge(key, new Pending(command.eventCount(), System.nanoTime()),
+                (current, added) -> current.merge(added.eventCount()));
+    }
+
+    private List<NotificationCommand> drain(long nowNanos, boolean all) {
+        List<NotificationCommand> due = new ArrayList<>();
+        for (Map.Entry<Key, Pending> entry : pending.entrySet()) {
+            Pending value = entry.getValue();
+            if (!all && nowNanos - value.firstAtNanos() < windowNanos) {
+                continue;
+            }
+            // 그 사이 같은 키로 추가되었으면 값이 바뀌어 제거되지 않고 다음 주기에 꺼냄
+            Key key = entry.getKey();
+            if (pending.remove(key, value)) {
+                due.add(new NotificationCommand(key.memberId(), key.alarmType(), key.relatedId(), value.eventCount()));
+            }
+        }
+        flushed.increment(due.size());
+        return due;
+    }
+}
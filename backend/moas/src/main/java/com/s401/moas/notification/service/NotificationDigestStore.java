@@ -0,0 +1,130 @@
+package com.s401.moas.notification.service;
+
+import com.s401.moas.notification.service.dto.NotificationCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 하루 한 번 모아 보내는 저우선순위 알림 (Redis Hash)
+ *
+ * 필드 "memberId:alarmType:relatedId"에 이벤트 수를 더해 두고, 다이제스트 시각에 한 건씩 저장한다.
+ * 여러 노드가 동시에 꺼내지 않도록 키를 처리용 이름으로 RENAME한 노드만 처리한다.
+ */
+@Slf4j
+@Component
+public class NotificationDigestStore {
+
+    private static final String KEY = "notification:digest";
+    private static final String PROCESSING_KEY_PREFIX = "notification:digest:processing:";
+    // 처리 중 실패하여 남은 키의 보관 시간 (수동 확인용)
+    private static final Duration PROCESSING_TTL = Duration.ofDays(3);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Set<String> types;
+
+    private final Counter remoteErrors;
+
+    public NotificationDigestStore(StringRedisTemplate redisTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.digest.types:}") Set<String> types) {
+        this.redisTemplate = redisTemplate;
+        this.types = Set.copyOf(types);
+
+        this.remoteErrors = Counter.builder("moas.notification.digest.errors")
+                .description("알림 다이제스트 Redis 오류 수")
+                .register(meterRegistry);
+    }
+
+    public boolean supports(String alarmType) {
+        return types.contains(alarmType);
+    }
+
+    /**
+     * 다이제스트에 추가
+     *
+     * @return 추가했는지 여부 (Redis 오류 시 false - 호출한 쪽에서 다른 경로로 보냄)
+     */
+    public boolean add(NotificationCommand command) {
+        try {
+            redisTemplate.opsForHash().increment(KEY, field(command), command.eventCount());
+            return true;
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("알림 다이제스트 추가 실패: memberId={}, alarmType={}, error={}",
+                    command.memberId(), command.alarmType(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 모인 다이제스트를 처리용 키로 옮김
+     *
+     * @return 처리용 키 (모인 알림이 없거나 다른 노드가 먼저 가져갔으면 null)
+     */
+    public String claim() {
+        String processingKey = PROCESSING_KEY_PREFIX + UUID.randomUUID();
+        try {
+            redisTemplate.rename(KEY, processingKey);
+        } catch (Exception e) {
+            // 키가 없으면(ERR no such key) 이미 다른 노드가 가져갔거나 모인 알림이 없음
+            log.debug("알림 다이제스트 가져오기 건너뜀: {}", e.getMessage());
+            return null;
+        }
+        redisTemplate.expire(processingKey, PROCESSING_TTL);
+        return processingKey;
+    }
+
+    /**
+     * 처리용 키의 다이제스트를 알림 목록으로 읽음
+     */
+    public List<NotificationCommand> read(String processingKey) {
+        List<NotificationCommand> commands = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().count(1000).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(processingKey, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                NotificationCommand command = parse((String) entry.getKey(), (String) entry.getValue());
+                if (command != null) {
+                    commands.add(command);
+                }
+            }
+        }
+        return commands;
+    }
+
+    public void complete(String processingKey) {
+        redisTemplate.delete(processingKey);
+    }
+
+    private static String field(NotificationCommand command) {
+        return command.memberId() + ":" + command.alarmType() + ":" + command.relatedId();
+    }
+
+    private static NotificationCommand parse(String field, String value) {
+        String[] parts = field.split(":");
+        if (parts.length != 3) {
+            log.warn("알림 다이제스트 항목 형식 오류: field={}", field);
+            return null;
+        }
+        try {
+            return new NotificationCommand(Integer.valueOf(parts[0]), parts[1], Long.valueOf(parts[2]),
+                    Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            log.warn("알림 다이제스트 항목 형식 오류: field={}, value={}", field, value);
+            return null;
+        }
+    }
+}
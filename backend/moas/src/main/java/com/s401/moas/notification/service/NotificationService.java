@@ -4,7 +4,9 @@ import com.s401.moas.global.sse.service.SseService;
 import com.s401.moas.global.sse.service.dto.NotificationEventDto;
 import com.s401.moas.notification.domain.Notification;
 import com.s401.moas.notification.exception.NotificationException;
+import com.s401.moas.notification.repository.NotificationBulkRepository;
 import com.s401.moas.notification.repository.NotificationRepository;
+import com.s401.moas.notification.service.dto.NotificationCommand;
 import com.s401.moas.notification.service.dto.NotificationListDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,49 +14,104 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    // JDBC batch 한 번에 넣는 최대 알림 수
+    private static final int INSERT_BATCH_SIZE = 500;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
     private final SseService sseService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationCoalescer coalescer;
+    private final NotificationDigestStore digestStore;
+
     /**
      *  알림 생성 (다른 도메인에서 호출)
      */
     @Transactional
     public void createNotification(Integer memberId, String alarmType, Long relatedId) {
-        log.info("알림 생성: memberId={}, alarmType={}, relatedId={}", memberId, alarmType, relatedId);
+        createNotifications(List.of(NotificationCommand.of(memberId, alarmType, relatedId)));
+    }
 
-        Notification notification = Notification.builder()
-                .memberId(memberId)
-                .alarmType(alarmType)
-                .relatedId(relatedId)
-                .build();
+    /**
+     * 알림 일괄 생성
+     * 묶음/다이제스트 대상 유형은 커밋 후 버퍼에 넣어 나중에 한 건으로 저장하고, 나머지는 바로 저장한다.
+     */
+    @Transactional
+    public void createNotifications(List<NotificationCommand> commands) {
+        List<NotificationCommand> immediate = new ArrayList<>(commands.size());
+        List<NotificationCommand> deferred = new ArrayList<>();
+        for (NotificationCommand command : commands) {
+            if (coalescer.supports(command.alarmType()) || digestStore.supports(command.alarmType())) {
+                deferred.add(command);
+            } else {
+                immediate.add(command);
+            }
+        }
+
+        if (!deferred.isEmpty()) {
+            // 롤백된 알림은 버퍼에 넣지 않도록 커밋 후 추가
+            afterCommit(() -> deferred.forEach(this::defer));
+            log.debug("알림 묶음 대기: count={}", deferred.size());
+        }
+        saveNotifications(immediate);
+    }
+
+    /**
+     * 알림 저장
+     * JDBC batch로 저장하고, 커밋 후 안 읽은 알림 수를 반영한 뒤 SSE를 한 번에 전송한다 (롤백되면 둘 다 하지 않음).
+     * 묶음/다이제스트 배치도 모은 알림을 이 메서드로 저장한다.
+     */
+    @Transactional
+    public void saveNotifications(List<NotificationCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
 
-        notificationRepository.save(notification);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> notificationIds = new ArrayList<>(commands.size());
+        for (int from = 0; from < commands.size(); from += INSERT_BATCH_SIZE) {
+            List<NotificationCommand> chunk = commands.subList(from, Math.min(from + INSERT_BATCH_SIZE, commands.size()));
+            List<Long> ids = notificationBulkRepository.insertAll(chunk, now);
+            for (int i = 0; i < chunk.size(); i++) {
+                NotificationCommand command = chunk.get(i);
+                Long notificationId = i < ids.size() ? ids.get(i) : null;
+                notificationIds.add(notificationId);
+                log.debug("알림 생성: memberId={}, alarmType={}, relatedId={}, eventCount={}, notificationId={}",
+                        command.memberId(), command.alarmType(), command.relatedId(), command.eventCount(),
+                        notificationId);
+            }
+        }
 
-        log.info("알림 생성 완료: notificationId={}", notification.getId());
+        // ✅ 커밋 후 안 읽은 알림 수 반영 및 SSE로 알림 전송 (비동기, 한 번에)
+        afterCommit(() -> publish(commands, notificationIds));
 
-        // ✅ SSE로 알림 전송
-        sseService.send(
-                memberId,
-                "notification",
-                NotificationEventDto.builder()
-                        .notificationId(notification.getId())
-                        .alarmType(alarmType)
-                        .relatedId(relatedId)
-                        .build()
-        );
+        log.info("알림 생성 완료 및 SSE 전송 예약: count={}", commands.size());
+    }
 
-        log.info("SSE 알림 전송 완료: memberId={}, notificationId={}", memberId, notification.getId());
+    /**
+     * 안 읽은 알림 수 조회 (배지용)
+     */
+    public long getUnreadCount(Integer myMemberId) {
+        return unreadCounter.get(myMemberId);
     }
 
     /**
-     * 알림 목록 조회 (페이징)
+     * 알림 목록 조회 (페이지 번호 방식)
+     * 깊은 페이지일수록 앞의 행을 모두 건너뛰어야 하므로 {@link #getNotificationsBefore} 사용을 권장한다.
      */
     @Transactional(readOnly = true)
     public NotificationListDto getNotifications(Integer myMemberId, Integer page, Integer size) {
@@ -64,21 +121,32 @@ public class NotificationService {
         List<Notification> notifications = notificationRepository
                 .findByMemberIdOrderByIdDesc(myMemberId, pageable);
 
-        List<NotificationListDto.NotificationItemDto> notificationItems = notifications.stream()
-                .map(notification -> NotificationListDto.NotificationItemDto.builder()
-                        .notificationId(notification.getId())
-                        .alarmType(notification.getAlarmType())
-                        .relatedId(notification.getRelatedId())
-                        .isRead(notification.getIsRead())
-                        .createdAt(notification.getCreatedAt())
-                        .build())
-                .toList();
+        log.info("알림 목록 조회 완료: count={}", notifications.size());
 
-        log.info("알림 목록 조회 완료: count={}", notificationItems.size());
+        return toListDto(notifications, notifications.size() == size);
+    }
 
-        return NotificationListDto.builder()
-                .notifications(notificationItems)
-                .build();
+    /**
+     * 알림 목록 조회 (커서 방식)
+     * beforeId보다 오래된 알림을 최신순으로 size개 조회하며, 응답의 nextBeforeId를 다음 요청에 넘긴다.
+     *
+     * @param beforeId 이전 응답의 nextBeforeId (처음이면 null)
+     */
+    @Transactional(readOnly = true)
+    public NotificationListDto getNotificationsBefore(Integer myMemberId, Long beforeId, Integer size) {
+        log.info("알림 목록 조회: memberId={}, beforeId={}, size={}", myMemberId, beforeId, size);
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<Notification> notifications = notificationRepository.findByMemberIdAndIdLessThanOrderByIdDesc(
+                myMemberId, beforeId != null ? beforeId : Long.MAX_VALUE, PageRequest.of(0, size + 1));
+        boolean hasNext = notifications.size() > size;
+        if (hasNext) {
+            notifications = notifications.subList(0, size);
+        }
+
+        log.info("알림 목록 조회 완료: count={}, hasNext={}", notifications.size(), hasNext);
+
+        return toListDto(notifications, hasNext);
     }
 
     /**
@@ -92,8 +160,11 @@ public class NotificationService {
         Notification notification = notificationRepository.findByIdAndMemberId(notificationId, myMemberId)
                 .orElseThrow(() -> NotificationException.notificationNotFound(notificationId));
 
-        // 2. 읽음 처리
-        notification.markAsRead();
+        // 2. 읽음 처리 (이미 읽은 알림이면 안 읽은 수 변동 없음)
+        if (!notification.getIsRead()) {
+            notification.markAsRead();
+            afterCommit(() -> unreadCounter.add(Map.of(myMemberId, -1L)));
+        }
 
         log.info("알림 읽음 처리 완료: notificationId={}", notificationId);
     }
@@ -106,6 +177,7 @@ public class NotificationService {
         log.info("전체 알림 읽음 처리: memberId={}", myMemberId);
 
         int updatedCount = notificationRepository.markAllAsReadByMemberId(myMemberId);
+        afterCommit(() -> unreadCounter.evict(myMemberId));
 
         log.info("전체 알림 읽음 처리 완료: memberId={}, updatedCount={}", myMemberId, updatedCount);
     }
@@ -123,7 +195,129 @@ public class NotificationService {
 
         // 2. 삭제
         notificationRepository.delete(notification);
+        if (!notification.getIsRead()) {
+            afterCommit(() -> unreadCounter.add(Map.of(myMemberId, -1L)));
+        }
 
         log.info("알림 삭제 완료: notificationId={}", notificationId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 보관 기간 정리를 처음 시작할 ID
+     * 오래된 안 읽은 알림은 삭제되지 않고 계속 남으므로, 매번 처음부터 훑지 않고 정리 대상 중 가장 작은 ID부터 시작한다.
+     *
+     * @return 정리를 시작할 ID (정리할 알림이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public Long findFirstPruneStart(LocalDateTime before) {
+        return notificationRepository.findMinReadIdBefore(before);
+    }
+
+    /**
+     * fromId 이후 첫 알림이 보관 기간을 지났으면 그 ID를 반환 (정리할 구간 시작점)
+     * id는 생성 순서대로 증가하므로 첫 알림이 기간 안이면 이후 알림도 모두 기간 안이다.
+     *
+     * @return 정리를 시작할 ID (더 정리할 알림이 없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public Long findPruneStart(Long fromId, LocalDateTime before) {
+        return notificationRepository.findFirstByIdGreaterThanEqualOrderByIdAsc(fromId)
+                .filter(notification -> notification.getCreatedAt().isBefore(before))
+                .map(Notification::getId)
+                .orElse(null);
+    }
+
+    /**
+     * [fromId, toId) 구간의 보관 기간이 지난 읽은 알림 삭제
+     * 구간마다 별도 트랜잭션으로 실행하여 잠금 범위와 undo를 작게 유지한다.
+     * 안 읽은 알림은 남기므로 안 읽은 알림 수는 바뀌지 않는다.
+     */
+    @Transactional
+    public int pruneReadNotifications(Long fromId, Long toId, LocalDateTime before) {
+        return notificationRepository.deleteReadInRange(fromId, toId, before);
+    }
+
+    private NotificationListDto toListDto(List<Notification> notifications, boolean hasNext) {
+        List<NotificationListDto.NotificationItemDto> notificationItems = notifications.stream()
+                .map(notification -> NotificationListDto.NotificationItemDto.builder()
+                        .notificationId(notification.getId())
+                        .alarmType(notification.getAlarmType())
+                        .relatedId(notification.getRelatedId())
+                        .eventCount(notification.getEventCount())
+                        .isRead(notification.getIsRead())
+                        .createdAt(notification.getCreatedAt())
+                        .build())
+                .toList();
+
+        return NotificationListDto.builder()
+                .notifications(notificationItems)
+                .nextBeforeId(notifications.isEmpty() ? null : notifications.get(notifications.size() - 1).getId())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private void publish(List<NotificationCommand> commands, List<Long> notificationIds) {
+        Map<Integer, Long> deltas = new HashMap<>();
+        for (NotificationCommand command : commands) {
+            deltas.merge(command.memberId(), 1L, Long::sum);
+        }
+        Map<Integer, Long> unreadCounts = Map.of();
+        try {
+            unreadCounts = unreadCounter.add(deltas);
+        } catch (RuntimeException e) {
+            log.warn("안 읽은 알림 수 반영 실패: members={}, error={}", deltas.size(), e.getMessage());
+        }
+
+        List<SseService.OutboundEvent> events = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            NotificationCommand command = commands.get(i);
+            events.add(new SseService.OutboundEvent(
+                    command.memberId(),
+                    "notification",
+                    NotificationEventDto.builder()
+                            .notificationId(notificationIds.get(i))
+                            .alarmType(command.alarmType())
+                            .relatedId(command.relatedId())
+                            .eventCount(command.eventCount())
+                            .unreadCount(unreadCounts.get(command.memberId()))
+                            .build()));
+        }
+        // afterCommit 안이므로 바로 실행기에 넘김
+        sseService.sendNow(events);
+    }
+
+    /**
+     * 묶음 버퍼 또는 다이제스트에 추가 (커밋 후 호출)
+     * 다이제스트 저장소(Redis)에 넣지 못하면 묶음 버퍼로 보내 알림이 사라지지 않도록 한다.
+     */
+    private void defer(NotificationCommand command) {
+        if (digestStore.supports(command.alarmType()) && digestStore.add(command)) {
+            return;
+        }
+        coalescer.add(command);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖이면 즉시 실행)
+     * 커밋 후 작업의 실패는 이미 끝난 요청을 실패로 만들지 않도록 기록만 한다.
+     */
+    private static void afterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.error("알림 커밋 후 처리 실패", e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+}
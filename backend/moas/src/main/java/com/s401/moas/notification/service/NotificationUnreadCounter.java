@@ -0,0 +1,164 @@
+package com.s401.moas.notification.service;
+
+import com.s401.moas.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 안 읽은 알림 수 (Redis 캐시)
+ *
+ * 알림 생성/읽음/삭제가 커밋된 뒤 값이 있는 키에만 증감을 반영하고, 키가 없으면 조회 시
+ * (member_id, is_read, id DESC) 인덱스로 다시 센다. 전체 읽음 처리는 0으로 덮어쓰지 않고 키를 지워
+ * 그 사이 커밋된 새 알림이 0에 묻히지 않도록 한다.
+ * 재계산 직후 들어온 증감은 유실될 수 있어 TTL로 주기적으로 DB 값에 맞춘다.
+ * Redis를 쓸 수 없으면 DB 값을 그대로 돌려준다.
+ */
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    // 키가 있는 회원만 증감 (0 미만은 0), 없으면 -1. ARGV: delta..., ttlMillis
+    private static final RedisScript<List> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local ttl = ARGV[#KEYS + 1]
+            local result = {}
+            for i, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then
+                local value = redis.call('INCRBY', key, ARGV[i])
+                if value < 0 then
+                  redis.call('SET', key, 0)
+                  value = 0
+                end
+                redis.call('PEXPIRE', key, ttl)
+                result[i] = value
+              else
+                result[i] = -1
+              end
+            end
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final Duration ttl;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter remoteErrors;
+
+    public NotificationUnreadCounter(StringRedisTemplate redisTemplate,
+                                     NotificationRepository notificationRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.unread.ttl:1h}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttl = ttl;
+
+        this.hits = Counter.builder("moas.notification.unread.cache")
+                .tag("result", "hit")
+                .description("안 읽은 알림 수 캐시 조회 결과")
+                .register(meterRegistry);
+        this.misses = Counter.builder("moas.notification.unread.cache")
+                .tag("result", "miss")
+                .description("안 읽은 알림 수 캐시 조회 결과")
+                .register(meterRegistry);
+        this.remoteErrors = Counter.builder("moas.notification.unread.errors")
+                .description("안 읽은 알림 수 Redis 오류 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 안 읽은 알림 수 조회 (캐시에 없으면 DB에서 세어 채움)
+     */
+    public long get(Integer memberId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(redisKey(memberId));
+            if (cached != null) {
+                hits.increment();
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("안 읽은 알림 수 캐시 조회 실패 - DB 조회: memberId={}, error={}", memberId, e.getMessage());
+            return notificationRepository.countByMemberIdAndIsReadFalse(memberId);
+        }
+        misses.increment();
+        return rebuild(memberId, notificationRepository.countByMemberIdAndIsReadFalse(memberId));
+    }
+
+    /**
+     * 여러 회원의 안 읽은 알림 수 증감 (커밋 후 호출)
+     * 캐시가 없던 회원은 여기서 다시 세지 않고 다음 조회(get)에서 채운다 (커밋 후 경로에 DB 조회를 두지 않도록).
+     *
+     * @return 캐시가 있던 회원별 반영 후 안 읽은 알림 수 (캐시가 없던 회원은 포함하지 않음)
+     */
+    public Map<Integer, Long> add(Map<Integer, Long> deltas) {
+        Map<Integer, Long> counts = new HashMap<>();
+        if (deltas.isEmpty()) {
+            return counts;
+        }
+
+        List<Integer> memberIds = new ArrayList<>(deltas.keySet());
+        List<String> keys = new ArrayList<>(memberIds.size());
+        List<String> args = new ArrayList<>(memberIds.size() + 1);
+        for (Integer memberId : memberIds) {
+            keys.add(redisKey(memberId));
+            args.add(String.valueOf(deltas.get(memberId)));
+        }
+        args.add(String.valueOf(ttl.toMillis()));
+
+        try {
+            List<?> result = redisTemplate.execute(INCREMENT_SCRIPT, keys, args.toArray());
+            for (int i = 0; i < memberIds.size(); i++) {
+                long value = result != null && i < result.size() ? ((Number) result.get(i)).longValue() : -1L;
+                if (value >= 0) {
+                    counts.put(memberIds.get(i), value);
+                }
+            }
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("안 읽은 알림 수 캐시 반영 실패: members={}, error={}", memberIds.size(), e.getMessage());
+        }
+        return counts;
+    }
+
+    /**
+     * 캐시 제거 (다음 조회 시 DB에서 다시 셈)
+     */
+    public void evict(Integer memberId) {
+        try {
+            redisTemplate.delete(redisKey(memberId));
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("안 읽은 알림 수 캐시 삭제 실패: memberId={}, error={}", memberId, e.getMessage());
+        }
+    }
+
+    private long rebuild(Integer memberId, long count) {
+        try {
+            // 다른 요청이 먼저 채웠으면 그 값을 유지
+            redisTemplate.opsForValue().setIfAbsent(redisKey(memberId), String.valueOf(count), ttl);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("안 읽은 알림 수 캐시 저장 실패: memberId={}, error={}", memberId, e.getMessage());
+        }
+        return count;
+    }
+
+    private static String redisKey(Integer memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
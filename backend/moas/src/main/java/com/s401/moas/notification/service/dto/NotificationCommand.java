@@ -0,0 +1,13 @@
+package com.s401.moas.notification.service.dto;
+
+/**
+ * 생성할 알림 하나 (일괄 생성용)
+ *
+ * @param eventCount 이 알림으로 묶인 이벤트 수 (묶음 알림/다이제스트가 아니면 1)
+ */
+public record NotificationCommand(Integer memberId, String alarmType, Long relatedId, int eventCount) {
+
+    public static NotificationCommand of(Integer memberId, String alarmType, Long relatedId) {
+        return new NotificationCommand(memberId, alarmType, relatedId, 1);
+    }
+}
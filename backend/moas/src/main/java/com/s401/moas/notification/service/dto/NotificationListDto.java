@@ -12,12 +12,18 @@ public class NotificationListDto {
 
     private List<NotificationItemDto> notifications;
 
+    // 다음 페이지 조회 시 beforeId로 넘길 값 (마지막 알림 ID)
+    private Long nextBeforeId;
+
+    private Boolean hasNext;
+
     @Getter
     @Builder
     public static class NotificationItemDto {
         private Long notificationId;
         private String alarmType;
         private Long relatedId;
+        private Integer eventCount;
         private Boolean isRead;
         private LocalDateTime createdAt;
     }
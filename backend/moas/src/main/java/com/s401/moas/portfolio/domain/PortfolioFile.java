@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 public class PortfolioFile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "portfolio_file_id")
+    @TableGenerator(name = "portfolio_file_id", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "portfolio_file", allocationSize = 50)
     private Long id;
 
     @Column(name = "portfolio_id", nullable = false)
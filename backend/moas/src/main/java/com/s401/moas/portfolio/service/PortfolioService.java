@@ -32,6 +32,7 @@ import com.s401.moas.project.repository.CategoryRepository;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -230,6 +231,7 @@ public class PortfolioService {
      */
     private int uploadImages(Long portfolioId, List<MultipartFile> images) throws IOException {
         byte order = 0;
+        List<PortfolioImage> compressedImages = new ArrayList<>();
         for (MultipartFile image : images) {
             ImageUploadResult result = imageService.uploadWithCompression(image, "portfolio/images");
 
@@ -242,6 +244,7 @@ public class PortfolioService {
                     .uploadedAt(LocalDateTime.now())
                     .build();
 
+            // 테이블 기반 ID 생성이므로 INSERT 없이 ID만 할당됨 (flush 시 일괄 INSERT)
             PortfolioImage savedOriginal = portfolioImageRepository.save(originalImage);
             Long originalId = savedOriginal.getId();  // 원본 이미지 ID 추출
 
@@ -255,8 +258,9 @@ public class PortfolioService {
                     .uploadedAt(LocalDateTime.now())
                     .build();
 
-            portfolioImageRepository.save(compressedImage);
+            compressedImages.add(compressedImage);
         }
+        portfolioImageRepository.saveAll(compressedImages);
         return images.size();
     }
 
@@ -264,6 +268,7 @@ public class PortfolioService {
      * 첨부파일들 업로드
      */
     private int uploadFiles(Long portfolioId, List<MultipartFile> files) throws IOException {
+        List<PortfolioFile> portfolioFiles = new ArrayList<>();
         for (MultipartFile file : files) {
             String fileUrl = s3Service.upload(file, "portfolio/files");
 
@@ -276,8 +281,9 @@ public class PortfolioService {
                     .uploadedAt(LocalDateTime.now())
                     .build();
 
-            portfolioFileRepository.save(portfolioFile);
+            portfolioFiles.add(portfolioFile);
         }
+        portfolioFileRepository.saveAll(portfolioFiles);
         return files.size();
     }
 
@@ -490,6 +496,7 @@ public class PortfolioService {
 
         String[] sequences = request.getFileSequence().split(",");
         int newFileIndex = 0;
+        List<PortfolioFile> portfolioFiles = new ArrayList<>();
 
         for (String seq : sequences) {
             seq = seq.trim();
@@ -508,7 +515,7 @@ public class PortfolioService {
                         .fileSize(existingFile.getFileSize())
                         .uploadedAt(LocalDateTime.now())
                         .build();
-                portfolioFileRepository.save(newFile);
+                portfolioFiles.add(newFile);
 
             } else if (seq.startsWith("new:")) {
                 // 새 파일 업로드
@@ -528,13 +535,14 @@ public class PortfolioService {
                         .fileSize((int) file.getSize())
                         .uploadedAt(LocalDateTime.now())
                         .build();
-                portfolioFileRepository.save(portfolioFile);
+                portfolioFiles.add(portfolioFile);
 
                 newFileIndex++;
             } else {
                 throw PortfolioException.invalidFileSequence(seq);
             }
         }
+        portfolioFileRepository.saveAll(portfolioFiles);
 
         return sequences.length;
     }
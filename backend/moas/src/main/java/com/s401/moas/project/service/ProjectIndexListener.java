@@ -1,5 +1,6 @@
 package com.s401.moas.project.service;
 
+import com.s401.moas.global.async.AsyncExecutors;
 import com.s401.moas.global.service.EmbeddingService;
 import com.s401.moas.global.util.EmbeddingTextBuilder;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +25,7 @@ public class ProjectIndexListener {
     private final com.s401.moas.project.repository.PositionRepository positionRepository;
     private final com.s401.moas.region.repository.DistrictRepository districtRepository;
 
-    @Async
+    @Async(AsyncExecutors.INDEXING)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onChanged(ProjectChangedEvent ev) {
         try {
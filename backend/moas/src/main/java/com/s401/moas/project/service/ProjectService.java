@@ -5,6 +5,7 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.s401.moas.application.repository.ProjectApplicationRepository;
+import com.s401.moas.global.cache.TwoTierCache;
 import com.s401.moas.global.exception.ResourceNotFoundException;
 import com.s401.moas.global.security.SecurityUtil;
 import com.s401.moas.project.exception.ProjectException;
@@ -38,6 +40,7 @@ import com.s401.moas.project.repository.PositionRepository;
 import com.s401.moas.project.repository.ProjectPositionRepository;
 import com.s401.moas.project.repository.ProjectRepository;
 import com.s401.moas.project.repository.ProjectBookmarkRepository;
+import com.s401.moas.project.service.dto.ProjectDetailSkeleton;
 import com.s401.moas.project.service.dto.ProjectDto;
 import com.s401.moas.project.service.dto.ProjectListDto;
 import com.s401.moas.region.domain.District;
@@ -72,6 +75,7 @@ public class ProjectService {
     private final EmbeddingService embeddingService;
     private final SimilarProjectService similarProjectService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final TwoTierCache<ProjectDetailSkeleton> projectDetailCache;
 
     public ProjectListDto getProjectList(int page, int size, String sort, Integer currentMemberId,
             String q,
@@ -258,17 +262,17 @@ public class ProjectService {
 
             Project savedProject = projectRepository.save(project);
 
-            // 6. ProjectPosition 생성 및 저장
-            for (CreateProjectRequest.PositionRequest positionRequest : request.getPositions()) {
-                ProjectPosition projectPosition = ProjectPosition.builder()
-                        .projectId(savedProject.getId())
-                        .positionId(positionRequest.getPositionId())
-                        .budget(positionRequest.getBudget())
-                        .status(ProjectPosition.PositionStatus.RECRUITING)
-                        .build();
+            // 6. ProjectPosition 생성 및 일괄 저장 (JDBC batch insert)
+            List<ProjectPosition> projectPositions = request.getPositions().stream()
+                    .map(positionRequest -> ProjectPosition.builder()
+                            .projectId(savedProject.getId())
+                            .positionId(positionRequest.getPositionId())
+                            .budget(positionRequest.getBudget())
+                            .status(ProjectPosition.PositionStatus.RECRUITING)
+                            .build())
+                    .toList();
 
-                projectPositionRepository.save(projectPosition);
-            }
+            projectPositionRepository.saveAll(projectPositions);
 
             // 7. 벡터 인덱싱을 위한 이벤트 발행 (트랜잭션 커밋 후)
             applicationEventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId()));
@@ -608,7 +612,8 @@ public class ProjectService {
                         .filter(pp -> newPositionIds.contains(pp.getPositionId()))
                         .collect(Collectors.toMap(ProjectPosition::getPositionId, pp -> pp));
 
-                // 7-6. 새 포지션 추가 또는 기존 포지션 수정
+                // 7-6. 새 포지션 추가 또는 기존 포지션 수정 (일괄 저장)
+                List<ProjectPosition> positionsToSave = new ArrayList<>();
                 for (UpdateProjectRequest.PositionRequest positionRequest : request.getPositions()) {
                     ProjectPosition existingPosition = existingPositionMap.get(positionRequest.getPositionId());
                     
@@ -623,7 +628,7 @@ public class ProjectService {
                                 .createdAt(existingPosition.getCreatedAt())
                                 .deletedAt(existingPosition.getDeletedAt())
                                 .build();
-                        projectPositionRepository.save(updatedPosition);
+                        positionsToSave.add(updatedPosition);
                     } else {
                         // 새 포지션 추가
                         ProjectPosition newPosition = ProjectPosition.builder()
@@ -632,13 +637,15 @@ public class ProjectService {
                                 .budget(positionRequest.getBudget())
                                 .status(ProjectPosition.PositionStatus.RECRUITING)
                                 .build();
-                        projectPositionRepository.save(newPosition);
+                        positionsToSave.add(newPosition);
                     }
                 }
+                projectPositionRepository.saveAll(positionsToSave);
             }
 
-            // 8. 벡터 인덱싱을 위한 이벤트 발행 (트랜잭션 커밋 후)
+            // 8. 벡터 인덱싱을 위한 이벤트 발행 및 상세 캐시 무효화 (트랜잭션 커밋 후)
             applicationEventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId()));
+            projectDetailCache.evictAfterCommit(projectId);
 
             // 9. 응답 DTO 생성
             return buildUpdateProjectResponse(savedProject);
@@ -749,7 +756,71 @@ public class ProjectService {
         project.incrementViewCount();
         projectRepository.save(project);
 
-        // 4. District 및 Province 조회 (온라인 프로젝트인 경우 null)
+        // 4. 지역/포지션/유사 프로젝트 ID 스켈레톤 조회 (2단계 캐시)
+        ProjectDetailSkeleton skeleton = projectDetailCache.get(projectId, () -> loadProjectDetailSkeleton(project));
+
+        // 5. Member 조회 (리더 정보)
+        Member member = memberRepository.findById(project.getMemberId())
+                .orElseThrow(() -> new ResourceNotFoundException("회원", project.getMemberId()));
+
+        // 6. 리뷰 개수 및 평균 평점 조회 (네이티브 쿼리)
+        Object[] reviewStats = projectRepository.findReviewStatsByMemberId(project.getMemberId());
+        Integer reviewCount = 0;
+        Double averageRating = 0.0;
+        
+        if (reviewStats != null && reviewStats.length >= 2) {
+            reviewCount = reviewStats[0] != null ? ((Number) reviewStats[0]).intValue() : 0;
+            averageRating = reviewStats[1] != null ? ((Number) reviewStats[1]).doubleValue() : 0.0;
+        }
+        
+        // 평균 평점을 소수점 아래 1자리로 반올림
+        averageRating = Math.round(averageRating * 10.0) / 10.0;
+
+        // 7. 유사 프로젝트 카드 조회 (ID는 스켈레톤에 캐시, 카드 내용은 매번 조회)
+        List<com.s401.moas.project.controller.response.ProjectDetailResponse.SimilarCard> similarCards =
+                findSimilarCards(skeleton.getSimilarProjectIds());
+
+        // 8. 응답 DTO 생성
+        return com.s401.moas.project.controller.response.ProjectDetailResponse.builder()
+                .projectId(project.getId())
+                .title(project.getTitle())
+                .summary(project.getSummary())
+                .description(project.getDescription())
+                .thumbnailUrl(project.getThumbnailUrl())
+                .isOnline(skeleton.getIsOnline())
+                .province(skeleton.getProvince())
+                .district(skeleton.getDistrict())
+                .positions(skeleton.getPositions())
+                .viewCount(project.getViewCount().longValue())
+                .applyDeadline(project.getApplyDeadline() != null ? 
+                        project.getApplyDeadline().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
+                .startAt(project.getStartAt() != null ? 
+                        project.getStartAt().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
+                .endAt(project.getEndAt() != null ? 
+                        project.getEndAt().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
+                .leader(com.s401.moas.project.controller.response.ProjectDetailResponse.LeaderInfo.builder()
+                        .userId(member.getId())
+                        .nickname(member.getNickname())
+                        .profileImageUrl(member.getProfileImageUrl())
+                        .reviewCount(reviewCount)
+                        .averageRating(averageRating)
+                        .build())
+                .createdAt(project.getCreatedAt() != null ? 
+                        project.getCreatedAt().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
+                .updatedAt(project.getUpdatedAt() != null ? 
+                        project.getUpdatedAt().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
+                .isClosed(project.getClosedAt() != null || 
+                        (project.getApplyDeadline() != null && !project.getApplyDeadline().isAfter(LocalDateTime.now())))
+                .similar(similarCards)
+                .build();
+    }
+
+    /**
+     * 프로젝트 상세 스켈레톤 적재
+     * 지역/포지션/카테고리 조인과 유사 프로젝트 검색(임베딩 + 벡터 검색)을 수행한다.
+     */
+    private ProjectDetailSkeleton loadProjectDetailSkeleton(Project project) {
+        // 1. District 및 Province 조회 (온라인 프로젝트인 경우 null)
         final Integer districtId = project.getDistrictId();
         final District district = districtId != null
                 ? districtRepository.findById(districtId)
@@ -761,11 +832,7 @@ public class ProjectService {
                 : null;
         final boolean isOnline = district == null;
 
-        // 5. Member 조회 (리더 정보)
-        Member member = memberRepository.findById(project.getMemberId())
-                .orElseThrow(() -> new ResourceNotFoundException("회원", project.getMemberId()));
-
-        // 6. Positions 조회
+        // 2. Positions 조회
         List<ProjectPosition> projectPositions = projectPositionRepository.findByProjectIdAndDeletedAtIsNull(project.getId());
         List<com.s401.moas.project.controller.response.ProjectDetailResponse.PositionInfo> positionInfos = projectPositions.stream()
                 .map(pp -> {
@@ -789,21 +856,8 @@ public class ProjectService {
                 })
                 .collect(Collectors.toList());
 
-        // 7. 리뷰 개수 및 평균 평점 조회 (네이티브 쿼리)
-        Object[] reviewStats = projectRepository.findReviewStatsByMemberId(project.getMemberId());
-        Integer reviewCount = 0;
-        Double averageRating = 0.0;
-        
-        if (reviewStats != null && reviewStats.length >= 2) {
-            reviewCount = reviewStats[0] != null ? ((Number) reviewStats[0]).intValue() : 0;
-            averageRating = reviewStats[1] != null ? ((Number) reviewStats[1]).doubleValue() : 0.0;
-        }
-        
-        // 평균 평점을 소수점 아래 1자리로 반올림
-        averageRating = Math.round(averageRating * 10.0) / 10.0;
-
-        // 8. 유사 프로젝트 조회
-        List<com.s401.moas.project.controller.response.ProjectDetailResponse.SimilarCard> similarCards = List.of();
+        // 3. 유사 프로젝트 ID 검색
+        List<Integer> similarProjectIds = List.of();
         try {
             // 포지션 이름 리스트 추출
             List<String> positionNames = positionInfos.stream()
@@ -811,7 +865,7 @@ public class ProjectService {
                     .toList();
             
             // 위치 텍스트 추출
-            String locationText = isOnline ? "online" : (district != null ? district.getNameKo() : "online");
+            String locationText = isOnline ? "online" : district.getNameKo();
             
             // 임베딩 텍스트 생성
             String text = EmbeddingTextBuilder.build(
@@ -826,47 +880,14 @@ public class ProjectService {
             
             // 유사 프로젝트 검색 (Top-50 가져와서 5개만 사용)
             List<Long> topIds = similarProjectService.searchIds(queryVector, 50, project.getId().longValue());
-            List<Long> fiveIds = topIds.stream().limit(5).toList();
-            
-            if (!fiveIds.isEmpty()) {
-                List<Integer> fiveIdsInt = fiveIds.stream().map(Long::intValue).toList();
-                List<ProjectRepository.ProjectCardRow> cards = projectRepository.findCardsByIds(fiveIdsInt);
-                
-                // 순서 유지: ID 리스트 순서대로 정렬
-                Map<Integer, ProjectRepository.ProjectCardRow> cardMap = cards.stream()
-                        .collect(Collectors.toMap(ProjectRepository.ProjectCardRow::getProjectId, card -> card));
-                
-                // 유사 프로젝트들의 포지션 정보 조회
-                Map<Integer, List<ProjectListDto.PositionBriefDto>> positionsMap = findPositionsByProjectIds(fiveIdsInt);
-                
-                similarCards = fiveIdsInt.stream()
-                        .filter(cardMap::containsKey) // DB에서 조회된 것만
-                        .map(id -> {
-                            ProjectRepository.ProjectCardRow card = cardMap.get(id);
-                            List<com.s401.moas.project.controller.response.ProjectDetailResponse.PositionBrief> positions = 
-                                    positionsMap.getOrDefault(id, List.of()).stream()
-                                            .map(pos -> com.s401.moas.project.controller.response.ProjectDetailResponse.PositionBrief.builder()
-                                                    .categoryName(pos.getCategoryName())
-                                                    .positionName(pos.getPositionName())
-                                                    .budget(pos.getBudget())
-                                                    .build())
-                                            .toList();
-                            return com.s401.moas.project.controller.response.ProjectDetailResponse.SimilarCard.from(card, positions);
-                        })
-                        .toList();
-            }
+            similarProjectIds = topIds.stream().limit(5).map(Long::intValue).toList();
         } catch (Exception e) {
             // 임베딩/검색 장애 시에도 상세는 내려가게
-            log.warn("유사 프로젝트 조회 실패 - projectId: {}", projectId, e);
+            log.warn("유사 프로젝트 조회 실패 - projectId: {}", project.getId(), e);
         }
 
-        // 9. 응답 DTO 생성
-        return com.s401.moas.project.controller.response.ProjectDetailResponse.builder()
+        return ProjectDetailSkeleton.builder()
                 .projectId(project.getId())
-                .title(project.getTitle())
-                .summary(project.getSummary())
-                .description(project.getDescription())
-                .thumbnailUrl(project.getThumbnailUrl())
                 .isOnline(isOnline)
                 .province(province != null
                         ? com.s401.moas.project.controller.response.ProjectDetailResponse.ProvinceInfo.builder()
@@ -882,30 +903,45 @@ public class ProjectService {
                                 .build()
                         : null)
                 .positions(positionInfos)
-                .viewCount(project.getViewCount().longValue())
-                .applyDeadline(project.getApplyDeadline() != null ? 
-                        project.getApplyDeadline().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
-                .startAt(project.getStartAt() != null ? 
-                        project.getStartAt().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
-                .endAt(project.getEndAt() != null ? 
-                        project.getEndAt().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
-                .leader(com.s401.moas.project.controller.response.ProjectDetailResponse.LeaderInfo.builder()
-                        .userId(member.getId())
-                        .nickname(member.getNickname())
-                        .profileImageUrl(member.getProfileImageUrl())
-                        .reviewCount(reviewCount)
-                        .averageRating(averageRating)
-                        .build())
-                .createdAt(project.getCreatedAt() != null ? 
-                        project.getCreatedAt().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
-                .updatedAt(project.getUpdatedAt() != null ? 
-                        project.getUpdatedAt().atZone(ZoneId.systemDefault()).toOffsetDateTime() : null)
-                .isClosed(project.getClosedAt() != null || 
-                        (project.getApplyDeadline() != null && !project.getApplyDeadline().isAfter(LocalDateTime.now())))
-                .similar(similarCards)
+                .similarProjectIds(similarProjectIds)
                 .build();
     }
 
+    /**
+     * 유사 프로젝트 카드 조회 (ID 순서 유지)
+     */
+    private List<com.s401.moas.project.controller.response.ProjectDetailResponse.SimilarCard> findSimilarCards(
+            List<Integer> similarProjectIds) {
+        if (similarProjectIds == null || similarProjectIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<ProjectRepository.ProjectCardRow> cards = projectRepository.findCardsByIds(similarProjectIds);
+        
+        // 순서 유지: ID 리스트 순서대로 정렬
+        Map<Integer, ProjectRepository.ProjectCardRow> cardMap = cards.stream()
+                .collect(Collectors.toMap(ProjectRepository.ProjectCardRow::getProjectId, card -> card));
+        
+        // 유사 프로젝트들의 포지션 정보 조회
+        Map<Integer, List<ProjectListDto.PositionBriefDto>> positionsMap = findPositionsByProjectIds(similarProjectIds);
+        
+        return similarProjectIds.stream()
+                .filter(cardMap::containsKey) // DB에서 조회된 것만 (삭제된 프로젝트 제외)
+                .map(id -> {
+                    ProjectRepository.ProjectCardRow card = cardMap.get(id);
+                    List<com.s401.moas.project.controller.response.ProjectDetailResponse.PositionBrief> positions = 
+                            positionsMap.getOrDefault(id, List.of()).stream()
+                                    .map(pos -> com.s401.moas.project.controller.response.ProjectDetailResponse.PositionBrief.builder()
+                                            .categoryName(pos.getCategoryName())
+                                            .positionName(pos.getPositionName())
+                                            .budget(pos.getBudget())
+                                            .build())
+                                    .toList();
+                    return com.s401.moas.project.controller.response.ProjectDetailResponse.SimilarCard.from(card, positions);
+                })
+                .toList();
+    }
+
     /**
      * 프로젝트 마감 처리
      * 
@@ -947,6 +983,7 @@ public class ProjectService {
         // 6. 프로젝트 마감 처리
         project.close();
         projectRepository.save(project);
+        projectDetailCache.evictAfterCommit(projectId);
 
         log.info("프로젝트 마감 처리 완료 - projectId: {}, memberId: {}, 마감된 포지션 수: {}", 
                 projectId, memberId, projectPositions.size());
@@ -1002,6 +1039,7 @@ public class ProjectService {
         // 7. 프로젝트 soft delete (등록자가 삭제하므로 null 전달)
         project.delete(null);
         projectRepository.save(project);
+        projectDetailCache.evictAfterCommit(projectId);
 
         log.info("프로젝트 삭제 완료 - projectId: {}, memberId: {}", projectId, memberId);
     }
@@ -1043,6 +1081,7 @@ public class ProjectService {
         // 6. 포지션 마감 처리 (지원자 여부와 관계없이 무조건 마감, 이미 마감된 경우는 그대로 유지)
         projectPosition.close();
         projectPositionRepository.save(projectPosition);
+        projectDetailCache.evictAfterCommit(projectId);
 
         log.info("프로젝트 포지션 마감 처리 완료 - projectId: {}, positionId: {}, memberId: {}", 
                 projectId, positionId, memberId);
@@ -4,6 +4,7 @@ import static io.qdrant.client.PointIdFactory.id;
 import static io.qdrant.client.QueryFactory.nearest;
 import static io.qdrant.client.VectorsFactory.vectors;
 
+import com.s401.moas.global.audit.BlockingCalls;
 import io.qdrant.client.QdrantClient;
 import io.qdrant.client.grpc.JsonWithInt;
 import io.qdrant.client.grpc.Points.PointStruct;
@@ -31,7 +32,7 @@ public class SimilarProjectService {
 
         // ListenableFuture를 .get()으로 동기화
         try {
-            qdrant.upsertAsync(COL, List.of(p)).get();
+            BlockingCalls.await(BlockingCalls.QDRANT, "upsert", qdrant.upsertAsync(COL, List.of(p)));
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException("Qdrant upsert 실패", e);
         }
@@ -49,7 +50,7 @@ public class SimilarProjectService {
         // ListenableFuture를 .get()으로 동기화
         List<ScoredPoint> hits;
         try {
-            hits = qdrant.queryAsync(q).get();
+            hits = BlockingCalls.await(BlockingCalls.QDRANT, "query", qdrant.queryAsync(q));
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException("Qdrant query 실패", e);
         }
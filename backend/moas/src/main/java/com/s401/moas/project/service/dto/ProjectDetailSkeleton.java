@@ -0,0 +1,27 @@
+package com.s401.moas.project.service.dto;
+
+import com.s401.moas.project.controller.response.ProjectDetailResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프로젝트 상세 조회의 캐시 대상 부분 (2단계 캐시 저장용)
+ * 지역/포지션/카테고리 조인 결과와 유사 프로젝트 ID(임베딩 + 벡터 검색 결과)만 담는다.
+ * 조회수, 마감 여부, 리더 정보처럼 자주 바뀌는 값은 요청마다 새로 조회한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDetailSkeleton {
+    private Integer projectId;
+    private Boolean isOnline;
+    private ProjectDetailResponse.ProvinceInfo province;
+    private ProjectDetailResponse.DistrictInfo district;
+    private List<ProjectDetailResponse.PositionInfo> positions;
+    private List<Integer> similarProjectIds;
+}
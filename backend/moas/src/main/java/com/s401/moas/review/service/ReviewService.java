@@ -4,7 +4,9 @@ import com.s401.moas.contract.domain.Contract;
 import com.s401.moas.contract.domain.ContractStatus;
 import com.s401.moas.contract.exception.ContractException;
 import com.s401.moas.contract.repository.ContractRepository;
+import com.s401.moas.global.cache.TwoTierCache;
 import com.s401.moas.global.util.BlockExplorerUtil;
+import com.s401.moas.member.service.dto.MemberProfileDto;
 import com.s401.moas.review.domain.Review;
 import com.s401.moas.review.exception.ReviewException;
 import com.s401.moas.review.repository.ReviewRepository;
@@ -34,6 +36,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ContractRepository contractRepository;
     private final BlockExplorerUtil blockExplorerUtil;
+    private final TwoTierCache<MemberProfileDto> memberProfileCache;
     private static final Set<ContractStatus> ALLOWED_REVIEW_STATUSES =
             EnumSet.of(ContractStatus.COMPLETED, ContractStatus.CANCELED);
     
@@ -144,6 +147,9 @@ public class ReviewService {
                 .build();
         
         Review saved = reviewRepository.save(review);
+
+        // 대상자의 공개 프로필 리뷰 통계 갱신
+        memberProfileCache.evictAfterCommit(revieweeMemberId);
         
         log.info("리뷰 저장 완료 - reviewId: {}, contractId: {}, reviewer: {}, reviewee: {}",
                 saved.getId(), contractId, reviewerMemberId, revieweeMemberId);
@@ -0,0 +1,92 @@
+-- -----------------------------------------------------
+-- 채팅 메시지 커서 조회 벤치마크 (1,000만 건 합성 데이터)
+-- 운영 스키마와 분리된 moas_bench 스키마에서 실행한다.
+--
+--   mysql -u root -p < chatmessage_paging_benchmark.sql
+--
+-- 비교 대상
+--   A) 기존: chat_member_id IN (채팅방 멤버) + ORDER BY id DESC
+--   B) 변경: chatroom_id = ? + ORDER BY id DESC ((chatroom_id, id) 인덱스)
+-- -----------------------------------------------------
+CREATE DATABASE IF NOT EXISTS `moas_bench`;
+USE `moas_bench`;
+
+DROP TABLE IF EXISTS `chatmessage`;
+DROP TABLE IF EXISTS `chat_member`;
+
+CREATE TABLE `chat_member` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `chatroom_id` BIGINT UNSIGNED NOT NULL,
+  `member_id` INT UNSIGNED NOT NULL,
+  PRIMARY KEY (`id`),
+  INDEX `idx_chat_member_chatroom_id` (`chatroom_id`)
+) ENGINE = InnoDB;
+
+CREATE TABLE `chatmessage` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `chatroom_id` BIGINT UNSIGNED NOT NULL,
+  `chat_member_id` BIGINT UNSIGNED NOT NULL,
+  `content` VARCHAR(500) NOT NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `deleted_at` DATETIME NULL DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  INDEX `idx_chatmessage_chat_member_id` (`chat_member_id`),
+  INDEX `idx_chatmessage_created_at` (`created_at`)
+) ENGINE = InnoDB;
+
+-- 채팅방 50,000개 x 2명
+SET SESSION cte_max_recursion_depth = 1000000;
+INSERT INTO `chat_member` (`chatroom_id`, `member_id`)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100000)
+SELECT (n + 1) DIV 2, n FROM seq;
+
+-- 메시지 10,000,000건 (100만 건씩 10회, 채팅방별 분포는 균등하지 않게 제곱 분포)
+DROP PROCEDURE IF EXISTS `fill_chatmessage`;
+DELIMITER $$
+CREATE PROCEDURE `fill_chatmessage`()
+BEGIN
+  DECLARE i INT DEFAULT 0;
+  WHILE i < 10 DO
+    INSERT INTO `chatmessage` (`chatroom_id`, `chat_member_id`, `content`, `created_at`)
+    WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000000)
+    SELECT c.`chatroom_id`, c.`id`, CONCAT('message ', n),
+           NOW() - INTERVAL (10000000 - (i * 1000000 + n)) SECOND
+      FROM seq
+      JOIN `chat_member` c ON c.`id` = 1 + FLOOR(POW(RAND(), 2) * 100000);
+    SET i = i + 1;
+  END WHILE;
+END$$
+DELIMITER ;
+CALL `fill_chatmessage`();
+DROP PROCEDURE `fill_chatmessage`;
+
+ANALYZE TABLE `chat_member`, `chatmessage`;
+
+-- 가장 메시지가 많은 채팅방 (최악 케이스)
+SELECT `chatroom_id`, COUNT(*) INTO @room, @cnt
+  FROM `chatmessage` GROUP BY `chatroom_id` ORDER BY COUNT(*) DESC LIMIT 1;
+SELECT @room AS chatroom_id, @cnt AS message_count;
+
+-- 중간 페이지 커서
+SELECT `id` INTO @cursor FROM `chatmessage`
+ WHERE `chatroom_id` = @room ORDER BY `id` DESC LIMIT 1 OFFSET 500;
+
+-- A) 기존 쿼리
+EXPLAIN ANALYZE
+SELECT m.* FROM `chatmessage` m
+ WHERE m.`chat_member_id` IN (SELECT c.`id` FROM `chat_member` c WHERE c.`chatroom_id` = @room)
+   AND m.`deleted_at` IS NULL
+   AND m.`id` < @cursor
+ ORDER BY m.`id` DESC
+ LIMIT 21;
+
+-- B) (chatroom_id, id) 인덱스
+ALTER TABLE `chatmessage` ADD INDEX `idx_chatmessage_chatroom_id_id` (`chatroom_id` ASC, `id` DESC);
+
+EXPLAIN ANALYZE
+SELECT m.* FROM `chatmessage` m
+ WHERE m.`chatroom_id` = @room
+   AND m.`deleted_at` IS NULL
+   AND m.`id` < @cursor
+ ORDER BY m.`id` DESC
+ LIMIT 21;
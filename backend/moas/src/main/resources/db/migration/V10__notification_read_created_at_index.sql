@@ -0,0 +1,8 @@
+-- -----------------------------------------------------
+-- 보관 기간 정리 시작점 조회용 인덱스
+-- NotificationRetentionScheduler가 정리 대상 중 가장 작은 ID(MIN(id) WHERE is_read = 1 AND created_at < ?)를
+-- 구할 때 전체 테이블을 읽지 않고 (is_read, created_at) 범위만 읽도록 한다 (보조 인덱스에 PK id 포함).
+-- 매일 정리하므로 범위는 보통 하루치 읽은 알림이다.
+-- -----------------------------------------------------
+CREATE INDEX `idx_notification_read_created_at` ON `moas_db`.`notification` (`is_read` ASC, `created_at` ASC)
+  ALGORITHM = INPLACE LOCK = NONE;
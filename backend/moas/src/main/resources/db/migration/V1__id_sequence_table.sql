@@ -0,0 +1,28 @@
+-- -----------------------------------------------------
+-- 배치 INSERT를 위한 테이블 기반 ID 생성기 도입
+-- IDENTITY 전략은 INSERT 즉시 실행이 필요해 JDBC batch가 비활성화되므로
+-- 다건 저장이 많은 엔티티를 pooled table generator(allocationSize 50)로 전환한다.
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `moas_db`.`id_sequence` (
+  `sequence_name` VARCHAR(255) NOT NULL COMMENT '대상 테이블명',
+  `next_val` BIGINT NULL DEFAULT NULL COMMENT '다음 할당 기준값',
+  PRIMARY KEY (`sequence_name`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = 'ID 생성기';
+
+-- 기존 최대 ID + allocationSize 여유분으로 시드하여 기존 행과의 충돌을 방지한다.
+INSERT INTO `moas_db`.`id_sequence` (`sequence_name`, `next_val`)
+SELECT 'project_position', COALESCE(MAX(`id`), 0) + 100 FROM `moas_db`.`project_position`
+UNION ALL
+SELECT 'chat_member', COALESCE(MAX(`id`), 0) + 100 FROM `moas_db`.`chat_member`
+UNION ALL
+SELECT 'chatmessage_file', COALESCE(MAX(`id`), 0) + 100 FROM `moas_db`.`chatmessage_file`
+UNION ALL
+SELECT 'portfolio_image', COALESCE(MAX(`id`), 0) + 100 FROM `moas_db`.`portfolio_image`
+UNION ALL
+SELECT 'portfolio_file', COALESCE(MAX(`id`), 0) + 100 FROM `moas_db`.`portfolio_file`
+UNION ALL
+SELECT 'contract_nft', COALESCE(MAX(`id`), 0) + 100 FROM `moas_db`.`contract_nft`
+ON DUPLICATE KEY UPDATE `next_val` = GREATEST(`next_val`, VALUES(`next_val`));
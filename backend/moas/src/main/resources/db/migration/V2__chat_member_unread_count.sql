@@ -0,0 +1,22 @@
+-- -----------------------------------------------------
+-- 채팅방별 안 읽은 메시지 수 비정규화
+-- 메시지 전송 시 수신자 +1, 읽음 처리 시 0으로 초기화한다.
+-- 어긋난 값은 ChatUnreadReconcileScheduler가 주기적으로 보정한다.
+-- -----------------------------------------------------
+ALTER TABLE `moas_db`.`chat_member`
+  ADD COLUMN `unread_count` INT UNSIGNED NOT NULL DEFAULT 0 COMMENT '안 읽은 메시지 수' AFTER `last_read_message_id`;
+
+-- 기존 데이터 백필 (상대방이 보낸, 삭제되지 않은, 마지막 읽은 메시지 이후 메시지 수)
+UPDATE `moas_db`.`chat_member` me
+JOIN (
+  SELECT r.`id`, COUNT(m.`id`) AS `cnt`
+    FROM `moas_db`.`chat_member` r
+    JOIN `moas_db`.`chat_member` s
+      ON s.`chatroom_id` = r.`chatroom_id` AND s.`member_id` <> r.`member_id`
+    JOIN `moas_db`.`chatmessage` m
+      ON m.`chat_member_id` = s.`id`
+     AND m.`deleted_at` IS NULL
+     AND (r.`last_read_message_id` IS NULL OR m.`id` > r.`last_read_message_id`)
+   GROUP BY r.`id`
+) c ON c.`id` = me.`id`
+SET me.`unread_count` = c.`cnt`;
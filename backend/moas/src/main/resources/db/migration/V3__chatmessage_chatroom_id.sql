@@ -0,0 +1,58 @@
+-- -----------------------------------------------------
+-- chatmessage.chatroom_id 비정규화
+-- 채팅방 메시지 커서 조회가 chat_member IN 서브쿼리 + 정렬 대신
+-- (chatroom_id, id) 인덱스 역순 범위 스캔으로 처리되도록 한다.
+--
+-- 적용 순서 (무중단, 롤링 배포)
+--   V3 - chatroom_id를 저장하는 애플리케이션과 함께 배포
+--     1) 컬럼 추가 (NULL 허용, INSTANT)
+--     2) 기존 메시지 청크 단위 백필 (id 범위 1만 건씩, 청크마다 커밋)
+--     3) 인덱스 생성 (INPLACE, LOCK=NONE)
+--   V9 - 이전 버전 인스턴스가 모두 내려간 뒤 다음 배포에서 적용
+--     4) 롤링 배포 중 이전 버전이 chatroom_id 없이 저장한 메시지 재백필 후 NOT NULL 전환
+--
+-- 롤링 배포 중에는 이전 버전 인스턴스가 chatroom_id 없이 INSERT 하므로 V3에서는 NOT NULL로 바꾸지 않는다.
+-- V3와 V9가 한 번에 배포되는 환경에서는 첫 배포를 FLYWAY_TARGET=8로 적용하고,
+-- 모든 인스턴스가 교체된 뒤 FLYWAY_TARGET 없이 다시 배포한다.
+-- -----------------------------------------------------
+
+-- 1) 컬럼 추가
+ALTER TABLE `moas_db`.`chatmessage`
+  ADD COLUMN `chatroom_id` BIGINT UNSIGNED NULL DEFAULT NULL COMMENT '채팅방 ID' AFTER `id`,
+  ALGORITHM = INSTANT;
+
+-- 2) 기존 메시지 청크 단위 백필
+-- 한 번에 전체를 UPDATE 하면 긴 트랜잭션과 넓은 행 잠금이 생기므로 PK 범위로 나누어 처리한다.
+DROP PROCEDURE IF EXISTS `moas_db`.`backfill_chatmessage_chatroom_id`;
+
+DELIMITER $$
+CREATE PROCEDURE `moas_db`.`backfill_chatmessage_chatroom_id`(IN p_chunk_size INT)
+BEGIN
+  DECLARE v_start BIGINT UNSIGNED DEFAULT 0;
+  DECLARE v_max BIGINT UNSIGNED;
+
+  SELECT COALESCE(MAX(`id`), 0) INTO v_max FROM `moas_db`.`chatmessage`;
+
+  WHILE v_start <= v_max DO
+    UPDATE `moas_db`.`chatmessage` m
+      JOIN `moas_db`.`chat_member` c ON c.`id` = m.`chat_member_id`
+       SET m.`chatroom_id` = c.`chatroom_id`
+     WHERE m.`id` > v_start
+       AND m.`id` <= v_start + p_chunk_size
+       AND m.`chatroom_id` IS NULL;
+    COMMIT;
+
+    SET v_start = v_start + p_chunk_size;
+    -- 복제 지연 완화를 위한 짧은 대기
+    DO SLEEP(0.05);
+  END WHILE;
+END$$
+DELIMITER ;
+
+CALL `moas_db`.`backfill_chatmessage_chatroom_id`(10000);
+DROP PROCEDURE `moas_db`.`backfill_chatmessage_chatroom_id`;
+
+-- 3) 인덱스 생성 (NOT NULL 전환은 V9)
+ALTER TABLE `moas_db`.`chatmessage`
+  ADD INDEX `idx_chatmessage_chatroom_id_id` (`chatroom_id` ASC, `id` DESC),
+  ALGORITHM = INPLACE, LOCK = NONE;
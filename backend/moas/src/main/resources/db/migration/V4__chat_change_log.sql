@@ -0,0 +1,29 @@
+-- -----------------------------------------------------
+-- 재연결 델타 동기화용 회원별 채팅 변경 로그
+-- seq는 회원마다 1부터 빈틈없이 증가하며 chat_sync_sequence 행 잠금으로 발급한다.
+-- 보관 기간(chat.sync.retention-days)이 지난 로그는 ChatChangeLogCleanupScheduler가 삭제한다.
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `moas_db`.`chat_sync_sequence` (
+  `member_id` INT UNSIGNED NOT NULL COMMENT '회원 ID',
+  `last_seq` BIGINT UNSIGNED NOT NULL COMMENT '마지막 발급 seq',
+  PRIMARY KEY (`member_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = '회원별 채팅 변경 seq';
+
+CREATE TABLE IF NOT EXISTS `moas_db`.`chat_change_log` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '변경 로그 ID',
+  `member_id` INT UNSIGNED NOT NULL COMMENT '회원 ID',
+  `seq` BIGINT UNSIGNED NOT NULL COMMENT '회원별 변경 seq',
+  `chatroom_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅방 ID',
+  `change_type` VARCHAR(20) NOT NULL COMMENT '변경 유형 (MESSAGE, READ, MEMBERSHIP, BLOCK)',
+  `ref_id` BIGINT UNSIGNED NULL DEFAULT NULL COMMENT '참조 ID (메시지 ID, 읽은 메시지 ID)',
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `uk_chat_change_log_member_seq` (`member_id` ASC, `seq` ASC) VISIBLE,
+  INDEX `idx_chat_change_log_created_at` (`created_at` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = '채팅 변경 로그 (델타 동기화용)';
@@ -0,0 +1,54 @@
+-- -----------------------------------------------------
+-- chatmessage 월별 파티션 + 아카이브 테이블
+-- chatmessage를 id 기준 RANGE 파티션(p{yyyyMM}, p_future)으로 나누고,
+-- 보관 기간(chat.archive.after-months)이 지난 월 파티션은 ChatMessageArchiveScheduler가
+-- chatmessage_archive로 복사한 뒤 DROP PARTITION 한다.
+--
+-- 파티션 경계는 월마다 chat.archive.ids-per-month 만큼의 ID 구간을 미리 배정하고,
+-- 달이 바뀌면 AUTO_INCREMENT를 새 파티션 시작 값으로 올린다 (ID는 월 경계에서 건너뛴다).
+--
+-- 주의: 3) 파티션 전환은 테이블 전체를 다시 쓰므로 운영 DB에서는 트래픽이 적은 시간에 적용하거나
+--       온라인 스키마 변경 도구로 수행한다.
+-- -----------------------------------------------------
+
+-- 1) 아카이브 테이블 (압축 행 포맷, 조회 전용)
+CREATE TABLE IF NOT EXISTS `moas_db`.`chatmessage_archive` (
+  `id` BIGINT UNSIGNED NOT NULL COMMENT '메시지 ID (원본 ID 유지)',
+  `chatroom_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅방 ID',
+  `chat_member_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅 멤버 ID',
+  `content` VARCHAR(500) NOT NULL COMMENT '메시지 내용',
+  `created_at` DATETIME NOT NULL COMMENT '생성일시',
+  `deleted_at` DATETIME NULL DEFAULT NULL COMMENT '삭제일시',
+  PRIMARY KEY (`id`),
+  INDEX `idx_chatmessage_archive_chatroom_id_id` (`chatroom_id` ASC, `id` DESC) VISIBLE)
+ENGINE = InnoDB
+ROW_FORMAT = COMPRESSED
+KEY_BLOCK_SIZE = 8
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = '채팅 메시지 아카이브';
+
+-- 2) 기존 메시지는 지난달 파티션, 이후 메시지는 이번 달 파티션에 오도록 경계 계산
+DROP PROCEDURE IF EXISTS `moas_db`.`partition_chatmessage`;
+
+DELIMITER $$
+CREATE PROCEDURE `moas_db`.`partition_chatmessage`(IN p_ids_per_month BIGINT)
+BEGIN
+  DECLARE v_start BIGINT UNSIGNED;
+
+  SELECT COALESCE(MAX(`id`), 0) + 1 INTO v_start FROM `moas_db`.`chatmessage`;
+
+  -- 3) 파티션 전환
+  SET @ddl = CONCAT(
+    'ALTER TABLE `moas_db`.`chatmessage` PARTITION BY RANGE (`id`) (',
+    'PARTITION p', DATE_FORMAT(CURDATE() - INTERVAL 1 MONTH, '%Y%m'), ' VALUES LESS THAN (', v_start, '), ',
+    'PARTITION p', DATE_FORMAT(CURDATE(), '%Y%m'), ' VALUES LESS THAN (', v_start + p_ids_per_month, '), ',
+    'PARTITION p_future VALUES LESS THAN MAXVALUE)');
+  PREPARE stmt FROM @ddl;
+  EXECUTE stmt;
+  DEALLOCATE PREPARE stmt;
+END$$
+DELIMITER ;
+
+CALL `moas_db`.`partition_chatmessage`(1000000000);
+DROP PROCEDURE `moas_db`.`partition_chatmessage`;
@@ -0,0 +1,17 @@
+-- -----------------------------------------------------
+-- 채팅 메시지 검색용 bigram 역색인
+-- 메시지 저장/삭제 트랜잭션 안에서 ChatSearchIndexer가 토큰 행을 추가/삭제한다.
+-- PK (token, chatroom_id, message_id) 순서로 "토큰 + 참여 중인 채팅방" 범위만 읽는다.
+-- token은 대소문자/악센트가 다른 bigram이 같은 키로 충돌하지 않도록 utf8mb4_bin을 사용한다.
+--
+-- 기존 메시지는 chat.search.backfill-cron을 지정해 ChatSearchIndexBackfillScheduler로 색인한다.
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `moas_db`.`chat_message_token` (
+  `token` VARCHAR(8) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT 'bigram 토큰',
+  `chatroom_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅방 ID',
+  `message_id` BIGINT UNSIGNED NOT NULL COMMENT '메시지 ID',
+  PRIMARY KEY (`token`, `chatroom_id`, `message_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = '채팅 메시지 검색 색인';
@@ -0,0 +1,7 @@
+-- -----------------------------------------------------
+-- 알림 목록 커서 페이징용 인덱스
+-- 기존 idx_notification_member_read (member_id, is_read, id DESC)는 읽음 여부가 중간에 있어
+-- 회원 전체 알림을 id 순으로 읽을 수 없으므로(filesort) 목록 조회용 인덱스를 따로 둔다.
+-- 기존 인덱스는 안 읽은 알림 수 집계에 계속 사용한다.
+-- -----------------------------------------------------
+CREATE INDEX `idx_notification_member_id` ON `moas_db`.`notification` (`member_id` ASC, `id` DESC);
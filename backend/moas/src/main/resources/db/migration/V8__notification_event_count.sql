@@ -0,0 +1,7 @@
+-- -----------------------------------------------------
+-- 묶음 알림 이벤트 수
+-- 짧은 시간에 몰린 같은 알림(회원, 유형, 관련 ID)이나 다이제스트 알림을 한 행으로 저장하고 묶인 이벤트 수를 기록한다.
+-- 기존 알림은 모두 이벤트 하나이므로 기본값 1을 사용한다.
+-- -----------------------------------------------------
+ALTER TABLE `moas_db`.`notification`
+  ADD COLUMN `event_count` INT UNSIGNED NOT NULL DEFAULT 1 COMMENT '묶인 이벤트 수' AFTER `is_read`;
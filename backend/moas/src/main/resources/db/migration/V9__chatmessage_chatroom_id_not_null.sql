@@ -0,0 +1,42 @@
+-- -----------------------------------------------------
+-- chatmessage.chatroom_id NOT NULL 전환 (V3의 마지막 단계)
+--
+-- chatroom_id를 저장하는 애플리케이션(V3과 함께 배포)이 모든 인스턴스에 배포된 뒤에 적용한다.
+-- 롤링 배포 중 이전 버전 인스턴스가 chatroom_id 없이 저장한 메시지를 다시 백필한 후 NOT NULL로 바꾼다.
+-- 이 시점에는 NULL로 저장하는 인스턴스가 없으므로 백필과 전환 사이에 새 NULL 행이 생기지 않는다.
+-- -----------------------------------------------------
+
+-- 1) 남은 NULL 행 재백필 (V3와 같은 청크 단위)
+DROP PROCEDURE IF EXISTS `moas_db`.`backfill_chatmessage_chatroom_id`;
+
+DELIMITER $$
+CREATE PROCEDURE `moas_db`.`backfill_chatmessage_chatroom_id`(IN p_chunk_size INT)
+BEGIN
+  DECLARE v_start BIGINT UNSIGNED DEFAULT 0;
+  DECLARE v_max BIGINT UNSIGNED;
+
+  SELECT COALESCE(MAX(`id`), 0) INTO v_max FROM `moas_db`.`chatmessage`;
+
+  WHILE v_start <= v_max DO
+    UPDATE `moas_db`.`chatmessage` m
+      JOIN `moas_db`.`chat_member` c ON c.`id` = m.`chat_member_id`
+       SET m.`chatroom_id` = c.`chatroom_id`
+     WHERE m.`id` > v_start
+       AND m.`id` <= v_start + p_chunk_size
+       AND m.`chatroom_id` IS NULL;
+    COMMIT;
+
+    SET v_start = v_start + p_chunk_size;
+    -- 복제 지연 완화를 위한 짧은 대기
+    DO SLEEP(0.05);
+  END WHILE;
+END$$
+DELIMITER ;
+
+CALL `moas_db`.`backfill_chatmessage_chatroom_id`(10000);
+DROP PROCEDURE `moas_db`.`backfill_chatmessage_chatroom_id`;
+
+-- 2) NOT NULL 전환
+ALTER TABLE `moas_db`.`chatmessage`
+  MODIFY COLUMN `chatroom_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅방 ID',
+  ALGORITHM = INPLACE, LOCK = NONE;
@@ -136,6 +136,39 @@ COLLATE = utf8mb4_0900_ai_ci
 COMMENT = '직무 카테고리';
 
 
+-- -----------------------------------------------------
+-- Table `moas_db`.`chat_change_log`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `moas_db`.`chat_change_log` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '변경 로그 ID',
+  `member_id` INT UNSIGNED NOT NULL COMMENT '회원 ID',
+  `seq` BIGINT UNSIGNED NOT NULL COMMENT '회원별 변경 seq',
+  `chatroom_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅방 ID',
+  `change_type` VARCHAR(20) NOT NULL COMMENT '변경 유형 (MESSAGE, READ, MEMBERSHIP, BLOCK)',
+  `ref_id` BIGINT UNSIGNED NULL DEFAULT NULL COMMENT '참조 ID (메시지 ID, 읽은 메시지 ID)',
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `uk_chat_change_log_member_seq` (`member_id` ASC, `seq` ASC) VISIBLE,
+  INDEX `idx_chat_change_log_created_at` (`created_at` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = '채팅 변경 로그 (델타 동기화용)';
+
+
+-- -----------------------------------------------------
+-- Table `moas_db`.`chat_sync_sequence`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `moas_db`.`chat_sync_sequence` (
+  `member_id` INT UNSIGNED NOT NULL COMMENT '회원 ID',
+  `last_seq` BIGINT UNSIGNED NOT NULL COMMENT '마지막 발급 seq',
+  PRIMARY KEY (`member_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = '회원별 채팅 변경 seq';
+
+
 -- -----------------------------------------------------
 -- Table `moas_db`.`chat_member`
 -- -----------------------------------------------------
@@ -146,6 +179,7 @@ CREATE TABLE IF NOT EXISTS `moas_db`.`chat_member` (
   `joined_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '참여일시',
   `left_at` DATETIME NULL DEFAULT NULL COMMENT '퇴장일시',
   `last_read_message_id` BIGINT UNSIGNED NULL DEFAULT NULL COMMENT '마지막 읽은 메시지 ID',
+  `unread_count` INT UNSIGNED NOT NULL DEFAULT 0 COMMENT '안 읽은 메시지 수',
   `is_blocked` TINYINT(1) NOT NULL DEFAULT '0' COMMENT '차단 여부',
   `is_valid` TINYINT(1) NOT NULL DEFAULT '1' COMMENT '유효 여부',
   PRIMARY KEY (`id`),
@@ -163,17 +197,56 @@ COMMENT = '채팅방 참여자';
 -- -----------------------------------------------------
 CREATE TABLE IF NOT EXISTS `moas_db`.`chatmessage` (
   `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '메시지 ID',
+  `chatroom_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅방 ID',
   `chat_member_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅 멤버 ID',
   `content` VARCHAR(500) NOT NULL COMMENT '메시지 내용',
   `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
   `deleted_at` DATETIME NULL DEFAULT NULL COMMENT '삭제일시',
   PRIMARY KEY (`id`),
+  INDEX `idx_chatmessage_chatroom_id_id` (`chatroom_id` ASC, `id` DESC) VISIBLE,
   INDEX `idx_chatmessage_chat_member_id` (`chat_member_id` ASC) VISIBLE,
   INDEX `idx_chatmessage_created_at` (`created_at` ASC) VISIBLE)
 ENGINE = InnoDB
 DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci
-COMMENT = '채팅 메시지';
+COMMENT = '채팅 메시지'
+-- 월 파티션은 ChatMessageArchiveScheduler가 p_future를 나누어 추가한다
+PARTITION BY RANGE (`id`) (
+  PARTITION p_future VALUES LESS THAN MAXVALUE);
+
+
+-- -----------------------------------------------------
+-- Table `moas_db`.`chatmessage_archive`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `moas_db`.`chatmessage_archive` (
+  `id` BIGINT UNSIGNED NOT NULL COMMENT '메시지 ID (원본 ID 유지)',
+  `chatroom_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅방 ID',
+  `chat_member_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅 멤버 ID',
+  `content` VARCHAR(500) NOT NULL COMMENT '메시지 내용',
+  `created_at` DATETIME NOT NULL COMMENT '생성일시',
+  `deleted_at` DATETIME NULL DEFAULT NULL COMMENT '삭제일시',
+  PRIMARY KEY (`id`),
+  INDEX `idx_chatmessage_archive_chatroom_id_id` (`chatroom_id` ASC, `id` DESC) VISIBLE)
+ENGINE = InnoDB
+ROW_FORMAT = COMPRESSED
+KEY_BLOCK_SIZE = 8
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = '채팅 메시지 아카이브';
+
+
+-- -----------------------------------------------------
+-- Table `moas_db`.`chat_message_token`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `moas_db`.`chat_message_token` (
+  `token` VARCHAR(8) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT 'bigram 토큰',
+  `chatroom_id` BIGINT UNSIGNED NOT NULL COMMENT '채팅방 ID',
+  `message_id` BIGINT UNSIGNED NOT NULL COMMENT '메시지 ID',
+  PRIMARY KEY (`token`, `chatroom_id`, `message_id`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = '채팅 메시지 검색 색인';
 
 
 -- -----------------------------------------------------
@@ -311,6 +384,19 @@ COLLATE = utf8mb4_0900_ai_ci
 COMMENT = '수수료 정책';
 
 
+-- -----------------------------------------------------
+-- Table `moas_db`.`id_sequence`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `moas_db`.`id_sequence` (
+  `sequence_name` VARCHAR(255) NOT NULL COMMENT '대상 테이블명',
+  `next_val` BIGINT NULL DEFAULT NULL COMMENT '다음 할당 기준값',
+  PRIMARY KEY (`sequence_name`))
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci
+COMMENT = 'ID 생성기 (pooled table generator)';
+
+
 -- -----------------------------------------------------
 -- Table `moas_db`.`inquiry`
 -- -----------------------------------------------------
@@ -0,0 +1,67 @@
+package com.s401.moas.chat.service;
+
+import com.s401.moas.chat.exception.ChatException;
+import com.s401.moas.global.service.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatFileUploaderTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private S3Service s3Service;
+    private ChatFileUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = mock(S3Service.class);
+        uploader = new ChatFileUploader(s3Service, executor);
+    }
+
+    @Test
+    void 업로드_결과는_요청_순서를_유지한다() throws IOException {
+        MultipartFile first = file("a.png");
+        MultipartFile second = file("b.png");
+        when(s3Service.upload(eq(first), anyString())).thenReturn("https://s3/a.png");
+        when(s3Service.upload(eq(second), anyString())).thenReturn("https://s3/b.png");
+
+        List<ChatFileUploader.UploadedFile> uploaded = uploader.uploadAll(List.of(first, second));
+
+        assertThat(uploaded).extracting(ChatFileUploader.UploadedFile::fileUrl)
+                .containsExactly("https://s3/a.png", "https://s3/b.png");
+        verify(s3Service, never()).delete(anyString());
+    }
+
+    @Test
+    void 하나라도_실패하면_성공한_파일을_삭제한다() throws IOException {
+        MultipartFile ok = file("ok.png");
+        MultipartFile broken = file("broken.png");
+        when(s3Service.upload(eq(ok), anyString())).thenReturn("https://s3/ok.png");
+        when(s3Service.upload(eq(broken), anyString())).thenThrow(new IOException("network"));
+
+        assertThatThrownBy(() -> uploader.uploadAll(List.of(ok, broken)))
+                .isInstanceOf(ChatException.class);
+
+        verify(s3Service).delete("https://s3/ok.png");
+    }
+
+    private static MultipartFile file(String name) {
+        return new MockMultipartFile("files", name, "image/png", new byte[]{1, 2, 3});
+    }
+}
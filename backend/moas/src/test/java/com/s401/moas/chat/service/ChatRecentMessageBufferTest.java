@@ -0,0 +1,136 @@
+package com.s401.moas.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.s401.moas.chat.service.dto.GetChatMessagesDto;
+import com.s401.moas.global.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis는 장애 상태로 두고 로컬 버퍼 동작만 검증한다.
+ */
+class ChatRecentMessageBufferTest {
+
+    private ChatRecentMessageBuffer buffer;
+    private CacheInvalidationBus invalidationBus;
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForZSet()).thenThrow(new IllegalStateException("redis down"));
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        invalidationBus = new CacheInvalidationBus(redisTemplate, objectMapper);
+        buffer = new ChatRecentMessageBuffer(redisTemplate, objectMapper, new SimpleMeterRegistry(), invalidationBus,
+                true, 5, 1_000, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void 채워진_버퍼로_첫_페이지를_응답한다() {
+        buffer.warm(1L, new ChatRecentMessageBuffer.Page(messages(10, 6), true));
+
+        ChatRecentMessageBuffer.Page page = buffer.getLatest(1L, 10L, 3).orElseThrow();
+
+        assertThat(page.messages()).extracting(GetChatMessagesDto.MessageDto::getMessageId)
+                .containsExactly(10L, 9L, 8L);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void 최신_메시지_ID가_다르면_버퍼를_사용하지_않는다() {
+        buffer.warm(1L, new ChatRecentMessageBuffer.Page(messages(10, 6), true));
+
+        assertThat(buffer.getLatest(1L, 11L, 3)).isEmpty();
+    }
+
+    @Test
+    void 전송된_메시지는_앞에_추가되고_용량을_넘으면_오래된_메시지가_밀려난다() {
+        buffer.warm(1L, new ChatRecentMessageBuffer.Page(messages(3, 1), false));
+
+        buffer.appendAfterCommit(1L, message(4));
+        buffer.appendAfterCommit(1L, message(5));
+        buffer.appendAfterCommit(1L, message(6));
+
+        ChatRecentMessageBuffer.Page page = buffer.getLatest(1L, 6L, 5).orElseThrow();
+        assertThat(page.messages()).extracting(GetChatMessagesDto.MessageDto::getMessageId)
+                .containsExactly(6L, 5L, 4L, 3L, 2L);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void 버퍼가_없는_채팅방에_추가한_메시지는_이전_메시지를_모르는_상태로_보관한다() {
+        buffer.appendAfterCommit(1L, message(1));
+
+        assertThat(buffer.getLatest(1L, 1L, 1).orElseThrow().hasNext()).isTrue();
+        assertThat(buffer.getLatest(1L, 1L, 2)).isEmpty();
+    }
+
+    @Test
+    void 첫_페이지_조회_중에_커밋된_메시지는_버퍼를_채울_때_사라지지_않는다() {
+        // given - DB에서 첫 페이지(10~6)를 읽는 동안 메시지 11이 커밋되어 추가됨
+        List<GetChatMessagesDto.MessageDto> loaded = messages(10, 6);
+        buffer.appendAfterCommit(1L, message(11));
+
+        // when - 읽어 둔 첫 페이지로 버퍼를 채움
+        buffer.warm(1L, new ChatRecentMessageBuffer.Page(loaded, true));
+
+        // then
+        ChatRecentMessageBuffer.Page page = buffer.getLatest(1L, 11L, 3).orElseThrow();
+        assertThat(page.messages()).extracting(GetChatMessagesDto.MessageDto::getMessageId)
+                .containsExactly(11L, 10L, 9L);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void 보관_개수보다_많이_요청하면_전체_메시지를_보관중일_때만_응답한다() {
+        buffer.warm(1L, new ChatRecentMessageBuffer.Page(messages(2, 1), false));
+        buffer.warm(2L, new ChatRecentMessageBuffer.Page(messages(12, 11), true));
+
+        assertThat(buffer.getLatest(1L, 2L, 5).orElseThrow().hasNext()).isFalse();
+        assertThat(buffer.getLatest(2L, 12L, 5)).isEmpty();
+    }
+    @Test
+    void 다른_노드에서_버퍼를_제거하면_로컬_버퍼도_제거된다() {
+        buffer.warm(1L, new ChatRecentMessageBuffer.Page(messages(3, 1), false));
+        assertThat(buffer.getLatest(1L, 3L, 3)).isPresent();
+
+        invalidationBus.onMessage(new DefaultMessage(
+                CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "{\"nodeId\":\"other-node\",\"cache\":\"chat-recent-messages\",\"key\":\"1\"}"
+                        .getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(buffer.getLatest(1L, 3L, 3)).isEmpty();
+    }
+
+    private static List<GetChatMessagesDto.MessageDto> messages(long fromId, long toId) {
+        return LongStream.rangeClosed(toId, fromId)
+                .map(id -> fromId + toId - id)
+                .mapToObj(ChatRecentMessageBufferTest::message)
+                .toList();
+    }
+
+    private static GetChatMessagesDto.MessageDto message(long id) {
+        return GetChatMessagesDto.MessageDto.builder()
+                .messageId(id)
+                .senderId(1)
+                .senderName("회원1")
+                .content("메시지 " + id)
+                .createdAt(LocalDateTime.now())
+                .files(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.s401.moas.chat.service;
+
+import com.s401.moas.member.domain.Member;
+import com.s401.moas.member.domain.OAuthProvider;
+import com.s401.moas.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 대화 데이터에서 bigram 역색인 검색(ChatService.searchMessages)과 LIKE 전체 검색의 조회 시간을 비교한다.
+ * 매 반복마다 두 방식의 결과(최신 PAGE_SIZE건)가 같은지 확인하고, 다르거나 예외가 난 반복이 있으면 실패로 본다.
+ *
+ * 실행: ./gradlew loadTest
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ChatSearchIndexLoadTest {
+
+    private static final int ROOMS = 500;
+    private static final int MESSAGES = 100_000;
+    private static final int MY_ROOMS = 50;
+    private static final int PAGE_SIZE = 20;
+    private static final int ITERATIONS = 20;
+    private static final String QUERY = "회의록";
+
+    private static final String[] WORDS = {
+            "안녕하세요", "내일", "오늘", "프로젝트", "일정", "확인", "부탁드립니다", "감사합니다", "디자인", "시안",
+            "수정", "요청", "계약서", "검토", "회의", "시간", "변경", "공유", "드릴게요", "파일", "전달", "완료",
+            "했습니다", "진행", "상황", "알려주세요", "의견", "기록", "정리", "예산", "견적", "마감", "연장"
+    };
+
+    private static final String INSERT_CHAT_MEMBER_SQL = """
+            INSERT INTO chat_member (id, chatroom_id, member_id, joined_at, unread_count, is_blocked, is_valid)
+            VALUES (?, ?, ?, ?, 0, false, true)
+            """;
+
+    private static final String LIKE_SQL = """
+            SELECT id FROM chatmessage
+             WHERE chatroom_id IN (%s) AND deleted_at IS NULL AND content LIKE ?
+             ORDER BY id DESC
+             LIMIT ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChatSearchIndexer chatSearchIndexer;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void 역색인_검색은_LIKE_전체_검색과_같은_결과를_반환한다() {
+        // given - 모든 채팅방에 발신자가 있고 나는 앞의 MY_ROOMS개 채팅방에만 참여, 1% 메시지에 검색어 포함
+        long firstRoomId = 1_000_000L;
+        long firstSenderChatMemberId = 1_000_000L;
+        long firstMyChatMemberId = 2_000_000L;
+        Integer senderId = saveMember("발신자", "load_sender").getId();
+        Integer myId = saveMember("검색자", "load_searcher").getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> chatMembers = new ArrayList<>(ROOMS + MY_ROOMS);
+        for (int room = 0; room < ROOMS; room++) {
+            chatMembers.add(new Object[]{firstSenderChatMemberId + room, firstRoomId + room, senderId, now});
+        }
+        for (int room = 0; room < MY_ROOMS; room++) {
+            chatMembers.add(new Object[]{firstMyChatMemberId + room, firstRoomId + room, myId, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHAT_MEMBER_SQL, chatMembers);
+
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            StringBuilder content = new StringBuilder();
+            int wordCount = 3 + random.nextInt(10);
+            for (int w = 0; w < wordCount; w++) {
+                content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            if (random.nextInt(100) == 0) {
+                content.append(QUERY).append("을 공유드립니다");
+            }
+            int room = random.nextInt(ROOMS);
+            rows.add(new Object[]{firstRoomId + room, firstSenderChatMemberId + room, content.toString().trim(), now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO chatmessage (chatroom_id, chat_member_id, content, created_at) VALUES (?, ?, ?, ?)", rows);
+
+        long indexStart = System.nanoTime();
+        Long afterId = 0L;
+        while (afterId != null) {
+            afterId = chatSearchIndexer.backfill(afterId, 1_000);
+        }
+        long indexMs = (System.nanoTime() - indexStart) / 1_000_000;
+
+        List<Long> myRooms = LongStream.range(firstRoomId, firstRoomId + MY_ROOMS).boxed().toList();
+        String likeSql = LIKE_SQL.formatted(myRooms.stream().map(String::valueOf).collect(Collectors.joining(",")));
+
+        // when
+        List<Long> likeResult = List.of();
+        long likeNanos = 0;
+        long indexNanos = 0;
+        int mismatches = 0;
+        int errors = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            likeResult = jdbcTemplate.queryForList(likeSql, Long.class, "%" + QUERY + "%", PAGE_SIZE);
+            likeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            try {
+                List<Long> indexResult = chatService.searchMessages(myId, QUERY, null, null, PAGE_SIZE)
+                        .getResults().stream()
+                        .map(result -> result.getMessage().getMessageId())
+                        .toList();
+                if (!indexResult.equals(likeResult)) {
+                    mismatches++;
+                }
+            } catch (RuntimeException e) {
+                errors++;
+                log.warn("[search] 검색 실패: iteration={}, error={}", i, e.getMessage());
+            }
+            indexNanos += System.nanoTime() - start;
+        }
+
+        log.info("[search] messages={} rooms={} myRooms={} indexBuild={}ms",
+                MESSAGES, ROOMS, MY_ROOMS, indexMs);
+        log.info("[search] like  avg={}ms", likeNanos / ITERATIONS / 1_000_000.0);
+        log.info("[search] index avg={}ms mismatches={} errors={}",
+                indexNanos / ITERATIONS / 1_000_000.0, mismatches, errors);
+
+        // then
+        assertThat(likeResult).isNotEmpty();
+        assertThat(errors).isZero();
+        assertThat(mismatches).isZero();
+    }
+
+    private Member saveMember(String nickname, String providerId) {
+        return memberRepository.save(Member.builder()
+                .nickname(nickname)
+                .provider(OAuthProvider.KAKAO)
+                .providerId(providerId)
+                .build());
+    }
+}
@@ -4,15 +4,20 @@ import com.s401.moas.chat.controller.request.CreateChatroomRequest;
 import com.s401.moas.chat.controller.request.SendMessageRequest;
 import com.s401.moas.chat.domain.ChatMember;
 import com.s401.moas.chat.domain.ChatMessage;
+import com.s401.moas.chat.domain.ChatMessageArchive;
 import com.s401.moas.chat.domain.ChatMessageFile;
 import com.s401.moas.chat.domain.Chatroom;
 import com.s401.moas.chat.exception.ChatException;
 import com.s401.moas.chat.repository.ChatMemberRepository;
+import com.s401.moas.chat.repository.ChatMessageArchiveRepository;
 import com.s401.moas.chat.repository.ChatMessageFileRepository;
 import com.s401.moas.chat.repository.ChatMessageRepository;
 import com.s401.moas.chat.repository.ChatroomRepository;
+import com.s401.moas.chat.service.dto.ChatSearchDto;
+import com.s401.moas.chat.service.dto.ChatSyncDto;
 import com.s401.moas.chat.service.dto.ChatroomListDto;
 import com.s401.moas.chat.service.dto.CreateChatroomDto;
+import com.s401.moas.chat.service.dto.DeleteMessageDto;
 import com.s401.moas.chat.service.dto.GetChatMessagesDto;
 import com.s401.moas.chat.service.dto.SendMessageDto;
 import com.s401.moas.global.service.S3Service;
@@ -22,6 +27,7 @@ import com.s401.moas.member.repository.MemberRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -67,6 +73,15 @@ class ChatServiceTest {
     @Autowired
     private ChatMessageFileRepository chatMessageFileRepository;
 
+    @Autowired
+    private ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+    @Autowired
+    private ChatReadPointerBuffer readPointerBuffer;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @MockBean  // S3Service를 Mock으로 대체
     private S3Service s3Service;
 
@@ -232,6 +247,7 @@ class ChatServiceTest {
 
         // 채팅방 1에 오래된 메시지 생성
         ChatMessage oldMessage = ChatMessage.builder()
+                .chatroomId(chatroom1Member2.getChatroomId())
                 .chatMemberId(chatroom1Member2.getId())
                 .content("오래된 메시지")
                 .build();
@@ -246,6 +262,7 @@ class ChatServiceTest {
 
         // 채팅방 2에 최신 메시지 생성
         ChatMessage newMessage = ChatMessage.builder()
+                .chatroomId(chatroom2Member3.getChatroomId())
                 .chatMemberId(chatroom2Member3.getId())
                 .content("최신 메시지")
                 .build();
@@ -279,18 +296,21 @@ class ChatServiceTest {
 
         // 메시지 3개 생성
         ChatMessage message1 = ChatMessage.builder()
+                .chatroomId(member2ChatMember.getChatroomId())
                 .chatMemberId(member2ChatMember.getId())
                 .content("메시지 1")
                 .build();
         chatMessageRepository.save(message1);
 
         ChatMessage message2 = ChatMessage.builder()
+                .chatroomId(member2ChatMember.getChatroomId())
                 .chatMemberId(member2ChatMember.getId())
                 .content("메시지 2")
                 .build();
         chatMessageRepository.save(message2);
 
         ChatMessage message3 = ChatMessage.builder()
+                .chatroomId(member2ChatMember.getChatroomId())
                 .chatMemberId(member2ChatMember.getId())
                 .content("메시지 3")
                 .build();
@@ -305,6 +325,9 @@ class ChatServiceTest {
         member1ChatMember.updateLastReadMessage(message1.getId());
         chatMemberRepository.save(member1ChatMember);
 
+        // 서비스를 거치지 않고 저장했으므로 unread_count 보정 작업으로 맞춘다
+        chatService.reconcileUnreadCounts(0L, 1000);
+
         // when
         ChatroomListDto result = chatService.getChatroomList(member1.getId());
 
@@ -313,6 +336,25 @@ class ChatServiceTest {
         assertThat(result.getChatrooms().get(0).getUnreadCount()).isEqualTo(2);
     }
 
+    @Test
+    void 전체_안읽은_메시지_수는_채팅방별_합계() {
+        // given - member2, member3이 각각 member1에게 메시지 전송
+        Member member3 = saveMember("회원3", "provider_id_3");
+        for (Member other : List.of(member2, member3)) {
+            CreateChatroomRequest request = CreateChatroomRequest.builder()
+                    .projectId(projectId)
+                    .otherMemberId(other.getId())
+                    .build();
+            Long chatroomId = chatService.createChatroom(member1.getId(), request).getChatroomId();
+            chatService.sendMessage(other.getId(), chatroomId, new SendMessageRequest("메시지 1", null));
+            chatService.sendMessage(other.getId(), chatroomId, new SendMessageRequest("메시지 2", null));
+        }
+
+        // when & then
+        assertThat(chatService.getTotalUnreadCount(member1.getId()).getTotalUnreadCount()).isEqualTo(4);
+        assertThat(chatService.getTotalUnreadCount(member2.getId()).getTotalUnreadCount()).isZero();
+    }
+
     @Test
     void 빈_채팅방_목록_조회() {
         // given - member1은 어떤 채팅방에도 참여하지 않음
@@ -324,6 +366,39 @@ class ChatServiceTest {
         assertThat(result.getChatrooms()).isEmpty();
     }
 
+    @Test
+    void 채팅방_목록_커서_페이지네이션() {
+        // given - member1이 member2, member3, member4와 각각 채팅방 생성, 두 방에만 메시지 전송
+        List<Long> chatroomIds = new ArrayList<>();
+        for (Member other : List.of(member2, saveMember("회원3", "provider_id_3"), saveMember("회원4", "provider_id_4"))) {
+            CreateChatroomRequest request = CreateChatroomRequest.builder()
+                    .projectId(projectId)
+                    .otherMemberId(other.getId())
+                    .build();
+            chatroomIds.add(chatService.createChatroom(member1.getId(), request).getChatroomId());
+        }
+        chatService.sendMessage(member1.getId(), chatroomIds.get(0), new SendMessageRequest("첫 번째 방", null));
+        chatService.sendMessage(member1.getId(), chatroomIds.get(1), new SendMessageRequest("두 번째 방", null));
+
+        // when
+        ChatroomListDto firstPage = chatService.getChatroomList(member1.getId(), null, null, 2);
+        ChatroomListDto secondPage = chatService.getChatroomList(member1.getId(),
+                firstPage.getNextCursorMessageId(), firstPage.getNextCursorChatroomId(), 2);
+
+        // then - 최신 메시지 순, 메시지 없는 방은 마지막 페이지
+        assertThat(firstPage.getHasNext()).isTrue();
+        assertThat(firstPage.getChatrooms())
+                .extracting(ChatroomListDto.ChatroomItemDto::getChatroomId)
+                .containsExactly(chatroomIds.get(1), chatroomIds.get(0));
+
+        assertThat(secondPage.getHasNext()).isFalse();
+        assertThat(secondPage.getNextCursorMessageId()).isNull();
+        assertThat(secondPage.getChatrooms())
+                .extracting(ChatroomListDto.ChatroomItemDto::getChatroomId)
+                .containsExactly(chatroomIds.get(2));
+        assertThat(secondPage.getChatrooms().get(0).getLastMessage()).isNull();
+    }
+
     @Test
     void 퇴장한_채팅방은_목록에_표시되지_않음() {
         // given - A가 B와 채팅방 생성
@@ -658,6 +733,55 @@ class ChatServiceTest {
         assertThat(updatedList.getChatrooms().get(0).getUnreadCount()).isEqualTo(3);
     }
 
+    @Test
+    void 퇴장한_상대방의_안읽은_메시지_개수는_증가하지_않음() {
+        // given - A가 B와 채팅방 생성 후 A가 퇴장
+        CreateChatroomRequest request = CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build();
+        CreateChatroomDto chatroom = chatService.createChatroom(member1.getId(), request);
+        chatService.leaveChatroom(member1.getId(), chatroom.getChatroomId());
+
+        // when - B가 메시지 2개 전송
+        chatService.sendMessage(member2.getId(), chatroom.getChatroomId(),
+                new SendMessageRequest("메시지 1", null));
+        chatService.sendMessage(member2.getId(), chatroom.getChatroomId(),
+                new SendMessageRequest("메시지 2", null));
+
+        // then - 퇴장한 A의 안 읽은 메시지 수는 그대로
+        entityManager.flush();
+        entityManager.clear();
+        ChatMember left = chatMemberRepository.findByChatroomIdAndMemberId(
+                chatroom.getChatroomId(), member1.getId()).orElseThrow();
+        assertThat(left.getUnreadCount()).isZero();
+    }
+
+    @Test
+    void 퇴장한_회원의_안읽은_메시지_개수는_보정하지_않음() {
+        // given - A가 B와 채팅방 생성 후 A가 퇴장, 이후 B가 메시지 전송
+        CreateChatroomRequest request = CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build();
+        CreateChatroomDto chatroom = chatService.createChatroom(member1.getId(), request);
+        chatService.leaveChatroom(member1.getId(), chatroom.getChatroomId());
+        chatService.sendMessage(member2.getId(), chatroom.getChatroomId(),
+                new SendMessageRequest("메시지 1", null));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        chatService.reconcileUnreadCounts(0L, 1000);
+
+        // then - 퇴장한 A의 안 읽은 메시지 수는 보정으로도 늘어나지 않음
+        entityManager.flush();
+        entityManager.clear();
+        ChatMember left = chatMemberRepository.findByChatroomIdAndMemberId(
+                chatroom.getChatroomId(), member1.getId()).orElseThrow();
+        assertThat(left.getUnreadCount()).isZero();
+    }
+
     @Test
     void 내용과_파일_모두_없으면_전송_불가() {
         // given - A가 B와 채팅방 생성
@@ -998,6 +1122,7 @@ class ChatServiceTest {
         GetChatMessagesDto result = chatService.getChatMessages(member1.getId(), chatroom.getChatroomId(), null, 20);
 
         // then - A의 lastReadMessageId가 최신 메시지 ID로 업데이트됨
+        flushReadPointers();
         ChatMember member1ChatMember = chatMemberRepository.findByChatroomIdAndMemberId(
                 chatroom.getChatroomId(), member1.getId()).orElseThrow();
         assertThat(member1ChatMember.getLastReadMessageId()).isEqualTo(lastMsg.getMessageId());
@@ -1033,6 +1158,93 @@ class ChatServiceTest {
         assertThat(listAfter.getChatrooms().get(0).getUnreadCount()).isEqualTo(0);
     }
 
+    @Test
+    void 동기화는_커서_이후_변경만_반환함() {
+        // given - 채팅방 생성 후 커서 저장
+        CreateChatroomRequest request = CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build();
+        Long chatroomId = chatService.createChatroom(member1.getId(), request).getChatroomId();
+        Long cursor = chatService.sync(member1.getId(), 0L, 100).getCursor();
+
+        // 커서 이후 메시지 2개 수신, 상대 차단
+        chatService.sendMessage(member2.getId(), chatroomId, new SendMessageRequest("메시지 1", null));
+        chatService.sendMessage(member2.getId(), chatroomId, new SendMessageRequest("메시지 2", null));
+        chatService.blockChatMember(member1.getId(), chatroomId);
+
+        // when
+        ChatSyncDto result = chatService.sync(member1.getId(), cursor, 100);
+
+        // then
+        assertThat(result.getResyncRequired()).isFalse();
+        assertThat(result.getHasMore()).isFalse();
+        assertThat(result.getCursor()).isEqualTo(cursor + 3);
+        assertThat(result.getMessages())
+                .extracting(change -> change.getMessage().getContent())
+                .containsExactly("메시지 1", "메시지 2");
+        assertThat(result.getRooms()).hasSize(1);
+        assertThat(result.getRooms().get(0).getIsBlockedByMe()).isTrue();
+
+        // 한 번에 1개씩 조회하면 다음 커서와 hasMore 반환
+        ChatSyncDto firstPage = chatService.sync(member1.getId(), cursor, 1);
+        assertThat(firstPage.getHasMore()).isTrue();
+        assertThat(firstPage.getCursor()).isEqualTo(cursor + 1);
+
+        // 발급된 적 없는 커서는 전체 재조회 필요
+        assertThat(chatService.sync(member1.getId(), cursor + 100, 100).getResyncRequired()).isTrue();
+    }
+
+    @Test
+    void 읽음_위치_일괄_반영시_참여자별_변경_로그가_이어진_순번으로_기록됨() {
+        // given - B가 메시지 전송(B 읽음 위치 대기), A가 조회(A 읽음 위치 대기)
+        Long chatroomId = chatService.createChatroom(member1.getId(), CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build()).getChatroomId();
+        Long cursor = chatService.sync(member1.getId(), 0L, 100).getCursor();
+        chatService.sendMessage(member2.getId(), chatroomId, new SendMessageRequest("메시지 1", null));
+        chatService.getChatMessages(member1.getId(), chatroomId, null, 20);
+
+        // when - 두 읽음 위치를 한 번에 반영
+        flushReadPointers();
+
+        // then - 메시지 1건 + 읽음 위치 2건이 빈 순번 없이 기록됨
+        ChatSyncDto result = chatService.sync(member1.getId(), cursor, 100);
+        assertThat(result.getResyncRequired()).isFalse();
+        assertThat(result.getCursor()).isEqualTo(cursor + 3);
+        assertThat(chatService.sync(member1.getId(), cursor, 1).getCursor()).isEqualTo(cursor + 1);
+    }
+
+    @Test
+    void 읽음_위치_반영은_이전_위치로_되돌리지_않음() {
+        // given - B가 메시지 2개 전송, A가 조회하여 읽음 위치 반영
+        CreateChatroomRequest request = CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build();
+        CreateChatroomDto chatroom = chatService.createChatroom(member1.getId(), request);
+
+        SendMessageDto msg1 = chatService.sendMessage(member2.getId(), chatroom.getChatroomId(),
+                new SendMessageRequest("메시지 1", null));
+        SendMessageDto msg2 = chatService.sendMessage(member2.getId(), chatroom.getChatroomId(),
+                new SendMessageRequest("메시지 2", null));
+        chatService.getChatMessages(member1.getId(), chatroom.getChatroomId(), null, 20);
+        flushReadPointers();
+
+        // when - 다른 노드 등에서 늦게 도착한 이전 읽음 위치 반영
+        ChatMember member1ChatMember = chatMemberRepository.findByChatroomIdAndMemberId(
+                chatroom.getChatroomId(), member1.getId()).orElseThrow();
+        readPointerBuffer.advance(member1ChatMember, msg1.getMessageId());
+        flushReadPointers();
+
+        // then - 최신 읽음 위치와 안 읽은 개수 유지
+        ChatMember result = chatMemberRepository.findByChatroomIdAndMemberId(
+                chatroom.getChatroomId(), member1.getId()).orElseThrow();
+        assertThat(result.getLastReadMessageId()).isEqualTo(msg2.getMessageId());
+        assertThat(result.getUnreadCount()).isZero();
+    }
+
     @Test
     void myLastReadMessageId가_최신_메시지로_업데이트됨() throws IOException {
         // given - A가 B와 채팅방 생성
@@ -1408,6 +1620,7 @@ class ChatServiceTest {
         assertThat(room1Messages.getMyLastReadMessageId()).isEqualTo(msg1_6.getMessageId());
 
         // member1의 lastReadMessageId 확인
+        flushReadPointers();
         ChatMember member1Room1 = chatMemberRepository.findByChatroomIdAndMemberId(
                 chatroom1.getChatroomId(), member1.getId()).orElseThrow();
         assertThat(member1Room1.getLastReadMessageId()).isEqualTo(msg1_6.getMessageId());
@@ -1544,4 +1757,206 @@ class ChatServiceTest {
         log.info("채팅방3: 4개 메시지, lastMessageId={}", finalRoom3.getLastMessageId());
     }
 
-}
\ No newline at end of file
+    @Test
+    void 이전_페이지_조회는_아카이브된_메시지로_이어짐() {
+        // given - 메시지 3개 중 가장 오래된 메시지를 아카이브로 이동 (파티션 아카이브와 동일한 상태)
+        CreateChatroomRequest request = CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build();
+        Long chatroomId = chatService.createChatroom(member1.getId(), request).getChatroomId();
+        Long oldestId = chatService.sendMessage(member2.getId(), chatroomId,
+                new SendMessageRequest("오래된 메시지", null)).getMessageId();
+        chatService.sendMessage(member2.getId(), chatroomId, new SendMessageRequest("메시지 2", null));
+        chatService.sendMessage(member2.getId(), chatroomId, new SendMessageRequest("메시지 3", null));
+
+        ChatMessage oldest = chatMessageRepository.findById(oldestId).orElseThrow();
+        chatMessageArchiveRepository.save(ChatMessageArchive.builder()
+                .id(oldest.getId())
+                .chatroomId(oldest.getChatroomId())
+                .chatMemberId(oldest.getChatMemberId())
+                .content(oldest.getContent())
+                .createdAt(oldest.getCreatedAt())
+                .build());
+        chatMessageRepository.delete(oldest);
+        entityManager.flush();
+
+        // when
+        GetChatMessagesDto firstPage = chatService.getChatMessages(member1.getId(), chatroomId, null, 2);
+        Long cursor = firstPage.getMessages().get(firstPage.getMessages().size() - 1).getMessageId();
+        GetChatMessagesDto secondPage = chatService.getChatMessages(member1.getId(), chatroomId, cursor, 2);
+
+        // then
+        assertThat(firstPage.getMessages()).hasSize(2);
+        assertThat(firstPage.getHasNext()).isTrue();
+        assertThat(secondPage.getMessages()).hasSize(1);
+        assertThat(secondPage.getMessages().get(0).getMessageId()).isEqualTo(oldestId);
+        assertThat(secondPage.getMessages().get(0).getContent()).isEqualTo("오래된 메시지");
+        assertThat(secondPage.getMessages().get(0).getSenderId()).isEqualTo(member2.getId());
+        assertThat(secondPage.getHasNext()).isFalse();
+    }
+
+    @Test
+    void 검색은_참여_중인_채팅방에서_검색어를_포함한_메시지만_반환함() {
+        // given
+        Member member3 = saveMember("회원3", "provider_id_3");
+        Long myRoomId = chatService.createChatroom(member1.getId(), CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build()).getChatroomId();
+        Long otherRoomId = chatService.createChatroom(member2.getId(), CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member3.getId())
+                .build()).getChatroomId();
+
+        Long matchedId = chatService.sendMessage(member2.getId(), myRoomId,
+                new SendMessageRequest("내일 회의록 공유드릴게요", null)).getMessageId();
+        chatService.sendMessage(member1.getId(), myRoomId, new SendMessageRequest("회의 시간이 바뀌었어요", null));
+        // bigram(회의, 의록)은 모두 있지만 "회의록"은 포함하지 않는 메시지
+        chatService.sendMessage(member1.getId(), myRoomId, new SendMessageRequest("회의 의록", null));
+        // 참여하지 않은 채팅방의 메시지
+        chatService.sendMessage(member3.getId(), otherRoomId, new SendMessageRequest("회의록 보냈습니다", null));
+
+        // when
+        ChatSearchDto result = chatService.searchMessages(member1.getId(), "회의록", null, null, 10);
+
+        // then
+        assertThat(result.getResults()).hasSize(1);
+        assertThat(result.getResults().get(0).getChatroomId()).isEqualTo(myRoomId);
+        assertThat(result.getResults().get(0).getMessage().getMessageId()).isEqualTo(matchedId);
+        assertThat(result.getResults().get(0).getMessage().getSenderId()).isEqualTo(member2.getId());
+        assertThat(result.getHasNext()).isFalse();
+
+        // 한 글자 단어만 있는 검색어는 거부
+        assertThatThrownBy(() -> chatService.searchMessages(member1.getId(), "회 의", null, null, 10))
+                .isInstanceOf(ChatException.class);
+    }
+
+    @Test
+    void 메시지_삭제시_검색과_안읽은_수에서_제외됨() {
+        // given
+        Long chatroomId = chatService.createChatroom(member1.getId(), CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build()).getChatroomId();
+        Long messageId = chatService.sendMessage(member2.getId(), chatroomId,
+                new SendMessageRequest("회의록 초안입니다", null)).getMessageId();
+        assertThat(chatService.getTotalUnreadCount(member1.getId()).getTotalUnreadCount()).isEqualTo(1);
+
+        // when & then - 보낸 사람만 삭제 가능
+        assertThatThrownBy(() -> chatService.deleteMessage(member1.getId(), chatroomId, messageId))
+                .isInstanceOf(ChatException.class);
+
+        DeleteMessageDto deleted = chatService.deleteMessage(member2.getId(), chatroomId, messageId);
+
+        assertThat(deleted.getDeletedAt()).isNotNull();
+        assertThat(chatService.searchMessages(member1.getId(), "회의록", null, null, 10).getResults()).isEmpty();
+        assertThat(chatService.getTotalUnreadCount(member1.getId()).getTotalUnreadCount()).isZero();
+        assertThatThrownBy(() -> chatService.deleteMessage(member2.getId(), chatroomId, messageId))
+                .isInstanceOf(ChatException.class);
+    }
+
+    @Test
+    void 마지막_메시지_삭제시_이전_메시지로_되돌리고_동기화에_삭제가_포함됨() {
+        // given
+        Long chatroomId = chatService.createChatroom(member1.getId(), CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build()).getChatroomId();
+        Long firstId = chatService.sendMessage(member2.getId(), chatroomId,
+                new SendMessageRequest("메시지 1", null)).getMessageId();
+        Long lastId = chatService.sendMessage(member2.getId(), chatroomId,
+                new SendMessageRequest("메시지 2", null)).getMessageId();
+        Long cursor = chatService.sync(member1.getId(), 0L, 100).getCursor();
+
+        // when
+        chatService.deleteMessage(member2.getId(), chatroomId, lastId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then - 채팅방의 마지막 메시지가 이전 메시지로 바뀜
+        assertThat(chatroomRepository.findById(chatroomId).orElseThrow().getLastMessageId()).isEqualTo(firstId);
+
+        // 상대방 동기화에 삭제가 포함됨
+        ChatSyncDto result = chatService.sync(member1.getId(), cursor, 100);
+        assertThat(result.getCursor()).isEqualTo(cursor + 1);
+        assertThat(result.getDeletedMessages())
+                .extracting(ChatSyncDto.DeletedMessageDto::getMessageId)
+                .containsExactly(lastId);
+    }
+
+    @Test
+    void 메시지_삭제시_버퍼에만_있는_읽음_위치를_먼저_반영함() {
+        // given - member1이 메시지 2개를 읽었지만 읽음 위치는 아직 버퍼에만 있음
+        Long chatroomId = chatService.createChatroom(member1.getId(), CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build()).getChatroomId();
+        Long firstId = chatService.sendMessage(member2.getId(), chatroomId,
+                new SendMessageRequest("메시지 1", null)).getMessageId();
+        Long lastId = chatService.sendMessage(member2.getId(), chatroomId,
+                new SendMessageRequest("메시지 2", null)).getMessageId();
+        chatService.getChatMessages(member1.getId(), chatroomId, null, 20);
+
+        // when
+        chatService.deleteMessage(member2.getId(), chatroomId, firstId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then - 읽음 위치가 반영된 뒤 감소 여부를 판단하여 안 읽은 수가 어긋나지 않음
+        ChatMember reader = chatMemberRepository.findByChatroomIdAndMemberId(chatroomId, member1.getId())
+                .orElseThrow();
+        assertThat(reader.getLastReadMessageId()).isEqualTo(lastId);
+        assertThat(reader.getUnreadCount()).isZero();
+    }
+
+    @Test
+    void 원본에_이전_메시지가_없으면_아카이브된_메시지를_마지막_메시지로_되돌림() {
+        // given - 가장 오래된 메시지는 아카이브로 이동된 상태
+        Long chatroomId = chatService.createChatroom(member1.getId(), CreateChatroomRequest.builder()
+                .projectId(projectId)
+                .otherMemberId(member2.getId())
+                .build()).getChatroomId();
+        Long archivedId = chatService.sendMessage(member2.getId(), chatroomId,
+                new SendMessageRequest("오래된 메시지", null)).getMessageId();
+        Long lastId = chatService.sendMessage(member2.getId(), chatroomId,
+                new SendMessageRequest("메시지 2", null)).getMessageId();
+
+        ChatMessage archived = chatMessageRepository.findById(archivedId).orElseThrow();
+        chatMessageArchiveRepository.save(ChatMessageArchive.builder()
+                .id(archived.getId())
+                .chatroomId(archived.getChatroomId())
+                .chatMemberId(archived.getChatMemberId())
+                .content(archived.getContent())
+                .createdAt(archived.getCreatedAt())
+                .build());
+        chatMessageRepository.delete(archived);
+        entityManager.flush();
+
+        // when
+        chatService.deleteMessage(member2.getId(), chatroomId, lastId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(chatroomRepository.findById(chatroomId).orElseThrow().getLastMessageId()).isEqualTo(archivedId);
+    }
+
+    private Member saveMember(String nickname, String providerId) {
+        Member member = Member.builder()
+                .nickname(nickname)
+                .provider(OAuthProvider.KAKAO)
+                .providerId(providerId)
+                .build();
+        return memberRepository.save(member);
+    }
+
+    /**
+     * 읽음 위치 버퍼를 DB에 반영하고 영속성 컨텍스트를 비워 다시 조회되도록 한다.
+     */
+    private void flushReadPointers() {
+        entityManager.flush();
+        readPointerBuffer.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,141 @@
+package com.s401.moas.chat.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatMessageBroadcasterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SimpMessagingTemplate messagingTemplate;
+    private StringRedisTemplate redisTemplate;
+    private MessageChannel brokerChannel;
+    private ChatSubscriptionRegistry subscriptionRegistry;
+    private ChatMessageBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        brokerChannel = mock(MessageChannel.class);
+        subscriptionRegistry = new ChatSubscriptionRegistry(brokerChannel);
+        broadcaster = new ChatMessageBroadcaster(messagingTemplate, redisTemplate, objectMapper, subscriptionRegistry);
+    }
+
+    @Test
+    void 브로드캐스트는_로컬_구독자에게_보내고_다른_노드로_중계한다() throws Exception {
+        broadcaster.broadcastDelete(10L, 100L);
+
+        ArgumentCaptor<Message<?>> local = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/chat/rooms/10"), local.capture());
+        String json = new String((byte[]) local.getValue().getPayload(), StandardCharsets.UTF_8);
+        assertThat(objectMapper.readTree(json).get("type").asText()).isEqualTo(ChatMessagePushDto.TYPE_DELETE);
+
+        ArgumentCaptor<String> relayed = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(ChatMessageBroadcaster.CHANNEL), relayed.capture());
+        assertThat(objectMapper.readValue(relayed.getValue(), ChatMessageBroadcaster.RoomRelayMessage.class).payload())
+                .isEqualTo(json);
+    }
+
+    @Test
+    void 다른_노드의_브로드캐스트는_로컬_구독자에게_전달하고_자신이_발행한_것은_건너뛴다() throws Exception {
+        broadcaster.broadcastDelete(10L, 100L);
+        ArgumentCaptor<String> own = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(ChatMessageBroadcaster.CHANNEL), own.capture());
+
+        broadcaster.onMessage(relay(own.getValue()), null);
+        verify(messagingTemplate, times(1)).send(anyString(), any(Message.class));
+
+        broadcaster.onMessage(relay(objectMapper.writeValueAsString(new ChatMessageBroadcaster.RoomRelayMessage(
+                "other-node", 10L, "{\"type\":\"DELETE\"}", null))), null);
+        verify(messagingTemplate, times(2)).send(eq("/topic/chat/rooms/10"), any(Message.class));
+    }
+
+    @Test
+    void 구독_회수시_해당_회원의_채팅방_구독만_브로커에서_해제된다() {
+        subscriptionRegistry.onSubscribe(subscribe("s1", "sub-1", 1, "/topic/chat/rooms/10"));
+        subscriptionRegistry.onSubscribe(subscribe("s1", "sub-2", 1, "/topic/chat/rooms/20"));
+        subscriptionRegistry.onSubscribe(subscribe("s2", "sub-1", 2, "/topic/chat/rooms/10"));
+
+        broadcaster.revokeSubscriptions(10L, List.of(1));
+
+        ArgumentCaptor<Message<?>> unsubscribe = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannel, times(1)).send(unsubscribe.capture());
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(unsubscribe.getValue());
+        assertThat(accessor.getMessageType()).isEqualTo(SimpMessageType.UNSUBSCRIBE);
+        assertThat(accessor.getSessionId()).isEqualTo("s1");
+        assertThat(accessor.getSubscriptionId()).isEqualTo("sub-1");
+
+        assertThat(subscriptionRegistry.subscriptionCount(10L, 1)).isZero();
+        assertThat(subscriptionRegistry.subscriptionCount(20L, 1)).isEqualTo(1);
+        assertThat(subscriptionRegistry.subscriptionCount(10L, 2)).isEqualTo(1);
+        verify(redisTemplate).convertAndSend(eq(ChatMessageBroadcaster.CHANNEL), anyString());
+    }
+
+    @Test
+    void 다른_노드의_구독_회수도_이_노드의_구독에_적용된다() throws Exception {
+        subscriptionRegistry.onSubscribe(subscribe("s1", "sub-1", 1, "/topic/chat/rooms/10"));
+
+        broadcaster.onMessage(relay(objectMapper.writeValueAsString(new ChatMessageBroadcaster.RoomRelayMessage(
+                "other-node", 10L, null, List.of(1)))), null);
+
+        verify(brokerChannel, times(1)).send(any(Message.class));
+        assertThat(subscriptionRegistry.subscriptionCount(10L, 1)).isZero();
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    @Test
+    void 연결이_끊긴_세션의_구독은_회수_대상에서_빠진다() {
+        subscriptionRegistry.onSubscribe(subscribe("s1", "sub-1", 1, "/topic/chat/rooms/10"));
+
+        subscriptionRegistry.onDisconnect(new SessionDisconnectEvent(this,
+                MessageBuilder.createMessage(new byte[0], SimpMessageHeaderAccessor.create().getMessageHeaders()),
+                "s1", CloseStatus.NORMAL));
+
+        assertThat(subscriptionRegistry.revoke(10L, 1)).isZero();
+        verify(brokerChannel, never()).send(any(Message.class));
+    }
+
+    private static DefaultMessage relay(String payload) {
+        return new DefaultMessage(ChatMessageBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId,
+                                                   Integer memberId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        UsernamePasswordAuthenticationToken user = new UsernamePasswordAuthenticationToken(memberId, null, List.of());
+        accessor.setUser(user);
+        return new SessionSubscribeEvent(ChatMessageBroadcasterTest.class,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), user);
+    }
+}
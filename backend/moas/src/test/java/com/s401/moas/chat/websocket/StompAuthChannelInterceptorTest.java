@@ -0,0 +1,114 @@
+package com.s401.moas.chat.websocket;
+
+import com.s401.moas.auth.exception.AuthException;
+import com.s401.moas.auth.service.RefreshTokenService;
+import com.s401.moas.chat.domain.ChatMember;
+import com.s401.moas.chat.exception.ChatException;
+import com.s401.moas.chat.repository.ChatMemberRepository;
+import com.s401.moas.global.security.JWTUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StompAuthChannelInterceptorTest {
+
+    private JWTUtil jwtUtil;
+    private ChatMemberRepository chatMemberRepository;
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = mock(JWTUtil.class);
+        chatMemberRepository = mock(ChatMemberRepository.class);
+        interceptor = new StompAuthChannelInterceptor(jwtUtil, mock(RefreshTokenService.class), chatMemberRepository);
+    }
+
+    @Test
+    void 토큰_없이_CONNECT하면_거부된다() {
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, null, null);
+
+        assertThatThrownBy(() -> interceptor.preSend(connect, null))
+                .isInstanceOf(AuthException.class);
+    }
+
+    @Test
+    void 유효한_토큰으로_CONNECT하면_회원이_세션_사용자로_등록된다() {
+        when(jwtUtil.isExpired("token")).thenReturn(false);
+        when(jwtUtil.getMemberId("token")).thenReturn(1);
+        when(jwtUtil.getRole("token")).thenReturn("USER");
+        Message<byte[]> connect = frame(StompCommand.CONNECT, "Bearer token", null, null);
+
+        Message<?> result = interceptor.preSend(connect, null);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(result);
+        assertThat(((UsernamePasswordAuthenticationToken) accessor.getUser()).getPrincipal()).isEqualTo(1);
+    }
+
+    @Test
+    void 참여중인_채팅방만_구독할_수_있다() {
+        when(chatMemberRepository.findByChatroomId(10L))
+                .thenReturn(List.of(ChatMember.builder().chatroomId(10L).memberId(1).build()));
+        when(chatMemberRepository.findByChatroomId(20L))
+                .thenReturn(List.of(ChatMember.builder().chatroomId(20L).memberId(2).build()));
+
+        interceptor.preSend(frame(StompCommand.SUBSCRIBE, null, user(1), "/topic/chat/rooms/10"), null);
+
+        assertThatThrownBy(() -> interceptor.preSend(
+                frame(StompCommand.SUBSCRIBE, null, user(1), "/topic/chat/rooms/20"), null))
+                .isInstanceOf(ChatException.class);
+    }
+
+    @Test
+    void 퇴장한_채팅방과_채팅방이_아닌_토픽은_구독할_수_없다() {
+        when(chatMemberRepository.findByChatroomId(10L))
+                .thenReturn(List.of(ChatMember.builder().chatroomId(10L).memberId(1)
+                        .leftAt(LocalDateTime.now()).build()));
+
+        assertThatThrownBy(() -> interceptor.preSend(
+                frame(StompCommand.SUBSCRIBE, null, user(1), "/topic/chat/rooms/10"), null))
+                .isInstanceOf(ChatException.class);
+        assertThatThrownBy(() -> interceptor.preSend(
+                frame(StompCommand.SUBSCRIBE, null, user(1), "/topic/notifications"), null))
+                .isInstanceOf(ChatException.class);
+    }
+
+    @Test
+    void 어느_한쪽이라도_차단한_채팅방은_구독할_수_없다() {
+        when(chatMemberRepository.findByChatroomId(10L))
+                .thenReturn(List.of(
+                        ChatMember.builder().chatroomId(10L).memberId(1).build(),
+                        ChatMember.builder().chatroomId(10L).memberId(2).isBlocked(true).build()));
+
+        assertThatThrownBy(() -> interceptor.preSend(
+                frame(StompCommand.SUBSCRIBE, null, user(1), "/topic/chat/rooms/10"), null))
+                .isInstanceOf(ChatException.class);
+    }
+
+    private static UsernamePasswordAuthenticationToken user(Integer memberId) {
+        return new UsernamePasswordAuthenticationToken(memberId, null, List.of());
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String authorization,
+                                         UsernamePasswordAuthenticationToken user, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        accessor.setUser(user);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
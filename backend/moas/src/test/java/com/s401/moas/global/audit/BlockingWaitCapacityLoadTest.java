@@ -0,0 +1,130 @@
+package com.s401.moas.global.audit;
+
+import com.s401.moas.global.config.AppConfig;
+import com.s401.moas.global.service.LlmClient;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 max-threads 200) 모드와 가상 스레드 모드에서
+ * 한 노드가 동시에 붙잡고 있을 수 있는 LLM/임베딩 원격 대기 수를 비교한다.
+ * 요청은 운영과 같은 경로(LlmClient → RestTemplate(AppConfig) → BlockingCalls)로 보내고,
+ * 원격 서버만 응답 전 REMOTE_LATENCY_MS 만큼 지연하는 로컬 HTTP 서버로 흉내낸다.
+ * 실패(예외 또는 폴백 응답)가 한 건이라도 있으면 측정 결과를 신뢰할 수 없으므로 실패로 본다.
+ *
+ * 실행: ./gradlew loadTest
+ */
+@Slf4j
+@Tag("load")
+class BlockingWaitCapacityLoadTest {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int CONCURRENT_REQUESTS = 2_000;
+    private static final long REMOTE_LATENCY_MS = 1_000;
+    private static final String COMPLETION = "load-test-completion";
+
+    private static HttpServer slowRemote;
+    private static LlmClient llmClient;
+
+    @BeforeAll
+    static void startSlowRemote() throws Exception {
+        slowRemote = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        slowRemote.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        slowRemote.createContext("/v1/chat/completions", exchange -> {
+            try {
+                Thread.sleep(REMOTE_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"choices\":[{\"message\":{\"content\":\"" + COMPLETION + "\"}}]}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        slowRemote.start();
+
+        // 재시도하면 실패가 지연으로 가려지므로 재시도 없이 호출
+        String apiUrl = "http://127.0.0.1:" + slowRemote.getAddress().getPort() + "/v1/chat/completions";
+        llmClient = new LlmClient(new AppConfig().restTemplate(5_000, 30_000), "load-test-key", "load-test-model",
+                apiUrl, 0);
+    }
+
+    @AfterAll
+    static void stopSlowRemote() {
+        slowRemote.stop(0);
+    }
+
+    @Test
+    void 가상_스레드_모드는_플랫폼_스레드_한도보다_많은_원격_대기를_유지한다() throws Exception {
+        Result platform = run("platform", Executors.newFixedThreadPool(PLATFORM_THREADS));
+        Result virtual = run("virtual", Executors.newVirtualThreadPerTaskExecutor());
+
+        log.info("[capacity] mode=platform peakConcurrentWaits={} elapsed={}ms failures={}",
+                platform.peak(), platform.elapsedMs(), platform.failures());
+        log.info("[capacity] mode=virtual  peakConcurrentWaits={} elapsed={}ms failures={}",
+                virtual.peak(), virtual.elapsedMs(), virtual.failures());
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(platform.peak()).isLessThanOrEqualTo(PLATFORM_THREADS);
+        assertThat(virtual.peak()).isGreaterThan(platform.peak());
+        assertThat(virtual.elapsedMs()).isLessThan(platform.elapsedMs());
+    }
+
+    private Result run(String mode, ExecutorService executor) throws Exception {
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peak.accumulateAndGet(BlockingCalls.inFlight(BlockingCalls.LLM), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long start = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                executor.submit(() -> {
+                    try {
+                        // LlmClient는 실패 시 예외 대신 폴백 문구를 돌려주므로 응답 내용으로 성공 여부를 판단
+                        if (!COMPLETION.equals(llmClient.generate("system", "user"))) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        sampler.interrupt();
+
+        return new Result(peak.get(), elapsedMs, failures.get());
+    }
+
+    private record Result(int peak, long elapsedMs, int failures) {
+    }
+}
@@ -0,0 +1,164 @@
+package com.s401.moas.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoTierCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private CacheInvalidationBus bus;
+    private TwoTierCache<String> cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        bus = new CacheInvalidationBus(redisTemplate, objectMapper);
+        TwoTierCacheManager manager = new TwoTierCacheManager(redisTemplate, objectMapper, bus, new SimpleMeterRegistry());
+        cache = manager.create("test", String.class, 100, Duration.ofMinutes(1), Duration.ofMinutes(5));
+    }
+
+    @Test
+    void 로컬에_적재된_값은_다시_로드하지_않는다() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, () -> "v" + loads.incrementAndGet());
+        String second = cache.get(1, () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v1");
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations).set(eq("cache:test:1"), eq("\"v1\""), eq(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void Redis에_있는_값은_로더_없이_사용한다() {
+        when(valueOperations.get("cache:test:1")).thenReturn("\"remote\"");
+
+        String value = cache.get(1, () -> {
+            throw new IllegalStateException("호출되면 안 됨");
+        });
+
+        assertThat(value).isEqualTo("remote");
+    }
+
+    @Test
+    void 동시에_같은_키를_조회하면_한_번만_로드한다() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(1, () -> {
+                    loads.incrementAndGet();
+                    sleep(100);
+                    return "loaded";
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("loaded");
+        }
+        executor.shutdown();
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 로더_예외는_전파되고_캐시되지_않는다() {
+        assertThatThrownBy(() -> cache.get(1, () -> {
+            throw new IllegalArgumentException("없음");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.get(1, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void Redis_장애시에도_로컬_캐시로_동작한다() {
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis down"));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, () -> "v" + loads.incrementAndGet());
+        cache.get(1, () -> "v" + loads.incrementAndGet());
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void evict하면_Redis에서_삭제하고_무효화_메시지를_발행한다() {
+        cache.get(1, () -> "old");
+
+        cache.evict(1);
+
+        verify(redisTemplate).delete("cache:test:1");
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationBus.CHANNEL), anyString());
+        assertThat(cache.get(1, () -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    void 다른_노드의_무효화_메시지를_받으면_로컬_캐시를_비운다() throws Exception {
+        cache.get(1, () -> "old");
+
+        bus.onMessage(message(new CacheInvalidationMessage("other-node", "test", "1")), null);
+
+        assertThat(cache.get(1, () -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    void 자신이_발행한_무효화_메시지는_무시한다() throws Exception {
+        cache.get(1, () -> "old");
+
+        bus.onMessage(message(new CacheInvalidationMessage(bus.getNodeId(), "test", "1")), null);
+
+        assertThat(cache.get(1, () -> "new")).isEqualTo("old");
+    }
+
+    private DefaultMessage message(CacheInvalidationMessage invalidation) throws Exception {
+        return new DefaultMessage(
+                CacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(invalidation));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.s401.moas.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 두 개의 H2 인스턴스를 primary / replica로 사용해 라우팅 규칙을 검증한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaProperties properties;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing_primary", "primary");
+        replica = h2("routing_replica", "replica");
+
+        properties = new ReplicaProperties();
+        properties.setMaxLagSeconds(5);
+        properties.setLagQuery("SELECT 0 AS Seconds_Behind_Source");
+
+        lagMonitor = new ReplicaLagMonitor(replica, properties);
+        lagMonitor.check();
+        tracker = new ReadYourWritesTracker(60_000);
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(lagMonitor, tracker);
+        routing.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_primary로_라우팅된다() {
+        assertThat(writeTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void 읽기_트랜잭션은_replica로_라우팅된다() {
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_primary로_대체된다() {
+        properties.setLagQuery("SELECT 30 AS Seconds_Behind_Source");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(lagMonitor.getLagSeconds()).isEqualTo(30);
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void 복제_지연_조회에_실패하면_primary로_대체된다() {
+        properties.setLagQuery("SHOW REPLICA STATUS");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void 본인이_쓰기를_커밋한_직후의_읽기는_primary로_고정된다() {
+        login(1);
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("primary");
+
+        // 다른 회원의 읽기는 영향 없음
+        login(2);
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void 롤백된_쓰기는_읽기를_고정하지_않는다() {
+        login(1);
+        writeTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void 고정_시간이_지나면_다시_replica로_라우팅된다() {
+        ReadYourWritesTracker shortTracker = new ReadYourWritesTracker(0);
+        shortTracker.recordWrite(1);
+
+        assertThat(shortTracker.isSticky(1)).isFalse();
+    }
+
+    @Test
+    void 다른_노드에서_커밋된_쓰기도_읽기를_고정한다() {
+        // 두 노드가 같은 Redis를 공유 (Redis 값은 모의 객체로 흉내 냄)
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ReadYourWritesTracker writeNode = new ReadYourWritesTracker(redisTemplate, 60_000);
+        ReadYourWritesTracker readNode = new ReadYourWritesTracker(redisTemplate, 60_000);
+
+        writeNode.recordWrite(1);
+        verify(valueOperations).set("rw:sticky:1", "1", Duration.ofMillis(60_000));
+        when(redisTemplate.hasKey("rw:sticky:1")).thenReturn(true);
+
+        assertThat(readNode.isSticky(1)).isTrue();
+        assertThat(readNode.isSticky(2)).isFalse();
+    }
+
+    @Test
+    void Redis를_쓸_수_없으면_이_노드의_기록만으로_판단한다() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis down"));
+        when(redisTemplate.hasKey(anyString())).thenThrow(new IllegalStateException("redis down"));
+        ReadYourWritesTracker node = new ReadYourWritesTracker(redisTemplate, 60_000);
+
+        node.recordWrite(1);
+
+        assertThat(node.isSticky(1)).isTrue();
+        assertThat(node.isSticky(2)).isFalse();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void login(Integer memberId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(memberId, null, List.of()));
+    }
+
+    private static DataSource h2(String database, String nodeName) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + database + ";MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.execute("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", nodeName);
+        return dataSource;
+    }
+}
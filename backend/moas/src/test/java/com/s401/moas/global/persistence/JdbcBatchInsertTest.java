@@ -0,0 +1,223 @@
+package com.s401.moas.global.persistence;
+
+import com.s401.moas.chat.domain.ChatMember;
+import com.s401.moas.chat.domain.ChatMessage;
+import com.s401.moas.chat.repository.ChatMemberRepository;
+import com.s401.moas.chat.repository.ChatMessageRepository;
+import com.s401.moas.project.domain.ProjectPosition;
+import com.s401.moas.project.repository.ProjectPositionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 다건 INSERT가 JDBC batch로 묶이는지 드라이버에 실제로 실행된 문(statement)으로 검증한다.
+ * 데이터소스를 감싸 PreparedStatement의 executeBatch / executeUpdate 호출과 batch에 담긴 행 수를 기록한다.
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class JdbcBatchInsertTest {
+
+    /**
+     * 드라이버에 실행된 문 하나 (batch면 rows는 addBatch로 담긴 행 수)
+     */
+    record Execution(String sql, boolean batch, int rows) {
+    }
+
+    private static final List<Execution> executions = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class ExecutionRecordingConfig {
+
+        @Bean
+        static BeanPostProcessor executionRecordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new RecordingDataSource(dataSource);
+                }
+            };
+        }
+    }
+
+    static class RecordingDataSource extends DelegatingDataSource {
+
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return recording(super.getConnection(username, password));
+        }
+
+        private static Connection recording(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                            return recording(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, String sql) {
+            int[] batched = {0};
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "addBatch" -> batched[0]++;
+                            case "executeBatch" -> {
+                                executions.add(new Execution(sql, true, batched[0]));
+                                batched[0] = 0;
+                            }
+                            case "executeUpdate", "execute" -> {
+                                if (args == null) {
+                                    executions.add(new Execution(sql, false, 1));
+                                }
+                            }
+                            default -> {
+                            }
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectPositionRepository projectPositionRepository;
+
+    @Autowired
+    private ChatMemberRepository chatMemberRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.flush();
+        executions.clear();
+    }
+
+    @Test
+    void IDENTITY_엔티티는_행마다_INSERT가_실행된다() {
+        // given
+        List<ChatMessage> messages = IntStream.range(0, 10)
+                .mapToObj(i -> ChatMessage.builder()
+                        .chatroomId(1L)
+                        .chatMemberId(1L)
+                        .content("메시지 " + i)
+                        .build())
+                .toList();
+
+        // when
+        chatMessageRepository.saveAll(messages);
+        entityManager.flush();
+
+        // then - 생성된 ID를 바로 받아야 하므로 batch 없이 한 행씩 실행
+        assertThat(inserts("chatmessage")).hasSize(10)
+                .allSatisfy(execution -> assertThat(execution.batch()).isFalse());
+    }
+
+    @Test
+    void 포지션_다건_저장은_하나의_batch_INSERT로_실행된다() {
+        // given
+        List<ProjectPosition> positions = IntStream.range(0, 10)
+                .mapToObj(i -> ProjectPosition.builder()
+                        .projectId(1)
+                        .positionId(i + 1)
+                        .budget(100_000L)
+                        .status(ProjectPosition.PositionStatus.RECRUITING)
+                        .build())
+                .toList();
+
+        // when
+        projectPositionRepository.saveAll(positions);
+        entityManager.flush();
+
+        // then
+        assertThat(inserts("project_position"))
+                .extracting(Execution::batch, Execution::rows)
+                .containsExactly(tuple(true, 10));
+        assertThat(positions).allMatch(position -> position.getId() != null);
+    }
+
+    @Test
+    void 채팅_멤버_2명_저장은_하나의_batch_INSERT로_실행된다() {
+        // given
+        ChatMember me = ChatMember.builder()
+                .chatroomId(1L)
+                .memberId(1)
+                .isBlocked(false)
+                .isValid(true)
+                .build();
+        ChatMember other = ChatMember.builder()
+                .chatroomId(1L)
+                .memberId(2)
+                .isBlocked(false)
+                .isValid(true)
+                .build();
+
+        // when
+        chatMemberRepository.saveAll(List.of(me, other));
+        entityManager.flush();
+
+        // then
+        assertThat(inserts("chat_member"))
+                .extracting(Execution::batch, Execution::rows)
+                .containsExactly(tuple(true, 2));
+        assertThat(me.getId()).isNotEqualTo(other.getId());
+    }
+
+    private List<Execution> inserts(String table) {
+        String prefix = "insert into " + table + " ";
+        return executions.stream()
+                .filter(execution -> execution.sql().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim()
+                        .startsWith(prefix))
+                .toList();
+    }
+}
@@ -0,0 +1,324 @@
+package com.s401.moas.global.sse.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SseEmitterRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Counter overflows = Counter.builder("test.overflow").register(meterRegistry);
+    private final SseConnection.Metrics metrics = new SseConnection.Metrics(
+            Timer.builder("test.send").register(meterRegistry),
+            Counter.builder("test.failures").register(meterRegistry),
+            overflows);
+
+    private SseEmitterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SseEmitterRegistry(2);
+    }
+
+    @Test
+    void 두_번째_연결은_첫_연결을_대체하지_않는다() {
+        SseConnection first = connection(new SseEmitter());
+        SseConnection second = connection(new SseEmitter());
+
+        assertThat(registry.register(1, first).firstConnection()).isTrue();
+        assertThat(registry.register(1, second).firstConnection()).isFalse();
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.memberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 이전_연결이_종료되어도_다른_연결은_유지된다() {
+        SseConnection first = connection(new SseEmitter());
+        SseConnection second = connection(new SseEmitter());
+        registry.register(1, first);
+        registry.register(1, second);
+
+        assertThat(registry.remove(1, first)).isFalse();
+        assertThat(registry.remove(1, first)).isFalse();
+        assertThat(registry.isConnected(1)).isTrue();
+
+        assertThat(registry.remove(1, second)).isTrue();
+        assertThat(registry.isConnected(1)).isFalse();
+    }
+
+    @Test
+    void 연결_수_상한을_넘으면_가장_오래된_연결이_밀려난다() {
+        SseConnection first = connection(new SseEmitter());
+        registry.register(1, first);
+        registry.register(1, connection(new SseEmitter()));
+
+        SseEmitterRegistry.Registration registration = registry.register(1, connection(new SseEmitter()));
+
+        assertThat(registration.evicted()).isSameAs(first);
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 한_연결의_전송_실패는_다른_연결에_영향을_주지_않는다() throws Exception {
+        SseEmitter broken = mock(SseEmitter.class);
+        SseEmitter healthy = mock(SseEmitter.class);
+        doThrow(new IOException("broken pipe")).when(broken).send(anySet());
+        registry.register(1, connection(broken));
+        registry.register(1, connection(healthy));
+
+        registry.deliver(1, event("1-0"));
+        registry.deliver(1, event("1-1"));
+
+        verify(healthy, times(2)).send(anySet());
+        verify(broken, times(1)).send(anySet());
+        verify(broken).completeWithError(any(IOException.class));
+    }
+
+    @Test
+    void 느린_연결의_큐가_넘치면_가장_오래된_이벤트를_버린다() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = new SseConnection(1, emitter, executor, 2,
+                SseConnection.OverflowPolicy.DROP_OLDEST, metrics);
+
+        connection.enqueue(event("1-0"));
+        connection.enqueue(event("1-1"));
+        assertThat(connection.enqueue(event("1-2"))).isTrue();
+        assertThat(connection.queued()).isEqualTo(2);
+
+        executor.runAll();
+
+        verify(emitter, times(2)).send(anySet());
+        assertThat(overflows.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 느린_연결의_큐가_넘치면_연결을_끊는다() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        SseEmitter emitter = mock(SseEmitter.class);
+        ManualExecutor completer = new ManualExecutor();
+        SseConnection connection = new SseConnection(1, emitter, executor, 2,
+                SseConnection.OverflowPolicy.DISCONNECT, metrics, completer);
+
+        connection.enqueue(event("1-0"));
+        connection.enqueue(event("1-1"));
+        assertThat(connection.enqueue(event("1-2"))).isFalse();
+
+        // emitter 종료는 enqueue를 호출한 스레드가 아니라 completer에서 수행
+        verify(emitter, never()).complete();
+        completer.runAll();
+        executor.runAll();
+
+        verify(emitter).complete();
+        verify(emitter, never()).send(anySet());
+        assertThat(connection.enqueue(event("1-3"))).isFalse();
+    }
+
+    @Test
+    void 실행기가_거절해_멈춘_송신_큐는_resume으로_다시_전송한다() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = new SseConnection(1, emitter, executor, 16,
+                SseConnection.OverflowPolicy.DISCONNECT, metrics);
+
+        executor.rejecting = true;
+        assertThat(connection.enqueue(event("1-0"))).isTrue();
+        assertThat(connection.queued()).isEqualTo(1);
+
+        executor.rejecting = false;
+        assertThat(connection.resume()).isTrue();
+        assertThat(connection.resume()).isFalse();
+        executor.runAll();
+
+        verify(emitter, times(1)).send(anySet());
+        assertThat(connection.queued()).isZero();
+    }
+
+    @Test
+    void 유휴_연결에만_하트비트를_보낸다() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = connection(emitter);
+        long idle = TimeUnit.SECONDS.toNanos(10);
+
+        assertThat(connection.heartbeatIfIdle(System.nanoTime(), idle)).isFalse();
+        assertThat(connection.heartbeatIfIdle(System.nanoTime() + idle, idle)).isTrue();
+
+        verify(emitter, times(1)).send(anySet());
+    }
+
+    @Test
+    void 쓰기가_멈춘_연결은_정리되고_레지스트리에서_제거된다() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SseEmitter emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(emitter).send(anySet());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SseConnection connection = new SseConnection(1, emitter, executor, 16,
+                    SseConnection.OverflowPolicy.DISCONNECT, metrics, Runnable::run);
+            connection.onClose(() -> registry.remove(1, connection));
+            registry.register(1, connection);
+
+            connection.enqueue(event("1-0"));
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+            long timeout = TimeUnit.SECONDS.toNanos(30);
+            assertThat(connection.isStalled(System.nanoTime(), timeout)).isFalse();
+            assertThat(connection.isStalled(System.nanoTime() + timeout + 1, timeout)).isTrue();
+
+            connection.reap();
+
+            verify(emitter).completeWithError(any(TimeoutException.class));
+            assertThat(registry.isConnected(1)).isFalse();
+            assertThat(connection.enqueue(event("1-1"))).isFalse();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 쓰기가_멈춘_emitter를_정리해도_호출_스레드는_막히지_않는다() throws Exception {
+        // 실제 emitter처럼 send와 complete가 같은 잠금을 잡게 하여, 멈춘 쓰기가 종료를 막는 상황을 흉내 냄
+        ReentrantLock emitterLock = new ReentrantLock();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        SseEmitter emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            emitterLock.lock();
+            try {
+                writing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            } finally {
+                emitterLock.unlock();
+            }
+            return null;
+        }).when(emitter).send(anySet());
+        doAnswer(invocation -> {
+            emitterLock.lock();
+            try {
+                completed.countDown();
+            } finally {
+                emitterLock.unlock();
+            }
+            return null;
+        }).when(emitter).completeWithError(any());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ExecutorService completer = Executors.newSingleThreadExecutor();
+        try {
+            SseConnection connection = new SseConnection(1, emitter, executor, 16,
+                    SseConnection.OverflowPolicy.DISCONNECT, metrics, completer);
+            connection.onClose(() -> registry.remove(1, connection));
+            registry.register(1, connection);
+
+            connection.enqueue(event("1-0"));
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 멈춘 쓰기가 emitter 잠금을 잡고 있어도 바로 반환하고 레지스트리에서 제거됨
+            assertTimeoutPreemptively(Duration.ofSeconds(1), connection::reap);
+            assertThat(registry.isConnected(1)).isFalse();
+            assertThat(completed.getCount()).isEqualTo(1);
+
+            // 쓰기가 풀리면 다른 스레드에서 emitter 종료
+            release.countDown();
+            assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+            completer.shutdownNow();
+        }
+    }
+
+    @Test
+    void 한_회원의_모든_연결에_같은_프레임을_쓴다() throws Exception {
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        registry.register(1, connection(first));
+        registry.register(1, connection(second));
+        SseFrame frame = SseFrame.of(event("1-0"));
+
+        assertThat(registry.deliver(1, frame)).isEqualTo(2);
+
+        verify(first).send(frame.parts());
+        verify(second).send(frame.parts());
+    }
+
+    @Test
+    void 프레임은_SSE_형식의_UTF8_바이트로_만든다() {
+        byte[] data = "{\"title\":\"알림\"}".getBytes(StandardCharsets.UTF_8);
+
+        SseFrame frame = SseFrame.of(new SseEventLog.SseEventRecord("1-0", "notification", null), data);
+
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        frame.parts().forEach(part -> written.writeBytes((byte[]) part.getData()));
+        assertThat(written.toString(StandardCharsets.UTF_8))
+                .isEqualTo("id:1-0\nevent:notification\ndata:{\"title\":\"알림\"}\n\n");
+        assertThat(frame.parts()).anyMatch(part -> part.getData() == data);
+    }
+
+    private SseConnection connection(SseEmitter emitter) {
+        return new SseConnection(1, emitter, Runnable::run, 16,
+                SseConnection.OverflowPolicy.DISCONNECT, metrics);
+    }
+
+    private static SseEventLog.SseEventRecord event(String id) {
+        return new SseEventLog.SseEventRecord(id, "notification", "{}");
+    }
+
+    /**
+     * 테스트에서 실행 시점을 직접 정하는 실행기 (느린 소비자 재현용)
+     */
+    private static class ManualExecutor implements Executor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+        private boolean rejecting;
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException("saturated");
+            }
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.s401.moas.global.sse.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SseEventLogTest {
+
+    private StringRedisTemplate redisTemplate;
+    private SseEventLog eventLog;
+
+    @BeforeEach
+    void setUp() {
+        // Redis 응답이 없으면(null) 로컬 ID와 로컬 버퍼를 사용한다
+        redisTemplate = mock(StringRedisTemplate.class);
+        eventLog = new SseEventLog(redisTemplate, new SimpleMeterRegistry(), 2, 1_000, Duration.ofHours(1));
+    }
+
+    @Test
+    void Redis_없이도_회원별로_증가하는_ID를_발급한다() {
+        SseEventLog.SseEventRecord first = eventLog.append(1, "notification", "{}");
+        SseEventLog.SseEventRecord second = eventLog.append(1, "notification", "{}");
+
+        assertThat(SseEventLog.compareIds(second.id(), first.id())).isPositive();
+    }
+
+    @Test
+    void 마지막_ID_이후_이벤트만_재전송한다() {
+        SseEventLog.SseEventRecord first = eventLog.append(1, "notification", "{\"id\":1}");
+        SseEventLog.SseEventRecord second = eventLog.append(1, "chat_message", "{\"id\":2}");
+
+        SseEventLog.Replay replay = eventLog.replay(1, first.id());
+
+        assertThat(replay.events()).containsExactly(second);
+        assertThat(replay.truncated()).isFalse();
+    }
+
+    @Test
+    void 보관_범위를_벗어난_ID면_잘림으로_표시한다() {
+        SseEventLog.SseEventRecord first = eventLog.append(1, "notification", "{}");
+        eventLog.append(1, "notification", "{}");
+        eventLog.append(1, "notification", "{}");
+        eventLog.append(1, "notification", "{}");
+
+        SseEventLog.Replay replay = eventLog.replay(1, first.id());
+
+        assertThat(replay.events()).hasSize(2);
+        assertThat(replay.truncated()).isTrue();
+    }
+
+    @Test
+    void 형식이_맞지_않는_Last_Event_ID는_무시한다() {
+        eventLog.append(1, "notification", "{}");
+
+        SseEventLog.Replay replay = eventLog.replay(1, "abc");
+
+        assertThat(replay.events()).isEmpty();
+        assertThat(replay.truncated()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 다른_노드에서_기록한_이벤트는_Redis_스트림에서_읽는다() {
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        long now = System.currentTimeMillis();
+        MapRecord<String, Object, Object> older = MapRecord.<String, Object, Object>create(
+                "sse:events:1", Map.of("event", "notification", "data", "{}")).withId(RecordId.of(now + "-0"));
+        MapRecord<String, Object, Object> newer = MapRecord.<String, Object, Object>create(
+                "sse:events:1", Map.of("event", "chat_message", "data", "{}")).withId(RecordId.of(now + "-1"));
+        when(streamOperations.range(eq("sse:events:1"), any(Range.class))).thenReturn(List.of(older, newer));
+
+        SseEventLog.Replay replay = eventLog.replay(1, now + "-0");
+
+        assertThat(replay.events()).extracting(SseEventLog.SseEventRecord::id).containsExactly(now + "-1");
+        assertThat(replay.truncated()).isFalse();
+    }
+
+    @Test
+    void 기록이_없거나_만료됐으면_잘림으로_표시한다() {
+        SseEventLog.Replay replay = eventLog.replay(1, System.currentTimeMillis() + "-0");
+
+        assertThat(replay.events()).isEmpty();
+        assertThat(replay.truncated()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ttl보다_오래된_Last_Event_ID면_잘림으로_표시한다() {
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        MapRecord<String, Object, Object> stale = MapRecord.<String, Object, Object>create(
+                "sse:events:1", Map.of("event", "notification", "data", "{}")).withId(RecordId.of("100-0"));
+        MapRecord<String, Object, Object> recent = MapRecord.<String, Object, Object>create(
+                "sse:events:1", Map.of("event", "notification", "data", "{}"))
+                .withId(RecordId.of(System.currentTimeMillis() + "-0"));
+        when(streamOperations.range(eq("sse:events:1"), any(Range.class))).thenReturn(List.of(stale, recent));
+
+        SseEventLog.Replay replay = eventLog.replay(1, "100-0");
+
+        assertThat(replay.events()).hasSize(1);
+        assertThat(replay.truncated()).isTrue();
+    }
+}
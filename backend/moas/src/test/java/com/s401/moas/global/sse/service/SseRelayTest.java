@@ -0,0 +1,149 @@
+package com.s401.moas.global.sse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SseRelayTest {
+
+    private static final int SHARDS = 4;
+    private static final int MAX_BATCH = 2;
+    private static final int MAX_PENDING = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StringRedisTemplate redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+    private SseEmitterRegistry registry;
+    private SimpleMeterRegistry meterRegistry;
+    private SseRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenReturn(1L);
+
+        registry = new SseEmitterRegistry(5);
+        meterRegistry = new SimpleMeterRegistry();
+        SseEventLog eventLog = new SseEventLog(redisTemplate, meterRegistry, 100, 1_000, Duration.ofHours(1));
+        relay = new SseRelay(redisTemplate, objectMapper, registry, eventLog, listenerContainer, meterRegistry,
+                SHARDS, 10, MAX_BATCH, MAX_PENDING);
+    }
+
+    @Test
+    void 같은_샤드의_이벤트는_한_번에_발행한다() throws Exception {
+        relay.publish(1, event("notification", "{\"id\":1}"));
+        relay.publish(5, event("notification", "{\"id\":2}"));
+        relay.publish(2, event("notification", "{\"id\":3}"));
+
+        relay.flush();
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("sse:relay:1"), payload.capture());
+        verify(redisTemplate).convertAndSend(eq("sse:relay:2"), anyString());
+        SseRelay.RelayBatch batch = objectMapper.readValue(payload.getValue(), SseRelay.RelayBatch.class);
+        assertThat(batch.events()).extracting(SseRelay.RelayEvent::memberId).containsExactly(1, 5);
+        assertThat(meterRegistry.get("moas.sse.relay.batches").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 최대_묶음_크기를_넘으면_나누어_발행한다() {
+        relay.publish(1, event("chat_message", "{}"));
+        relay.publish(5, event("chat_message", "{}"));
+        relay.publish(9, event("chat_message", "{}"));
+
+        relay.flush();
+
+        verify(redisTemplate, times(2)).convertAndSend(eq("sse:relay:1"), anyString());
+        assertThat(meterRegistry.get("moas.sse.relay.published").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void 대기열이_가득_차면_이벤트를_버린다() {
+        for (int i = 0; i < MAX_PENDING + 2; i++) {
+            relay.publish(i, event("notification", "{}"));
+        }
+
+        relay.flush();
+
+        assertThat(meterRegistry.get("moas.sse.relay.published").counter().count()).isEqualTo(MAX_PENDING);
+        assertThat(meterRegistry.get("moas.sse.relay.dropped").tag("reason", "overflow").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void 수신한_이벤트는_이_노드에_연결된_회원에게만_전송한다() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        registry.register(1, connection(emitter));
+        String payload = objectMapper.writeValueAsString(new SseRelay.RelayBatch("other-node", List.of(
+                new SseRelay.RelayEvent(1, "1-0", "notification", "{}"),
+                new SseRelay.RelayEvent(5, "1-1", "notification", "{}"))));
+
+        relay.onMessage(new DefaultMessage("sse:relay:1".getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(emitter, times(1)).send(anySet());
+        assertThat(meterRegistry.get("moas.sse.delivered").tag("path", "relay").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 자신이_발행한_묶음은_다시_전송하지_않는다() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        registry.register(1, connection(emitter));
+        relay.publish(1, event("notification", "{}"));
+        relay.flush();
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("sse:relay:1"), payload.capture());
+        relay.onMessage(new DefaultMessage("sse:relay:1".getBytes(StandardCharsets.UTF_8),
+                payload.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(emitter, never()).send(anySet());
+    }
+
+    @Test
+    void 샤드의_첫_연결에서_구독하고_마지막_연결이_끊기면_해제한다() {
+        relay.onConnect(1);
+        relay.onConnect(5);
+        verify(listenerContainer, times(1)).addMessageListener(eq(relay), any(Topic.class));
+
+        relay.onDisconnect(1);
+        verify(listenerContainer, never()).removeMessageListener(eq(relay), any(Topic.class));
+
+        relay.onDisconnect(5);
+        verify(listenerContainer, times(1)).removeMessageListener(eq(relay), any(Topic.class));
+    }
+
+    private static SseEventLog.SseEventRecord event(String type, String data) {
+        return new SseEventLog.SseEventRecord(System.nanoTime() + "-0", type, data);
+    }
+
+    private SseConnection connection(SseEmitter emitter) {
+        return new SseConnection(1, emitter, Runnable::run, 16, SseConnection.OverflowPolicy.DISCONNECT,
+                new SseConnection.Metrics(meterRegistry.timer("test.send"), meterRegistry.counter("test.failures"),
+                        meterRegistry.counter("test.overflow")));
+    }
+}
@@ -0,0 +1,80 @@
+package com.s401.moas.global.sse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SseServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SseEmitterRegistry registry;
+    private SseService sseService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SseEmitterRegistry(5);
+        SseEventLog eventLog = new SseEventLog(mock(StringRedisTemplate.class), meterRegistry,
+                1_000, 1_000, Duration.ofHours(1));
+        sseService = new SseService(registry, mock(SseRelay.class), eventLog, new ObjectMapper(), meterRegistry,
+                Runnable::run, 4, 10_000, 1_000, SseConnection.OverflowPolicy.DISCONNECT, 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 같은_회원의_이벤트는_요청_순서대로_ID를_받고_전송된다() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        registry.register(1, new SseConnection(1, emitter, Runnable::run, 1_000,
+                SseConnection.OverflowPolicy.DISCONNECT, new SseConnection.Metrics(
+                Timer.builder("test.send").register(meterRegistry),
+                Counter.builder("test.failures").register(meterRegistry),
+                Counter.builder("test.overflow").register(meterRegistry))));
+
+        for (int seq = 0; seq < 200; seq++) {
+            sseService.sendNow(List.of(
+                    new SseService.OutboundEvent(1, "notification", Map.of("seq", seq)),
+                    new SseService.OutboundEvent(2, "notification", Map.of("seq", seq))));
+        }
+        sseService.stop();
+
+        ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> frames = ArgumentCaptor.forClass(Set.class);
+        verify(emitter, atLeastOnce()).send(frames.capture());
+        List<String> written = new ArrayList<>();
+        for (Set<ResponseBodyEmitter.DataWithMediaType> parts : frames.getAllValues()) {
+            StringBuilder frame = new StringBuilder();
+            parts.forEach(part -> frame.append(new String((byte[]) part.getData(), StandardCharsets.UTF_8)));
+            written.add(frame.toString());
+        }
+
+        assertThat(written).hasSize(200);
+        String previousId = null;
+        for (int seq = 0; seq < written.size(); seq++) {
+            String frame = written.get(seq);
+            assertThat(frame).contains("data:{\"seq\":" + seq + "}");
+            String id = frame.substring("id:".length(), frame.indexOf('\n'));
+            if (previousId != null) {
+                assertThat(SseEventLog.compareIds(id, previousId)).isPositive();
+            }
+            previousId = id;
+        }
+    }
+}
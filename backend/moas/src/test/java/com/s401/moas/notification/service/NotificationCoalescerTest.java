@@ -0,0 +1,67 @@
+package com.s401.moas.notification.service;
+
+import com.s401.moas.notification.service.dto.NotificationCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationCoalescerTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(10);
+
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new NotificationCoalescer(new SimpleMeterRegistry(), Set.of("NEW_APPLICATION_RECEIVED"), WINDOW);
+    }
+
+    @Test
+    void 설정한_유형만_묶는다() {
+        assertThat(coalescer.supports("NEW_APPLICATION_RECEIVED")).isTrue();
+        assertThat(coalescer.supports("CONTRACT_OFFERED")).isFalse();
+    }
+
+    @Test
+    void 같은_회원_유형_관련ID의_알림은_이벤트_수를_담은_한_건으로_꺼낸다() {
+        for (int i = 0; i < 5; i++) {
+            coalescer.add(NotificationCommand.of(1, "NEW_APPLICATION_RECEIVED", 10L));
+        }
+        coalescer.add(NotificationCommand.of(1, "NEW_APPLICATION_RECEIVED", 11L));
+        coalescer.add(NotificationCommand.of(2, "NEW_APPLICATION_RECEIVED", 10L));
+
+        List<NotificationCommand> drained = coalescer.drainDue(System.nanoTime() + WINDOW.toNanos());
+
+        assertThat(drained).containsExactlyInAnyOrder(
+                new NotificationCommand(1, "NEW_APPLICATION_RECEIVED", 10L, 5),
+                new NotificationCommand(1, "NEW_APPLICATION_RECEIVED", 11L, 1),
+                new NotificationCommand(2, "NEW_APPLICATION_RECEIVED", 10L, 1));
+        assertThat(coalescer.drainAll()).isEmpty();
+    }
+
+    @Test
+    void window가_지나기_전에는_꺼내지_않는다() {
+        coalescer.add(NotificationCommand.of(1, "NEW_APPLICATION_RECEIVED", 10L));
+
+        assertThat(coalescer.drainDue(System.nanoTime())).isEmpty();
+        assertThat(coalescer.drainAll()).hasSize(1);
+    }
+
+    @Test
+    void 저장에_실패해_되돌린_묶음은_새로_들어온_알림과_합쳐진다() {
+        coalescer.add(NotificationCommand.of(1, "NEW_APPLICATION_RECEIVED", 10L));
+        List<NotificationCommand> drained = coalescer.drainAll();
+
+        coalescer.add(NotificationCommand.of(1, "NEW_APPLICATION_RECEIVED", 10L));
+        coalescer.restore(drained);
+
+        assertThat(coalescer.drainAll())
+                .containsExactly(new NotificationCommand(1, "NEW_APPLICATION_RECEIVED", 10L, 2));
+    }
+}
@@ -6,6 +6,7 @@ import com.s401.moas.member.repository.MemberRepository;
 import com.s401.moas.notification.domain.Notification;
 import com.s401.moas.notification.exception.NotificationException;
 import com.s401.moas.notification.repository.NotificationRepository;
+import com.s401.moas.notification.service.dto.NotificationCommand;
 import com.s401.moas.notification.service.dto.NotificationListDto;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -93,6 +95,64 @@ class NotificationServiceTest {
         assertThat(notification.getCreatedAt()).isNotNull();
     }
 
+    @Test
+    void 알림_일괄_생성_성공() {
+        // when
+        notificationService.createNotifications(List.of(
+                NotificationCommand.of(member1.getId(), "NFT_MINTED", 10L),
+                NotificationCommand.of(member2.getId(), "NFT_MINTED", 10L),
+                NotificationCommand.of(member1.getId(), "CONTRACT_OFFERED", 11L)
+        ));
+
+        // then
+        NotificationListDto member1List = notificationService.getNotifications(member1.getId(), 0, 10);
+        NotificationListDto member2List = notificationService.getNotifications(member2.getId(), 0, 10);
+        assertThat(member1List.getNotifications()).hasSize(2);
+        assertThat(member1List.getNotifications().get(0).getAlarmType()).isEqualTo("CONTRACT_OFFERED");
+        assertThat(member1List.getNotifications()).allMatch(n -> !n.getIsRead());
+        assertThat(member2List.getNotifications()).hasSize(1);
+        assertThat(member2List.getNotifications().get(0).getNotificationId()).isNotNull();
+        assertThat(member2List.getNotifications().get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void 빈_목록으로_일괄_생성하면_아무것도_저장하지_않음() {
+        // when
+        notificationService.createNotifications(List.of());
+
+        // then
+        assertThat(notificationService.getNotifications(member1.getId(), 0, 10).getNotifications()).isEmpty();
+    }
+
+    @Test
+    void 묶음_대상_알림은_바로_저장하지_않고_나머지만_저장() {
+        // when - 커밋 후 묶음 버퍼에 들어가므로 테스트 트랜잭션 안에서는 저장되지 않음
+        notificationService.createNotifications(List.of(
+                NotificationCommand.of(member1.getId(), "NEW_APPLICATION_RECEIVED", 10L),
+                NotificationCommand.of(member1.getId(), "CONTRACT_OFFERED", 11L)
+        ));
+
+        // then
+        NotificationListDto result = notificationService.getNotifications(member1.getId(), 0, 10);
+        assertThat(result.getNotifications()).hasSize(1);
+        assertThat(result.getNotifications().get(0).getAlarmType()).isEqualTo("CONTRACT_OFFERED");
+        assertThat(result.getNotifications().get(0).getEventCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 묶인_알림은_이벤트_수와_함께_저장() {
+        // when
+        notificationService.saveNotifications(List.of(
+                new NotificationCommand(member1.getId(), "NEW_APPLICATION_RECEIVED", 10L, 5)
+        ));
+
+        // then
+        NotificationListDto result = notificationService.getNotifications(member1.getId(), 0, 10);
+        assertThat(result.getNotifications()).hasSize(1);
+        assertThat(result.getNotifications().get(0).getRelatedId()).isEqualTo(10L);
+        assertThat(result.getNotifications().get(0).getEventCount()).isEqualTo(5);
+    }
+
     // ============================================
     // 2. 알림 목록 조회 테스트
     // ============================================
@@ -137,6 +197,29 @@ class NotificationServiceTest {
         assertThat(result.getNotifications()).hasSize(3);
     }
 
+    @Test
+    void 커서로_다음_페이지를_이어서_조회() {
+        // given - 알림 5개 생성
+        for (int i = 1; i <= 5; i++) {
+            notificationService.createNotification(member1.getId(), "TYPE_" + i, (long) i);
+        }
+
+        // when
+        NotificationListDto first = notificationService.getNotificationsBefore(member1.getId(), null, 2);
+        NotificationListDto second = notificationService.getNotificationsBefore(member1.getId(), first.getNextBeforeId(), 2);
+        NotificationListDto last = notificationService.getNotificationsBefore(member1.getId(), second.getNextBeforeId(), 2);
+
+        // then - 겹치지 않고 최신순으로 이어짐
+        assertThat(first.getNotifications()).extracting(NotificationListDto.NotificationItemDto::getAlarmType)
+                .containsExactly("TYPE_5", "TYPE_4");
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(second.getNotifications()).extracting(NotificationListDto.NotificationItemDto::getAlarmType)
+                .containsExactly("TYPE_3", "TYPE_2");
+        assertThat(last.getNotifications()).extracting(NotificationListDto.NotificationItemDto::getAlarmType)
+                .containsExactly("TYPE_1");
+        assertThat(last.getHasNext()).isFalse();
+    }
+
     @Test
     void 다른_회원의_알림은_조회되지_않음() {
         // given
@@ -484,4 +567,51 @@ class NotificationServiceTest {
         log.info("=== ✅ 전체 플로우 검증 완료 ===");
         log.info("최종 상태: member1=4개(모두 읽음), member2=2개(읽지 않음), member3=1개(읽지 않음)");
     }
-}
\ No newline at end of file
+
+    @Test
+    void 보관_기간이_지난_읽은_알림만_구간_단위로_삭제() {
+        // given - member1 알림은 읽음, member2 알림은 안 읽음
+        notificationService.createNotification(member1.getId(), "TYPE_1", 1L);
+        notificationService.createNotification(member2.getId(), "TYPE_2", 2L);
+        notificationService.markAllAsRead(member1.getId());
+        LocalDateTime before = LocalDateTime.now().plusDays(1);
+
+        // when
+        Long start = notificationService.findPruneStart(0L, before);
+        int deleted = notificationService.pruneReadNotifications(start, start + 1000, before);
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(notificationService.getNotifications(member1.getId(), 0, 20).getNotifications()).isEmpty();
+        assertThat(notificationService.getNotifications(member2.getId(), 0, 20).getNotifications()).hasSize(1);
+        assertThat(notificationService.findPruneStart(start + 1000, before)).isNull();
+    }
+
+    @Test
+    void 정리_시작점은_오래된_안읽은_알림을_건너뛴_첫_읽은_알림() {
+        // given - 먼저 만든 member2 알림은 안 읽음, 나중에 만든 member1 알림은 읽음
+        notificationService.createNotification(member2.getId(), "TYPE_2", 2L);
+        notificationService.createNotification(member1.getId(), "TYPE_1", 1L);
+        notificationService.markAllAsRead(member1.getId());
+        LocalDateTime before = LocalDateTime.now().plusDays(1);
+
+        // when
+        Long start = notificationService.findFirstPruneStart(before);
+
+        // then
+        Long readId = notificationService.getNotifications(member1.getId(), 0, 20)
+                .getNotifications().get(0).getNotificationId();
+        assertThat(start).isEqualTo(readId);
+        assertThat(notificationService.findFirstPruneStart(LocalDateTime.now().minusDays(90))).isNull();
+    }
+
+    @Test
+    void 보관_기간_안의_알림만_남으면_정리할_구간이_없음() {
+        // given
+        notificationService.createNotification(member1.getId(), "TYPE_1", 1L);
+        notificationService.markAllAsRead(member1.getId());
+
+        // when & then
+        assertThat(notificationService.findPruneStart(0L, LocalDateTime.now().minusDays(90))).isNull();
+    }
+}
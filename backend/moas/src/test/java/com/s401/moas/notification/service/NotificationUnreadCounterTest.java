@@ -0,0 +1,85 @@
+package com.s401.moas.notification.service;
+
+import com.s401.moas.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationUnreadCounterTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private NotificationRepository notificationRepository;
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        notificationRepository = mock(NotificationRepository.class);
+        counter = new NotificationUnreadCounter(redisTemplate, notificationRepository, new SimpleMeterRegistry(), TTL);
+    }
+
+    @Test
+    void 캐시에_있으면_DB를_조회하지_않는다() {
+        when(valueOperations.get("notification:unread:1")).thenReturn("3");
+
+        assertThat(counter.get(1)).isEqualTo(3);
+        verify(notificationRepository, never()).countByMemberIdAndIsReadFalse(1);
+    }
+
+    @Test
+    void 캐시에_없으면_DB에서_세어_채운다() {
+        when(notificationRepository.countByMemberIdAndIsReadFalse(1)).thenReturn(5);
+
+        assertThat(counter.get(1)).isEqualTo(5);
+        verify(valueOperations).setIfAbsent("notification:unread:1", "5", TTL);
+    }
+
+    @Test
+    void Redis를_쓸_수_없으면_DB_값을_반환한다() {
+        when(valueOperations.get("notification:unread:1"))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(notificationRepository.countByMemberIdAndIsReadFalse(1)).thenReturn(2);
+
+        assertThat(counter.get(1)).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 증감은_캐시가_있던_회원에만_반영하고_없던_회원은_다시_세지_않는다() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(4L, -1L, -1L));
+        Map<Integer, Long> deltas = new LinkedHashMap<>();
+        deltas.put(1, 1L);
+        deltas.put(2, 1L);
+        deltas.put(3, 1L);
+
+        Map<Integer, Long> counts = counter.add(deltas);
+
+        assertThat(counts).containsOnlyKeys(1).containsEntry(1, 4L);
+        verify(notificationRepository, never()).countByMemberIdAndIsReadFalse(any());
+        verify(valueOperations, never()).setIfAbsent(any(), any(), any(Duration.class));
+    }
+}